@@ -22,6 +22,7 @@ import org.eclipse.january.dataset.DatasetUtils;
 import org.eclipse.january.dataset.IDataset;
 import org.eclipse.january.dataset.IndexIterator;
 import org.eclipse.january.dataset.RGBDataset;
+import org.eclipse.january.dataset.Slice;
 import org.eclipse.january.dataset.SliceIterator;
 
 /**
@@ -119,13 +120,11 @@ public class Downsample implements DatasetToDatasetFunction, IDownsampleService
 			// TODO In Java8 switch these loops to using ParallelStreams
 			switch (m) {
 			case POINT:
-				while (biter.hasNext()) {
-					for (int i = 0; i < drank; i++) {
-						spos[i] = bshape[i]*bpos[i];
-					}
-
-					binned.setObjectAbs(biter.index, dataset.getObject(spos));
+				final Slice[] slices = new Slice[drank];
+				for (int i = 0; i < drank; i++) {
+					slices[i] = new Slice(null, null, bshape[i]);
 				}
+				binned.setSlice(dataset.getSliceView(slices));
 				break;
 			case MEAN:
 				if (isize == 1) {
@@ -0,0 +1,29 @@
+/*-
+ * Copyright 2016 Diamond Light Source Ltd.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.january.benchmark;
+
+import org.eclipse.january.dataset.Dataset;
+
+/**
+ * Helpers for benchmark parameters
+ */
+public class BenchmarkUtils {
+	/**
+	 * @param name of dataset type constant, e.g. FLOAT64
+	 * @return dataset type
+	 */
+	public static int getDType(String name) {
+		try {
+			return Dataset.class.getField(name).getInt(null);
+		} catch (Exception e) {
+			throw new IllegalArgumentException("Unknown dataset type: " + name, e);
+		}
+	}
+}
@@ -0,0 +1,83 @@
+/*-
+ * Copyright 2016 Diamond Light Source Ltd.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.january.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.january.dataset.Dataset;
+import org.eclipse.january.dataset.DatasetUtils;
+import org.eclipse.january.dataset.IDataset;
+import org.eclipse.january.dataset.Random;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Transposing, concatenating and sorting
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class DatasetUtilsBenchmark {
+	@Param({"64", "256"})
+	public int size;
+
+	private Dataset a;
+	private Dataset cube;
+	private IDataset[] parts;
+
+	@Setup
+	public void setup() {
+		a = Random.randn(size * size);
+		cube = Random.randn(size, size, 16);
+		parts = new IDataset[] {cube, cube, cube, cube};
+	}
+
+	@Benchmark
+	public Dataset transpose2D() {
+		return DatasetUtils.transpose(cube.getSliceView().reshape(size, size * 16));
+	}
+
+	@Benchmark
+	public Dataset transpose3D() {
+		return DatasetUtils.transpose(cube, 2, 0, 1);
+	}
+
+	@Benchmark
+	public Dataset concatenateAxis0() {
+		return DatasetUtils.concatenate(parts, 0);
+	}
+
+	@Benchmark
+	public Dataset concatenateAxis2() {
+		return DatasetUtils.concatenate(parts, 2);
+	}
+
+	@Benchmark
+	public Dataset sort() {
+		return DatasetUtils.sort(a);
+	}
+
+	@Benchmark
+	public Dataset sortAxis() {
+		return DatasetUtils.sort(cube, 1);
+	}
+}
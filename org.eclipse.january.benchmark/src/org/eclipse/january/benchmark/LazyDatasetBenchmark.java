@@ -0,0 +1,106 @@
+/*-
+ * Copyright 2016 Diamond Light Source Ltd.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.january.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.january.DatasetException;
+import org.eclipse.january.IMonitor;
+import org.eclipse.january.dataset.Dataset;
+import org.eclipse.january.dataset.IDataset;
+import org.eclipse.january.dataset.LazyDataset;
+import org.eclipse.january.dataset.Random;
+import org.eclipse.january.dataset.Slice;
+import org.eclipse.january.dataset.SliceND;
+import org.eclipse.january.io.ILazyLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Slicing a lazy dataset backed by an in-memory loader so that the overhead of the lazy layers
+ * is measured without any I/O
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class LazyDatasetBenchmark {
+	@Param({"64", "256"})
+	public int size;
+
+	private LazyDataset lazy;
+	private Slice[] frame;
+	private Slice[] column;
+	private Slice[] stepped;
+
+	/**
+	 * Loader that slices a dataset held in memory
+	 */
+	private static class MemoryLoader implements ILazyLoader {
+		private static final long serialVersionUID = -1L;
+
+		private final Dataset data;
+
+		MemoryLoader(Dataset data) {
+			this.data = data;
+		}
+
+		@Override
+		public boolean isFileReadable() {
+			return true;
+		}
+
+		@Override
+		public IDataset getDataset(IMonitor mon, SliceND slice) throws IOException {
+			return data.getSlice(slice);
+		}
+	}
+
+	@Setup
+	public void setup() {
+		Dataset data = Random.randn(32, size, size);
+		lazy = new LazyDataset("data", data.getDType(), data.getShapeRef(), new MemoryLoader(data));
+		frame = new Slice[] {new Slice(7, 8)};
+		column = new Slice[] {null, null, new Slice(size / 2, size / 2 + 1)};
+		stepped = new Slice[] {new Slice(null, null, 4), new Slice(null, null, 2), new Slice(null, null, 2)};
+	}
+
+	@Benchmark
+	public IDataset getFrame() throws DatasetException {
+		return lazy.getSlice(frame);
+	}
+
+	@Benchmark
+	public IDataset getColumn() throws DatasetException {
+		return lazy.getSlice(column);
+	}
+
+	@Benchmark
+	public IDataset getStepped() throws DatasetException {
+		return lazy.getSlice(stepped);
+	}
+
+	@Benchmark
+	public IDataset getFrameOfView() throws DatasetException {
+		return lazy.getSliceView(stepped).getSlice(frame);
+	}
+}
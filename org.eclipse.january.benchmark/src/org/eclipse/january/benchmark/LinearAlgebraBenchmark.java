@@ -0,0 +1,71 @@
+/*-
+ * Copyright 2016 Diamond Light Source Ltd.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.january.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.january.dataset.Dataset;
+import org.eclipse.january.dataset.LinearAlgebra;
+import org.eclipse.january.dataset.Random;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Matrix products
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class LinearAlgebraBenchmark {
+	@Param({"64", "256", "1024"})
+	public int size;
+
+	@Param({"FLOAT64", "FLOAT32"})
+	public String type;
+
+	private Dataset a;
+	private Dataset b;
+	private Dataset v;
+
+	@Setup
+	public void setup() {
+		int dtype = BenchmarkUtils.getDType(type);
+		a = Random.randn(size, size).cast(dtype);
+		b = Random.randn(size, size).cast(dtype);
+		v = Random.randn(size).cast(dtype);
+	}
+
+	@Benchmark
+	public Dataset matrixProduct() {
+		return LinearAlgebra.dotProduct(a, b);
+	}
+
+	@Benchmark
+	public Dataset matrixProductTransposed() {
+		return LinearAlgebra.dotProduct(a, b.getTransposedView());
+	}
+
+	@Benchmark
+	public Dataset matrixVectorProduct() {
+		return LinearAlgebra.dotProduct(a, v);
+	}
+}
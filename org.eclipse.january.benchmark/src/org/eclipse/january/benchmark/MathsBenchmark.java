@@ -0,0 +1,96 @@
+/*-
+ * Copyright 2016 Diamond Light Source Ltd.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.january.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.january.dataset.Dataset;
+import org.eclipse.january.dataset.DatasetFactory;
+import org.eclipse.january.dataset.Maths;
+import org.eclipse.january.dataset.Random;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Element-wise binary operations on contiguous, broadcast and strided operands
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class MathsBenchmark {
+	@Param({"64", "1024"})
+	public int size;
+
+	@Param({"FLOAT64", "INT32"})
+	public String type;
+
+	private Dataset a;
+	private Dataset b;
+	private Dataset row;
+	private Dataset view;
+	private Dataset zero;
+
+	@Setup
+	public void setup() {
+		int dtype = BenchmarkUtils.getDType(type);
+		a = Random.randn(size, size).cast(dtype);
+		b = Random.randn(size, size).cast(dtype);
+		row = Random.randn(size).cast(dtype);
+		view = b.getTransposedView();
+		zero = DatasetFactory.zeros(row);
+	}
+
+	@Benchmark
+	public Dataset add() {
+		return Maths.add(a, b);
+	}
+
+	@Benchmark
+	public Dataset multiply() {
+		return Maths.multiply(a, b);
+	}
+
+	@Benchmark
+	public Dataset divide() {
+		return Maths.divide(a, b);
+	}
+
+	@Benchmark
+	public Dataset addBroadcast() {
+		return Maths.add(a, row);
+	}
+
+	@Benchmark
+	public Dataset addScalar() {
+		return Maths.add(a, 2.5);
+	}
+
+	@Benchmark
+	public Dataset addStrided() {
+		return Maths.add(a, view);
+	}
+
+	@Benchmark
+	public Dataset iaddBroadcast() {
+		return a.iadd(zero);
+	}
+}
@@ -0,0 +1,91 @@
+/*-
+ * Copyright 2016 Diamond Light Source Ltd.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.january.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.january.dataset.Dataset;
+import org.eclipse.january.dataset.Random;
+import org.eclipse.january.dataset.Slice;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Slices and slice views of contiguous and strided datasets
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class SliceBenchmark {
+	@Param({"64", "256"})
+	public int size;
+
+	private Dataset a;
+	private Dataset transposed;
+	private Dataset strided;
+	private Slice[] block;
+	private Slice[] step;
+
+	@Setup
+	public void setup() {
+		a = Random.randn(size, size, 16);
+		transposed = a.getTransposedView(2, 1, 0);
+		strided = a.getSliceView(new Slice(null, null, 2), new Slice(null, null, -1));
+		block = new Slice[] {new Slice(size / 4, 3 * size / 4), new Slice(size / 4, 3 * size / 4)};
+		step = new Slice[] {null, new Slice(null, null, 3)};
+	}
+
+	@Benchmark
+	public Dataset getSlice() {
+		return a.getSlice(block);
+	}
+
+	@Benchmark
+	public Dataset getSliceStep() {
+		return a.getSlice(step);
+	}
+
+	@Benchmark
+	public Dataset getSliceView() {
+		return a.getSliceView(block);
+	}
+
+	@Benchmark
+	public Dataset getSliceOfTransposed() {
+		return transposed.getSlice();
+	}
+
+	@Benchmark
+	public Dataset getSliceOfStrided() {
+		return strided.getSlice(step);
+	}
+
+	@Benchmark
+	public Dataset getSliceViewOfStrided() {
+		return strided.getSliceView(step);
+	}
+
+	@Benchmark
+	public Dataset cloneOfStrided() {
+		return strided.clone();
+	}
+}
@@ -0,0 +1,101 @@
+/*-
+ * Copyright 2016 Diamond Light Source Ltd.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.january.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.january.dataset.Dataset;
+import org.eclipse.january.dataset.Random;
+import org.eclipse.january.dataset.Stats;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Reductions over whole datasets and along axes. Stored statistics are cleared before each
+ * whole-dataset reduction so they are recalculated every time
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class StatsBenchmark {
+	@Param({"64", "1024"})
+	public int size;
+
+	@Param({"FLOAT64", "INT32"})
+	public String type;
+
+	private Dataset a;
+
+	@Setup
+	public void setup() {
+		a = Random.randn(size, size).imultiply(100).cast(BenchmarkUtils.getDType(type));
+	}
+
+	@Benchmark
+	public Object sum() {
+		a.setDirty();
+		return a.sum();
+	}
+
+	@Benchmark
+	public Number max() {
+		a.setDirty();
+		return a.max();
+	}
+
+	@Benchmark
+	public Number variance() {
+		a.setDirty();
+		return a.variance();
+	}
+
+	@Benchmark
+	public Object median() {
+		a.setDirty();
+		return Stats.median(a);
+	}
+
+	@Benchmark
+	public Dataset sumAxis0() {
+		return a.sum(0);
+	}
+
+	@Benchmark
+	public Dataset sumAxis1() {
+		return a.sum(1);
+	}
+
+	@Benchmark
+	public Dataset meanAxis0() {
+		return a.mean(0);
+	}
+
+	@Benchmark
+	public Dataset varianceAxis1() {
+		return a.variance(1);
+	}
+
+	@Benchmark
+	public Dataset medianAxis0() {
+		return Stats.median(a, 0);
+	}
+}
@@ -19,6 +19,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.apache.commons.math3.complex.Complex;
 import org.eclipse.january.asserts.TestUtils;
@@ -352,6 +353,112 @@ public class AbstractDatasetTest {
 		assertEquals("Second element", 10, b.getInt(1));
 	}
 
+	@Test
+	public void testParallelSort() {
+		Dataset r = Random.randint(-50, 50, new int[] {20, 30, 40});
+		int[] dtypes = {Dataset.INT8, Dataset.INT16, Dataset.INT32, Dataset.INT64, Dataset.FLOAT32, Dataset.FLOAT64};
+		try (ParallelTestPool pool = new ParallelTestPool()) {
+			for (int dtype : dtypes) {
+				Dataset a = r.cast(dtype);
+				for (Integer axis : new Integer[] {null, 0, 1, 2}) {
+					ParallelUtils.setMode(ExecutionMode.SERIAL);
+					Dataset s = DatasetUtils.sort(a, axis);
+					Dataset v = a.getTransposedView(2, 0, 1);
+					Dataset sv = v.clone().sort(axis);
+					ParallelUtils.setMode(ExecutionMode.PARALLEL);
+					TestUtils.assertDatasetEquals(s, DatasetUtils.sort(a, axis), true, 0, 0);
+					TestUtils.assertDatasetEquals(sv, v.getSliceView().sort(axis), true, 0, 0);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testArgsort() {
+		Dataset a = DatasetFactory.createFromObject(new double[] {3, Double.NaN, 1, 3, -0.0, 0.0, 2});
+		TestUtils.assertDatasetEquals(DatasetFactory.createFromObject(new int[] {4, 5, 2, 6, 0, 3, 1}),
+				DatasetUtils.argsort(a, null, true), true, 0, 0);
+		TestUtils.assertDatasetEquals(DatasetFactory.createFromObject(new int[] {4, 5, 2, 6, 0, 3, 1}),
+				DatasetUtils.argsort(a, 0, true), true, 0, 0);
+
+		Dataset l = DatasetFactory.createFromObject(new long[] {Long.MAX_VALUE, Long.MAX_VALUE - 1, Long.MIN_VALUE});
+		TestUtils.assertDatasetEquals(DatasetFactory.createFromObject(new int[] {2, 1, 0}),
+				DatasetUtils.argsort(l, null), true, 0, 0);
+
+		Dataset r = Random.randint(0, 10, new int[] {20, 30, 40}).cast(Dataset.FLOAT64);
+		r.set(Double.NaN, 3, 4, 5);
+		Dataset[] inputs = {r, r.cast(Dataset.INT16), r.getSliceView(new Slice(null, null, -2)).getTransposedView(2, 0, 1)};
+		for (Dataset d : inputs) {
+			for (Integer axis : new Integer[] {null, 0, 1, 2}) {
+				checkArgsort(d, axis, DatasetUtils.argsort(d, axis, true), true);
+				checkArgsort(d, axis, DatasetUtils.argsort(d, axis, false), false);
+			}
+		}
+
+		try (ParallelTestPool pool = new ParallelTestPool()) {
+			for (Dataset d : inputs) {
+				for (Integer axis : new Integer[] {null, 0, 1, 2}) {
+					IntegerDataset s = DatasetUtils.argsort(d, axis, true, ExecutionMode.SERIAL);
+					IntegerDataset p = DatasetUtils.argsort(d, axis, true, ExecutionMode.PARALLEL);
+					TestUtils.assertDatasetEquals(s, p, true, 0, 0);
+					checkArgsort(d, axis, DatasetUtils.argsort(d, axis, false, ExecutionMode.PARALLEL), false);
+				}
+			}
+		}
+
+		try {
+			DatasetUtils.argsort(DatasetFactory.zeros(2, CompoundDoubleDataset.class, 3), null);
+			fail("Should have thrown an illegal argument exception");
+		} catch (IllegalArgumentException e) {
+			// do nothing
+		}
+	}
+
+	/**
+	 * Check indexes sort dataset and, if stable, equal items keep their order
+	 */
+	private static void checkArgsort(Dataset a, Integer axis, IntegerDataset indexes, boolean stable) {
+		Dataset values;
+		if (axis == null) {
+			values = a.flatten();
+		} else {
+			// move axis to last and make lanes into rows
+			int[] axes = new int[a.getRank()];
+			for (int i = 0, j = 0; i < axes.length; i++) {
+				if (i != axis) {
+					axes[j++] = i;
+				}
+			}
+			axes[axes.length - 1] = axis;
+			int n = a.getShapeRef()[axis];
+			values = a.getTransposedView(axes).clone().reshape(-1, n);
+			assertArrayEquals(a.getShapeRef(), indexes.getShapeRef());
+			indexes = (IntegerDataset) indexes.getTransposedView(axes).clone().reshape(-1, n);
+		}
+		if (values.getRank() == 1) {
+			values.setShape(1, -1);
+			indexes = (IntegerDataset) indexes.reshape(1, -1);
+		}
+
+		int[] shape = values.getShapeRef();
+		for (int i = 0; i < shape[0]; i++) {
+			boolean[] seen = new boolean[shape[1]];
+			for (int j = 0; j < shape[1]; j++) {
+				int k = indexes.getInt(i, j);
+				assertFalse(seen[k]);
+				seen[k] = true;
+				if (j > 0) {
+					int p = indexes.getInt(i, j - 1);
+					int c = Double.compare(values.getDouble(i, p), values.getDouble(i, k));
+					assertTrue(c <= 0);
+					if (stable && c == 0) {
+						assertTrue(p < k);
+					}
+				}
+			}
+		}
+	}
+
 	@Test
 	public void testPut() {
 		Dataset d1 = DatasetFactory.createRange(6, Dataset.FLOAT64);
@@ -2013,5 +2120,101 @@ public class AbstractDatasetTest {
 		TestUtils.assertDatasetEquals(DatasetUtils.rotate90(a, -1), DatasetUtils.rotate90(a, 3));
 		TestUtils.assertDatasetEquals(a, DatasetUtils.rotate90(a, 4));
 	}
-	
+
+	private static void checkFunctional(Dataset a, ExecutionMode mode) {
+		TestUtils.assertDatasetEquals(Maths.sqrt(Maths.abs(a)), a.mapToDouble(x -> Math.sqrt(Math.abs(x)), mode), 1e-6, 1e-15);
+		TestUtils.assertDatasetEquals(Maths.multiply(a.cast(Dataset.INT64), 3), a.mapToLong(x -> 3 * x, mode), 0, 0);
+		assertEquals(((Number) a.sum()).doubleValue(), a.reduce(0, Double::sum, mode), 1e-9);
+		assertEquals(a.max().doubleValue(), a.reduce(Double.NEGATIVE_INFINITY, Math::max, mode), 0);
+
+		final Dataset flat = a.flatten();
+		final double[] values = new double[flat.getSize()];
+		a.forEachIndexed((i, v) -> values[i] = v, mode);
+		TestUtils.assertDatasetEquals(flat.cast(Dataset.FLOAT64), DatasetFactory.createFromObject(values), 0, 0);
+	}
+
+	@Test
+	public void testFunctional() {
+		Dataset a = DatasetFactory.createRange(-300, 300, 1, Dataset.INT32).reshape(20, 30);
+		checkFunctional(a, ExecutionMode.SERIAL);
+		checkFunctional(a.getTransposedView(), ExecutionMode.SERIAL);
+		checkFunctional(a.cast(Dataset.FLOAT32).getSliceView(new Slice(null, null, -3)), ExecutionMode.SERIAL);
+
+		Dataset c = DatasetUtils.createCompoundDataset(Dataset.ARRAYFLOAT64, a, Maths.negative(a));
+		Dataset d = c.mapToDouble(x -> 2 * x);
+		assertEquals(2, d.getElementsPerItem());
+		assertArrayEquals(new double[] {-12, 12}, (double[]) d.getObject(9, 24), 0);
+		assertEquals(0, c.reduce(0, Double::sum), 0);
+
+		final List<Integer> indexes = new ArrayList<Integer>();
+		IndexIterator it = a.getSliceIterator(new int[] {2, 3}, new int[] {4, 5}, null);
+		it.forEachRemaining(i -> indexes.add(i));
+		assertEquals(Arrays.asList(63, 64, 93, 94), indexes);
+	}
+
+	@Test
+	public void testParallelFunctional() {
+		try (ParallelTestPool pool = new ParallelTestPool()) {
+			Dataset a = DatasetFactory.createRange(-300, 300, 1, Dataset.INT32).reshape(20, 30);
+			checkFunctional(a, ExecutionMode.PARALLEL);
+			checkFunctional(a.getTransposedView(), ExecutionMode.PARALLEL);
+			checkFunctional(Random.randn(new int[] {17, 19, 23}).getSliceView(null, new Slice(null, null, 2)), ExecutionMode.PARALLEL);
+		}
+	}
+
+	private static void checkStreams(Dataset a) {
+		final Dataset flat = a.flatten();
+		final double[] values = (double[]) flat.cast(Dataset.FLOAT64).getBuffer();
+		assertArrayEquals(values, a.doubleStream().toArray(), 0);
+		assertArrayEquals(values, a.doubleStream().parallel().toArray(), 0);
+		assertEquals(((Number) a.sum()).doubleValue(), a.doubleStream().parallel().sum(), 1e-9);
+		assertEquals(values.length, a.doubleStream().parallel().count());
+		assertArrayEquals((long[]) flat.cast(Dataset.INT64).getBuffer(), a.longStream().parallel().toArray());
+
+		assertEquals(values.length > 1 ? values[1] : 0, a.doubleStream().skip(1).findFirst().orElse(0), 0);
+	}
+
+	@Test
+	public void testStreams() {
+		Dataset a = DatasetFactory.createRange(-3000, 3000, 1, Dataset.INT32).reshape(60, 100);
+		checkStreams(a);
+		checkStreams(a.getTransposedView());
+		checkStreams(a.cast(Dataset.FLOAT32).getSliceView(new Slice(null, null, -3), new Slice(1, null, 7)));
+		checkStreams(Random.randn(new int[] {17, 19, 23}).getSliceView(null, new Slice(null, null, 2)));
+		checkStreams(DatasetFactory.createFromObject(2.5));
+		checkStreams(DatasetFactory.zeros(new int[] {0, 3}, Dataset.FLOAT64));
+
+		Dataset c = DatasetUtils.createCompoundDataset(Dataset.ARRAYFLOAT64, a, Maths.negative(a));
+		assertEquals(2 * a.getSize(), c.doubleStream().count());
+		assertEquals(0, c.doubleStream().parallel().sum(), 0);
+		assertArrayEquals(new double[] {-2900, 2900, -2899, 2899}, c.getSliceView(new Slice(1, 3)).doubleStream().limit(4).toArray(), 0);
+		assertEquals(Arrays.asList(-2900L, 2900L, -2800L, 2800L),
+				c.getTransposedView().getSliceView(new Slice(0, 1)).longStream().skip(2).limit(4).boxed().collect(Collectors.toList()));
+	}
+
+	@Test
+	public void testLazyStreams() {
+		Dataset a = Random.randn(new int[] {37, 11, 13});
+		ILazyDataset l = LazyDataset.createLazyDataset(a);
+		final double[] values = (double[]) a.getBuffer();
+		assertArrayEquals(values, DatasetUtils.doubleStream(l).toArray(), 0);
+		assertArrayEquals(values, DatasetUtils.doubleStream(l, 4).toArray(), 0);
+		assertArrayEquals(values, DatasetUtils.doubleStream(l, 3).parallel().toArray(), 0);
+		assertEquals(((Number) a.sum()).doubleValue(), DatasetUtils.doubleStream(l, 5).parallel().sum(), 1e-9);
+		assertEquals(a.getSize(), DatasetUtils.doubleStream(l, 2).parallel().count());
+		assertEquals(values[200], DatasetUtils.doubleStream(l, 1).skip(200).findFirst().getAsDouble(), 0);
+
+		Dataset b = DatasetFactory.createRange(300, Dataset.INT64).reshape(30, 10);
+		l = LazyDataset.createLazyDataset(b);
+		assertArrayEquals((long[]) b.getBuffer(), DatasetUtils.longStream(l, 7).parallel().toArray());
+		assertEquals(44850, DatasetUtils.longStream(l, 4).parallel().sum());
+		assertEquals(299, DatasetUtils.longStream(l.getSliceView(new Slice(null, null, -1))).max().getAsLong());
+
+		try {
+			DatasetUtils.doubleStream(l, 0);
+			fail("Should have thrown an illegal argument exception");
+		} catch (IllegalArgumentException e) {
+			// do nothing
+		}
+	}
 }
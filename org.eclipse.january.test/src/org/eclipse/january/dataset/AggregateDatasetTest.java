@@ -14,13 +14,18 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
 
 import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.eclipse.january.DatasetException;
+import org.eclipse.january.IMonitor;
+import org.eclipse.january.asserts.TestUtils;
 import org.eclipse.january.dataset.AggregateDataset;
 import org.eclipse.january.dataset.Dataset;
 import org.eclipse.january.dataset.DatasetFactory;
 import org.eclipse.january.dataset.DatasetUtils;
 import org.eclipse.january.dataset.ILazyDataset;
 import org.eclipse.january.dataset.Slice;
+import org.eclipse.january.io.ILazyLoader;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -150,4 +155,136 @@ public class AggregateDatasetTest {
 		assertArrayEquals("Incorrect shape", new int[] {2, 1}, s.getShape());
 		assertArrayEquals("Incorrect values", new double[] {1, 1}, (double[])s.getBuffer(), 1e-5);
 	}
+
+	private static class SlowLoader implements ILazyLoader {
+		private static final long serialVersionUID = 1L;
+
+		private final Dataset data;
+		private final AtomicInteger reads;
+		private final AtomicInteger active;
+		private final AtomicInteger maxActive;
+
+		SlowLoader(Dataset data, AtomicInteger reads, AtomicInteger active, AtomicInteger maxActive) {
+			this.data = data;
+			this.reads = reads;
+			this.active = active;
+			this.maxActive = maxActive;
+		}
+
+		@Override
+		public boolean isFileReadable() {
+			return true;
+		}
+
+		@Override
+		public IDataset getDataset(IMonitor mon, SliceND slice) {
+			reads.incrementAndGet();
+			maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+			try {
+				Thread.sleep(20);
+			} catch (InterruptedException e) {
+				// do nothing
+			}
+			active.decrementAndGet();
+			return data.getSlice(slice);
+		}
+	}
+
+	@Test
+	public void testParallelFetch() throws Exception {
+		AtomicInteger reads = new AtomicInteger();
+		AtomicInteger active = new AtomicInteger();
+		AtomicInteger maxActive = new AtomicInteger();
+		Dataset[] frames = new Dataset[6];
+		ILazyDataset[] lazies = new ILazyDataset[frames.length];
+		for (int i = 0; i < frames.length; i++) {
+			frames[i] = i % 2 == 0 ? Random.rand(3, 4) : Random.randint(0, 10, new int[] {3, 4});
+			lazies[i] = new LazyDataset("frame", frames[i].getDType(), frames[i].getShape(),
+					new SlowLoader(frames[i], reads, active, maxActive));
+		}
+		Dataset e = DatasetUtils.concatenate(new Dataset[] {frames[0], frames[1].cast(Dataset.FLOAT64), frames[2],
+				frames[3].cast(Dataset.FLOAT64), frames[4], frames[5].cast(Dataset.FLOAT64)}, 0);
+
+		AggregateDataset a = new AggregateDataset(false, lazies);
+		assertEquals(1, a.getFetchThreads());
+		a.getSlice();
+		assertEquals(1, maxActive.get());
+
+		a.setFetchThreads(4);
+		assertEquals(4, a.getFetchThreads());
+		Slice[][] slices = new Slice[][] {
+			{},
+			{new Slice(2, 14, 3), new Slice(1, 3)},
+			{new Slice(16, 1, -2), new Slice(null, null, -1)},
+			{new Slice(4, 5)},
+			{new Slice(5, 5)},
+		};
+		for (Slice[] s : slices) {
+			TestUtils.assertDatasetEquals(e.getSlice(s), a.getSlice(s), true, 0, 0);
+		}
+		assertEquals(true, maxActive.get() > 1 && maxActive.get() <= 4);
+
+		ILazyDataset v = a.getSliceView(new Slice(3, 15, 2));
+		TestUtils.assertDatasetEquals(e.getSlice(new Slice(3, 15, 2)), DatasetUtils.convertToDataset(v.getSlice()), true, 0, 0);
+
+		try {
+			a.getSlice(new IMonitor.Stub() {
+				@Override
+				public boolean isCancelled() {
+					return true;
+				}
+			}, new SliceND(a.getShape()));
+			fail("Should have thrown a dataset exception");
+		} catch (DatasetException ex) {
+			// do nothing
+		}
+
+		try {
+			a.setFetchThreads(0);
+			fail("Should have thrown an illegal argument exception");
+		} catch (IllegalArgumentException ex) {
+			// do nothing
+		}
+	}
+
+	@Test
+	public void testReadAhead() throws Exception {
+		AtomicInteger reads = new AtomicInteger();
+		AtomicInteger active = new AtomicInteger();
+		AtomicInteger maxActive = new AtomicInteger();
+		Dataset[] frames = new Dataset[8];
+		ILazyDataset[] lazies = new ILazyDataset[frames.length];
+		for (int i = 0; i < frames.length; i++) {
+			frames[i] = Random.rand(5, 5);
+			lazies[i] = new LazyDataset("frame", frames[i].getDType(), frames[i].getShape(),
+					new SlowLoader(frames[i], reads, active, maxActive));
+		}
+
+		AggregateDataset a = new AggregateDataset(true, lazies);
+		a.setReadAhead(3);
+		assertEquals(3, a.getReadAhead());
+		for (int i = 0; i < frames.length; i++) {
+			Dataset f = a.getSlice(new Slice(i, i + 1), new Slice(1, 4)).squeeze();
+			TestUtils.assertDatasetEquals(frames[i].getSlice(new Slice(1, 4)), f, true, 0, 0);
+		}
+		assertEquals(frames.length, reads.get()); // each frame read once
+		assertEquals(true, maxActive.get() > 1);
+
+		// frames read ahead through views
+		reads.set(0);
+		ILazyDataset v = a.getSliceView(new Slice(1, null, 2));
+		for (int i = 0; i < 4; i++) {
+			Dataset f = DatasetUtils.convertToDataset(v.getSlice(new Slice(i, i + 1))).squeeze();
+			TestUtils.assertDatasetEquals(frames[1 + 2 * i], f, true, 0, 0);
+		}
+		assertEquals(4, reads.get());
+
+		a.setReadAhead(0);
+		assertEquals(0, a.getReadAhead());
+		reads.set(0);
+		for (int i = 0; i < 3; i++) {
+			a.getSlice(new Slice(i, i + 1));
+		}
+		assertEquals(3, reads.get());
+	}
 }
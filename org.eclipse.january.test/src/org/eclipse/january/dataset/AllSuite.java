@@ -18,19 +18,19 @@ import org.junit.runners.Suite.SuiteClasses;
 
 @RunWith(TestUtils.VerboseSuite.class)
 @SuiteClasses({ AbstractCompoundDatasetTest.class, AbstractDatasetTest.class, AggregateDatasetTest.class,
-		BinaryOperationTest.class, BooleanDatasetTest.class, BooleanIteratorTest.class, BroadcastIteratorTest.class,
-		BroadcastUtilsTest.class, ByteDatasetTest.class, ComparisonsTest.class, ComplexDoubleDatasetTest.class,
-		ComplexFloatDatasetTest.class, DatasetFactoryTest.class, DateDatasetTest.class, DoubleDatasetTest.class,
+		BinaryOperationTest.class, BitMaskTest.class, BooleanDatasetTest.class, BooleanIteratorTest.class, BroadcastIteratorTest.class,
+		BroadcastUtilsTest.class, ByteDatasetTest.class, ChunkCacheTest.class, ChunkedDatasetTest.class, ComparisonsTest.class, ComplexDoubleDatasetTest.class,
+		ComplexFloatDatasetTest.class, DatasetExpressionTest.class, DatasetFactoryTest.class, DateDatasetTest.class, DoubleDatasetTest.class,
 		FloatDatasetTest.class, IndexIteratorTest.class, IntegerDatasetTest.class,
 		IntegerIteratorTest.class, IntegersIteratorTest.class, InterpolatorUtilsTest.class, LazyDatasetTest.class,
 		LazyDynamicDatasetTest.class, LazyDynamicLoaderTest.class, LazyMathsTest.class, LazyWriteableDatasetTest.class,
 		LinearAlgebraTest.class, LongDatasetTest.class, MathsTest.class, ObjectDatasetTest.class,
-		PositionIteratorTest.class, RandomTest.class, RGBDatasetTest.class, ShortDatasetTest.class,
+		PositionIteratorTest.class, QuantileSketchTest.class, RandomTest.class, RGBDatasetTest.class, RunningStatisticsTest.class, ShortDatasetTest.class,
 		SingleInputBroadcastIteratorTest.class, SliceIteratorTest.class, SliceNDIteratorTest.class, SliceNDTest.class,
-		SliceTest.class, StatsTest.class, StrideIteratorTest.class, StringDatasetTest.class,
+		SliceTest.class, StatsTest.class, StridedCopierTest.class, StrideIteratorTest.class, StringDatasetTest.class,
 		UnsignedArithmetics.class,
 		OutlierCorrectnessTest.class, OutlierStatsTest.class,
-		org.eclipse.january.metadata.AllSuite.class,
+		org.eclipse.january.io.AllSuite.class, org.eclipse.january.metadata.AllSuite.class,
 		})
 public class AllSuite {
 
@@ -0,0 +1,198 @@
+/*-
+ * Copyright 2016 Diamond Light Source Ltd.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.january.dataset;
+
+import java.util.List;
+
+import org.eclipse.january.asserts.TestUtils;
+import org.eclipse.january.metadata.MaskMetadata;
+import org.eclipse.january.metadata.MetadataFactory;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BitMaskTest {
+
+	@Test
+	public void testPacking() throws Exception {
+		Dataset a = Random.rand(5, 7, 13);
+		BooleanDataset b = Comparisons.greaterThan(a, 0.5);
+		BitMask m = BitMask.pack(b);
+		Assert.assertArrayEquals(b.getShapeRef(), m.getShape());
+		Assert.assertEquals(b.getSize(), m.getSize());
+		Assert.assertEquals(8 * ((b.getSize() + 63) / 64), m.getNbytes());
+		TestUtils.assertDatasetEquals(b, m.toDataset(), true, 0, 0);
+		Assert.assertEquals(true, m.get(2, 3, 4) == b.get(2, 3, 4));
+		Assert.assertEquals(true, m.get(-1, -1, -1) == b.get(4, 6, 12));
+
+		// views
+		Slice[][] slices = new Slice[][] {
+			{new Slice(1, 4), null, new Slice(2, 11, 3)},
+			{new Slice(null, null, -2), new Slice(5, 0, -1), new Slice(null, null, -1)},
+			{new Slice(3, 4), new Slice(6, 7), new Slice(12, 13)},
+			{new Slice(2, 2)},
+		};
+		for (Slice[] s : slices) {
+			TestUtils.assertDatasetEquals(b.getSlice(s), m.getSlice(new SliceND(m.getShape(), s)), true, 0, 0);
+			TestUtils.assertDatasetEquals(b.getSlice(s), BitMask.pack(b.getSliceView(s)).toDataset(), true, 0, 0);
+		}
+		Dataset t = b.getTransposedView(2, 0, 1);
+		TestUtils.assertDatasetEquals(t, BitMask.pack(t).toDataset(), true, 0, 0);
+		TestUtils.assertDatasetEquals(b.getSlice(slices[1]).getTransposedView(1, 2, 0),
+				DatasetUtils.convertToDataset(m.getLazyDataset().getSliceView(slices[1]).getTransposedView(1, 2, 0).getSlice()), true, 0, 0);
+
+		// non-boolean datasets
+		Dataset i = DatasetFactory.createFromObject(new int[] {0, 2, 0, -1});
+		Assert.assertEquals(BitMask.pack(Comparisons.logicalNot(Comparisons.equalTo(i, 0))), BitMask.pack(i));
+
+		m.set(true, 1, 1, 1);
+		Assert.assertEquals(true, m.get(1, 1, 1));
+		m.set(false, 1, 1, 1);
+		Assert.assertEquals(false, m.get(1, 1, 1));
+
+		try {
+			m.get(5, 0, 0);
+			Assert.fail("Should have thrown an array index out of bounds exception");
+		} catch (ArrayIndexOutOfBoundsException e) {
+			// do nothing
+		}
+
+		try {
+			BitMask.pack(DatasetFactory.zeros(2, CompoundDoubleDataset.class, 3));
+			Assert.fail("Should have thrown an illegal argument exception");
+		} catch (IllegalArgumentException e) {
+			// do nothing
+		}
+	}
+
+	@Test
+	public void testLogic() {
+		Dataset a = Random.rand(130);
+		Dataset b = Random.rand(130);
+		BooleanDataset ba = Comparisons.greaterThan(a, 0.3);
+		BooleanDataset bb = Comparisons.lessThan(b, 0.6);
+		BitMask ma = BitMask.pack(ba);
+		BitMask mb = BitMask.pack(bb);
+
+		Assert.assertEquals(BitMask.pack(Comparisons.logicalAnd(ba, bb)), ma.and(mb));
+		Assert.assertEquals(BitMask.pack(Comparisons.logicalOr(ba, bb)), ma.or(mb));
+		Assert.assertEquals(BitMask.pack(Comparisons.logicalXor(ba, bb)), ma.xor(mb));
+		Assert.assertEquals(BitMask.pack(Comparisons.logicalAnd(ba, Comparisons.logicalNot(bb))), ma.andNot(mb));
+		Assert.assertEquals(BitMask.pack(Comparisons.logicalNot(ba)), ma.not());
+		Assert.assertEquals(((Number) ba.sum()).intValue(), ma.cardinality());
+		Assert.assertEquals(130, ma.cardinality() + ma.not().cardinality());
+
+		BitMask m = new BitMask(130);
+		Assert.assertEquals(false, Comparisons.anyTrue(m));
+		Assert.assertEquals(false, Comparisons.allTrue(m));
+		m.setAbs(true, 129);
+		Assert.assertEquals(true, Comparisons.anyTrue(m));
+		Assert.assertEquals(129, m.nextTrue(0));
+		Assert.assertEquals(-1, m.nextTrue(130));
+		m.fill(true);
+		Assert.assertEquals(true, Comparisons.allTrue(m));
+		Assert.assertEquals(130, m.cardinality());
+		Assert.assertEquals(0, m.not().cardinality());
+		m.setAbs(false, 64);
+		Assert.assertEquals(false, Comparisons.allTrue(m));
+		Assert.assertEquals(65, m.nextTrue(64));
+
+		try {
+			ma.and(new BitMask(13, 10));
+			Assert.fail("Should have thrown an illegal argument exception");
+		} catch (IllegalArgumentException e) {
+			// do nothing
+		}
+	}
+
+	@Test
+	public void testNonZero() {
+		BooleanDataset b = Comparisons.greaterThan(Random.rand(6, 9, 11), 0.8);
+		List<IntegerDataset> e = Comparisons.nonZero(b);
+		List<IntegerDataset> r = Comparisons.nonZero(BitMask.pack(b));
+		Assert.assertEquals(e.size(), r.size());
+		for (int i = 0; i < e.size(); i++) {
+			TestUtils.assertDatasetEquals(e.get(i), r.get(i), true, 0, 0);
+		}
+		Assert.assertEquals(0, Comparisons.nonZero(new BitMask(3, 4)).size());
+	}
+
+	@Test
+	public void testComparisonMasks() {
+		Dataset a = Random.rand(4, 5, 6);
+		Dataset b = Random.rand(5, 6);
+		Assert.assertEquals(BitMask.pack(Comparisons.greaterThan(a, b)), Comparisons.greaterThanMask(a, b));
+		Assert.assertEquals(BitMask.pack(Comparisons.greaterThanOrEqualTo(a, 0.5)), Comparisons.greaterThanOrEqualToMask(a, 0.5));
+		Assert.assertEquals(BitMask.pack(Comparisons.lessThan(b, a)), Comparisons.lessThanMask(b, a));
+		Assert.assertEquals(BitMask.pack(Comparisons.lessThanOrEqualTo(a.getTransposedView(), 0.5)), Comparisons.lessThanOrEqualToMask(a.getTransposedView(), 0.5));
+		Assert.assertEquals(BitMask.pack(Comparisons.withinRange(a, 0.2, 0.7)), Comparisons.withinRangeMask(a, 0.2, 0.7));
+
+		Dataset i = DatasetFactory.createRange(IntegerDataset.class, 40).reshape(5, 8);
+		Assert.assertEquals(BitMask.pack(Comparisons.equalTo(i, 17)), Comparisons.equalToMask(i, 17));
+		Assert.assertEquals(BitMask.pack(Comparisons.withinRange(i, 7, 21)), Comparisons.withinRangeMask(i, 7, 21));
+		Assert.assertEquals(BitMask.pack(Comparisons.lessThan(i, i.getSlice(new Slice(2, 3)))), Comparisons.lessThanMask(i, i.getSlice(new Slice(2, 3))));
+
+		Dataset n = Random.rand(20);
+		n.set(Double.NaN, 3);
+		n.set(Double.POSITIVE_INFINITY, 7);
+		n.set(Double.NaN, 19);
+		Assert.assertEquals(BitMask.pack(Comparisons.isNaN(n)), Comparisons.isNaNMask(n));
+		Assert.assertEquals(BitMask.pack(Comparisons.isFinite(n)), Comparisons.isFiniteMask(n));
+		Assert.assertEquals(2, Comparisons.isNaNMask(n).cardinality());
+
+		// compound
+		Dataset c = DatasetFactory.createFromObject(3, CompoundDoubleDataset.class, new double[] {0, 1, 2, 3, 4, 5}, 2);
+		Assert.assertEquals(BitMask.pack(Comparisons.greaterThan(c, 0.5)), Comparisons.greaterThanMask(c, 0.5));
+	}
+
+	@Test
+	public void testSelect() {
+		Dataset x = Random.rand(4, 5);
+		Dataset y = DatasetFactory.createRange(IntegerDataset.class, 5);
+		BooleanDataset b = Comparisons.greaterThan(x, 0.5);
+		TestUtils.assertDatasetEquals(DatasetUtils.select(b, x, y), DatasetUtils.select(BitMask.pack(b), x, y), true, 0, 0);
+		TestUtils.assertDatasetEquals(DatasetUtils.select(b, -1, x), DatasetUtils.select(BitMask.pack(b), -1, x), true, 0, 0);
+
+		// typed outputs and views
+		Dataset v = Random.randint(-50, 50, new int[] {8, 10}).getSliceView(new Slice(null, null, 2), new Slice(null, null, -2));
+		Dataset[] inputs = {v.cast(Dataset.INT8), v.cast(Dataset.INT16), v, v.cast(Dataset.INT64), v.cast(Dataset.FLOAT32), x,
+				Comparisons.greaterThan(x, 0.3), DatasetFactory.createFromObject(new String[] {"a", "b", "c", "d", "e"})};
+		for (Dataset i : inputs) {
+			TestUtils.assertDatasetEquals(DatasetUtils.select(b, i, y.cast(i.getDType())), DatasetUtils.select(BitMask.pack(b), i, y.cast(i.getDType())), true, 0, 0);
+			TestUtils.assertDatasetEquals(DatasetUtils.select(b, y.cast(i.getDType()), i), DatasetUtils.select(BitMask.pack(b), y.cast(i.getDType()), i), true, 0, 0);
+		}
+		Dataset c = DatasetUtils.createCompoundDataset(x, Maths.negative(x));
+		TestUtils.assertDatasetEquals(DatasetUtils.createCompoundDataset(Maths.multiply(x, b), Maths.multiply(Maths.negative(x), b)),
+				DatasetUtils.select(BitMask.pack(b), c, 0), true, 0, 0);
+	}
+
+	@Test
+	public void testMaskMetadata() throws Exception {
+		Dataset d = Random.rand(6, 8, 10);
+		BitMask m = Comparisons.lessThanMask(d, 0.9);
+		MaskMetadata mmd = MetadataFactory.createMetadata(MaskMetadata.class, (IDataset) null);
+		mmd.setBitMask(m);
+		d.setMetadata(mmd);
+		TestUtils.assertDatasetEquals(m.toDataset(), DatasetUtils.convertToDataset(mmd.getMask()), true, 0, 0);
+		Assert.assertSame(m, mmd.getBitMask());
+		Assert.assertSame(m, d.getView(true).getFirstMetadata(MaskMetadata.class).getBitMask());
+		Assert.assertEquals(BitMask.pack(m.toDataset().getSliceView(new Slice(1, 5))),
+				d.getSliceView(new Slice(1, 5)).getFirstMetadata(MaskMetadata.class).getBitMask());
+
+		Slice[] s = new Slice[] {new Slice(2, 3), new Slice(1, 7, 2)};
+		Dataset v = d.getSliceView(s);
+		MaskMetadata vmd = v.getFirstMetadata(MaskMetadata.class);
+		TestUtils.assertDatasetEquals(m.toDataset().getSlice(s), DatasetUtils.convertToDataset(vmd.getMask()), true, 0, 0);
+		Assert.assertEquals(BitMask.pack(m.toDataset().getSlice(s)), vmd.getBitMask());
+
+		Dataset t = d.getTransposedView(2, 1, 0);
+		TestUtils.assertDatasetEquals(m.toDataset().getTransposedView(2, 1, 0),
+				DatasetUtils.convertToDataset(t.getFirstMetadata(MaskMetadata.class).getMask()), true, 0, 0);
+	}
+}
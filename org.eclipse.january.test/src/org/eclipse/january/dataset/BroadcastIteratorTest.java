@@ -279,4 +279,90 @@ public class BroadcastIteratorTest {
 			}
 		}
 	}
+
+	@Test
+	public void testBroadcastViewWithOffset() {
+		Dataset a = DatasetFactory.createRange(4, Dataset.FLOAT64).reshape(4, 1).getBroadcastView(4, 3);
+		Dataset b = DatasetFactory.createRange(3, Dataset.FLOAT64).getBroadcastView(4, 3);
+		a = a.getSliceView(new Slice(2, 4));
+		b = b.getSliceView(new Slice(2, 4));
+
+		BroadcastIterator it = BroadcastIterator.createIterator(a, b);
+		for (int i = 0; i < 2; i++) {
+			for (int j = 0; j < 3; j++) {
+				Assert.assertTrue(it.hasNext());
+				Assert.assertEquals(i + 2, it.aDouble, 1e-15);
+				Assert.assertEquals(j, it.bDouble, 1e-15);
+			}
+		}
+		Assert.assertFalse(it.hasNext());
+
+		SingleInputBroadcastIterator sit = new SingleInputBroadcastIterator(a, null, true);
+		for (int i = 0; i < 2; i++) {
+			for (int j = 0; j < 3; j++) {
+				Assert.assertTrue(sit.hasNext());
+				Assert.assertEquals(i + 2, sit.aDouble, 1e-15);
+			}
+		}
+		Assert.assertFalse(sit.hasNext());
+	}
+
+	@Test
+	public void testRuns() {
+		Dataset image = DatasetFactory.createRange(12, Dataset.FLOAT64).reshape(3, 4);
+		Dataset row = DatasetFactory.createRange(4, Dataset.FLOAT64);
+		Dataset column = DatasetFactory.createRange(3, Dataset.FLOAT64).reshape(3, 1);
+		Dataset cube = DatasetFactory.createRange(60, Dataset.FLOAT64).reshape(3, 4, 5);
+		Dataset slice = cube.getSliceView(new Slice(1, 3), null, new Slice(null, null, 2));
+
+		checkRuns(BroadcastIterator.createIterator(image, row, null, true), 3, 4);
+		checkRuns(BroadcastIterator.createIterator(image, column, null, true), 3, 4);
+		checkRuns(BroadcastIterator.createIterator(row, column, null, true), 3, 4);
+		checkRuns(BroadcastIterator.createIterator(image, image.clone(), null, true), 1, 12);
+		checkRuns(BroadcastIterator.createIterator(slice, DatasetFactory.createRange(3, Dataset.FLOAT64), null, true), 8, 3);
+		checkRuns(BroadcastIterator.createIterator(cube, cube.clone(), DatasetFactory.zeros(cube).getBroadcastView(3, 4, 5), false), 1, 60);
+		checkRuns(BroadcastIterator.createIterator(image, DatasetFactory.createFromObject(2.), image), 1, 12);
+		checkRuns(BroadcastIterator.createIterator(DatasetFactory.createFromObject(1.), DatasetFactory.createFromObject(2.), null, true), 1, 1);
+		Assert.assertFalse(BroadcastIterator.createIterator(image.getSlice(new Slice(0)), image.getSlice(new Slice(0)), null, true).nextRun());
+
+		checkRuns(BroadcastSelfIterator.createIterator(image, row), 3, 4);
+		checkRuns(BroadcastSelfIterator.createIterator(image, column), 3, 4);
+		checkRuns(BroadcastSelfIterator.createIterator(image, image.clone()), 1, 12);
+		checkRuns(BroadcastSelfIterator.createIterator(slice, DatasetFactory.createRange(3, Dataset.FLOAT64)), 8, 3);
+	}
+
+	private void checkRuns(BroadcastIteratorBase it, int runs, int length) {
+		boolean isPair = it instanceof BroadcastIterator;
+		StringBuilder expected = new StringBuilder();
+		while (it.hasNext()) {
+			expected.append(it.aIndex).append(',').append(it.bIndex);
+			if (isPair) {
+				expected.append(',').append(((BroadcastIterator) it).oIndex);
+			}
+			expected.append(';');
+		}
+
+		it.reset();
+		StringBuilder actual = new StringBuilder();
+		int n = 0;
+		while (it.nextRun()) {
+			n++;
+			Assert.assertEquals(length, it.runLength);
+			int a = it.aIndex;
+			int b = it.bIndex;
+			int o = isPair ? ((BroadcastIterator) it).oIndex : 0;
+			for (int i = 0; i < it.runLength; i++) {
+				actual.append(a).append(',').append(b);
+				if (isPair) {
+					actual.append(',').append(o);
+					o += ((BroadcastIterator) it).oRunStride;
+				}
+				actual.append(';');
+				a += it.aRunStride;
+				b += it.bRunStride;
+			}
+		}
+		Assert.assertEquals(runs, n);
+		Assert.assertEquals(expected.toString(), actual.toString());
+	}
 }
@@ -0,0 +1,226 @@
+/*-
+ * Copyright 2016 Diamond Light Source Ltd.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.january.dataset;
+
+import java.io.IOException;
+
+import org.eclipse.january.IMonitor;
+import org.eclipse.january.asserts.TestUtils;
+import org.eclipse.january.io.ILazyDynamicLoader;
+import org.eclipse.january.io.ILazyLoader;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ChunkCacheTest {
+
+	private static class CountingLoader implements ILazyLoader, ILazyDynamicLoader {
+		private static final long serialVersionUID = 1L;
+
+		private final Dataset data;
+		private int[] shape;
+		int reads = 0;
+
+		CountingLoader(Dataset data) {
+			this.data = data;
+			shape = data.getShape();
+		}
+
+		@Override
+		public boolean isFileReadable() {
+			return true;
+		}
+
+		@Override
+		public IDataset getDataset(IMonitor mon, SliceND slice) throws IOException {
+			reads++;
+			return data.getSlice(slice);
+		}
+
+		@Override
+		public int[] refreshShape() {
+			return shape;
+		}
+	}
+
+	@Test
+	public void testDefaultChunkShape() {
+		Assert.assertArrayEquals(new int[] {1, 512, 2048}, ChunkCache.getDefaultChunkShape(new int[] {100, 2048, 2048}));
+		Assert.assertArrayEquals(new int[] {1, 1, 1000, 1000}, ChunkCache.getDefaultChunkShape(new int[] {5, 100, 1000, 1000}));
+		Assert.assertArrayEquals(new int[] {10, 8, 8}, ChunkCache.getDefaultChunkShape(new int[] {10, 8, 8}));
+		Assert.assertArrayEquals(new int[] {20, 30}, ChunkCache.getDefaultChunkShape(new int[] {20, 30}));
+		Assert.assertArrayEquals(new int[] {1 << 20}, ChunkCache.getDefaultChunkShape(new int[] {1 << 24}));
+	}
+
+	@Test
+	public void testSlices() throws Exception {
+		Dataset d = DatasetFactory.createRange(7 * 11 * 13, Dataset.FLOAT64).reshape(7, 11, 13);
+		LazyDataset lazy = new LazyDataset("data", d.getDType(), d.getShapeRef(), new CountingLoader(d));
+		ChunkCache cache = new ChunkCache(1 << 20);
+		lazy.setChunkCache(cache, 2, 4, 5);
+		Assert.assertSame(cache, lazy.getChunkCache());
+
+		Slice[][] slices = new Slice[][] {
+			{},
+			{new Slice(3, 4)},
+			{new Slice(1, 6), new Slice(2, 9), new Slice(4, 11)},
+			{null, new Slice(null, null, 3), new Slice(1, null, 4)},
+			{new Slice(6, 0, -2), null, new Slice(null, null, -1)},
+			{new Slice(null, null, -3), new Slice(9, 2, -5)},
+			{null, null, new Slice(12, 13)},
+		};
+		for (Slice[] s : slices) {
+			TestUtils.assertDatasetEquals(d.getSlice(s), lazy.getSlice(s), true, 0, 0);
+		}
+
+		ILazyDataset view = lazy.getSliceView(new Slice(1, null, 2), new Slice(null, null, -1)).getTransposedView(2, 0, 1);
+		Dataset expected = d.getSliceView(new Slice(1, null, 2), new Slice(null, null, -1)).getTransposedView(2, 0, 1);
+		TestUtils.assertDatasetEquals(expected.getSlice(new Slice(3, 8)), DatasetUtils.convertToDataset(view.getSlice(new Slice(3, 8))), true, 0, 0);
+
+		// compound
+		Dataset c = DatasetUtils.createCompoundDatasetFromLastAxis(d, true);
+		LazyDataset lc = new LazyDataset("compound", c.getDType(), c.getElementsPerItem(), c.getShapeRef(), new CountingLoader(c));
+		lc.setChunkCache(cache, 3, 3);
+		TestUtils.assertDatasetEquals(c.getSlice(new Slice(1, 6, 2), new Slice(10, 0, -3)), lc.getSlice(new Slice(1, 6, 2), new Slice(10, 0, -3)), true, 0, 0);
+	}
+
+	@Test
+	public void testHitsAndMisses() throws Exception {
+		Dataset d = Random.rand(10, 8, 8);
+		CountingLoader loader = new CountingLoader(d);
+		LazyDataset lazy = new LazyDataset("data", d.getDType(), d.getShapeRef(), loader);
+		ChunkCache cache = new ChunkCache(1 << 20);
+		lazy.setChunkCache(cache, 1, 8, 8);
+
+		for (int i = 0; i < 10; i++) {
+			lazy.getSlice(new Slice(i, i + 1));
+		}
+		Assert.assertEquals(10, loader.reads);
+		Assert.assertEquals(10, cache.getMissCount());
+		Assert.assertEquals(0, cache.getHitCount());
+		Assert.assertEquals(10, cache.getChunkCount());
+		Assert.assertEquals(10 * 8 * 8 * 8, cache.getBytes());
+
+		// profile across stack uses cached frames
+		TestUtils.assertDatasetEquals(d.getSlice((Slice) null, new Slice(3, 4), new Slice(5, 6)),
+				lazy.getSlice((Slice) null, new Slice(3, 4), new Slice(5, 6)), true, 0, 0);
+		Assert.assertEquals(10, loader.reads);
+		Assert.assertEquals(10, cache.getHitCount());
+
+		// views share cache
+		lazy.getSliceView(new Slice(2, 5)).getSlice();
+		Assert.assertEquals(10, loader.reads);
+		Assert.assertEquals(13, cache.getHitCount());
+
+		cache.resetCounts();
+		Assert.assertEquals(0, cache.getHitCount());
+		cache.clear();
+		Assert.assertEquals(0, cache.getChunkCount());
+		Assert.assertEquals(0, cache.getBytes());
+
+		lazy.setChunkCache(null);
+		lazy.getSlice(new Slice(1, 2));
+		Assert.assertEquals(11, loader.reads);
+		Assert.assertEquals(0, cache.getMissCount());
+	}
+
+	@Test
+	public void testEviction() throws Exception {
+		Dataset d = Random.rand(10, 8, 8);
+		CountingLoader loader = new CountingLoader(d);
+		LazyDataset lazy = new LazyDataset("data", d.getDType(), d.getShapeRef(), loader);
+		ChunkCache cache = new ChunkCache(3 * 8 * 8 * 8);
+		lazy.setChunkCache(cache, 1, 8, 8);
+
+		for (int i = 0; i < 4; i++) {
+			lazy.getSlice(new Slice(i, i + 1));
+		}
+		Assert.assertEquals(3, cache.getChunkCount());
+		Assert.assertEquals(1, cache.getEvictionCount());
+
+		// least recently used frame was evicted
+		lazy.getSlice(new Slice(2, 3));
+		lazy.getSlice(new Slice(1, 2));
+		Assert.assertEquals(4, loader.reads);
+		lazy.getSlice(new Slice(0, 1));
+		Assert.assertEquals(5, loader.reads);
+		lazy.getSlice(new Slice(3, 4));
+		Assert.assertEquals(6, loader.reads);
+		Assert.assertTrue(cache.getBytes() <= cache.getMaximumBytes());
+
+		// chunks larger than budget are not cached
+		lazy.setChunkCache(cache, 4, 8, 8);
+		TestUtils.assertDatasetEquals(d.getSlice(new Slice(2, 7)), lazy.getSlice(new Slice(2, 7)), true, 0, 0);
+		Assert.assertEquals(3, cache.getChunkCount());
+		Assert.assertEquals(8, loader.reads);
+
+		// only last (partial) chunk fits
+		TestUtils.assertDatasetEquals(d.getSlice(new Slice(7, 10)), lazy.getSlice(new Slice(7, 10)), true, 0, 0);
+		Assert.assertEquals(2, cache.getChunkCount());
+		Assert.assertEquals(cache.getMaximumBytes(), cache.getBytes());
+
+		try {
+			new ChunkCache(0);
+			Assert.fail("Should have thrown an illegal argument exception");
+		} catch (IllegalArgumentException e) {
+			// do nothing
+		}
+
+		try {
+			lazy.setChunkCache(cache, 2, 0, 3);
+			Assert.fail("Should have thrown an illegal argument exception");
+		} catch (IllegalArgumentException e) {
+			// do nothing
+		}
+	}
+
+	@Test
+	public void testInvalidation() throws Exception {
+		Dataset d = DatasetFactory.zeros(new int[] {6, 4, 4}, Dataset.INT32);
+		CountingLoader loader = new CountingLoader(d);
+		LazyDynamicDataset lazy = new LazyDynamicDataset("data", d.getDType(), 1, d.getShapeRef(), null, loader);
+		ChunkCache cache = new ChunkCache(1 << 20);
+		lazy.setChunkCache(cache, 2, 4, 4);
+
+		Assert.assertEquals(0, lazy.getSlice().max().intValue());
+		Assert.assertEquals(3, cache.getChunkCount());
+		d.fill(5);
+		Assert.assertEquals(0, lazy.getSlice().max().intValue());
+
+		lazy.refreshShape();
+		Assert.assertEquals(0, cache.getChunkCount());
+		Assert.assertEquals(5, lazy.getSlice().max().intValue());
+
+		// clones share cache
+		lazy.clone().refreshShape();
+		Assert.assertEquals(0, cache.getChunkCount());
+	}
+
+	@Test
+	public void testGrowth() throws Exception {
+		Dataset d = DatasetFactory.createRange(80, Dataset.INT32).reshape(8, 10);
+		CountingLoader loader = new CountingLoader(d);
+		LazyDynamicDataset lazy = new LazyDynamicDataset("data", d.getDType(), 1, new int[] {3, 10}, new int[] {-1, 10}, loader);
+		ChunkCache cache = new ChunkCache(1 << 20);
+		lazy.setChunkCache(cache, 4, 10);
+
+		TestUtils.assertDatasetEquals(d.getSlice(new Slice(3)), lazy.getSlice(), true, 0, 0);
+		Assert.assertEquals(1, loader.reads);
+
+		// edge chunk read when smaller is read again
+		lazy.resize(8, 10);
+		TestUtils.assertDatasetEquals(d, lazy.getSlice(), true, 0, 0);
+		Assert.assertEquals(3, loader.reads);
+		Assert.assertEquals(2, cache.getChunkCount());
+		Assert.assertEquals(8 * 10 * 4, cache.getBytes());
+
+		TestUtils.assertDatasetEquals(d.getSlice(new Slice(1, 3)), lazy.getSlice(new Slice(1, 3)), true, 0, 0);
+		Assert.assertEquals(3, loader.reads);
+	}
+}
@@ -0,0 +1,148 @@
+/*-
+ * Copyright 2016 Diamond Light Source Ltd.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.january.dataset;
+
+import org.eclipse.january.asserts.TestUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ChunkedDatasetTest {
+
+	private static final double ABSERRD = 1e-10;
+
+	private static ChunkedDataset createChunked(Dataset d, int rows) {
+		ChunkedDataset c = new ChunkedDataset(d.getDType(), d.getElementsPerItem(), d.getShapeRef(), rows);
+		c.setSlice(d);
+		return c;
+	}
+
+	@Test
+	public void testConstruction() {
+		ChunkedDataset c = new ChunkedDataset(Dataset.FLOAT32, 7, 3, 4);
+		Assert.assertEquals(84, c.getSize());
+		Assert.assertEquals(1, c.getChunkCount());
+		Assert.assertArrayEquals(new int[] {7, 3, 4}, c.getShape());
+
+		c = new ChunkedDataset(Dataset.INT16, 1, new int[] {7, 3, 4}, 2);
+		Assert.assertEquals(4, c.getChunkCount());
+		Assert.assertEquals(6, c.getChunkStart(3));
+		Assert.assertEquals(7, c.getChunkEnd(3));
+		Assert.assertArrayEquals(new int[] {1, 3, 4}, c.getChunk(3).getShapeRef());
+
+		try {
+			new ChunkedDataset(Dataset.INT8, 1, new int[] {5, 1 << 30}, 2);
+			Assert.fail("Should have thrown an illegal argument exception");
+		} catch (IllegalArgumentException e) {
+			// do nothing
+		}
+
+		try {
+			new ChunkedDataset(Dataset.FLOAT64, 2, new int[] {2, 1 << 30}, 0);
+			Assert.fail("Should have thrown an illegal argument exception");
+		} catch (IllegalArgumentException e) {
+			// do nothing
+		}
+	}
+
+	@Test
+	public void testGetAndSet() {
+		Dataset d = DatasetFactory.createRange(84, Dataset.FLOAT64).reshape(7, 3, 4);
+		ChunkedDataset c = createChunked(d, 3);
+
+		Assert.assertEquals(d.getDouble(4, 1, 2), c.getDouble(4, 1, 2), 0);
+		Assert.assertEquals(d.getLong(-1, 2, 3), c.getLong(-1, 2, 3));
+		c.set(-5, 5, 0, 1);
+		d.set(-5, 5, 0, 1);
+		Assert.assertEquals(-5., c.getObject(5, 0, 1));
+
+		Slice[][] slices = new Slice[][] {
+			{},
+			{new Slice(1, 6)},
+			{new Slice(2, 3), new Slice(1, 2)},
+			{new Slice(null, null, 2), null, new Slice(3, 0, -1)},
+			{new Slice(6, 0, -2), new Slice(null, null, -1)},
+			{new Slice(null, null, -1), new Slice(2, null, -2)},
+			{new Slice(1, 6, 4)},
+			{new Slice(3, 3)},
+		};
+		for (Slice[] s : slices) {
+			TestUtils.assertDatasetEquals(d.getSlice(s), c.getSlice(s), true, 0, 0);
+		}
+
+		Dataset e = DatasetFactory.createRange(84, Dataset.INT32).reshape(7, 3, 4);
+		d = DatasetFactory.zeros(d);
+		c.fill(0);
+		Slice[] s = new Slice[] {new Slice(6, 0, -2), null, new Slice(null, null, 3)};
+		c.setSlice(e.getSlice(s), s);
+		d.setSlice(e.getSlice(s), s);
+		TestUtils.assertDatasetEquals(d, c.getSlice(), true, 0, 0);
+
+		// broadcast
+		c.setSlice(DatasetFactory.createRange(4, Dataset.INT32), new Slice(2, 6));
+		d.setSlice(DatasetFactory.createRange(4, Dataset.INT32), new Slice(2, 6));
+		TestUtils.assertDatasetEquals(d, c.getSlice(), true, 0, 0);
+		c.setSlice(3.5, new Slice(1, 5, 3));
+		d.setSlice(3.5, new Slice(1, 5, 3));
+		TestUtils.assertDatasetEquals(d, c.getSlice(), true, 0, 0);
+	}
+
+	@Test
+	public void testCompound() {
+		Dataset d = DatasetFactory.createRange(60, Dataset.FLOAT64).reshape(5, 4, 3);
+		Dataset a = DatasetUtils.createCompoundDatasetFromLastAxis(d, true);
+		ChunkedDataset c = createChunked(a, 2);
+		Assert.assertEquals(3, c.getElementsPerItem());
+		TestUtils.assertDatasetEquals(a.getSlice(new Slice(1, 4)), c.getSlice(new Slice(1, 4)), true, 0, 0);
+	}
+
+	@Test
+	public void testIterator() {
+		Dataset d = DatasetFactory.createRange(-3, 39, 1, Dataset.INT32).reshape(7, 2, 3);
+		ChunkedDataset c = createChunked(d, 2);
+		ChunkedIterator it = c.getIterator();
+		long n = 0;
+		while (it.hasNext()) {
+			Assert.assertEquals(n, it.getPosition());
+			Assert.assertEquals(n - 3, it.getChunk().getElementLongAbs(it.index));
+			Assert.assertEquals(n - 3, d.getLong(it.getPos()));
+			n++;
+		}
+		Assert.assertEquals(c.getSize(), n);
+
+		it.reset();
+		Assert.assertTrue(it.hasNext());
+		Assert.assertEquals(0, it.getPosition());
+	}
+
+	@Test
+	public void testStats() {
+		Dataset d = Random.randn(13, 5, 4);
+		ChunkedDataset c = createChunked(d, 3);
+		Assert.assertEquals(5, c.getChunkCount());
+
+		Assert.assertEquals(((Number) d.sum()).doubleValue(), Stats.sum(c), ABSERRD);
+		Assert.assertEquals(((Number) d.mean()).doubleValue(), Stats.mean(c), ABSERRD);
+		Assert.assertEquals(d.max().doubleValue(), Stats.max(c), 0);
+		Assert.assertEquals(d.min().doubleValue(), Stats.min(c), 0);
+		Assert.assertEquals(d.variance().doubleValue(), Stats.variance(c), ABSERRD);
+		Assert.assertEquals(d.variance(true).doubleValue(), Stats.variance(c, true), ABSERRD);
+		Assert.assertEquals(d.stdDeviation().doubleValue(), Stats.stdDeviation(c), ABSERRD);
+
+		d = DatasetFactory.createRange(100, Dataset.INT16).reshape(25, 4);
+		c = createChunked(d, 7);
+		Assert.assertEquals(4950, Stats.sum(c), 0);
+		Assert.assertEquals(99, Stats.max(c), 0);
+		Assert.assertEquals(d.variance().doubleValue(), Stats.variance(c), ABSERRD);
+
+		c = new ChunkedDataset(Dataset.FLOAT64, 1, new int[] {25, 4}, 7).fill(1);
+		c.set(Double.NaN, 22, 1);
+		Assert.assertTrue(Double.isNaN(Stats.max(c)));
+	}
+}
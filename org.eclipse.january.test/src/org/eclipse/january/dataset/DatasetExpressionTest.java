@@ -0,0 +1,219 @@
+/*-
+ * Copyright 2016 Diamond Light Source Ltd.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.january.dataset;
+
+import org.eclipse.january.asserts.TestUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DatasetExpressionTest {
+
+	private static final double ABSERRD = 1e-12;
+
+	@Test
+	public void testFlatField() {
+		Dataset raw = Random.rand(0., 100., 37, 29);
+		Dataset dark = Random.rand(0., 10., 29);
+		Dataset flat = Random.rand(50., 100., 37, 29);
+
+		Dataset expected = Maths.divide(Maths.subtract(raw, dark), Maths.subtract(flat, dark));
+		DatasetExpression e = DatasetExpression.of(raw).subtract(dark).divide(DatasetExpression.of(flat).subtract(dark));
+		Assert.assertArrayEquals(new int[] {37, 29}, e.getShape());
+
+		Dataset actual = e.evaluate();
+		Assert.assertEquals(Dataset.FLOAT64, actual.getDType());
+		TestUtils.assertDatasetEquals(expected, actual, true, ABSERRD, ABSERRD);
+
+		Dataset o = DatasetFactory.zeros(raw);
+		Assert.assertSame(o, e.evaluate(o));
+		TestUtils.assertDatasetEquals(expected, o, true, ABSERRD, ABSERRD);
+
+		// evaluate in place
+		Dataset c = raw.clone();
+		DatasetExpression.of(c).subtract(dark).divide(DatasetExpression.of(flat).subtract(dark)).evaluate(c);
+		TestUtils.assertDatasetEquals(expected, c, true, ABSERRD, ABSERRD);
+	}
+
+	@Test
+	public void testOperations() {
+		Dataset a = DatasetFactory.createRange(1, 25, 1, Dataset.FLOAT64).reshape(4, 6);
+		Dataset b = DatasetFactory.createRange(-3, 3, 1, Dataset.FLOAT64);
+		DatasetExpression e = DatasetExpression.of(a);
+
+		TestUtils.assertDatasetEquals(Maths.add(a, b), e.add(b).evaluate(), true, ABSERRD, ABSERRD);
+		TestUtils.assertDatasetEquals(Maths.multiply(a, 2.5), e.multiply(2.5).evaluate(), true, ABSERRD, ABSERRD);
+		TestUtils.assertDatasetEquals(Maths.dividez(a, b), e.dividez(b).evaluate(), true, ABSERRD, ABSERRD);
+		TestUtils.assertDatasetEquals(Maths.divideTowardsFloor(a, b), e.divideTowardsFloor(b).evaluate(), true, ABSERRD, ABSERRD);
+		TestUtils.assertDatasetEquals(Maths.remainder(a, b), e.remainder(b).evaluate(), true, ABSERRD, ABSERRD);
+		TestUtils.assertDatasetEquals(Maths.power(a, 0.5), e.power(0.5).evaluate(), true, ABSERRD, ABSERRD);
+		TestUtils.assertDatasetEquals(Maths.subtract(a, Maths.multiply(a, a)), e.subtract(e.multiply(a)).evaluate(), true, ABSERRD, ABSERRD);
+	}
+
+	@Test
+	public void testIntegers() {
+		Dataset a = DatasetFactory.createRange(-20, 20, 1, Dataset.INT32).reshape(5, 8);
+		Dataset b = DatasetFactory.createRange(-3, 5, 1, Dataset.INT16);
+
+		Dataset actual = DatasetExpression.of(a).multiply(3).divide(b).evaluate();
+		Assert.assertEquals(Dataset.INT32, actual.getDType());
+		TestUtils.assertDatasetEquals(Maths.divide(Maths.multiply(a, 3), b), actual, true, ABSERRD, ABSERRD);
+
+		// stored into float output
+		Dataset o = DatasetFactory.zeros(new int[] {5, 8}, Dataset.FLOAT32);
+		DatasetExpression.of(a).subtract(b).evaluate(o);
+		TestUtils.assertDatasetEquals(Maths.subtract(a, b).cast(Dataset.FLOAT32), o, true, ABSERRD, ABSERRD);
+	}
+
+	@Test
+	public void testDTypes() {
+		Dataset b = DatasetFactory.createRange(1, 13, 1, Dataset.INT8).reshape(3, 4);
+		Dataset f = DatasetFactory.createRange(1, 13, 1, Dataset.FLOAT32).reshape(3, 4);
+		Dataset s = DatasetFactory.createRange(1, 5, 1, Dataset.INT16);
+		Object[][] pairs = {{b, 3}, {f, 3}, {f, 2.5}, {b, 2.5}, {3, b}, {b, s}, {s, f}};
+		for (Object[] p : pairs) {
+			Dataset expected = Maths.multiply(p[0], p[1]);
+			Dataset actual = DatasetExpression.of(p[0]).multiply(p[1]).evaluate();
+			Assert.assertEquals(expected.getDType(), actual.getDType());
+			TestUtils.assertDatasetEquals(expected, actual, true, ABSERRD, ABSERRD);
+		}
+
+		// nested operations
+		Dataset expected = Maths.add(Maths.multiply(b, 3), s);
+		Dataset actual = DatasetExpression.of(b).multiply(3).add(s).evaluate();
+		Assert.assertEquals(expected.getDType(), actual.getDType());
+		TestUtils.assertDatasetEquals(expected, actual, true, ABSERRD, ABSERRD);
+		Assert.assertEquals(Maths.subtract(7, Maths.multiply(f, 3)).getDType(),
+				DatasetExpression.of(7).subtract(DatasetExpression.of(f).multiply(3)).evaluate().getDType());
+	}
+
+	private static Dataset operate(int op, Object a, Object b) {
+		switch (op) {
+		case 0:
+			return Maths.add(a, b);
+		case 1:
+			return Maths.subtract(a, b);
+		case 2:
+			return Maths.multiply(a, b);
+		case 3:
+			return Maths.divide(a, b);
+		case 4:
+			return Maths.dividez(a, b);
+		case 5:
+			return Maths.divideTowardsFloor(a, b);
+		case 6:
+			return Maths.remainder(a, b);
+		default:
+			return Maths.power(a, b);
+		}
+	}
+
+	private static DatasetExpression operate(int op, DatasetExpression a, Object b) {
+		switch (op) {
+		case 0:
+			return a.add(b);
+		case 1:
+			return a.subtract(b);
+		case 2:
+			return a.multiply(b);
+		case 3:
+			return a.divide(b);
+		case 4:
+			return a.dividez(b);
+		case 5:
+			return a.divideTowardsFloor(b);
+		case 6:
+			return a.remainder(b);
+		default:
+			return a.power(b);
+		}
+	}
+
+	@Test
+	public void testChains() {
+		Dataset i8 = DatasetFactory.createRange(60, 120, 5, Dataset.INT8).reshape(3, 4);
+		Dataset j8 = DatasetFactory.createRange(-4, 0, 1, Dataset.INT8);
+		Dataset i32 = DatasetFactory.createRange(7, 19, 1, Dataset.INT32).reshape(3, 4);
+		Dataset j32 = DatasetFactory.createRange(2, 5, 1, Dataset.INT32).reshape(3, 1);
+		Dataset i16 = DatasetFactory.createRange(-9, 3, 1, Dataset.INT16).reshape(3, 4);
+		Dataset f32 = DatasetFactory.createRange(0.5, 4.5, 1, Dataset.FLOAT32);
+		Object[][] operands = {{i8, i8, j8}, {i8, 100, 2}, {j8, i8, 3}, {i32, j32, i32}, {i32, 1.5, j32}, {i32, j32, 1.5},
+				{i16, f32, i32}, {i32, i8, f32}, {f32, j32, i16}, {i8, 2.5, i8}};
+		for (Object[] o : operands) {
+			for (int p = 0; p < 8; p++) {
+				for (int q = 0; q < 8; q++) {
+					Dataset expected = operate(q, operate(p, o[0], o[1]), o[2]);
+					Dataset actual = operate(q, operate(p, DatasetExpression.of(o[0]), o[1]), o[2]).evaluate();
+					Assert.assertEquals(expected.getDType(), actual.getDType());
+					TestUtils.assertDatasetEquals(expected, actual, true, ABSERRD, ABSERRD);
+				}
+			}
+		}
+
+		Dataset a = DatasetFactory.createFromObject(new int[] {7, 9, 5});
+		Dataset b = DatasetFactory.createFromObject(new int[] {2, 2, 2});
+		TestUtils.assertDatasetEquals(DatasetFactory.createFromObject(new double[] {4.5, 6, 3}),
+				DatasetExpression.of(a).divide(b).multiply(1.5).evaluate(), true, ABSERRD, ABSERRD);
+		Dataset c = DatasetFactory.createFromObject(new byte[] {100});
+		Assert.assertEquals(-28, DatasetExpression.of(c).add(c).divide(2).evaluate().getInt(0));
+	}
+
+	@Test
+	public void testViews() {
+		Dataset a = DatasetFactory.createRange(120, Dataset.FLOAT64).reshape(6, 20);
+		Dataset s = a.getSliceView(new Slice(1, null, 2), new Slice(null, null, 3));
+		Dataset c = DatasetFactory.createRange(3, Dataset.FLOAT64).reshape(3, 1);
+
+		Dataset expected = Maths.add(Maths.multiply(s, c), 1);
+		TestUtils.assertDatasetEquals(expected, DatasetExpression.of(s).multiply(c).add(1).evaluate(), true, ABSERRD, ABSERRD);
+
+		Dataset o = DatasetFactory.zeros(new int[] {3, 14}, Dataset.FLOAT64).getSliceView(null, new Slice(null, null, 2));
+		DatasetExpression.of(s).multiply(c).add(1).evaluate(o);
+		TestUtils.assertDatasetEquals(expected, o, true, ABSERRD, ABSERRD);
+	}
+
+	@Test
+	public void testParallel() {
+		try (ParallelTestPool pool = new ParallelTestPool()) {
+			Dataset raw = Random.rand(0., 100., 37, 29);
+			Dataset dark = Random.rand(0., 10., 37, 1);
+			DatasetExpression e = DatasetExpression.of(raw).subtract(dark).multiply(dark);
+
+			Dataset serial = e.evaluate(null, ExecutionMode.SERIAL);
+			Dataset parallel = e.evaluate(null, ExecutionMode.PARALLEL);
+			TestUtils.assertDatasetEquals(serial, parallel, true, ABSERRD, ABSERRD);
+			TestUtils.assertDatasetEquals(Maths.multiply(Maths.subtract(raw, dark), dark), parallel, true, ABSERRD, ABSERRD);
+		}
+	}
+
+	@Test
+	public void testErrors() {
+		Dataset a = DatasetFactory.createRange(12, Dataset.FLOAT64).reshape(3, 4);
+		try {
+			DatasetExpression.of(a).add(1).evaluate(DatasetFactory.zeros(4, 3));
+			Assert.fail("Should have thrown an illegal argument exception");
+		} catch (IllegalArgumentException e) {
+			// do nothing
+		}
+
+		try {
+			DatasetExpression.of(DatasetFactory.zeros(2, new int[] {3, 4}, Dataset.ARRAYFLOAT64));
+			Assert.fail("Should have thrown an illegal argument exception");
+		} catch (IllegalArgumentException e) {
+			// do nothing
+		}
+
+		try {
+			DatasetExpression.of(a).add(DatasetFactory.zeros(BooleanDataset.class, 3, 4));
+			Assert.fail("Should have thrown an illegal argument exception");
+		} catch (IllegalArgumentException e) {
+			// do nothing
+		}
+	}
+}
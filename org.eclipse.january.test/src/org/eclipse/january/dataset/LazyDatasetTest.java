@@ -9,14 +9,26 @@
 
 package org.eclipse.january.dataset;
 
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
 import org.eclipse.january.DatasetException;
+import org.eclipse.january.IMonitor;
 import org.eclipse.january.asserts.TestUtils;
 import org.eclipse.january.dataset.Dataset;
+import org.eclipse.january.dataset.IDataset;
 import org.eclipse.january.dataset.ILazyDataset;
 import org.eclipse.january.dataset.LazyDataset;
 import org.eclipse.january.dataset.Random;
 import org.eclipse.january.dataset.Slice;
 import org.eclipse.january.dataset.SliceND;
+import org.eclipse.january.io.ILazyLoader;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -281,4 +293,161 @@ public class LazyDatasetTest {
 		TestUtils.assertDatasetEquals(data.getSliceView(new Slice(5)).reshape(1, 1, 5).getSliceView(null, null, new Slice(4)),
 				view.getSlice(), true, 1e-14, 1e-14);
 	}
+
+	@Test
+	public void testAsync() throws Exception {
+		final Dataset data = Random.randn(5, 6, 7);
+		LazyDataset ld = LazyDataset.createLazyDataset(data);
+
+		SliceND slice = new SliceND(ld.getShape(), new Slice(1, 4), null, new Slice(null, null, -2));
+		CompletableFuture<IDataset> f = ld.getSliceAsync(slice);
+		TestUtils.assertDatasetEquals(data.getSlice(slice), (Dataset) f.get(10, TimeUnit.SECONDS), true, 0, 0);
+		TestUtils.assertDatasetEquals(data, (Dataset) ld.getSliceAsync(null).get(10, TimeUnit.SECONDS), true, 0, 0);
+
+		List<SliceND> slices = Arrays.asList(new SliceND(ld.getShape(), new Slice(4, 5)), new SliceND(ld.getShape(), new Slice(0, 1)),
+				new SliceND(ld.getShape(), (Slice) null, new Slice(2, 3)));
+		List<IDataset> results = ld.getSlicesAsync(slices).get(10, TimeUnit.SECONDS);
+		Assert.assertEquals(3, results.size());
+		for (int i = 0; i < 3; i++) {
+			TestUtils.assertDatasetEquals(data.getSlice(slices.get(i)), (Dataset) results.get(i), true, 0, 0);
+		}
+
+		// in-memory datasets
+		TestUtils.assertDatasetEquals(data.getSlice(slice), (Dataset) data.getSliceAsync(slice).get(10, TimeUnit.SECONDS), true, 0, 0);
+	}
+
+	@Test
+	public void testAsyncFailure() throws Exception {
+		LazyDataset ld = new LazyDataset("broken", Dataset.FLOAT64, new int[] {3, 4}, new ILazyLoader() {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			public boolean isFileReadable() {
+				return true;
+			}
+
+			@Override
+			public IDataset getDataset(IMonitor mon, SliceND slice) throws IOException {
+				throw new IOException("Cannot read");
+			}
+		});
+
+		try {
+			ld.getSliceAsync(null).get(10, TimeUnit.SECONDS);
+			Assert.fail("Should have thrown an execution exception");
+		} catch (ExecutionException e) {
+			Assert.assertTrue(e.getCause() instanceof DatasetException);
+		}
+
+		try {
+			ld.getSlicesAsync(Arrays.asList(new SliceND(ld.getShape()), new SliceND(ld.getShape()))).get(10, TimeUnit.SECONDS);
+			Assert.fail("Should have thrown an execution exception");
+		} catch (ExecutionException e) {
+			Assert.assertTrue(e.getCause() instanceof DatasetException);
+		}
+	}
+
+	@Test
+	public void testAsyncCancel() throws Exception {
+		final CountDownLatch started = new CountDownLatch(1);
+		final CountDownLatch stopped = new CountDownLatch(1);
+		LazyDataset ld = new LazyDataset("slow", Dataset.FLOAT64, new int[] {3, 4}, new ILazyLoader() {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			public boolean isFileReadable() {
+				return true;
+			}
+
+			@Override
+			public IDataset getDataset(IMonitor mon, SliceND slice) throws IOException {
+				started.countDown();
+				while (!mon.isCancelled()) {
+					try {
+						Thread.sleep(1);
+					} catch (InterruptedException e) {
+						break;
+					}
+				}
+				stopped.countDown();
+				return null;
+			}
+		});
+
+		CompletableFuture<IDataset> f = ld.getSliceAsync(null);
+		Assert.assertTrue(started.await(10, TimeUnit.SECONDS));
+		Assert.assertTrue(f.cancel(true));
+		Assert.assertTrue(stopped.await(10, TimeUnit.SECONDS));
+		try {
+			f.get();
+			Assert.fail("Should have thrown a cancellation exception");
+		} catch (CancellationException e) {
+			// do nothing
+		}
+
+		final boolean[] cancelled = new boolean[1];
+		IMonitor monitor = new IMonitor.Stub() {
+			@Override
+			public boolean isCancelled() {
+				return cancelled[0];
+			}
+		};
+		cancelled[0] = true;
+		try {
+			ld.getSliceAsync(monitor, null).get(10, TimeUnit.SECONDS);
+			Assert.fail("Should have thrown a cancellation exception");
+		} catch (CancellationException e) {
+			// do nothing
+		}
+	}
+
+	@Test
+	public void testAsyncFailFast() throws Exception {
+		final CountDownLatch started = new CountDownLatch(1);
+		final CountDownLatch stopped = new CountDownLatch(1);
+		LazyDataset ld = new LazyDataset("partly broken", Dataset.FLOAT64, new int[] {3, 4}, new ILazyLoader() {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			public boolean isFileReadable() {
+				return true;
+			}
+
+			@Override
+			public IDataset getDataset(IMonitor mon, SliceND slice) throws IOException {
+				if (slice.getStart()[0] == 0) {
+					try {
+						started.await(10, TimeUnit.SECONDS);
+					} catch (InterruptedException e) {
+						// do nothing
+					}
+					throw new IOException("Cannot read");
+				}
+				started.countDown();
+				long end = System.currentTimeMillis() + 3000;
+				while (!mon.isCancelled() && System.currentTimeMillis() < end) {
+					try {
+						Thread.sleep(1);
+					} catch (InterruptedException e) {
+						break;
+					}
+				}
+				if (mon.isCancelled()) {
+					stopped.countDown();
+				}
+				return null;
+			}
+		});
+
+		long start = System.currentTimeMillis();
+		try {
+			ld.getSlicesAsync(Arrays.asList(new SliceND(ld.getShape(), new Slice(0, 1)), new SliceND(ld.getShape(), new Slice(1, 2))))
+					.get(10, TimeUnit.SECONDS);
+			Assert.fail("Should have thrown an execution exception");
+		} catch (ExecutionException e) {
+			Assert.assertTrue(e.getCause() instanceof DatasetException);
+		}
+		Assert.assertTrue(System.currentTimeMillis() - start < 2000);
+		Assert.assertTrue(stopped.await(2, TimeUnit.SECONDS));
+	}
 }
@@ -9,11 +9,15 @@
 
 package org.eclipse.january.dataset;
 
+import org.eclipse.january.DatasetException;
+import org.eclipse.january.IMonitor;
 import org.eclipse.january.asserts.TestUtils;
 import org.eclipse.january.dataset.Dataset;
 import org.eclipse.january.dataset.DatasetFactory;
 import org.eclipse.january.dataset.LazyMaths;
 import org.eclipse.january.dataset.Maths;
+import org.eclipse.january.io.ILazyLoader;
+import org.junit.Assert;
 import org.junit.Test;
 
 public class LazyMathsTest {
@@ -93,4 +97,189 @@ public class LazyMathsTest {
 		TestUtils.assertDatasetEquals(e, LazyMaths.mean(a, 0).getError(), 1e-9, 1e-15);
 
 	}
+
+	private static ILazyDataset createLazy(final Dataset d) {
+		return new LazyDataset("data", d.getDType(), d.getShape(), new ILazyLoader() {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			public boolean isFileReadable() {
+				return true;
+			}
+
+			@Override
+			public IDataset getDataset(IMonitor mon, SliceND slice) {
+				return d.getSlice(slice);
+			}
+		});
+	}
+
+	private static void checkReductions(Dataset d, ExecutionMode mode) throws Exception {
+		ILazyDataset l = createLazy(d);
+		Assert.assertEquals(((Number) d.sum()).doubleValue(), LazyMaths.sum(l, null, mode), 1e-9 * d.getSize());
+		Assert.assertEquals(d.min().doubleValue(), LazyMaths.min(l, null, mode), 0);
+		Assert.assertEquals(d.max().doubleValue(), LazyMaths.max(l, null, mode), 0);
+		Assert.assertEquals(d.argMax(), LazyMaths.argMax(l, null, mode));
+		Assert.assertEquals(d.variance(false).doubleValue(), LazyMaths.variance(l, false, null, mode), 1e-9);
+		Assert.assertEquals(d.variance(true).doubleValue(), LazyMaths.variance(l, true, null, mode), 1e-9);
+
+		Dataset h = LazyMaths.histogram(l, 7, 0.1, 0.9, null, mode);
+		IndexIterator it = d.getIterator();
+		long[] counts = new long[7];
+		while (it.hasNext()) {
+			double v = d.getElementDoubleAbs(it.index);
+			if (v >= 0.1 && v <= 0.9) {
+				counts[Math.min(6, (int) ((v - 0.1) * 7 / 0.8))]++;
+			}
+		}
+		TestUtils.assertDatasetEquals(DatasetFactory.createFromObject(counts), h, true, 0, 0);
+		Assert.assertEquals(d.getSize(), ((Number) LazyMaths.histogram(l, 5).sum()).longValue());
+	}
+
+	@Test
+	public void testReductions() throws Exception {
+		long budget = LazyMaths.getMemoryBudget();
+		try {
+			Dataset d = Random.rand(23, 7, 11);
+			Dataset f = d.reshape(23 * 7 * 11);
+			Dataset t = d.getTransposedView(2, 0, 1);
+			checkReductions(d, null);
+
+			LazyMaths.setMemoryBudget(3 * 7 * 11 * 8); // three rows in each block
+			checkReductions(d, null);
+			checkReductions(f, null);
+			checkReductions(t, null);
+
+			d.set(Double.NaN, 10, 3, 4);
+			ILazyDataset l = createLazy(d);
+			Assert.assertTrue(Double.isNaN(LazyMaths.max(l)));
+			Assert.assertTrue(Double.isNaN(LazyMaths.min(l)));
+			Assert.assertEquals(d.get1DIndex(10, 3, 4), LazyMaths.argMax(l));
+			Assert.assertEquals(d.getSize() - 1, ((Number) LazyMaths.histogram(l, 3, 0, 1, null, null).sum()).longValue());
+			Assert.assertEquals(d.getSize() - 1, ((Number) LazyMaths.histogram(l, 3).sum()).longValue());
+			TestUtils.assertDatasetEquals(DatasetFactory.createFromObject(new long[] {1, 1, 1}),
+					LazyMaths.histogram(createLazy(DatasetFactory.createFromObject(new double[] {1, 2, Double.NaN, 4})), 3), true, 0, 0);
+			TestUtils.assertDatasetEquals(DatasetFactory.zeros(new int[] {3}, Dataset.INT64),
+					LazyMaths.histogram(createLazy(DatasetFactory.createFromObject(new double[] {Double.NaN, Double.NaN})), 3), true, 0, 0);
+
+			Dataset i = DatasetFactory.createRange(IntegerDataset.class, 100).reshape(10, 10);
+			Assert.assertEquals(4950, LazyMaths.sum(i), 0);
+			Assert.assertEquals(99, LazyMaths.argMax(createLazy(i)));
+		} finally {
+			LazyMaths.setMemoryBudget(budget);
+		}
+
+		try {
+			LazyMaths.setMemoryBudget(0);
+			Assert.fail("Should have thrown an illegal argument exception");
+		} catch (IllegalArgumentException e) {
+			// do nothing
+		}
+
+		try {
+			LazyMaths.sum(DatasetFactory.zeros(2, CompoundDoubleDataset.class, 3));
+			Assert.fail("Should have thrown an illegal argument exception");
+		} catch (IllegalArgumentException e) {
+			// do nothing
+		}
+	}
+
+	@Test
+	public void testParallelReductions() throws Exception {
+		long budget = LazyMaths.getMemoryBudget();
+		try (ParallelTestPool pool = new ParallelTestPool()) {
+			LazyMaths.setMemoryBudget(2 * 7 * 11 * 8);
+			checkReductions(Random.rand(23, 7, 11), ExecutionMode.PARALLEL);
+			checkReductions(Random.rand(23, 7, 11).getSliceView(new Slice(null, null, -2)), ExecutionMode.PARALLEL);
+		} finally {
+			LazyMaths.setMemoryBudget(budget);
+		}
+	}
+
+	@Test
+	public void testReductionMonitor() throws Exception {
+		long budget = LazyMaths.getMemoryBudget();
+		try {
+			LazyMaths.setMemoryBudget(4 * 10 * 8);
+			ILazyDataset l = createLazy(Random.rand(20, 10));
+			final int[] work = new int[1];
+			LazyMaths.sum(l, new IMonitor.Stub() {
+				@Override
+				public void worked(int amount) {
+					work[0] += amount;
+				}
+			}, null);
+			Assert.assertEquals(5, work[0]);
+
+			for (ExecutionMode mode : new ExecutionMode[] {ExecutionMode.SERIAL, ExecutionMode.PARALLEL}) {
+				try {
+					LazyMaths.max(l, new IMonitor.Stub() {
+						@Override
+						public boolean isCancelled() {
+							return true;
+						}
+					}, mode);
+					Assert.fail("Should have thrown a dataset exception");
+				} catch (DatasetException e) {
+					// do nothing
+				}
+			}
+		} finally {
+			LazyMaths.setMemoryBudget(budget);
+		}
+	}
+
+	@Test
+	public void testLazyOperations() throws Exception {
+		Dataset d = Random.rand(5, 7, 11);
+		Dataset dark = Random.rand(7, 11);
+		ILazyDataset l = createLazy(d);
+
+		ILazyDataset r = LazyMaths.subtract(l, dark);
+		Assert.assertArrayEquals(new int[] {5, 7, 11}, r.getShape());
+		Assert.assertEquals(Double.class, r.getElementClass());
+		Dataset e = Maths.subtract(d, dark);
+		TestUtils.assertDatasetEquals(e, DatasetUtils.convertToDataset(r.getSlice()), true, 0, 0);
+
+		Slice[][] slices = new Slice[][] {
+			{new Slice(1, 3)},
+			{null, new Slice(null, null, 3), new Slice(1, null, 4)},
+			{new Slice(4, 0, -2), null, new Slice(null, null, -1)},
+			{new Slice(null, null, -1), new Slice(2, 3)},
+		};
+		for (Slice[] s : slices) {
+			TestUtils.assertDatasetEquals(e.getSlice(s), DatasetUtils.convertToDataset(r.getSlice(s)), true, 0, 0);
+		}
+		TestUtils.assertDatasetEquals(e.getTransposedView(2, 0, 1).getSlice(new Slice(3, 8)),
+				DatasetUtils.convertToDataset(r.getTransposedView(2, 0, 1).getSlice(new Slice(3, 8))), true, 0, 0);
+
+		// broadcast of lazy operand
+		ILazyDataset column = createLazy(d.getSlice(new Slice(0, 1), new Slice(0, 1)));
+		r = LazyMaths.multiply(LazyMaths.divide(l, column), 2.5);
+		e = Maths.multiply(Maths.divide(d, d.getSlice(new Slice(0, 1), new Slice(0, 1))), 2.5);
+		Assert.assertArrayEquals(e.getShapeRef(), r.getShape());
+		TestUtils.assertDatasetEquals(e.getSlice(slices[2]), DatasetUtils.convertToDataset(r.getSlice(slices[2])), true, 1e-14, 1e-14);
+
+		ILazyDataset row = createLazy(dark.getSlice(new Slice(0, 1)).squeeze());
+		r = LazyMaths.maximum(row, l);
+		TestUtils.assertDatasetEquals(Maths.maximum(dark.getSlice(new Slice(0, 1)).squeeze(), d).getSlice(slices[1]),
+				DatasetUtils.convertToDataset(r.getSlice(slices[1])), true, 0, 0);
+
+		TestUtils.assertDatasetEquals(Maths.sqrt(Maths.abs(Maths.negative(d))),
+				DatasetUtils.convertToDataset(LazyMaths.sqrt(LazyMaths.abs(LazyMaths.negative(l))).getSlice()), true, 0, 0);
+
+		// result type
+		Dataset i = DatasetFactory.createRange(IntegerDataset.class, 20).reshape(4, 5);
+		ILazyDataset li = createLazy(i);
+		Assert.assertEquals(Integer.class, LazyMaths.add(li, 3).getElementClass());
+		Assert.assertEquals(Double.class, LazyMaths.add(li, 0.5).getElementClass());
+		TestUtils.assertDatasetEquals(Maths.power(i, 2), DatasetUtils.convertToDataset(LazyMaths.power(li, 2).getSlice()), true, 0, 0);
+
+		try {
+			LazyMaths.add(l, Random.rand(3, 11));
+			Assert.fail("Should have thrown an illegal argument exception");
+		} catch (IllegalArgumentException ex) {
+			// do nothing
+		}
+	}
 }
@@ -12,7 +12,10 @@ package org.eclipse.january.dataset;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
+import org.apache.commons.math3.linear.LUDecomposition;
+import org.apache.commons.math3.linear.MatrixUtils;
 import org.eclipse.january.asserts.TestUtils;
 import org.eclipse.january.dataset.Dataset;
 import org.eclipse.january.dataset.DatasetFactory;
@@ -111,6 +114,164 @@ public class LinearAlgebraTest {
 	}
 
 
+	// sum products in a simple way for comparison
+	private static Dataset naiveDot(Dataset a, Dataset b) {
+		int m = a.getShapeRef()[0];
+		int k = a.getShapeRef()[1];
+		int n = b.getShapeRef()[1];
+		Dataset c = DatasetFactory.zeros(new int[] {m, n}, Dataset.FLOAT64);
+		for (int i = 0; i < m; i++) {
+			for (int j = 0; j < n; j++) {
+				double sum = 0;
+				for (int p = 0; p < k; p++) {
+					sum += a.getDouble(i, p) * b.getDouble(p, j);
+				}
+				c.set(sum, i, j);
+			}
+		}
+		return c;
+	}
+
+	@Test
+	public void testMatrixDot() {
+		Dataset a = Random.randn(new int[] {67, 301});
+		Dataset b = Random.randn(new int[] {301, 259});
+		Dataset c = naiveDot(a, b);
+		TestUtils.assertDatasetEquals(c, LinearAlgebra.dotProduct(a, b), 1e-12, 1e-12);
+
+		// transposed and sliced operands
+		Dataset at = a.transpose().getTransposedView();
+		Dataset bt = b.transpose().getTransposedView();
+		TestUtils.assertDatasetEquals(c, LinearAlgebra.dotProduct(at, bt), 1e-12, 1e-12);
+		TestUtils.assertDatasetEquals(c.transpose(), LinearAlgebra.tensorDotProduct(b, a, 0, 1), 1e-12, 1e-12);
+		Dataset s = a.getSliceView(new Slice(null, null, 2));
+		TestUtils.assertDatasetEquals(c.getSlice(new Slice(null, null, 2)), LinearAlgebra.dotProduct(s, b), 1e-12, 1e-12);
+
+		Dataset af = a.cast(Dataset.FLOAT32);
+		Dataset d = LinearAlgebra.dotProduct(af, b.cast(Dataset.INT16));
+		assertEquals("Type", Dataset.FLOAT32, d.getDType());
+		TestUtils.assertDatasetEquals(naiveDot(af, b.cast(Dataset.INT16)).cast(Dataset.FLOAT32), d, 1e-6, 1e-6);
+
+		// matrix-vector products
+		Dataset v = Random.randn(new int[] {301});
+		TestUtils.assertDatasetEquals(naiveDot(a, v.reshape(301, 1)).flatten(), LinearAlgebra.dotProduct(a, v), 1e-12, 1e-12);
+		TestUtils.assertDatasetEquals(naiveDot(v.reshape(1, 301), b).flatten(), LinearAlgebra.dotProduct(v, b), 1e-12, 1e-12);
+	}
+
+	@Test
+	public void testParallelMatrixDot() {
+		try (ParallelTestPool pool = new ParallelTestPool()) {
+			ParallelUtils.setMode(ExecutionMode.PARALLEL);
+			Dataset a = Random.randn(new int[] {130, 90});
+			Dataset b = Random.randn(new int[] {90, 310});
+			TestUtils.assertDatasetEquals(naiveDot(a, b), LinearAlgebra.dotProduct(a, b), 1e-12, 1e-12);
+
+			a = a.getSliceView(new Slice(0, 3));
+			TestUtils.assertDatasetEquals(naiveDot(a, b), LinearAlgebra.dotProduct(a, b), 1e-12, 1e-12);
+
+			Dataset f = LinearAlgebra.dotProduct(a.cast(Dataset.FLOAT32), b.cast(Dataset.FLOAT32));
+			assertEquals("Type", Dataset.FLOAT32, f.getDType());
+			TestUtils.assertDatasetEquals(naiveDot(a.cast(Dataset.FLOAT32), b.cast(Dataset.FLOAT32)).cast(Dataset.FLOAT32), f, 1e-5, 1e-5);
+
+			Dataset x = Random.randn(new int[] {3, 4, 5});
+			Dataset y = Random.randn(new int[] {4, 3, 2});
+			Dataset e = DatasetFactory.zeros(new int[] {5, 2}, Dataset.FLOAT64);
+			for (int i = 0; i < 5; i++) {
+				for (int j = 0; j < 2; j++) {
+					double sum = 0;
+					for (int p = 0; p < 3; p++) {
+						for (int q = 0; q < 4; q++) {
+							sum += x.getDouble(p, q, i) * y.getDouble(q, p, j);
+						}
+					}
+					e.set(sum, i, j);
+				}
+			}
+			TestUtils.assertDatasetEquals(e, LinearAlgebra.tensorDotProduct(x, y, new int[] {1, 0}, new int[] {0, 1}), 1e-12, 1e-12);
+
+			Dataset u = Random.randn(new int[] {40});
+			Dataset w = Random.randn(new int[] {3, 5});
+			Dataset o = LinearAlgebra.outerProduct(u, w);
+			assertArrayEquals(new int[] {40, 3, 5}, o.getShape());
+			assertEquals(u.getDouble(17) * w.getDouble(2, 1), o.getDouble(17, 2, 1), 1e-12);
+		}
+	}
+
+	private static void checkStacks(Dataset a, Dataset v, Dataset w, Dataset s) {
+		int[] shape = a.getShapeRef();
+		int n = shape[shape.length - 1];
+		Dataset dets = LinearAlgebra.calcDeterminantStack(a);
+		Dataset invs = LinearAlgebra.calcInverseStack(a);
+		Dataset xs = LinearAlgebra.solveStack(a, v);
+		Dataset ys = LinearAlgebra.solveStack(a, w);
+		Dataset es = LinearAlgebra.calcSymmetricEigenvaluesStack(s);
+		assertArrayEquals(new int[] {shape[0], shape[1]}, dets.getShape());
+		assertArrayEquals(shape, invs.getShape());
+		assertArrayEquals(v.getShape(), xs.getShape());
+		assertArrayEquals(w.getShape(), ys.getShape());
+		assertArrayEquals(v.getShape(), es.getShape());
+		for (int i = 0; i < shape[0]; i++) {
+			for (int j = 0; j < shape[1]; j++) {
+				Dataset m = a.getSlice(new Slice(i, i + 1), new Slice(j, j + 1)).reshape(n, n);
+				double[][] values = new double[n][n];
+				for (int k = 0; k < n; k++) {
+					for (int l = 0; l < n; l++) {
+						values[k][l] = m.getDouble(k, l);
+					}
+				}
+				assertEquals(new LUDecomposition(MatrixUtils.createRealMatrix(values)).getDeterminant(), dets.getDouble(i, j), 1e-10);
+				TestUtils.assertDatasetEquals(LinearAlgebra.calcInverse(m), invs.getSlice(new Slice(i, i + 1), new Slice(j, j + 1)).reshape(n, n), 1e-9, 1e-9);
+				TestUtils.assertDatasetEquals(LinearAlgebra.solve(m, v.getSlice(new Slice(i, i + 1), new Slice(j, j + 1)).reshape(n)),
+						xs.getSlice(new Slice(i, i + 1), new Slice(j, j + 1)).reshape(n), 1e-9, 1e-9);
+				TestUtils.assertDatasetEquals(LinearAlgebra.solve(m, w.getSlice(new Slice(i, i + 1), new Slice(j, j + 1)).reshape(n, 2)),
+						ys.getSlice(new Slice(i, i + 1), new Slice(j, j + 1)).reshape(n, 2), 1e-9, 1e-9);
+
+				Dataset e = LinearAlgebra.calcEigenvalues(s.getSlice(new Slice(i, i + 1), new Slice(j, j + 1)).reshape(n, n));
+				e = DatasetUtils.sort(e).getSlice(new Slice(null, null, -1));
+				TestUtils.assertDatasetEquals(e, es.getSlice(new Slice(i, i + 1), new Slice(j, j + 1)).reshape(n), 1e-9, 1e-9);
+			}
+		}
+	}
+
+	@Test
+	public void testStacks() {
+		for (int n : new int[] {1, 2, 3, 6}) {
+			Dataset a = Random.randn(new int[] {4, 5, n, n});
+			Dataset s = Maths.add(a, a.getTransposedView(0, 1, 3, 2));
+			checkStacks(a, Random.randn(new int[] {4, 5, n}), Random.randn(new int[] {4, 5, n, 2}), s);
+		}
+
+		Dataset a = DatasetFactory.createFromObject(new double[] {1, 2, 2, 4, 2, 0, 0, 3}, 2, 2, 2);
+		assertArrayEquals(new double[] {0, 6}, (double[]) LinearAlgebra.calcDeterminantStack(a).getBuffer(), 1e-15);
+		Dataset x = LinearAlgebra.solveStack(a, DatasetFactory.createFromObject(new double[] {1, 1, 4, 6}, 2, 2));
+		assertTrue(Double.isNaN(x.getDouble(0, 0)));
+		assertArrayEquals(new double[] {2, 2}, (double[]) x.getSlice(new Slice(1, 2)).flatten().getBuffer(), 1e-15);
+		assertTrue(Double.isNaN(LinearAlgebra.calcInverseStack(a).getDouble(0, 1, 1)));
+
+		try {
+			LinearAlgebra.calcInverseStack(DatasetFactory.zeros(new int[] {3, 2, 3}, Dataset.FLOAT64));
+			fail("Should have thrown an illegal argument exception");
+		} catch (IllegalArgumentException e) {
+			// do nothing
+		}
+		try {
+			LinearAlgebra.solveStack(a, DatasetFactory.zeros(new int[] {3, 2}, Dataset.FLOAT64));
+			fail("Should have thrown an illegal argument exception");
+		} catch (IllegalArgumentException e) {
+			// do nothing
+		}
+	}
+
+	@Test
+	public void testParallelStacks() {
+		try (ParallelTestPool pool = new ParallelTestPool()) {
+			ParallelUtils.setMode(ExecutionMode.PARALLEL);
+			Dataset a = Random.randn(new int[] {7, 9, 3, 3});
+			Dataset s = Maths.add(a, a.getTransposedView(0, 1, 3, 2));
+			checkStacks(a, Random.randn(new int[] {7, 9, 3}), Random.randn(new int[] {7, 9, 3, 2}), s);
+		}
+	}
+
 	@Test
 	public void testOuter() {
 		Dataset a;
@@ -2170,4 +2170,101 @@ public class MathsTest {
 		TestUtils.assertDatasetEquals(DatasetFactory.createFromObject(new float[] {-1.5f, -0.5f, -2, -1, 0, -1.5f, -0.5f, -2}),
 				Maths.floorRemainder(xa, -2.5f), true, ABSERRD, ABSERRD);
 	}
+
+	@Test
+	public void testParallel() {
+		try (ParallelTestPool pool = new ParallelTestPool()) {
+			Dataset a = Random.rand(0., 1., 37, 29);
+			Dataset b = Random.rand(1., 2., 37, 29);
+			Dataset c = Random.rand(1., 2., 29);
+			Dataset d = Random.rand(1., 2., 37, 1);
+			Dataset e = DatasetFactory.createRange(37 * 29 * 2, Dataset.INT32).reshape(37, 58).getSliceView(null, null, new int[] {1, 2});
+
+			TestUtils.assertDatasetEquals(Maths.add(a, b, null, ExecutionMode.SERIAL), Maths.add(a, b, null, ExecutionMode.PARALLEL), ABSERRD, ABSERRD);
+			TestUtils.assertDatasetEquals(Maths.subtract(a, c, null, ExecutionMode.SERIAL), Maths.subtract(a, c, null, ExecutionMode.PARALLEL), ABSERRD, ABSERRD);
+			TestUtils.assertDatasetEquals(Maths.divide(d, c, null, ExecutionMode.SERIAL), Maths.divide(d, c, null, ExecutionMode.PARALLEL), ABSERRD, ABSERRD);
+			TestUtils.assertDatasetEquals(Maths.multiply(e, 3, null, ExecutionMode.SERIAL), Maths.multiply(e, 3, null, ExecutionMode.PARALLEL), true, ABSERRD, ABSERRD);
+			TestUtils.assertDatasetEquals(Maths.exp(e, null, ExecutionMode.SERIAL), Maths.exp(e, null, ExecutionMode.PARALLEL), ABSERRD, ABSERRD);
+			TestUtils.assertDatasetEquals(Maths.clip(a, null, ExecutionMode.SERIAL, 0.2, 0.7), Maths.clip(a, null, ExecutionMode.PARALLEL, 0.2, 0.7), ABSERRD, ABSERRD);
+
+			Dataset x = DatasetFactory.createRange(5 * 11 * 3, Dataset.FLOAT64).reshape(5, 11, 3);
+			Dataset y = DatasetFactory.createRange(3, Dataset.FLOAT64);
+			CompoundDataset z = DatasetFactory.createCompoundDataset(x, y.getBroadcastView(5, 11, 3));
+			TestUtils.assertDatasetEquals(Maths.power(z, y, null, ExecutionMode.SERIAL), Maths.power(z, y, null, ExecutionMode.PARALLEL), ABSERRD, ABSERRD);
+
+			Dataset p = x.clone();
+			Dataset q = Maths.add(x, y);
+			Maths.add(p, y, p, ExecutionMode.PARALLEL);
+			TestUtils.assertDatasetEquals(q, p, ABSERRD, ABSERRD);
+
+			p = DatasetFactory.zeros(x);
+			ParallelUtils.setMode(ExecutionMode.PARALLEL);
+			assertEquals(ExecutionMode.PARALLEL, ParallelUtils.getMode());
+			Maths.add(x, y, p);
+			TestUtils.assertDatasetEquals(q, p, ABSERRD, ABSERRD);
+			TestUtils.assertDatasetEquals(Maths.negative(q, null, ExecutionMode.SERIAL), Maths.negative(q), ABSERRD, ABSERRD);
+		}
+	}
+
+	@Test
+	public void testContiguousKernels() {
+		int[] dtypes = new int[] {Dataset.INT8, Dataset.INT16, Dataset.INT32, Dataset.INT64, Dataset.FLOAT32, Dataset.FLOAT64};
+		for (int dt : dtypes) {
+			Dataset a = DatasetFactory.createRange(-20, 20, 1, dt).reshape(5, 8);
+			Dataset b = Maths.add(DatasetFactory.createRange(40, dt).reshape(5, 8), 1, null);
+			b = b.cast(dt);
+			// strided views use broadcast iterators
+			Dataset sa = DatasetFactory.createRange(-20, 25, 1, dt).getSliceView(new Slice(0, 40)).reshape(5, 8);
+			Dataset sb = DatasetFactory.createRange(1, 46, 1, dt).getSliceView(new Slice(0, 40)).reshape(5, 8);
+			Assert.assertNotNull(sa.getStrides());
+
+			TestUtils.assertDatasetEquals(Maths.add(sa, sb), Maths.add(a, b), true, ABSERRD, ABSERRD);
+			TestUtils.assertDatasetEquals(Maths.subtract(sa, sb), Maths.subtract(a, b), true, ABSERRD, ABSERRD);
+			TestUtils.assertDatasetEquals(Maths.multiply(sa, sb), Maths.multiply(a, b), true, ABSERRD, ABSERRD);
+			TestUtils.assertDatasetEquals(Maths.divide(sa, sb), Maths.divide(a, b), true, ABSERRD, ABSERRD);
+			TestUtils.assertDatasetEquals(Maths.maximum(sa, sb), Maths.maximum(a, b), true, ABSERRD, ABSERRD);
+			TestUtils.assertDatasetEquals(Maths.negative(sa), Maths.negative(a), true, ABSERRD, ABSERRD);
+			TestUtils.assertDatasetEquals(Maths.square(sa), Maths.square(a), true, ABSERRD, ABSERRD);
+
+			Dataset o = DatasetFactory.zeros(a);
+			Maths.add(a, b, o);
+			TestUtils.assertDatasetEquals(Maths.add(sa, sb), o, true, ABSERRD, ABSERRD);
+			Maths.add(a, b, a);
+			TestUtils.assertDatasetEquals(o, a, true, ABSERRD, ABSERRD);
+		}
+	}
+
+	@Test
+	public void testBroadcastRuns() {
+		int[] dtypes = new int[] {Dataset.INT8, Dataset.INT16, Dataset.INT32, Dataset.INT64, Dataset.FLOAT32, Dataset.FLOAT64};
+		for (int dt : dtypes) {
+			Dataset image = DatasetFactory.createRange(24, dt).reshape(4, 6);
+			Dataset row = DatasetFactory.createRange(1, 7, 1, dt);
+			Dataset column = DatasetFactory.createRange(1, 5, 1, dt).reshape(4, 1);
+			Dataset slice = DatasetFactory.createRange(48, dt).reshape(8, 6).getSliceView(new Slice(null, null, 2), new Slice(1, 4));
+
+			checkBroadcastRuns(Maths.subtract(image, row), image, row, false);
+			checkBroadcastRuns(Maths.multiply(image, column), image, column, true);
+			checkBroadcastRuns(Maths.subtract(slice, row.getSliceView(new Slice(3))), slice, row.getSliceView(new Slice(3)), false);
+
+			Dataset o = DatasetFactory.zeros(image);
+			Maths.subtract(image, row, o);
+			checkBroadcastRuns(o, image, row, false);
+			Dataset c = image.clone();
+			Maths.multiply(c, column, c);
+			checkBroadcastRuns(c, image, column, true);
+		}
+	}
+
+	private void checkBroadcastRuns(Dataset result, Dataset a, Dataset b, boolean multiply) {
+		Assert.assertEquals(a.getDType(), result.getDType());
+		int[] shape = result.getShapeRef();
+		for (int i = 0; i < shape[0]; i++) {
+			for (int j = 0; j < shape[1]; j++) {
+				double x = a.getDouble(i, j);
+				double y = b.getRank() == 1 ? b.getDouble(j) : b.getDouble(i, 0);
+				Assert.assertEquals(multiply ? x * y : x - y, result.getDouble(i, j), ABSERRD);
+			}
+		}
+	}
 }
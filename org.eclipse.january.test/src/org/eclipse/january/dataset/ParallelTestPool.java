@@ -0,0 +1,51 @@
+/*-
+ * Copyright 2016 Diamond Light Source Ltd.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.january.dataset;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Pool for tests of parallel execution. This sets a small fork/join pool and a low threshold in
+ * {@link ParallelUtils}; when closed, it restores the serial mode, the default threshold and the
+ * default pool and shuts its pool down. Use it in a try-with-resources statement:
+ * <pre>
+ * try (ParallelTestPool pool = new ParallelTestPool()) {
+ *     ParallelUtils.setMode(ExecutionMode.PARALLEL);
+ *     ...
+ * }
+ * </pre>
+ */
+public class ParallelTestPool implements AutoCloseable {
+	/**
+	 * Number of threads in pool
+	 */
+	public static final int THREADS = 4;
+
+	/**
+	 * Minimum number of items for parallel execution
+	 */
+	public static final int THRESHOLD = 16;
+
+	private final ForkJoinPool pool;
+
+	public ParallelTestPool() {
+		pool = new ForkJoinPool(THREADS);
+		ParallelUtils.setPool(pool);
+		ParallelUtils.setThreshold(THRESHOLD);
+	}
+
+	@Override
+	public void close() {
+		ParallelUtils.setMode(ExecutionMode.SERIAL);
+		ParallelUtils.setThreshold(ParallelUtils.DEFAULT_THRESHOLD);
+		ParallelUtils.setPool(null);
+		pool.shutdown();
+	}
+}
@@ -0,0 +1,105 @@
+/*-
+ * Copyright 2016 Diamond Light Source Ltd.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.january.dataset;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class QuantileSketchTest {
+
+	// check rank of each quantile is within error
+	private static void checkQuantiles(Dataset a, QuantileSketch sketch, double error) {
+		Dataset s = DatasetUtils.sort(a.flatten());
+		final int n = s.getSize();
+		for (double q : new double[] {0.001, 0.01, 0.1, 0.25, 0.5, 0.75, 0.9, 0.99, 0.999}) {
+			double v = sketch.getQuantile(q);
+			int rank = DatasetUtils.findIndexGreaterThan(s, v);
+			Assert.assertEquals("Quantile " + q, q, rank / (double) n, error);
+			Assert.assertEquals("CDF at " + v, rank / (double) n, sketch.getRank(v), error);
+		}
+	}
+
+	@Test
+	public void testQuantiles() {
+		Dataset a = Random.randn(200000);
+		QuantileSketch sketch = QuantileSketch.create(a);
+		Assert.assertEquals(200000, sketch.getCount());
+		Assert.assertTrue(sketch.getRetained() < 2000);
+		Assert.assertEquals(a.min().doubleValue(), sketch.getQuantile(0), 0);
+		Assert.assertEquals(a.max().doubleValue(), sketch.getQuantile(1), 0);
+		checkQuantiles(a, sketch, 3 * sketch.getNormalizedRankError());
+
+		// exact when all values are retained
+		a = DatasetFactory.createRange(100, Dataset.INT32);
+		sketch = QuantileSketch.create(a);
+		Assert.assertEquals(100, sketch.getRetained());
+		Assert.assertEquals(49, sketch.getQuantile(0.5), 0);
+		Assert.assertEquals(0.5, sketch.getRank(49.5), 0);
+		Assert.assertArrayEquals(new double[] {0, 0.1, 1}, sketch.getCDF(-1, 9, 100), 0);
+	}
+
+	@Test
+	public void testMerge() {
+		Dataset a = Random.rand(new int[] {40, 5000});
+		a.set(Double.NaN, 3, 4);
+		QuantileSketch sketch = new QuantileSketch();
+		for (int i = 0; i < 40; i++) {
+			sketch.merge(QuantileSketch.create(a.getSliceView(new Slice(i, i + 1))));
+		}
+		Assert.assertEquals(a.getSize() - 1, sketch.getCount());
+		a.set(0.5, 3, 4);
+		checkQuantiles(a, sketch, 3 * sketch.getNormalizedRankError());
+
+		try {
+			sketch.merge(new QuantileSketch(100));
+			Assert.fail("Should have thrown an illegal argument exception");
+		} catch (IllegalArgumentException e) {
+			// do nothing
+		}
+	}
+
+	@Test
+	public void testLazy() throws Exception {
+		Dataset a = Random.randn(new int[] {30, 40, 50});
+		QuantileSketch sketch = QuantileSketch.create(LazyDataset.createLazyDataset(a));
+		Assert.assertEquals(a.getSize(), sketch.getCount());
+		checkQuantiles(a, sketch, 3 * sketch.getNormalizedRankError());
+	}
+
+	@Test
+	public void testParallel() {
+		try (ParallelTestPool pool = new ParallelTestPool()) {
+			ParallelUtils.setMode(ExecutionMode.PARALLEL);
+			Dataset a = Random.exponential(2., 300, 700);
+			QuantileSketch sketch = QuantileSketch.create(a);
+			Assert.assertEquals(a.getSize(), sketch.getCount());
+			checkQuantiles(a, sketch, 3 * sketch.getNormalizedRankError());
+		}
+	}
+
+	@Test
+	public void testHistogram() {
+		Dataset a = Random.rand(new int[] {100000});
+		QuantileSketch sketch = QuantileSketch.create(a);
+		Dataset h = sketch.getHistogram(10);
+		Assert.assertEquals(Dataset.INT64, h.getDType());
+		Assert.assertEquals(a.getSize(), ((Number) h.sum()).longValue());
+		for (int i = 0; i < 10; i++) {
+			Assert.assertEquals(0.1, h.getDouble(i) / a.getSize(), 0.03);
+		}
+
+		h = sketch.getHistogram(4, 0.25, 0.75);
+		Assert.assertEquals(0.5, ((Number) h.sum()).doubleValue() / a.getSize(), 0.03);
+
+		sketch = new QuantileSketch();
+		Assert.assertTrue(Double.isNaN(sketch.getQuantile(0.5)));
+		Assert.assertEquals(0, ((Number) sketch.getHistogram(3).sum()).longValue());
+	}
+}
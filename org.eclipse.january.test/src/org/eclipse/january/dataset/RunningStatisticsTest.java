@@ -0,0 +1,100 @@
+/*-
+ * Copyright 2016 Diamond Light Source Ltd.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.january.dataset;
+
+import org.eclipse.january.asserts.TestUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class RunningStatisticsTest {
+
+	private static final double ABSERRD = 1e-12;
+
+	private static void checkStatistics(Dataset stack, RunningStatistics stats) {
+		final int n = stack.getShapeRef()[0];
+		Assert.assertEquals(n, stats.getFrameCount());
+		TestUtils.assertDatasetEquals(stack.mean(0), stats.getMean(), 1e-10, ABSERRD);
+		TestUtils.assertDatasetEquals(stack.variance(0), stats.getVariance(), 1e-10, ABSERRD);
+		TestUtils.assertDatasetEquals(Maths.multiply(stack.variance(0), (n - 1.) / n), stats.getVariance(true), 1e-10, ABSERRD);
+		TestUtils.assertDatasetEquals(stack.stdDeviation(0), stats.getStandardDeviation(), 1e-10, ABSERRD);
+		TestUtils.assertDatasetEquals(stack.min(0), stats.getMinimum(), 0, 0);
+		TestUtils.assertDatasetEquals(stack.max(0), stats.getMaximum(), 0, 0);
+	}
+
+	@Test
+	public void testUpdate() {
+		Dataset stack = Random.randn(new int[] {20, 6, 7});
+		RunningStatistics stats = new RunningStatistics(6, 7);
+		for (int i = 0; i < 20; i++) {
+			stats.update(stack.getSliceView(new Slice(i, i + 1)));
+		}
+		checkStatistics(stack, stats);
+		Assert.assertEquals(20, stats.getCount().getLong(3, 4));
+
+		// snapshots are unaffected by later updates
+		Dataset mean = stats.getMean();
+		stats.update(DatasetFactory.ones(new int[] {6, 7}, Dataset.INT16));
+		Assert.assertEquals(stack.mean(0).getDouble(0, 0), mean.getDouble(0, 0), ABSERRD);
+
+		stats = new RunningStatistics(6, 7);
+		stats.updateFrames(stack.getSliceView(new Slice(0, 5)));
+		stats.updateFrames(stack.getSliceView(new Slice(5, null)));
+		checkStatistics(stack, stats);
+
+		try {
+			stats.update(DatasetFactory.zeros(new int[] {7, 6}, Dataset.FLOAT64));
+			Assert.fail("Should have thrown an illegal argument exception");
+		} catch (IllegalArgumentException e) {
+			// do nothing
+		}
+	}
+
+	@Test
+	public void testNaNs() {
+		RunningStatistics stats = new RunningStatistics(3);
+		stats.update(DatasetFactory.createFromObject(new double[] {1, Double.NaN, Double.NaN}));
+		stats.update(DatasetFactory.createFromObject(new double[] {3, 2, Double.NaN}));
+		Assert.assertEquals(2, stats.getFrameCount());
+		Assert.assertArrayEquals(new long[] {2, 1, 0}, (long[]) stats.getCount().getBuffer());
+		Assert.assertArrayEquals(new double[] {2, 2, Double.NaN}, (double[]) stats.getMean().getBuffer(), 0);
+		Assert.assertArrayEquals(new double[] {2, Double.NaN, Double.NaN}, (double[]) stats.getVariance().getBuffer(), 0);
+		Assert.assertArrayEquals(new double[] {1, 0, Double.NaN}, (double[]) stats.getVariance(true).getBuffer(), 0);
+		Assert.assertArrayEquals(new double[] {1, 2, Double.NaN}, (double[]) stats.getMinimum().getBuffer(), 0);
+		Assert.assertArrayEquals(new double[] {3, 2, Double.NaN}, (double[]) stats.getMaximum().getBuffer(), 0);
+	}
+
+	@Test
+	public void testMerge() throws Exception {
+		Dataset stack = Random.randn(new int[] {30, 4, 5}).imultiply(10).iadd(1e6);
+		RunningStatistics a = new RunningStatistics(4, 5);
+		a.updateFrames(stack.getSliceView(new Slice(0, 7)));
+		RunningStatistics b = new RunningStatistics(4, 5);
+		b.updateFrames(LazyDataset.createLazyDataset(stack.getSlice(new Slice(7, null))));
+		checkStatistics(stack, a.merge(b).merge(new RunningStatistics(4, 5)));
+
+		try {
+			a.merge(new RunningStatistics(5, 4));
+			Assert.fail("Should have thrown an illegal argument exception");
+		} catch (IllegalArgumentException e) {
+			// do nothing
+		}
+	}
+
+	@Test
+	public void testParallel() {
+		try (ParallelTestPool pool = new ParallelTestPool()) {
+			ParallelUtils.setMode(ExecutionMode.PARALLEL);
+			Dataset stack = Random.rand(new int[] {10, 33, 17});
+			RunningStatistics stats = new RunningStatistics(33, 17);
+			stats.updateFrames(stack);
+			checkStatistics(stack, stats);
+		}
+	}
+}
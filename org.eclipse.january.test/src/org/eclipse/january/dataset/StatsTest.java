@@ -11,7 +11,9 @@ package org.eclipse.january.dataset;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.util.Arrays;
 
@@ -24,6 +26,8 @@ import org.eclipse.january.dataset.IntegerDataset;
 import org.eclipse.january.dataset.Maths;
 import org.eclipse.january.dataset.Random;
 import org.eclipse.january.dataset.Stats;
+import org.eclipse.january.metadata.MaskMetadata;
+import org.eclipse.january.metadata.MetadataFactory;
 import org.junit.Ignore;
 import org.junit.Test;
 
@@ -298,4 +302,449 @@ public class StatsTest {
 		DoubleDataset cddofexpect = DatasetFactory.createFromObject(DoubleDataset.class, new double[]{38.06645833, -11.01645833, -11.01645833, 37.883125}, 2, 2);
 		assertArrayEquals(cddofexpect.getData(), covcddof.getData(), 1E-7);
 	}
+
+	private static void checkAxisReductions(Dataset a, int axis) {
+		final int[] shape = a.getShape();
+		final int alen = shape[axis];
+		shape[axis] = 1;
+		Dataset sum = a.sum(axis);
+		Dataset mean = a.mean(axis);
+		Dataset var = a.variance(axis);
+		Dataset max = a.max(axis);
+		Dataset argMax = a.argMax(axis);
+		IndexIterator it = DatasetFactory.zeros(shape, Dataset.INT32).getIterator(true);
+		int[] pos = it.getPos();
+		int i = 0;
+		while (it.hasNext()) {
+			Slice[] slice = new Slice[pos.length];
+			for (int j = 0; j < pos.length; j++) {
+				slice[j] = j == axis ? null : new Slice(pos[j], pos[j] + 1);
+			}
+			Dataset line = a.getSliceView(slice).flatten();
+			double s = 0;
+			double m = Double.NEGATIVE_INFINITY;
+			int mi = 0;
+			for (int j = 0; j < alen; j++) {
+				double v = line.getDouble(j);
+				s += v;
+				if (v > m) {
+					m = v;
+					mi = j;
+				}
+			}
+			double mn = s / alen;
+			double v2 = 0;
+			for (int j = 0; j < alen; j++) {
+				double d = line.getDouble(j) - mn;
+				v2 += d * d;
+			}
+			assertEquals(s, sum.getElementDoubleAbs(i), 1e-9 * alen);
+			assertEquals(mn, mean.getElementDoubleAbs(i), 1e-12 * Math.max(1, Math.abs(mn)));
+			assertEquals(v2 / (alen - 1), var.getElementDoubleAbs(i), 1e-12 * Math.max(1, v2 / alen));
+			assertEquals(m, max.getElementDoubleAbs(i), 0);
+			assertEquals(mi, argMax.getElementLongAbs(i));
+			i++;
+		}
+	}
+
+	@Test
+	public void testAxisReductions() {
+		Dataset a = Random.randn(7, 5, 9);
+		for (int axis = 0; axis < 3; axis++) {
+			checkAxisReductions(a.clone(), axis);
+		}
+		Dataset v = Random.randn(9, 12, 7).getSliceView(new Slice(1, null, 2), null, new Slice(null, null, -3));
+		for (int axis = 0; axis < 3; axis++) {
+			checkAxisReductions(v, axis);
+			v = v.getSliceView();
+		}
+
+		// split along axis
+		a = Random.randn(3 * 8192 + 17);
+		checkAxisReductions(a, 0);
+		a = Random.randint(-100, 100, new int[] {2, 20000});
+		checkAxisReductions(a, 1);
+		checkAxisReductions(a.getTransposedView(), 0);
+
+		// Kahan summation
+		a = DatasetFactory.ones(new int[] {1 << 16, 2}, Dataset.FLOAT64).imultiply(0.1);
+		assertEquals(6553.6, a.sum(0).getDouble(0), 1e-12);
+	}
+
+	@Test
+	public void testAxisReductionNaNs() {
+		Dataset a = DatasetFactory.createRange(40000, Dataset.FLOAT64);
+		a.set(Double.NaN, 30000);
+		a.set(Double.NaN, 35000);
+		Dataset c = a.clone();
+		assertTrue(Double.isNaN(a.sum(0).getDouble()));
+		assertTrue(Double.isNaN(a.max(0).getDouble()));
+		assertEquals(30000, a.argMax(0).getInt());
+		assertEquals(39999, a.count(0).getInt());
+
+		assertEquals(40000. * 39999 / 2 - 65000, c.sum(true, 0).getDouble(), 1e-6);
+		assertEquals(39999, c.max(true, 0).getDouble(), 0);
+		assertEquals(0, c.argMin(true, 0).getInt());
+		assertEquals(39998, c.count(true, 0).getInt());
+	}
+
+	@Test
+	public void testAxisReductionInfinities() {
+		checkAxisReductionInfinities();
+		try (ParallelTestPool pool = new ParallelTestPool()) {
+			ParallelUtils.setMode(ExecutionMode.PARALLEL);
+			checkAxisReductionInfinities();
+		}
+	}
+
+	private static void checkAxisReductionInfinities() {
+		for (int n : new int[] {3, 40000}) {
+			Dataset a = Random.rand(4, n);
+			a.set(Double.POSITIVE_INFINITY, 0, n - 1);
+			a.set(Double.POSITIVE_INFINITY, 1, 0);
+			a.set(Double.NEGATIVE_INFINITY, 1, n / 2);
+			a.set(Double.NEGATIVE_INFINITY, 2, 1);
+			Dataset v = a.clone().variance(1);
+			Dataset s = a.clone().stdDeviation(1);
+			Dataset r = a.clone().rootMeanSquare(1);
+			Dataset m = a.clone().mean(1);
+			for (int i = 0; i < 3; i++) {
+				assertEquals(Double.POSITIVE_INFINITY, v.getDouble(i), 0);
+				assertEquals(Double.POSITIVE_INFINITY, s.getDouble(i), 0);
+				assertEquals(Double.POSITIVE_INFINITY, r.getDouble(i), 0);
+			}
+			assertEquals(Double.POSITIVE_INFINITY, m.getDouble(0), 0);
+			assertTrue(Double.isNaN(m.getDouble(1)));
+			assertEquals(Double.NEGATIVE_INFINITY, m.getDouble(2), 0);
+
+			Dataset row = a.getSlice(new Slice(3, 4));
+			assertEquals(row.variance().doubleValue(), v.getDouble(3), 1e-12);
+			assertEquals(row.rootMeanSquare().doubleValue(), r.getDouble(3), 1e-12);
+		}
+	}
+
+	@Test
+	public void testParallelAxisReductions() {
+		try (ParallelTestPool pool = new ParallelTestPool()) {
+			ParallelUtils.setMode(ExecutionMode.PARALLEL);
+			Dataset a = Random.randn(17, 33, 1500);
+			Dataset b = Random.randn(50000);
+			for (int axis = 0; axis < 3; axis++) {
+				Dataset p = a.clone();
+				ParallelUtils.setMode(ExecutionMode.SERIAL);
+				Dataset s = a.clone();
+				TestUtils.assertDatasetEquals(s.sum(axis), p.sum(axis), true, 0, 0);
+				TestUtils.assertDatasetEquals(s.variance(axis), p.variance(axis), true, 0, 0);
+				TestUtils.assertDatasetEquals(s.argMin(axis), p.argMin(axis), true, 0, 0);
+				TestUtils.assertDatasetEquals(Stats.product(s, axis), Stats.product(p, axis), true, 0, 0);
+				ParallelUtils.setMode(ExecutionMode.PARALLEL);
+				TestUtils.assertDatasetEquals(s.sum(axis), p.sum(axis), true, 0, 0);
+				TestUtils.assertDatasetEquals(Stats.product(s, axis), Stats.product(p, axis), true, 0, 0);
+			}
+			Dataset p = b.clone();
+			ParallelUtils.setMode(ExecutionMode.SERIAL);
+			assertEquals(b.mean(0).getDouble(), p.mean(0).getDouble(), 0);
+		}
+	}
+
+	// quantile from sorting
+	private static double sortedQuantile(Dataset a, double q) {
+		Dataset s = DatasetUtils.sort(a.flatten());
+		double f = (s.getSize() - 1) * q;
+		int qpt = (int) Math.floor(f);
+		f -= qpt;
+		double v = s.getElementDoubleAbs(qpt);
+		return f > 0 ? (1 - f) * v + f * s.getElementDoubleAbs(qpt + 1) : v;
+	}
+
+	@Test
+	public void testQuantiles() {
+		final double[] qs = new double[] {0, 0.01, 0.25, 0.5, 0.5, 0.75, 0.9, 1};
+		Dataset[] as = new Dataset[] {Random.randn(1001), Random.randint(0, 5, new int[] {400}),
+				DatasetFactory.createRange(100, Dataset.INT16), DatasetFactory.createRange(100, 0, -1, Dataset.FLOAT32),
+				Random.randn(13, 17).getSliceView(new Slice(null, null, 2), new Slice(null, null, -3)),
+				DatasetFactory.createFromObject(new double[] {3.5})};
+		for (Dataset a : as) {
+			double[] v = Stats.quantile(a, qs);
+			for (int i = 0; i < qs.length; i++) {
+				assertEquals(sortedQuantile(a, qs[i]), v[i], 1e-14);
+			}
+			assertEquals(sortedQuantile(a, 0.5), ((Number) Stats.median(a.clone())).doubleValue(), 1e-14);
+			assertEquals(sortedQuantile(a, 0.75) - sortedQuantile(a, 0.25), ((Number) Stats.iqr(a.clone())).doubleValue(), 1e-14);
+		}
+
+		// NaNs are sorted to end
+		Dataset a = Random.randn(101);
+		a.set(Double.NaN, 7);
+		a.set(Double.NaN, 50);
+		assertEquals(sortedQuantile(a, 0.5), Stats.quantile(a, 0.5), 1e-14);
+		assertEquals(sortedQuantile(a, 0.985), Stats.quantile(a, 0.985), 1e-14);
+		assertTrue(Double.isNaN(Stats.quantile(a, 0.995)));
+	}
+
+	@Test
+	public void testQuantilesAlongAxis() {
+		final double[] qs = new double[] {0.1, 0.5, 0.75};
+		Dataset a = Random.randn(9, 1, 31, 5);
+		a.set(Double.NaN, 3, 0, 4, 2);
+		for (int axis = 0; axis < 4; axis++) {
+			Dataset[] q = Stats.quantile(a, axis, qs);
+			Dataset m = Stats.median(a.clone(), axis);
+			Dataset r = Stats.iqr(a.clone(), axis);
+			int[] shape = a.getShape();
+			shape[axis] = 1;
+			IndexIterator it = DatasetFactory.zeros(shape, Dataset.INT32).getIterator(true);
+			int[] pos = it.getPos();
+			int i = 0;
+			while (it.hasNext()) {
+				Slice[] slice = new Slice[pos.length];
+				for (int j = 0; j < pos.length; j++) {
+					slice[j] = j == axis ? null : new Slice(pos[j], pos[j] + 1);
+				}
+				Dataset line = a.getSliceView(slice);
+				for (int j = 0; j < qs.length; j++) {
+					assertEquals(sortedQuantile(line, qs[j]), q[j].getElementDoubleAbs(i), 1e-14);
+				}
+				assertEquals(sortedQuantile(line, 0.5), m.getElementDoubleAbs(i), 1e-14);
+				assertEquals(sortedQuantile(line, 0.75) - sortedQuantile(line, 0.25), r.getElementDoubleAbs(i), 1e-14);
+				i++;
+			}
+		}
+
+		try (ParallelTestPool pool = new ParallelTestPool()) {
+			ParallelUtils.setMode(ExecutionMode.PARALLEL);
+			for (int axis = 0; axis < 4; axis++) {
+				Dataset[] p = Stats.quantile(a, axis, qs);
+				ParallelUtils.setMode(ExecutionMode.SERIAL);
+				Dataset[] s = Stats.quantile(a, axis, qs);
+				ParallelUtils.setMode(ExecutionMode.PARALLEL);
+				for (int j = 0; j < qs.length; j++) {
+					TestUtils.assertDatasetEquals(s[j], p[j], true, 0, 0);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testMaskedReductions() throws Exception {
+		Dataset a = Random.randn(6, 7, 5);
+		Dataset mask = Comparisons.greaterThan(Random.rand(6, 7, 5), 0.3);
+		checkMasked(a, mask, mask);
+
+		// broadcast mask
+		Dataset row = Comparisons.greaterThan(Random.rand(5), 0.5);
+		row.set(true, 0);
+		checkMasked(a, row, row.reshape(1, 1, 5).getBroadcastView(6, 7, 5));
+
+		// mask in metadata, packed as bits or not
+		Dataset b = a.clone();
+		MaskMetadata mm = MetadataFactory.createMetadata(MaskMetadata.class, mask);
+		b.setMetadata(mm);
+		assertEquals(Stats.sum(a, mask), Stats.sum(b, null), 1e-12);
+		assertFalse(mm.isPacked());
+		mm.setBitMask(BitMask.pack(mask));
+		assertTrue(mm.isPacked());
+		checkPacked(a, mask, b);
+
+		// packed mask on strided view
+		Dataset s = a.getSliceView(new Slice(null, null, 2), null, new Slice(null, null, -1));
+		Dataset sm = mask.getSlice(new Slice(null, null, 2), null, new Slice(null, null, -1));
+		Dataset t = s.getView(true);
+		t.setMetadata(MetadataFactory.createMetadata(MaskMetadata.class, (Object) null));
+		t.getFirstMetadata(MaskMetadata.class).setBitMask(BitMask.pack(sm));
+		checkPacked(s, sm, t);
+		assertEquals(((Number) a.sum()).doubleValue(), Stats.sum(a, null), 1e-12);
+
+		// all masked
+		Dataset none = DatasetFactory.zeros(BooleanDataset.class, a.getShapeRef());
+		assertEquals(0, Stats.sum(a, none), 0);
+		assertTrue(Double.isNaN(Stats.mean(a, none)));
+		assertTrue(Double.isNaN(Stats.variance(a, none)));
+		assertTrue(Double.isNaN(Stats.median(a, none)));
+		assertTrue(Double.isNaN(Stats.max(a, none)));
+		assertEquals(null, Stats.maxPos(a, none));
+
+		// NaNs
+		Dataset c = DatasetFactory.createFromObject(new double[] {1, Double.NaN, 5, Double.NaN, -2});
+		Dataset m = DatasetFactory.createFromObject(new boolean[] {true, false, true, true, true});
+		assertTrue(Double.isNaN(Stats.max(c, m)));
+		assertArrayEquals(new int[] {3}, Stats.maxPos(c, m));
+		m.set(false, 3);
+		assertEquals(5, Stats.max(c, m), 0);
+		assertArrayEquals(new int[] {4}, Stats.minPos(c, m));
+
+		try {
+			Stats.sum(a, Comparisons.greaterThan(Random.rand(6, 7), 0.5));
+			fail("Should have thrown an illegal argument exception");
+		} catch (IllegalArgumentException e) {
+			// do nothing
+		}
+
+		try {
+			Stats.sum(DatasetFactory.zeros(2, CompoundDoubleDataset.class, 3), null);
+			fail("Should have thrown an illegal argument exception");
+		} catch (IllegalArgumentException e) {
+			// do nothing
+		}
+	}
+
+	private static void checkPacked(Dataset a, Dataset mask, Dataset b) {
+		assertEquals(Stats.mean(a, mask), Stats.mean(b, null), 1e-12);
+		assertEquals(Stats.variance(a, mask), Stats.variance(b, null), 1e-12);
+		assertEquals(Stats.median(a, mask), Stats.median(b, null), 1e-12);
+		assertArrayEquals(Stats.quantile(a, mask, 0.1, 0.9), Stats.quantile(b, null, 0.1, 0.9), 1e-12);
+		assertEquals(Stats.max(a, mask), Stats.max(b, null), 0);
+		assertArrayEquals(Stats.minPos(a, mask), Stats.minPos(b, null));
+	}
+
+	private static void checkMasked(Dataset a, Dataset mask, Dataset full) {
+		Dataset v = a.getByBoolean(full);
+		assertEquals(((Number) v.sum()).doubleValue(), Stats.sum(a, mask), 1e-12);
+		assertEquals(((Number) v.mean()).doubleValue(), Stats.mean(a, mask), 1e-12);
+		assertEquals(v.variance().doubleValue(), Stats.variance(a, mask), 1e-12);
+		assertEquals(v.variance(true).doubleValue(), Stats.variance(a, mask, true), 1e-12);
+		assertEquals(((Number) Stats.median(v)).doubleValue(), Stats.median(a, mask), 1e-12);
+		assertArrayEquals(Stats.quantile(v, 0.1, 0.25, 0.9), Stats.quantile(a, mask, 0.1, 0.25, 0.9), 1e-12);
+		assertEquals(v.max().doubleValue(), Stats.max(a, mask), 0);
+		assertEquals(v.min().doubleValue(), Stats.min(a, mask), 0);
+		assertEquals(v.max().doubleValue(), a.getDouble(Stats.maxPos(a, mask)), 0);
+		assertEquals(v.min().doubleValue(), a.getDouble(Stats.minPos(a, mask)), 0);
+	}
+
+	@Test
+	public void testCumulative() {
+		Dataset a = Random.randn(7, 9, 11);
+		a.set(Double.NaN, 2, 3, 4);
+		a.set(Double.NaN, 5, 0, 10);
+		Dataset p = Maths.add(Maths.multiply(a, 0.01), 1);
+		Dataset l = Random.randint(-100, 100, new int[] {7, 9, 11}).cast(Dataset.INT64);
+		l.iadd(1L << 40);
+		Dataset[] views = {a.getTransposedView(2, 0, 1), a.getSliceView(new Slice(null, null, -2))};
+
+		for (Integer axis : new Integer[] {null, 0, 1, 2}) {
+			for (boolean ignoreNaNs : new boolean[] {false, true}) {
+				TestUtils.assertDatasetEquals(cumulativeReference(a, axis, false, ignoreNaNs),
+						axis == null ? Stats.cumulativeSum(a, ignoreNaNs) : Stats.cumulativeSum(a, ignoreNaNs, axis), true, 1e-12, 1e-12);
+				TestUtils.assertDatasetEquals(cumulativeReference(p, axis, true, ignoreNaNs),
+						axis == null ? Stats.cumulativeProduct(p, ignoreNaNs) : Stats.cumulativeProduct(p, ignoreNaNs, axis), true, 1e-12, 1e-12);
+				for (Dataset v : views) {
+					TestUtils.assertDatasetEquals(cumulativeReference(v, axis, false, ignoreNaNs),
+							Stats.cumulativeSum(v, ignoreNaNs, axis, null, null), true, 1e-12, 1e-12);
+				}
+			}
+			assertEquals(cumulativeReferenceLong(l, axis),
+					Stats.cumulativeSum(l, false, axis, null, null).getElementLongAbs(l.getSize() - 1), 0);
+		}
+
+		// in place
+		Dataset b = a.clone();
+		Dataset e = cumulativeReference(b, 1, false, false);
+		assertTrue(b == Stats.cumulativeSum(b, false, 1, b, null));
+		TestUtils.assertDatasetEquals(e, b, true, 1e-12, 1e-12);
+		b = a.clone();
+		e = cumulativeReference(b, null, false, true);
+		e.set(Double.NaN, 235); // skipped NaNs are left in place
+		e.set(Double.NaN, 505);
+		Stats.cumulativeSum(b, true, null, b, null);
+		TestUtils.assertDatasetEquals(e, b.flatten(), true, 1e-12, 1e-12);
+
+		try (ParallelTestPool pool = new ParallelTestPool()) {
+			for (Integer axis : new Integer[] {null, 0, 1, 2}) {
+				for (boolean ignoreNaNs : new boolean[] {false, true}) {
+					for (Dataset d : new Dataset[] {a, views[0], views[1]}) {
+						TestUtils.assertDatasetEquals(Stats.cumulativeSum(d, ignoreNaNs, axis, null, ExecutionMode.SERIAL),
+								Stats.cumulativeSum(d, ignoreNaNs, axis, null, ExecutionMode.PARALLEL), true, 1e-12, 1e-12);
+					}
+					TestUtils.assertDatasetEquals(Stats.cumulativeProduct(p, ignoreNaNs, axis, null, ExecutionMode.SERIAL),
+							Stats.cumulativeProduct(p, ignoreNaNs, axis, null, ExecutionMode.PARALLEL), true, 1e-12, 1e-12);
+				}
+				TestUtils.assertDatasetEquals(Stats.cumulativeSum(l, false, axis, null, ExecutionMode.SERIAL),
+						Stats.cumulativeSum(l, false, axis, null, ExecutionMode.PARALLEL), true, 0, 0);
+			}
+
+			// zero before blocks whose products overflow
+			for (int dtype : new int[] {Dataset.FLOAT32, Dataset.FLOAT64}) {
+				Dataset z = DatasetFactory.zeros(new int[] {20000, 2}, dtype);
+				z.fill(dtype == Dataset.FLOAT32 ? 1e10 : 1e30);
+				z.set(0, 0, 0);
+				Dataset zs = Stats.cumulativeProduct(z, false, null, null, ExecutionMode.SERIAL);
+				assertEquals(0, zs.getDouble(zs.getSize() - 1), 0);
+				TestUtils.assertDatasetEquals(zs, Stats.cumulativeProduct(z, false, null, null, ExecutionMode.PARALLEL), true, 0, 0);
+			}
+
+			// narrow integer outputs
+			for (int dtype : new int[] {Dataset.INT8, Dataset.INT16}) {
+				Dataset c = Random.randint(-3, 3, new int[] {30, 40}).cast(dtype);
+				Dataset cs = Stats.cumulativeSum(c, false, null, null, ExecutionMode.PARALLEL);
+				assertEquals(dtype, cs.getDType());
+				TestUtils.assertDatasetEquals(cumulativeReference(c, null, false, false).cast(dtype), cs, true, 0, 0);
+			}
+
+			// long spectrum in place into view
+			Dataset s = Random.rand(10000);
+			e = Stats.cumulativeSum(s, false, 0, null, ExecutionMode.SERIAL);
+			Dataset o = DatasetFactory.zeros(DoubleDataset.class, 100, 200).getSliceView(new Slice(null, null, -1), new Slice(null, null, 2));
+			Stats.cumulativeSum(s, false, null, o, ExecutionMode.PARALLEL);
+			TestUtils.assertDatasetEquals(e.reshape(100, 100), o, true, 1e-12, 1e-12);
+			Stats.cumulativeSum(s, false, 0, s, ExecutionMode.PARALLEL);
+			TestUtils.assertDatasetEquals(e, s, true, 1e-12, 1e-12);
+		}
+
+		try {
+			Stats.cumulativeSum(a, false, 0, DatasetFactory.zeros(7, 9), null);
+			fail("Should have thrown an illegal argument exception");
+		} catch (IllegalArgumentException ex) {
+			// do nothing
+		}
+	}
+
+	/**
+	 * Scan along axis where NaNs are skipped and their items left as zero
+	 */
+	private static Dataset cumulativeReference(Dataset a, Integer axis, boolean product, boolean ignoreNaNs) {
+		if (axis == null) {
+			a = a.flatten();
+			axis = 0;
+		}
+		int[] shape = a.getShapeRef();
+		Dataset r = DatasetFactory.zeros(DoubleDataset.class, shape);
+		PositionIterator it = new PositionIterator(shape, axis);
+		int[] pos = it.getPos();
+		while (it.hasNext()) {
+			double v = product ? 1 : 0;
+			for (int j = 0; j < shape[axis]; j++) {
+				pos[axis] = j;
+				double x = a.getDouble(pos);
+				if (ignoreNaNs && Double.isNaN(x)) {
+					continue;
+				}
+				v = product ? v * x : v + x;
+				r.set(v, pos);
+			}
+		}
+		return r;
+	}
+
+	/**
+	 * @return sum of last lane along axis (or whole dataset)
+	 */
+	private static long cumulativeReferenceLong(Dataset a, Integer axis) {
+		long v = 0;
+		if (axis == null) {
+			IndexIterator it = a.getIterator();
+			while (it.hasNext()) {
+				v += a.getElementLongAbs(it.index);
+			}
+			return v;
+		}
+		int[] pos = a.getShape();
+		for (int i = 0; i < pos.length; i++) {
+			pos[i]--;
+		}
+		for (int j = 0; j < a.getShapeRef()[axis]; j++) {
+			pos[axis] = j;
+			v += a.getLong(pos);
+		}
+		return v;
+	}
 }
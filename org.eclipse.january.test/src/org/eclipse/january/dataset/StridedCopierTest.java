@@ -0,0 +1,83 @@
+/*-
+ * Copyright 2016 Diamond Light Source Ltd.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.january.dataset;
+
+import java.util.Objects;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class StridedCopierTest {
+
+	// compare items by position
+	private static void checkCopy(Dataset view, Dataset copy) {
+		Assert.assertArrayEquals(view.getShapeRef(), copy.getShapeRef());
+		Assert.assertNull(copy.getStrides());
+		if (copy.getSize() == 0) {
+			return;
+		}
+		IndexIterator it = view.getIterator(true);
+		int[] pos = it.getPos();
+		while (it.hasNext()) {
+			Assert.assertTrue(Objects.deepEquals(view.getObject(pos), copy.getObject(pos)));
+		}
+	}
+
+	private static void checkPermutations(Dataset a) {
+		int[][] perms = new int[][] {{0, 1, 2}, {1, 0, 2}, {0, 2, 1}, {2, 1, 0}, {1, 2, 0}, {2, 0, 1}};
+		for (int[] p : perms) {
+			Dataset v = a.getTransposedView(p);
+			checkCopy(v, v.clone());
+			checkCopy(v, a.transpose(p));
+			checkCopy(v.getSliceView(new Slice(null, null, -2)), v.getSlice(new Slice(null, null, -2)));
+
+			Slice[] s = new Slice[] {new Slice(1, null, 3), null, new Slice(null, 2, -1)};
+			checkCopy(v.getSliceView(s), v.getSlice(s));
+			checkCopy(v.getSliceView(s), v.getSliceView(s).clone());
+		}
+		checkCopy(DatasetUtils.rollAxis(a, 2, 0), DatasetUtils.rollAxis(a, 2, 0).clone());
+		checkCopy(a.swapAxes(0, 2), a.swapAxes(0, 2).getSlice());
+	}
+
+	@Test
+	public void testTypes() {
+		Dataset a = DatasetFactory.createRange(70 * 45 * 37, Dataset.FLOAT64).reshape(70, 45, 37);
+		checkPermutations(a);
+		checkPermutations(a.cast(Dataset.FLOAT32));
+		checkPermutations(a.cast(Dataset.INT64));
+		checkPermutations(a.cast(Dataset.INT32));
+		checkPermutations(a.cast(Dataset.INT16));
+		checkPermutations(a.cast(Dataset.INT8));
+		checkPermutations(Comparisons.greaterThan(Random.rand(new int[] {33, 40, 35}), 0.5));
+		checkPermutations(DatasetUtils.createCompoundDataset(a.getSlice(new Slice(null, 20)), a.getSlice(new Slice(20, 40))));
+		checkPermutations(a.getSlice(new Slice(null, 3)).cast(Dataset.STRING));
+	}
+
+	@Test
+	public void testUnitAxesAndBroadcast() {
+		Dataset a = DatasetFactory.createRange(40 * 50, Dataset.INT32).reshape(1, 40, 1, 50);
+		Dataset v = a.getTransposedView(3, 2, 0, 1);
+		checkCopy(v, v.clone());
+		v = a.getSliceView(new Slice(0, 1), new Slice(5, 6), null, new Slice(7, 8));
+		checkCopy(v, v.clone());
+
+		Dataset b = DatasetFactory.createRange(60, Dataset.FLOAT64).reshape(60, 1);
+		v = b.getBroadcastView(60, 70).getTransposedView();
+		checkCopy(v, v.clone());
+	}
+
+	@Test
+	public void testParallel() {
+		try (ParallelTestPool pool = new ParallelTestPool()) {
+			ParallelUtils.setMode(ExecutionMode.PARALLEL);
+			checkPermutations(Random.randn(new int[] {50, 67, 39}));
+		}
+	}
+}
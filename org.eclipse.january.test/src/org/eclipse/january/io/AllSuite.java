@@ -0,0 +1,21 @@
+/*-
+ *******************************************************************************
+ * Copyright (c) 2016 Diamond Light Source Ltd.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *******************************************************************************/
+
+package org.eclipse.january.io;
+
+import org.eclipse.january.asserts.TestUtils;
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite.SuiteClasses;
+
+@RunWith(TestUtils.VerboseSuite.class)
+@SuiteClasses({ MappedLazySaverTest.class,
+	})
+public class AllSuite {
+
+}
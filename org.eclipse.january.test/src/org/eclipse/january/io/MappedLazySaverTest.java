@@ -0,0 +1,157 @@
+/*-
+ * Copyright 2016 Diamond Light Source Ltd.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.january.io;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.eclipse.january.asserts.TestUtils;
+import org.eclipse.january.dataset.Dataset;
+import org.eclipse.january.dataset.DatasetFactory;
+import org.eclipse.january.dataset.DatasetUtils;
+import org.eclipse.january.dataset.ILazyDataset;
+import org.eclipse.january.dataset.ILazyWriteableDataset;
+import org.eclipse.january.dataset.LazyDataset;
+import org.eclipse.january.dataset.LazyWriteableDataset;
+import org.eclipse.january.dataset.Random;
+import org.eclipse.january.dataset.Slice;
+import org.eclipse.january.dataset.SliceND;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class MappedLazySaverTest {
+
+	private File file;
+
+	@Before
+	public void setUp() throws Exception {
+		file = File.createTempFile("mapped", ".raw");
+		file.delete();
+	}
+
+	@After
+	public void tearDown() {
+		file.delete();
+	}
+
+	@Test
+	public void testWriteAndRead() throws Exception {
+		final int[] shape = new int[] {4, 5, 6};
+		final Dataset d = Random.randn(shape);
+		LazyWriteableDataset lw = new LazyWriteableDataset("d", Dataset.FLOAT64, shape, null, null,
+				new MappedLazySaver(file.getPath(), Dataset.FLOAT64, shape));
+		lw.setSlice(d, new SliceND(shape));
+		Assert.assertEquals(d.getSize() * 8, file.length());
+
+		ILazyDataset ld = new LazyDataset("d", Dataset.FLOAT64, shape, new MappedLazyLoader(file.getPath(), Dataset.FLOAT64, shape));
+		TestUtils.assertDatasetEquals(d, DatasetUtils.convertToDataset(ld.getSlice()), true, 0, 0);
+
+		Slice[] slices = new Slice[] {new Slice(1, null, 2), null, new Slice(5, 0, -2)};
+		TestUtils.assertDatasetEquals(d.getSlice(slices), DatasetUtils.convertToDataset(ld.getSlice(slices)), true, 0, 0);
+		TestUtils.assertDatasetEquals(d.getSlice(new Slice(2, 3), new Slice(1, 2), new Slice(3, 4)),
+				DatasetUtils.convertToDataset(ld.getSlice(new Slice(2, 3), new Slice(1, 2), new Slice(3, 4))), true, 0, 0);
+
+		// overwrite a strided slice
+		SliceND s = new SliceND(shape, (Slice) null, new Slice(0, null, 3), new Slice(1, null, 2));
+		Dataset o = DatasetFactory.ones(s.getShape(), Dataset.INT32);
+		lw.setSlice(o, s);
+		d.setSlice(o, s);
+		TestUtils.assertDatasetEquals(d, DatasetUtils.convertToDataset(ld.getSlice()), true, 0, 0);
+	}
+
+	@Test
+	public void testOffsetAndOrder() throws Exception {
+		final int[] shape = new int[] {3, 4};
+		RandomAccessFile raf = new RandomAccessFile(file, "rw");
+		try {
+			ByteBuffer b = ByteBuffer.allocate(16 + 12 * 4).order(ByteOrder.BIG_ENDIAN);
+			b.position(16);
+			for (int i = 0; i < 12; i++) {
+				b.putInt(i * 3);
+			}
+			raf.write(b.array());
+		} finally {
+			raf.close();
+		}
+
+		MappedLazyLoader loader = new MappedLazyLoader(file.getPath(), Dataset.INT32, 1, shape, 16, ByteOrder.BIG_ENDIAN);
+		ILazyDataset ld = new LazyDataset("i", Dataset.INT32, shape, loader);
+		Dataset expected = DatasetFactory.createRange(0, 36, 3, Dataset.INT32).reshape(shape);
+		TestUtils.assertDatasetEquals(expected, DatasetUtils.convertToDataset(ld.getSlice()), true, 0, 0);
+		TestUtils.assertDatasetEquals(expected.getSlice((Slice) null, new Slice(null, null, -1)),
+				DatasetUtils.convertToDataset(ld.getSlice((Slice) null, new Slice(null, null, -1))), true, 0, 0);
+	}
+
+	@Test
+	public void testCompound() throws Exception {
+		final int[] shape = new int[] {3, 4};
+		final Dataset d = DatasetFactory.createRange(24, Dataset.FLOAT32).reshape(3, 4, 2);
+		final Dataset c = DatasetUtils.createCompoundDatasetFromLastAxis(d, true);
+		LazyWriteableDataset lw = new LazyWriteableDataset("c", Dataset.ARRAYFLOAT32, 2, shape, null, null,
+				new MappedLazySaver(file.getPath(), Dataset.ARRAYFLOAT32, 2, shape, 0, ByteOrder.LITTLE_ENDIAN));
+		lw.setSlice(c, new SliceND(shape));
+		Assert.assertEquals(24 * 4, file.length());
+
+		ILazyDataset ld = new LazyDataset("c", Dataset.ARRAYFLOAT32, 2, shape,
+				new MappedLazyLoader(file.getPath(), Dataset.ARRAYFLOAT32, 2, shape, 0, ByteOrder.LITTLE_ENDIAN));
+		TestUtils.assertDatasetEquals(c.getSlice(new Slice(1, null), new Slice(null, null, 2)),
+				DatasetUtils.convertToDataset(ld.getSlice(new Slice(1, null), new Slice(null, null, 2))), true, 0, 0);
+	}
+
+	@Test
+	public void testExtend() throws Exception {
+		final int[] shape = new int[] {1, 3};
+		final int[] maxShape = new int[] {ILazyWriteableDataset.UNLIMITED, 3};
+		LazyWriteableDataset lw = new LazyWriteableDataset("e", Dataset.INT16, shape, maxShape, null,
+				new MappedLazySaver(file.getPath(), Dataset.INT16, shape));
+		MappedLazyLoader loader = new MappedLazyLoader(file.getPath(), Dataset.INT16, shape);
+
+		for (int i = 0; i < 4; i++) {
+			Dataset row = DatasetFactory.createRange(i * 3, i * 3 + 3, 1, Dataset.INT16).reshape(1, 3);
+			lw.setSlice(row, new SliceND(lw.getShape(), maxShape, new Slice(i, i + 1), null));
+		}
+		Assert.assertArrayEquals(new int[] {4, 3}, lw.getShape());
+		Assert.assertEquals(4 * 3 * 2, file.length());
+
+		Assert.assertArrayEquals(new int[] {4, 3}, loader.refreshShape());
+		ILazyDataset ld = new LazyDataset("e", Dataset.INT16, loader.getShape(), loader);
+		TestUtils.assertDatasetEquals(DatasetFactory.createRange(12, Dataset.INT16).reshape(4, 3), DatasetUtils.convertToDataset(ld.getSlice()), true, 0, 0);
+	}
+
+	@Test
+	public void testErrors() throws Exception {
+		try {
+			new MappedLazyLoader(file.getPath(), Dataset.STRING, new int[] {2});
+			Assert.fail("Should have thrown an illegal argument exception");
+		} catch (IllegalArgumentException e) {
+			// do nothing
+		}
+
+		final int[] shape = new int[] {2, 3};
+		MappedLazySaver saver = new MappedLazySaver(file.getPath(), Dataset.FLOAT64, shape);
+		try {
+			saver.setSlice(null, DatasetFactory.zeros(2, 2), new SliceND(shape));
+			Assert.fail("Should have thrown an illegal argument exception");
+		} catch (IllegalArgumentException e) {
+			// do nothing
+		}
+
+		try {
+			saver.setSlice(null, DatasetFactory.zeros(2, 4), new SliceND(new int[] {2, 4}));
+			Assert.fail("Should have thrown an illegal argument exception");
+		} catch (IllegalArgumentException e) {
+			// do nothing
+		}
+	}
+}
@@ -20,6 +20,13 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.DoubleStream;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
 
 import org.apache.commons.math3.stat.descriptive.SummaryStatistics;
 import org.eclipse.january.DatasetException;
@@ -387,6 +394,100 @@ public abstract class AbstractDataset extends LazyDatasetBase implements Dataset
 		return new PositionIterator(shape, axes);
 	}
 
+	/**
+	 * Operation on a 1D lane of a dataset
+	 */
+	interface LaneOperation {
+		/**
+		 * @param lane index of lane in row-major order of other axes
+		 * @param offset index in buffer of first element of lane
+		 */
+		void run(int lane, int offset);
+	}
+
+	/**
+	 * @param axis
+	 * @return difference in buffer index between consecutive items along axis
+	 */
+	int getAxisStep(final int axis) {
+		if (stride != null) {
+			return stride[axis];
+		}
+		int s = getElementsPerItem();
+		for (int d = shape.length - 1; d > axis; d--) {
+			s *= shape[d];
+		}
+		return s;
+	}
+
+	/**
+	 * @param axis
+	 * @param lane index of lane in row-major order of other axes
+	 * @return index in buffer of first element of lane
+	 */
+	int getLaneOffset(final int axis, int lane) {
+		final int[] start = new int[1];
+		final int[] s = createStrides(getElementsPerItem(), shape, stride, offset, start);
+		int b = start[0];
+		for (int d = shape.length - 1; d >= 0; d--) {
+			if (d != axis) {
+				b += (lane % shape[d]) * s[d];
+				lane /= shape[d];
+			}
+		}
+		return b;
+	}
+
+	/**
+	 * Run operation on each lane along given axis. Ranges of lanes are processed in parallel
+	 * when enabled so each range gets its own operation from the supplier (e.g. one that holds
+	 * a scratch buffer). An operation must only change items in its lane
+	 * @param axis
+	 * @param mode execution mode (can be null to use global mode)
+	 * @param supplier of operation
+	 */
+	void forEachLane(final int axis, final ExecutionMode mode, final Supplier<LaneOperation> supplier) {
+		final int n = shape[axis];
+		final int lanes = n == 0 ? 0 : size / n;
+		final int rank = shape.length;
+		final int[] start = new int[1];
+		final int[] s = createStrides(getElementsPerItem(), shape, stride, offset, start);
+
+		ParallelUtils.RangeOperation op = (begin, end) -> {
+			final LaneOperation lop = supplier.get();
+			final int[] pos = new int[rank];
+			int b = start[0];
+			int l = begin;
+			for (int d = rank - 1; d >= 0; d--) {
+				if (d != axis) {
+					pos[d] = l % shape[d];
+					l /= shape[d];
+					b += pos[d] * s[d];
+				}
+			}
+			for (int i = begin; i < end; i++) {
+				lop.run(i, b);
+				for (int d = rank - 1; d >= 0; d--) {
+					if (d == axis) {
+						continue;
+					}
+					b += s[d];
+					if (++pos[d] < shape[d]) {
+						break;
+					}
+					b -= shape[d] * s[d];
+					pos[d] = 0;
+				}
+			}
+		};
+
+		if (lanes > 1 && ParallelUtils.isParallel(mode, size)) {
+			ParallelUtils.forRange(0, lanes, op);
+		} else if (lanes > 0) {
+			op.run(0, lanes);
+		}
+	}
+
 	@Override
 	public IndexIterator getSliceIterator(final int[] start, final int[] stop, final int[] step) {
 		return getSliceIterator(new SliceND(shape, start, stop, step));
@@ -1442,13 +1543,41 @@ public abstract class AbstractDataset extends LazyDatasetBase implements Dataset
 	 */
 	@Override
 	public Dataset getSlice(final SliceND slice) {
-		SliceIterator it = (SliceIterator) getSliceIterator(slice);
-		AbstractDataset s = getSlice(it);
+		final AbstractDataset s;
+		if (stride == null) {
+			SliceIterator it = (SliceIterator) getSliceIterator(slice);
+			s = getSlice(it);
+		} else {
+			s = getSliceFromView(slice);
+		}
 		s.metadata = copyMetadata();
 		s.sliceMetadata(true, slice);
 		return s;
 	}
 
+	/**
+	 * Copy slice of view using strides so items can be copied in tiles
+	 * @param slice
+	 * @return The dataset of the sliced data
+	 */
+	private AbstractDataset getSliceFromView(final SliceND slice) {
+		final int rank = shape.length;
+		final int[] start = slice.getStart();
+		final int[] step = slice.getStep();
+		final int[] sstride = new int[rank];
+		int soffset = offset;
+		for (int i = 0; i < rank; i++) {
+			soffset += start[i] * stride[i];
+			sstride[i] = step[i] * stride[i];
+		}
+		final int[] lshape = slice.getShape();
+		final int isize = getElementsPerItem();
+		AbstractDataset s = (AbstractDataset) DatasetFactory.zeros(isize, lshape, getDType());
+		StridedCopier.copy(odata, soffset, sstride, lshape, isize, s.getBuffer());
+		s.setName(name + BLOCK_OPEN + Slice.createString(shape, start, slice.getStop(), step) + BLOCK_CLOSE);
+		return s;
+	}
+
 	/**
 	 * Get a slice of the dataset. The returned dataset is a copied selection of items
 	 * 
@@ -1707,167 +1836,114 @@ public abstract class AbstractDataset extends LazyDatasetBase implements Dataset
 	}
 
 	/**
-	 * Calculate summary statistics for a dataset along an axis
+	 * Number of items along reduced axis in each segment when the reduction is split along that axis
+	 */
+	private static final int AXIS_SEGMENT = 1 << 13;
+
+	/**
+	 * Maximum number of items in a block of outputs accumulated together
+	 */
+	private static final int AXIS_BLOCK = 1 << 10;
+
+	/**
+	 * Calculate summary statistics for a dataset along an axis. The outputs are split into blocks
+	 * along the last non-reduced axis which can be accumulated in parallel. When there are few
+	 * blocks, the reduced axis is also split into segments whose partial results are merged in order
+	 * so results do not depend on the number of threads
 	 * @param ignoreNaNs if true, ignore NaNs
 	 * @param ignoreInfs if true, ignore infinities
 	 * @param axis
 	 */
 	protected void calculateSummaryStats(final boolean ignoreNaNs, final boolean ignoreInfs, final int axis) {
-		int rank = getRank();
+		final int rank = getRank();
+		final int[] shape = getShapeRef();
+		final int alen = shape[axis];
 
-		int[] oshape = getShape();
-		int alen = oshape[axis];
-		oshape[axis] = 1;
-
-		int[] nshape = new int[rank - 1];
+		final int[] nshape = new int[rank - 1];
 		for (int i = 0; i < axis; i++) {
-			nshape[i] = oshape[i];
+			nshape[i] = shape[i];
 		}
 		for (int i = axis + 1; i < rank; i++) {
-			nshape[i - 1] = oshape[i];
+			nshape[i - 1] = shape[i];
 		}
 
 		final int dtype = getDType();
-		IntegerDataset count = new IntegerDataset(nshape);
-		Dataset max = DatasetFactory.zeros(nshape, dtype);
-		Dataset min = DatasetFactory.zeros(nshape, dtype);
-		IntegerDataset maxIndex = new IntegerDataset(nshape);
-		IntegerDataset minIndex = new IntegerDataset(nshape);
-		Dataset sum = DatasetFactory.zeros(nshape, DTypeUtils.getLargestDType(dtype));
-		DoubleDataset mean = new DoubleDataset(nshape);
-		DoubleDataset var = new DoubleDataset(nshape);
-
-		IndexIterator qiter = max.getIterator(true);
-		int[] qpos = qiter.getPos();
-		int[] spos = oshape.clone();
-
-		while (qiter.hasNext()) {
-			int i = 0;
-			for (; i < axis; i++) {
-				spos[i] = qpos[i];
-			}
-			spos[i++] = 0;
-			for (; i < rank; i++) {
-				spos[i] = qpos[i - 1];
-			}
-
-			final SummaryStatistics stats = new SummaryStatistics();
-			//sum of logs is slow and we dont use it, so blocking its calculation here
-			stats.setSumLogImpl(new NullStorelessUnivariateStatistic());
-			
-			double amax = Double.NEGATIVE_INFINITY;
-			double amin = Double.POSITIVE_INFINITY;
-			boolean hasNaNs = false;
-			if (ignoreNaNs) {
-				for (int j = 0; j < alen; j++) {
-					spos[axis] = j;
-					final double val = getDouble(spos);
-
-					if (Double.isNaN(val)) {
-						hasNaNs = true;
-						continue;
-					} else if (ignoreInfs && Double.isInfinite(val)) {
-						continue;
-					}
-
-					if (val > amax) {
-						amax = val;
-					}
-					if (val < amin) {
-						amin = val;
-					}
-
-					stats.addValue(val);
-				}
-			} else {
-				for (int j = 0; j < alen; j++) {
-					spos[axis] = j;
-					final double val = getDouble(spos);
+		final IntegerDataset count = new IntegerDataset(nshape);
+		final Dataset max = DatasetFactory.zeros(nshape, dtype);
+		final Dataset min = DatasetFactory.zeros(nshape, dtype);
+		final IntegerDataset maxIndex = new IntegerDataset(nshape);
+		final IntegerDataset minIndex = new IntegerDataset(nshape);
+		final Dataset sum = DatasetFactory.zeros(nshape, DTypeUtils.getLargestDType(dtype));
+		final DoubleDataset mean = new DoubleDataset(nshape);
+		final DoubleDataset var = new DoubleDataset(nshape);
+
+		// outputs are lines along inner axis, i.e. the last non-reduced axis
+		final int[] stride = BroadcastUtils.createBroadcastStrides(this, shape);
+		final int inner = axis == rank - 1 ? rank - 2 : rank - 1;
+		final int ilen = inner < 0 ? 1 : shape[inner];
+		final int istride = inner < 0 ? 0 : stride[inner];
+		final int astride = stride[axis];
+		final int[] oshape = new int[Math.max(0, rank - 2)];
+		final int[] ostride = new int[oshape.length];
+		for (int i = 0, j = 0; i < rank; i++) {
+			if (i != axis && i != inner) {
+				oshape[j] = shape[i];
+				ostride[j++] = stride[i];
+			}
+		}
 
-					if (hasNaNs) {
-						if (!Double.isNaN(val))
-							stats.addValue(0);
-						continue;
+		final int blocks = (ilen + AXIS_BLOCK - 1) / AXIS_BLOCK;
+		final int units = ShapeUtils.calcSize(oshape) * blocks;
+		final int segments = units >= 64 ? 1 : Math.max(1, Math.min(64, alen / AXIS_SEGMENT));
+		final int slen = (alen + segments - 1) / segments;
+		final int offset = getOffset();
+		final AxisAccumulator[] partials = segments == 1 ? null : new AxisAccumulator[units * segments];
+
+		ParallelUtils.RangeOperation op = new ParallelUtils.RangeOperation() {
+			@Override
+			public void run(int start, int stop) {
+				for (int t = start; t < stop; t++) {
+					final int u = t / segments;
+					final int b = u % blocks;
+					final int o = u / blocks;
+					final int[] opos = ShapeUtils.getNDPositionFromShape(o, oshape);
+					int index = offset;
+					for (int i = 0; i < opos.length; i++) {
+						index += opos[i] * ostride[i];
 					}
-
-					if (Double.isNaN(val)) {
-						amax = Double.NaN;
-						amin = Double.NaN;
-						hasNaNs = true;
-					} else if (ignoreInfs && Double.isInfinite(val)) {
-						continue;
+					final int kstart = b * AXIS_BLOCK;
+					final int klen = Math.min(AXIS_BLOCK, ilen - kstart);
+					index += kstart * istride;
+					final int jstart = (t % segments) * slen;
+					final int jstop = Math.min(alen, jstart + slen);
+
+					final AxisAccumulator acc = new AxisAccumulator(klen);
+					accumulate(acc, index + jstart * astride, istride, astride, jstart, jstop, ignoreNaNs, ignoreInfs);
+					if (partials == null) {
+						acc.store(o * ilen + kstart, count, max, min, maxIndex, minIndex, sum, mean, var);
 					} else {
-						if (val > amax) {
-							amax = val;
-						}
-						if (val < amin) {
-							amin = val;
-						}
+						partials[t] = acc;
 					}
-					stats.addValue(val);
 				}
 			}
+		};
 
-			count.setAbs(qiter.index, (int) stats.getN());
-
-			max.setObjectAbs(qiter.index, amax);
-			min.setObjectAbs(qiter.index, amin);
-			boolean fmax = false;
-			boolean fmin = false;
-			if (hasNaNs) {
-				if (ignoreNaNs) {
-					for (int j = 0; j < alen; j++) {
-						spos[axis] = j;
-						final double val = getDouble(spos);
-						if (Double.isNaN(val))
-							continue;
-
-						if (!fmax && val == amax) {
-							maxIndex.setAbs(qiter.index, j);
-							fmax = true;
-							if (fmin)
-								break;
-						}
-						if (!fmin && val == amin) {
-							minIndex.setAbs(qiter.index, j);
-							fmin = true;
-							if (fmax)
-								break;
-						}
-					}
-				} else {
-					for (int j = 0; j < alen; j++) {
-						spos[axis] = j;
-						final double val = getDouble(spos);
-						if (Double.isNaN(val)) {
-							maxIndex.setAbs(qiter.index, j);
-							minIndex.setAbs(qiter.index, j);
-							break;
-						}
-					}
-				}
-			} else {
-				for (int j = 0; j < alen; j++) {
-					spos[axis] = j;
-					final double val = getDouble(spos);
-					if (!fmax && val == amax) {
-						maxIndex.setAbs(qiter.index, j);
-						fmax = true;
-						if (fmin)
-							break;
-					}
-					if (!fmin && val == amin) {
-						minIndex.setAbs(qiter.index, j);
-						fmin = true;
-						if (fmax)
-							break;
-					}
+		final int tasks = units * segments;
+		if (ParallelUtils.isParallel(null, getSize())) {
+			ParallelUtils.forRange(0, tasks, op);
+		} else {
+			op.run(0, tasks);
+		}
+		if (partials != null) {
+			for (int u = 0; u < units; u++) {
+				final AxisAccumulator acc = partials[u * segments];
+				for (int s = 1; s < segments; s++) {
+					acc.merge(partials[u * segments + s]);
 				}
+				acc.store((u / blocks) * ilen + (u % blocks) * AXIS_BLOCK, count, max, min, maxIndex, minIndex, sum, mean, var);
 			}
-			sum.setObjectAbs(qiter.index, stats.getSum());
-			mean.setAbs(qiter.index, stats.getMean());
-			var.setAbs(qiter.index, stats.getVariance());
 		}
+
 		setStoredValue(storeName(ignoreNaNs, ignoreInfs, STORE_COUNT + "-" + axis), count);
 		storedValues.put(storeName(ignoreNaNs, ignoreInfs, STORE_MAX + "-" + axis), max);
 		storedValues.put(storeName(ignoreNaNs, ignoreInfs, STORE_MIN + "-" + axis), min);
@@ -1878,6 +1954,248 @@ public abstract class AbstractDataset extends LazyDatasetBase implements Dataset
 		storedValues.put(storeName(ignoreNaNs, ignoreInfs, STORE_MIN + STORE_INDEX + "-" + axis), minIndex);
 	}
 
+	/**
+	 * Accumulate lines of items along an axis
+	 * @param acc accumulator for lines
+	 * @param index of first item of first line
+	 * @param istride stride between lines
+	 * @param astride stride along axis
+	 * @param jstart first position along axis
+	 * @param jstop stop position along axis
+	 * @param ignoreNaNs
+	 * @param ignoreInfs
+	 */
+	private void accumulate(final AxisAccumulator acc, final int index, final int istride, final int astride,
+			final int jstart, final int jstop, final boolean ignoreNaNs, final boolean ignoreInfs) {
+		final int klen = acc.n.length;
+		if (klen == 1) { // read along axis
+			final double[] values = new double[Math.min(AXIS_BLOCK, jstop - jstart)];
+			for (int j = jstart, i = index; j < jstop; j += values.length, i += values.length * astride) {
+				final int n = Math.min(values.length, jstop - j);
+				getElementsDoubleAbs(i, astride, values, n);
+				for (int l = 0; l < n; l++) {
+					acc.add(0, values[l], j + l, ignoreNaNs, ignoreInfs);
+				}
+			}
+		} else {
+			final double[] values = new double[klen];
+			for (int j = jstart, i = index; j < jstop; j++, i += astride) {
+				getElementsDoubleAbs(i, istride, values, klen);
+				for (int k = 0; k < klen; k++) {
+					acc.add(k, values[k], j, ignoreNaNs, ignoreInfs);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Get elements as doubles
+	 * @param index of first element
+	 * @param stride between elements
+	 * @param values output array
+	 * @param n number of elements
+	 */
+	private void getElementsDoubleAbs(final int index, final int stride, final double[] values, final int n) {
+		final Object buffer = getBuffer();
+		if (buffer instanceof double[]) {
+			final double[] data = (double[]) buffer;
+			for (int l = 0, i = index; l < n; l++, i += stride) {
+				values[l] = data[i];
+			}
+		} else if (buffer instanceof float[]) {
+			final float[] data = (float[]) buffer;
+			for (int l = 0, i = index; l < n; l++, i += stride) {
+				values[l] = data[i];
+			}
+		} else if (buffer instanceof long[]) {
+			final long[] data = (long[]) buffer;
+			for (int l = 0, i = index; l < n; l++, i += stride) {
+				values[l] = data[i];
+			}
+		} else if (buffer instanceof int[]) {
+			final int[] data = (int[]) buffer;
+			for (int l = 0, i = index; l < n; l++, i += stride) {
+				values[l] = data[i];
+			}
+		} else if (buffer instanceof short[]) {
+			final short[] data = (short[]) buffer;
+			for (int l = 0, i = index; l < n; l++, i += stride) {
+				values[l] = data[i];
+			}
+		} else if (buffer instanceof byte[]) {
+			final byte[] data = (byte[]) buffer;
+			for (int l = 0, i = index; l < n; l++, i += stride) {
+				values[l] = data[i];
+			}
+		} else {
+			for (int l = 0, i = index; l < n; l++, i += stride) {
+				values[l] = getElementDoubleAbs(i);
+			}
+		}
+	}
+
+	/**
+	 * Accumulators for summary statistics of a block of outputs along an axis. The mean and
+	 * variance use Welford's update and the sum uses Kahan summation
+	 */
+	private static final class AxisAccumulator {
+		final int[] n;
+		final boolean[] nan;
+		final boolean[] inf;
+		final int[] finite;
+		final double[] mean;
+		final double[] m2;
+		final double[] sum;
+		final double[] comp;
+		final double[] max;
+		final double[] min;
+		final int[] maxIndex;
+		final int[] minIndex;
+
+		AxisAccumulator(final int length) {
+			n = new int[length];
+			nan = new boolean[length];
+			inf = new boolean[length];
+			finite = new int[length];
+			mean = new double[length];
+			m2 = new double[length];
+			sum = new double[length];
+			comp = new double[length];
+			max = new double[length];
+			min = new double[length];
+			maxIndex = new int[length];
+			minIndex = new int[length];
+			Arrays.fill(max, Double.NEGATIVE_INFINITY);
+			Arrays.fill(min, Double.POSITIVE_INFINITY);
+		}
+
+		/**
+		 * Add value at given position along axis to output k
+		 */
+		void add(final int k, final double val, final int j, final boolean ignoreNaNs, final boolean ignoreInfs) {
+			if (Double.isNaN(val)) {
+				if (!ignoreNaNs && !nan[k]) {
+					nan[k] = true;
+					maxIndex[k] = j;
+					minIndex[k] = j;
+				}
+				return;
+			}
+			if (ignoreInfs && Double.isInfinite(val)) {
+				return;
+			}
+			n[k]++;
+			if (nan[k]) {
+				return;
+			}
+
+			// infinities would make mean and m2 NaN so they are only included in sum
+			if (Double.isInfinite(val)) {
+				inf[k] = true;
+			} else {
+				final double delta = val - mean[k];
+				mean[k] += delta / ++finite[k];
+				m2[k] += delta * (val - mean[k]);
+			}
+
+			final double y = val - comp[k];
+			final double t = sum[k] + y;
+			comp[k] = Double.isInfinite(t) ? 0 : (t - sum[k]) - y;
+			sum[k] = t;
+
+			if (val > max[k]) {
+				max[k] = val;
+				maxIndex[k] = j;
+			}
+			if (val < min[k]) {
+				min[k] = val;
+				minIndex[k] = j;
+			}
+		}
+
+		/**
+		 * Merge accumulators from following segment of axis
+		 */
+		void merge(final AxisAccumulator other) {
+			for (int k = 0; k < n.length; k++) {
+				final int na = n[k];
+				final int nb = other.n[k];
+				n[k] = na + nb;
+				if (nan[k]) {
+					continue;
+				}
+				if (other.nan[k]) {
+					nan[k] = true;
+					maxIndex[k] = other.maxIndex[k];
+					minIndex[k] = other.minIndex[k];
+					continue;
+				}
+				if (nb == 0) {
+					continue;
+				}
+				inf[k] |= other.inf[k];
+				final int fa = finite[k];
+				final int fb = other.finite[k];
+				finite[k] = fa + fb;
+				if (fa == 0) {
+					mean[k] = other.mean[k];
+					m2[k] = other.m2[k];
+				} else if (fb != 0) {
+					final double delta = other.mean[k] - mean[k];
+					final double nt = fa + fb;
+					mean[k] += delta * (fb / nt);
+					m2[k] += other.m2[k] + delta * delta * (fa * (fb / nt));
+				}
+				sum[k] += other.sum[k];
+				comp[k] = Double.isInfinite(sum[k]) ? 0 : comp[k] + other.comp[k];
+				if (other.max[k] > max[k]) {
+					max[k] = other.max[k];
+					maxIndex[k] = other.maxIndex[k];
+				}
+				if (other.min[k] < min[k]) {
+					min[k] = other.min[k];
+					minIndex[k] = other.minIndex[k];
+				}
+			}
+		}
+
+		/**
+		 * Store results in outputs from given index
+		 */
+		void store(final int index, final IntegerDataset count, final Dataset max, final Dataset min,
+				final IntegerDataset maxIndex, final IntegerDataset minIndex, final Dataset sum,
+				final DoubleDataset mean, final DoubleDataset var) {
+			for (int k = 0; k < n.length; k++) {
+				final int i = index + k;
+				final int c = n[k];
+				if (nan[k]) {
+					count.setAbs(i, c + 1);
+					max.setObjectAbs(i, Double.NaN);
+					min.setObjectAbs(i, Double.NaN);
+					sum.setObjectAbs(i, Double.NaN);
+					mean.setAbs(i, Double.NaN);
+					var.setAbs(i, Double.NaN);
+				} else if (inf[k]) {
+					count.setAbs(i, c);
+					max.setObjectAbs(i, this.max[k]);
+					min.setObjectAbs(i, this.min[k]);
+					sum.setObjectAbs(i, this.sum[k]);
+					mean.setAbs(i, this.sum[k] / c);
+					var.setAbs(i, c == 1 ? 0 : Double.POSITIVE_INFINITY);
+				} else {
+					count.setAbs(i, c);
+					max.setObjectAbs(i, this.max[k]);
+					min.setObjectAbs(i, this.min[k]);
+					sum.setObjectAbs(i, this.sum[k] - comp[k]);
+					mean.setAbs(i, c == 0 ? Double.NaN : this.mean[k]);
+					var.setAbs(i, c == 0 ? Double.NaN : (c == 1 ? 0 : m2[k] / (c - 1)));
+				}
+				maxIndex.setAbs(i, this.maxIndex[k]);
+				minIndex.setAbs(i, this.minIndex[k]);
+			}
+		}
+	}
+
 	/**
 	 * @param x
 	 * @return number from given double
@@ -2184,7 +2502,10 @@ public abstract class AbstractDataset extends LazyDatasetBase implements Dataset
 		Dataset v = (Dataset) getStatistics(false, axis, STORE_VAR + "-" + axis);
 		Dataset m = (Dataset) getStatistics(false, axis, STORE_MEAN + "-" + axis);
 		Dataset result = Maths.power(m, 2);
-		return Maths.sqrt(result.iadd(v));
+		result = Maths.sqrt(result.iadd(v));
+		// mean of infinities of both signs is NaN but their mean square is infinite
+		result.setByBoolean(Double.POSITIVE_INFINITY, Comparisons.isInfinite(v));
+		return result;
 	}
 
 	/**
@@ -2332,4 +2653,140 @@ public abstract class AbstractDataset extends LazyDatasetBase implements Dataset
 		}
 		((ErrorMetadataImpl) emd).setSquaredError(d);
 	}
+
+	@Override
+	public Dataset mapToDouble(final DoubleUnaryOperator op) {
+		return mapToDouble(op, null);
+	}
+
+	@Override
+	public Dataset mapToDouble(final DoubleUnaryOperator op, final ExecutionMode mode) {
+		final Dataset result = DatasetFactory.zeros(getElementsPerItem(), shape, FLOAT64);
+		final double[] out = (double[]) result.getBuffer();
+		if (ParallelUtils.isParallel(mode, out.length)) {
+			final Dataset c = stride == null ? this : clone();
+			ParallelUtils.forRange(0, out.length, (start, stop) -> {
+				for (int i = start; i < stop; i++) {
+					out[i] = op.applyAsDouble(c.getElementDoubleAbs(i));
+				}
+			});
+		} else {
+			final int isize = getElementsPerItem();
+			final IndexIterator it = getIterator();
+			int j = 0;
+			while (it.hasNext()) {
+				for (int i = 0; i < isize; i++) {
+					out[j++] = op.applyAsDouble(getElementDoubleAbs(it.index + i));
+				}
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public Dataset mapToLong(final LongUnaryOperator op) {
+		return mapToLong(op, null);
+	}
+
+	@Override
+	public Dataset mapToLong(final LongUnaryOperator op, final ExecutionMode mode) {
+		final Dataset result = DatasetFactory.zeros(getElementsPerItem(), shape, INT64);
+		final long[] out = (long[]) result.getBuffer();
+		if (ParallelUtils.isParallel(mode, out.length)) {
+			final Dataset c = stride == null ? this : clone();
+			ParallelUtils.forRange(0, out.length, (start, stop) -> {
+				for (int i = start; i < stop; i++) {
+					out[i] = op.applyAsLong(c.getElementLongAbs(i));
+				}
+			});
+		} else {
+			final int isize = getElementsPerItem();
+			final IndexIterator it = getIterator();
+			int j = 0;
+			while (it.hasNext()) {
+				for (int i = 0; i < isize; i++) {
+					out[j++] = op.applyAsLong(getElementLongAbs(it.index + i));
+				}
+			}
+		}
+		return result;
+	}
+
+	@Override
+	public double reduce(final double identity, final DoubleBinaryOperator op) {
+		return reduce(identity, op, null);
+	}
+
+	@Override
+	public double reduce(final double identity, final DoubleBinaryOperator op, final ExecutionMode mode) {
+		final int n = size * getElementsPerItem();
+		if (ParallelUtils.isParallel(mode, n)) {
+			final Dataset c = stride == null ? this : clone();
+			final int grain = ParallelUtils.calcGrainSize(n);
+			final double[] partial = new double[(n + grain - 1) / grain];
+			ParallelUtils.forRange(0, partial.length, 1, (start, stop) -> {
+				for (int p = start; p < stop; p++) {
+					final int end = Math.min(n, (p + 1) * grain);
+					double r = identity;
+					for (int i = p * grain; i < end; i++) {
+						r = op.applyAsDouble(r, c.getElementDoubleAbs(i));
+					}
+					partial[p] = r;
+				}
+			});
+			double r = identity;
+			for (double x : partial) {
+				r = op.applyAsDouble(r, x);
+			}
+			return r;
+		}
+
+		final int isize = getElementsPerItem();
+		final IndexIterator it = getIterator();
+		double r = identity;
+		while (it.hasNext()) {
+			for (int i = 0; i < isize; i++) {
+				r = op.applyAsDouble(r, getElementDoubleAbs(it.index + i));
+			}
+		}
+		return r;
+	}
+
+	@Override
+	public void forEachIndexed(final IntDoubleConsumer action) {
+		forEachIndexed(action, null);
+	}
+
+	@Override
+	public void forEachIndexed(final IntDoubleConsumer action, final ExecutionMode mode) {
+		final int n = size * getElementsPerItem();
+		if (ParallelUtils.isParallel(mode, n)) {
+			final Dataset c = stride == null ? this : clone();
+			ParallelUtils.forRange(0, n, (start, stop) -> {
+				for (int i = start; i < stop; i++) {
+					action.accept(i, c.getElementDoubleAbs(i));
+				}
+			});
+			return;
+		}
+
+		final int isize = getElementsPerItem();
+		final IndexIterator it = getIterator();
+		int j = 0;
+		while (it.hasNext()) {
+			for (int i = 0; i < isize; i++) {
+				action.accept(j++, getElementDoubleAbs(it.index + i));
+			}
+		}
+	}
+
+	@Override
+	public DoubleStream doubleStream() {
+		return StreamSupport.doubleStream(new DatasetSpliterator.Doubles(this), false);
+	}
+
+	@Override
+	public LongStream longStream() {
+		return StreamSupport.longStream(new DatasetSpliterator.Longs(this), false);
+	}
 }
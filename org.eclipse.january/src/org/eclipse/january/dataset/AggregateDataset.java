@@ -14,7 +14,18 @@ package org.eclipse.january.dataset;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.january.DatasetException;
 import org.eclipse.january.IMonitor;
@@ -22,6 +33,10 @@ import org.eclipse.january.IMonitor;
 /**
  * Class to aggregate a set of lazy datasets and present them as a single lazy dataset where
  * the first position value accesses the aggregation
+ * <p>
+ * Slices of several datasets can be fetched in parallel (see {@link #setFetchThreads(int)}) using
+ * the executor for asynchronous slicing and each is copied directly into the result. When reading
+ * successive frames, the following slices can also be read ahead (see {@link #setReadAhead(int)})
  */
 public class AggregateDataset extends LazyDatasetBase implements ILazyDataset {
 
@@ -39,6 +54,52 @@ public class AggregateDataset extends LazyDatasetBase implements ILazyDataset {
 	protected AggregateDataset base = null;
 	private int[] sliceStart = null;
 	private int[] sliceStep  = null;
+	private volatile int fetchThreads = 1;
+	private volatile int readAhead = 0;
+	private transient Map<FetchKey, CompletableFuture<Dataset>> prefetched = null;
+	private transient FetchKey expected = null;
+
+	/**
+	 * Key of slice given by its start, step and shape
+	 */
+	private static final class FetchKey {
+		private final int[] start;
+		private final int[] step;
+		private final int[] shape;
+
+		FetchKey(int[] start, int[] step, int[] shape) {
+			this.start = start;
+			this.step = step;
+			this.shape = shape;
+		}
+
+		/**
+		 * @param n
+		 * @return key of slice that is n slices after this along first dimension
+		 */
+		FetchKey shift(int n) {
+			int[] s = start.clone();
+			s[0] += n * shape[0] * step[0];
+			return new FetchKey(s, step, shape);
+		}
+
+		@Override
+		public int hashCode() {
+			return (Arrays.hashCode(start) * 31 + Arrays.hashCode(step)) * 31 + Arrays.hashCode(shape);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof FetchKey)) {
+				return false;
+			}
+			FetchKey other = (FetchKey) obj;
+			return Arrays.equals(start, other.start) && Arrays.equals(step, other.step) && Arrays.equals(shape, other.shape);
+		}
+	}
 
 	/**
 	 * Calculate (possibly extended) shapes from given datasets
@@ -237,41 +298,261 @@ public class AggregateDataset extends LazyDatasetBase implements ILazyDataset {
 			return base.getSlice(monitor, start, stop, step);
 		}
 
-		// convert first dimension's slice to individual slices per stored dataset
-		int fb = start[0];
-		int fe = stop[0];
-		int fs = step[0];
-
-		List<Dataset> sliced = new ArrayList<Dataset>();
-		int op = fb;
-		int p = op;
-		ILazyDataset od = data[map[op]];
-		ILazyDataset nd; 
-		while (p < fe) {
-			
-			if (monitor!=null && monitor.isCancelled()) throw new DatasetException("Slice cancelled");
-			nd = data[map[p]];
-			if (nd != od) {
-				start[0] = op - offset[map[op]];
-				stop[0] = p - offset[map[op]];
-				Dataset a = DatasetUtils.convertToDataset(od.getSlice(monitor, start, stop, step));
-				sliced.add(a.cast(dtype));
-
-				od = nd;
-				op = p;
+		final FetchKey key = new FetchKey(start, step, slice.getShape());
+		final CompletableFuture<Dataset> f = takePrefetched(key);
+		Dataset d = null;
+		if (f != null) {
+			try {
+				d = f.join();
+			} catch (CancellationException | CompletionException e) {
+				// fetch again
 			}
-			p += fs;
 		}
-		start[0] = op - offset[map[op]];
-		stop[0] = p - offset[map[op]];
-		Dataset a = DatasetUtils.convertToDataset(od.getSlice(monitor, start, stop, step));
-		sliced.add(a.cast(dtype));
-
-		Dataset d = DatasetUtils.concatenate(sliced.toArray(new Dataset[0]), 0);
+		if (d == null) {
+			d = fetch(monitor, key);
+		}
+		if (readAhead > 0) {
+			prefetch(key, f != null);
+		}
 		d.setName(name);
 		return d;
 	}
 
+	/**
+	 * Set maximum number of datasets to get slices from at the same time
+	 * @param threads if 1, get slices in turn
+	 */
+	public void setFetchThreads(int threads) {
+		if (threads < 1) {
+			throw new IllegalArgumentException("Number of threads must be positive");
+		}
+		(base == null ? this : base).fetchThreads = threads;
+	}
+
+	/**
+	 * @return maximum number of datasets to get slices from at the same time
+	 */
+	public int getFetchThreads() {
+		return (base == null ? this : base).fetchThreads;
+	}
+
+	/**
+	 * Set number of slices to read ahead when successive slices are got along the first dimension,
+	 * e.g. when reading frames in turn
+	 * @param slices if 0, do not read ahead
+	 */
+	public void setReadAhead(int slices) {
+		if (slices < 0) {
+			throw new IllegalArgumentException("Number of slices must not be negative");
+		}
+		AggregateDataset b = base == null ? this : base;
+		b.readAhead = slices;
+		if (slices == 0) {
+			synchronized (b) {
+				b.expected = null;
+				if (b.prefetched != null) {
+					for (CompletableFuture<Dataset> f : b.prefetched.values()) {
+						f.cancel(false);
+					}
+					b.prefetched = null;
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return number of slices to read ahead
+	 */
+	public int getReadAhead() {
+		return (base == null ? this : base).readAhead;
+	}
+
+	private synchronized CompletableFuture<Dataset> takePrefetched(FetchKey key) {
+		return prefetched == null ? null : prefetched.remove(key);
+	}
+
+	/**
+	 * Read ahead slices following given slice if it is part of a sequence
+	 * @param key
+	 * @param hit true if slice was read ahead
+	 */
+	private synchronized void prefetch(FetchKey key, boolean hit) {
+		final boolean sequential = hit || key.equals(expected);
+		expected = key.shift(1);
+		if (!sequential || key.step[0] < 0 || key.shape[0] == 0) {
+			return;
+		}
+
+		if (prefetched == null) {
+			prefetched = new LinkedHashMap<FetchKey, CompletableFuture<Dataset>>();
+		}
+		List<FetchKey> ahead = new ArrayList<FetchKey>();
+		for (int i = 1; i <= readAhead; i++) {
+			FetchKey k = key.shift(i);
+			if (k.start[0] + (k.shape[0] - 1) * k.step[0] >= shape[0]) {
+				break;
+			}
+			ahead.add(k);
+		}
+
+		// cancel slices no longer ahead
+		Iterator<Entry<FetchKey, CompletableFuture<Dataset>>> it = prefetched.entrySet().iterator();
+		while (it.hasNext()) {
+			Entry<FetchKey, CompletableFuture<Dataset>> e = it.next();
+			if (!ahead.contains(e.getKey())) {
+				e.getValue().cancel(false);
+				it.remove();
+			}
+		}
+
+		for (FetchKey k : ahead) {
+			if (!prefetched.containsKey(k)) {
+				CompletableFuture<Dataset> f = new CompletableFuture<Dataset>();
+				prefetched.put(k, f);
+				try {
+					getAsyncExecutor().execute(() -> {
+						if (f.isCancelled()) {
+							return;
+						}
+						try {
+							f.complete(fetch(null, k));
+						} catch (Throwable e) {
+							f.completeExceptionally(e);
+						}
+					});
+				} catch (RejectedExecutionException e) {
+					f.completeExceptionally(e);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Part of slice from a single dataset
+	 */
+	private static final class Part {
+		final int index; // of dataset
+		final int begin; // first row in result
+		final int end; // row after last row in result
+
+		Part(int index, int begin, int end) {
+			this.index = index;
+			this.begin = begin;
+			this.end = end;
+		}
+	}
+
+	/**
+	 * Get slice by getting parts from datasets and copying them into result
+	 * @param monitor
+	 * @param key
+	 * @return slice
+	 * @throws DatasetException
+	 */
+	private Dataset fetch(final IMonitor monitor, final FetchKey key) throws DatasetException {
+		final int[] rshape = key.shape;
+		final Dataset result = DatasetFactory.zeros(isize, rshape, dtype);
+		if (ShapeUtils.calcLongSize(rshape) == 0) {
+			return result;
+		}
+
+		// convert first dimension's slice to individual slices per stored dataset
+		final int fb = key.start[0];
+		final int fs = key.step[0];
+		final List<Part> parts = new ArrayList<Part>();
+		int begin = 0;
+		for (int r = 1; r <= rshape[0]; r++) {
+			if (r == rshape[0] || map[fb + r * fs] != map[fb + begin * fs]) {
+				parts.add(new Part(map[fb + begin * fs], begin, r));
+				begin = r;
+			}
+		}
+
+		final int n = parts.size();
+		final int threads = Math.min(fetchThreads, n);
+		if (threads <= 1) {
+			for (Part p : parts) {
+				fetchPart(monitor, key, p, result);
+			}
+			return result;
+		}
+
+		// this thread also fetches parts so no part waits on a busy executor
+		final AtomicInteger next = new AtomicInteger();
+		final CountDownLatch done = new CountDownLatch(n);
+		final Throwable[] error = new Throwable[1];
+		final Runnable worker = () -> {
+			int i;
+			while ((i = next.getAndIncrement()) < n) {
+				try {
+					if (error[0] == null) {
+						fetchPart(monitor, key, parts.get(i), result);
+					}
+				} catch (Throwable e) {
+					synchronized (error) {
+						if (error[0] == null) {
+							error[0] = e;
+						}
+					}
+				} finally {
+					done.countDown();
+				}
+			}
+		};
+		for (int t = 1; t < threads; t++) {
+			try {
+				getAsyncExecutor().execute(worker);
+			} catch (RejectedExecutionException e) {
+				break;
+			}
+		}
+		worker.run();
+		try {
+			done.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new DatasetException("Slice interrupted", e);
+		}
+
+		final Throwable e = error[0];
+		if (e instanceof DatasetException) {
+			throw (DatasetException) e;
+		} else if (e instanceof RuntimeException) {
+			throw (RuntimeException) e;
+		} else if (e instanceof Error) {
+			throw (Error) e;
+		} else if (e != null) {
+			throw new DatasetException(e);
+		}
+		return result;
+	}
+
+	private void fetchPart(final IMonitor monitor, final FetchKey key, final Part p, final Dataset result) throws DatasetException {
+		if (monitor != null && monitor.isCancelled()) {
+			throw new DatasetException("Slice cancelled");
+		}
+
+		final int rank = key.shape.length;
+		final ILazyDataset d = data[p.index];
+		final SliceND s = new SliceND(d.getShape());
+		for (int i = 0; i < rank; i++) {
+			final int rows = i == 0 ? p.end - p.begin : key.shape[i];
+			final int step = key.step[i];
+			int start = key.start[i];
+			if (i == 0) {
+				start += p.begin * step - offset[p.index];
+			}
+			final int stop = start + (rows - 1) * step + (step > 0 ? 1 : -1);
+			// negative step can stop before the start of dimension
+			s.setSlice(i, Integer.valueOf(start), stop < 0 ? null : Integer.valueOf(stop), step);
+		}
+
+		final Dataset a = DatasetUtils.convertToDataset(d.getSlice(monitor, s));
+		synchronized (result) {
+			result.setSlice(a, new Slice(p.begin, p.end));
+		}
+	}
+
 	@Override
 	public Dataset getSlice(Slice... slice) throws DatasetException {
 		return getSlice(null, slice);
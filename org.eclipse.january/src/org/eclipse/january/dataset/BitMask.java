@@ -0,0 +1,502 @@
+/*-
+ * Copyright 2016 Diamond Light Source Ltd.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.january.dataset;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.january.IMonitor;
+import org.eclipse.january.io.ILazyLoader;
+
+/**
+ * Shaped array of booleans packed as bits in 64-bit words (in row-major order) so it uses an
+ * eighth of the memory of a boolean dataset. Logical operations, counts and searches work on
+ * whole words at a time.
+ * <p>
+ * Use {@link #toDataset()} to unpack to a boolean dataset or {@link #getLazyDataset()} for a lazy
+ * dataset that only unpacks the slices that are requested, e.g. to hold a mask in metadata
+ * @see Comparisons#greaterThanMask(Object, Object)
+ */
+public final class BitMask implements Serializable, Cloneable {
+	private static final long serialVersionUID = 1L;
+
+	private static final int SHIFT = 6;
+	private static final int BITS = 1 << SHIFT;
+
+	private final int[] shape;
+	private final int size;
+	private final long[] words;
+
+	/**
+	 * Create mask where all items are false
+	 * @param shape
+	 */
+	public BitMask(final int... shape) {
+		this.shape = shape.clone();
+		size = ShapeUtils.calcSize(shape);
+		words = new long[getWordCount(size)];
+	}
+
+	private BitMask(final int[] shape, final int size, final long[] words) {
+		this.shape = shape;
+		this.size = size;
+		this.words = words;
+	}
+
+	private static int getWordCount(final int size) {
+		return (size + BITS - 1) >>> SHIFT;
+	}
+
+	/**
+	 * Pack boolean values of dataset
+	 * @param a dataset with single-element items
+	 * @return mask where item is true if item in dataset is true (or non-zero)
+	 */
+	public static BitMask pack(final Dataset a) {
+		if (a.getElementsPerItem() != 1) {
+			throw new IllegalArgumentException("Compound datasets are not supported");
+		}
+		final BitMask m = new BitMask(a.getShapeRef());
+		final long[] w = m.words;
+		if (m.size == 0) {
+			return m;
+		}
+		if (a instanceof BooleanDataset && a.getStrides() == null) {
+			final boolean[] data = ((BooleanDataset) a).getData();
+			final int offset = a.getOffset();
+			for (int i = 0; i < m.size; i++) {
+				if (data[offset + i]) {
+					w[i >>> SHIFT] |= 1L << i;
+				}
+			}
+		} else {
+			final IndexIterator it = a.getIterator();
+			int i = 0;
+			while (it.hasNext()) {
+				if (a.getElementBooleanAbs(it.index)) {
+					w[i >>> SHIFT] |= 1L << i;
+				}
+				i++;
+			}
+		}
+		return m;
+	}
+
+	/**
+	 * @return copy of shape
+	 */
+	public int[] getShape() {
+		return shape.clone();
+	}
+
+	/**
+	 * @return rank
+	 */
+	public int getRank() {
+		return shape.length;
+	}
+
+	/**
+	 * @return number of items
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * @return number of bytes used by packed bits
+	 */
+	public long getNbytes() {
+		return (long) words.length * Long.BYTES;
+	}
+
+	/**
+	 * @param index of item in row-major order
+	 * @return value of item
+	 */
+	public boolean getAbs(final int index) {
+		return (words[index >>> SHIFT] & (1L << index)) != 0;
+	}
+
+	/**
+	 * @param value
+	 * @param index of item in row-major order
+	 */
+	public void setAbs(final boolean value, final int index) {
+		if (value) {
+			words[index >>> SHIFT] |= 1L << index;
+		} else {
+			words[index >>> SHIFT] &= ~(1L << index);
+		}
+	}
+
+	/**
+	 * @param pos position of item
+	 * @return value of item
+	 */
+	public boolean get(final int... pos) {
+		return getAbs(getIndex(pos));
+	}
+
+	/**
+	 * @param value
+	 * @param pos position of item
+	 */
+	public void set(final boolean value, final int... pos) {
+		setAbs(value, getIndex(pos));
+	}
+
+	private int getIndex(final int[] pos) {
+		if (pos.length != shape.length) {
+			throw new IllegalArgumentException("Number of position values must be equal to rank");
+		}
+		int index = 0;
+		for (int i = 0; i < shape.length; i++) {
+			int p = pos[i];
+			if (p < 0) {
+				p += shape[i];
+			}
+			if (p < 0 || p >= shape[i]) {
+				throw new ArrayIndexOutOfBoundsException("Index (" + pos[i] + ") out of range [-" + shape[i] + "," + shape[i] + ") in dimension " + i);
+			}
+			index = index * shape[i] + p;
+		}
+		return index;
+	}
+
+	/**
+	 * Set all items
+	 * @param value
+	 * @return this
+	 */
+	public BitMask fill(final boolean value) {
+		Arrays.fill(words, value ? -1L : 0);
+		clearTail();
+		return this;
+	}
+
+	/**
+	 * Clear unused bits in last word
+	 */
+	private void clearTail() {
+		final int r = size & (BITS - 1);
+		if (r != 0) {
+			words[words.length - 1] &= (1L << r) - 1;
+		}
+	}
+
+	/**
+	 * @return number of true items
+	 */
+	public int cardinality() {
+		int n = 0;
+		for (long w : words) {
+			n += Long.bitCount(w);
+		}
+		return n;
+	}
+
+	/**
+	 * @return true if all items are true
+	 */
+	public boolean allTrue() {
+		final int n = size >>> SHIFT;
+		for (int i = 0; i < n; i++) {
+			if (words[i] != -1L) {
+				return false;
+			}
+		}
+		final int r = size & (BITS - 1);
+		return r == 0 || words[n] == (1L << r) - 1;
+	}
+
+	/**
+	 * @return true if any item is true
+	 */
+	public boolean anyTrue() {
+		for (long w : words) {
+			if (w != 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @param from index of item in row-major order
+	 * @return index of first true item at or after given index or -1 if there are none
+	 */
+	public int nextTrue(final int from) {
+		if (from >= size) {
+			return -1;
+		}
+		int i = from >>> SHIFT;
+		long w = words[i] & (-1L << from);
+		while (w == 0) {
+			if (++i == words.length) {
+				return -1;
+			}
+			w = words[i];
+		}
+		return (i << SHIFT) + Long.numberOfTrailingZeros(w);
+	}
+
+	/**
+	 * @return list of positions of true items as integer datasets (empty if there are none)
+	 * @see Comparisons#nonZero(Dataset)
+	 */
+	public List<IntegerDataset> nonZero() {
+		final int rank = shape.length;
+		final List<IntegerDataset> indexList = new ArrayList<IntegerDataset>();
+		final int length = cardinality();
+		if (rank == 0 || length == 0) {
+			return indexList;
+		}
+
+		final int[][] indices = new int[rank][length];
+		int j = 0;
+		for (int i = nextTrue(0); i >= 0; i = nextTrue(i + 1), j++) {
+			int k = i;
+			for (int d = rank - 1; d >= 0; d--) {
+				indices[d][j] = k % shape[d];
+				k /= shape[d];
+			}
+		}
+		for (int d = 0; d < rank; d++) {
+			indexList.add((IntegerDataset) DatasetFactory.createFromObject(indices[d]));
+		}
+		return indexList;
+	}
+
+	private void checkShape(final BitMask b) {
+		if (!Arrays.equals(shape, b.shape)) {
+			throw new IllegalArgumentException("Shapes of masks must be equal");
+		}
+	}
+
+	/**
+	 * @param b
+	 * @return mask where item is true if both items are true
+	 */
+	public BitMask and(final BitMask b) {
+		return clone().iand(b);
+	}
+
+	/**
+	 * @param b
+	 * @return mask where item is true if either item is true
+	 */
+	public BitMask or(final BitMask b) {
+		return clone().ior(b);
+	}
+
+	/**
+	 * @param b
+	 * @return mask where item is true if only one item is true
+	 */
+	public BitMask xor(final BitMask b) {
+		return clone().ixor(b);
+	}
+
+	/**
+	 * @param b
+	 * @return mask where item is true if this item is true and other item is false
+	 */
+	public BitMask andNot(final BitMask b) {
+		return clone().iandNot(b);
+	}
+
+	/**
+	 * @return mask where item is true if this item is false
+	 */
+	public BitMask not() {
+		return clone().inot();
+	}
+
+	/**
+	 * In-place logical and
+	 * @param b
+	 * @return this
+	 */
+	public BitMask iand(final BitMask b) {
+		checkShape(b);
+		for (int i = 0; i < words.length; i++) {
+			words[i] &= b.words[i];
+		}
+		return this;
+	}
+
+	/**
+	 * In-place logical or
+	 * @param b
+	 * @return this
+	 */
+	public BitMask ior(final BitMask b) {
+		checkShape(b);
+		for (int i = 0; i < words.length; i++) {
+			words[i] |= b.words[i];
+		}
+		return this;
+	}
+
+	/**
+	 * In-place logical exclusive or
+	 * @param b
+	 * @return this
+	 */
+	public BitMask ixor(final BitMask b) {
+		checkShape(b);
+		for (int i = 0; i < words.length; i++) {
+			words[i] ^= b.words[i];
+		}
+		return this;
+	}
+
+	/**
+	 * In-place logical and with negation of given mask
+	 * @param b
+	 * @return this
+	 */
+	public BitMask iandNot(final BitMask b) {
+		checkShape(b);
+		for (int i = 0; i < words.length; i++) {
+			words[i] &= ~b.words[i];
+		}
+		return this;
+	}
+
+	/**
+	 * In-place logical not
+	 * @return this
+	 */
+	public BitMask inot() {
+		for (int i = 0; i < words.length; i++) {
+			words[i] = ~words[i];
+		}
+		clearTail();
+		return this;
+	}
+
+	/**
+	 * @return unpacked boolean dataset
+	 */
+	public BooleanDataset toDataset() {
+		return getSlice(new SliceND(shape));
+	}
+
+	/**
+	 * @param slice
+	 * @return unpacked slice as boolean dataset
+	 */
+	public BooleanDataset getSlice(final SliceND slice) {
+		final int[] rshape = slice.getShape();
+		final BooleanDataset r = DatasetFactory.zeros(BooleanDataset.class, rshape);
+		final int rsize = r.getSize();
+		if (rsize == 0) {
+			return r;
+		}
+		final boolean[] data = r.getData();
+		final int rank = shape.length;
+		if (rank == 0) {
+			data[0] = getAbs(0);
+			return r;
+		}
+
+		final int[] start = slice.getStart();
+		final int[] step = slice.getStep();
+		final int[] stride = new int[rank];
+		int s = 1;
+		for (int d = rank - 1; d >= 0; d--) {
+			stride[d] = s;
+			s *= shape[d];
+		}
+		int base = 0;
+		for (int d = 0; d < rank; d++) {
+			base += start[d] * stride[d];
+		}
+
+		// unpack rows along last dimension
+		final int last = rank - 1;
+		final int n = rshape[last];
+		final int inc = step[last];
+		final int[] pos = new int[rank];
+		for (int i = 0; i < rsize; i += n) {
+			for (int j = 0, k = base; j < n; j++, k += inc) {
+				data[i + j] = (words[k >>> SHIFT] & (1L << k)) != 0;
+			}
+			for (int d = last - 1; d >= 0; d--) {
+				base += step[d] * stride[d];
+				if (++pos[d] < rshape[d]) {
+					break;
+				}
+				base -= rshape[d] * step[d] * stride[d];
+				pos[d] = 0;
+			}
+		}
+		return r;
+	}
+
+	/**
+	 * @return lazy boolean dataset that unpacks slices of this mask when requested. It can be
+	 * sliced, reshaped and transposed without unpacking the whole mask
+	 */
+	public ILazyDataset getLazyDataset() {
+		return new LazyDataset("mask", Dataset.BOOL, shape, new Loader(this));
+	}
+
+	private static class Loader implements ILazyLoader {
+		private static final long serialVersionUID = 1L;
+
+		private final BitMask mask;
+
+		Loader(BitMask mask) {
+			this.mask = mask;
+		}
+
+		@Override
+		public boolean isFileReadable() {
+			return true;
+		}
+
+		@Override
+		public IDataset getDataset(IMonitor mon, SliceND slice) {
+			return mask.getSlice(slice);
+		}
+	}
+
+	@Override
+	public BitMask clone() {
+		return new BitMask(shape, size, words.clone());
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(shape) * 31 + Arrays.hashCode(words);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof BitMask)) {
+			return false;
+		}
+		BitMask other = (BitMask) obj;
+		return Arrays.equals(shape, other.shape) && Arrays.equals(words, other.words);
+	}
+
+	@Override
+	public String toString() {
+		return "Bit mask of shape " + Arrays.toString(shape) + " with " + cardinality() + " true items";
+	}
+}
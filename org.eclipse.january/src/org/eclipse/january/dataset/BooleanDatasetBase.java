@@ -122,10 +122,7 @@ public class BooleanDatasetBase extends AbstractDataset {
 				base = null;
 				odata = data = createArray(size);
 
-				IndexIterator iter = dataset.getIterator();
-				for (int i = 0; iter.hasNext(); i++) {
-					data[i] = dataset.data[iter.index];
-				}
+				StridedCopier.copy(dataset, data);
 			}
 		} catch (Throwable t) {
 			logger.error("Could not create a dataset of shape {}", Arrays.toString(shape), t);
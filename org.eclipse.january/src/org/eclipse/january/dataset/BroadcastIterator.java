@@ -45,6 +45,10 @@ public abstract class BroadcastIterator extends BroadcastIteratorBase {
 	 * Current value in first dataset
 	 */
 	public long aLong;
+	/**
+	 * Stride in output dataset between items of current run
+	 */
+	public int oRunStride;
 	/**
 	 * Output dataset
 	 */
@@ -31,6 +31,19 @@ public abstract class BroadcastIteratorBase extends IndexIterator {
 	 */
 	public long bLong;
 
+	/**
+	 * Number of items in current run
+	 */
+	public int runLength;
+	/**
+	 * Stride in first dataset between items of current run
+	 */
+	public int aRunStride;
+	/**
+	 * Stride in second dataset between items of current run
+	 */
+	public int bRunStride;
+
 	protected boolean asDouble = true;
 	protected boolean read = true;
 
@@ -77,6 +90,16 @@ public abstract class BroadcastIteratorBase extends IndexIterator {
 		}
 	}
 
+	/**
+	 * Move to next run of items. This is an alternative to {@link #hasNext()} where the
+	 * iterator yields runs of items that are equally spaced in each dataset. A run
+	 * starts at the current indexes and spans {@link #runLength} items with the run strides
+	 * as steps. Note, current values are not read and this must not be interleaved with
+	 * calls to {@link #hasNext()} without a {@link #reset()}
+	 * @return true if there is another run
+	 */
+	abstract public boolean nextRun();
+
 	/**
 	 * Read and store current values
 	 */
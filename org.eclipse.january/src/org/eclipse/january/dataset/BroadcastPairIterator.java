@@ -33,6 +33,10 @@ public class BroadcastPairIterator extends BroadcastIterator {
 	private final int aStep, bStep, oStep;
 	private int aMax, bMax;
 	private int aStart, bStart, oStart;
+	private final int runAxis; // first dimension of runs
+	private final int runSize; // number of items in each run
+	private final int runCount; // number of runs
+	private int run;
 
 	/**
 	 * 
@@ -115,6 +119,34 @@ public class BroadcastPairIterator extends BroadcastIterator {
 		bStart = bDataset.getOffset();
 		bMax += bStart;
 		oStart = oDelta == null ? 0 : oDataset.getOffset();
+
+		if (endrank < 0) {
+			runAxis = 0;
+			runSize = 1;
+			runCount = 1;
+			aRunStride = aStep;
+			bRunStride = bStep;
+			oRunStride = oStep;
+		} else {
+			// merge trailing dimensions that can be traversed with a single stride
+			int r = endrank;
+			int n = maxShape[r];
+			while (r > 0 && aStride[r - 1] == aStride[r] * maxShape[r] && bStride[r - 1] == bStride[r] * maxShape[r]
+					&& (oStride == null || oStride[r - 1] == oStride[r] * maxShape[r])) {
+				r--;
+				n *= maxShape[r];
+			}
+			runAxis = r;
+			runSize = n;
+			int c = n == 0 ? 0 : 1;
+			for (int j = 0; j < r; j++) {
+				c *= maxShape[j];
+			}
+			runCount = c;
+			aRunStride = aStride[endrank];
+			bRunStride = bStride[endrank];
+			oRunStride = oStride == null ? 0 : oStride[endrank];
+		}
 		reset();
 	}
 
@@ -179,6 +211,48 @@ public class BroadcastPairIterator extends BroadcastIterator {
 		return true;
 	}
 
+	@Override
+	public boolean nextRun() {
+		if (run >= runCount) {
+			aIndex = aMax;
+			bIndex = bMax;
+			return false;
+		}
+
+		if (run++ == 0) {
+			if (endrank >= 0) {
+				pos[endrank] = 0;
+			}
+			aIndex = aStart;
+			bIndex = bStart;
+			oIndex = oStart;
+		} else {
+			for (int j = runAxis - 1; j >= 0; j--) {
+				pos[j]++;
+				aIndex += aStride[j];
+				bIndex += bStride[j];
+				if (oDelta != null)
+					oIndex += oStride[j];
+				if (pos[j] >= maxShape[j]) {
+					pos[j] = 0;
+					aIndex -= aDelta[j]; // reset these dimensions
+					bIndex -= bDelta[j];
+					if (oDelta != null)
+						oIndex -= oDelta[j];
+				} else {
+					break;
+				}
+			}
+		}
+		if (outputA) {
+			oIndex = aIndex;
+		} else if (outputB) {
+			oIndex = bIndex;
+		}
+		runLength = runSize;
+		return true;
+	}
+
 	/**
 	 * @return shape of first broadcasted dataset
 	 */
@@ -195,6 +269,7 @@ public class BroadcastPairIterator extends BroadcastIterator {
 
 	@Override
 	public void reset() {
+		run = 0;
 		for (int i = 0; i <= endrank; i++)
 			pos[i] = 0;
 
@@ -209,7 +284,7 @@ public class BroadcastPairIterator extends BroadcastIterator {
 			oIndex = oStart - oStep;
 		}
 
-		if (aIndex == 0 || bIndex == 0) { // for zero-ranked datasets
+		if (aIndex == aStart || bIndex == bStart) { // for zero-ranked datasets or views broadcasted in last dimension
 			if (read) {
 				storeCurrentValues();
 			}
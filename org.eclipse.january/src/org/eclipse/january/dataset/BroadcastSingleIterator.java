@@ -26,6 +26,10 @@ public class BroadcastSingleIterator extends BroadcastSelfIterator {
 	private final int aStep, bStep;
 	private int aMax, bMax;
 	private int aStart, bStart;
+	private final int runAxis; // first dimension of runs
+	private final int runSize; // number of items in each run
+	private final int runCount; // number of runs
+	private int run;
 
 	/**
 	 * 
@@ -77,6 +81,31 @@ public class BroadcastSingleIterator extends BroadcastSelfIterator {
 		aMax += aStart;
 		bStart = bDataset.getOffset();
 		bMax += bStart;
+
+		if (endrank < 0) {
+			runAxis = 0;
+			runSize = 1;
+			runCount = 1;
+			aRunStride = aStep;
+			bRunStride = bStep;
+		} else {
+			// merge trailing dimensions that can be traversed with a single stride
+			int r = endrank;
+			int n = maxShape[r];
+			while (r > 0 && aStride[r - 1] == aStride[r] * maxShape[r] && bStride[r - 1] == bStride[r] * maxShape[r]) {
+				r--;
+				n *= maxShape[r];
+			}
+			runAxis = r;
+			runSize = n;
+			int c = n == 0 ? 0 : 1;
+			for (int j = 0; j < r; j++) {
+				c *= maxShape[j];
+			}
+			runCount = c;
+			aRunStride = aStride[endrank];
+			bRunStride = bStride[endrank];
+		}
 		reset();
 	}
 
@@ -122,6 +151,38 @@ public class BroadcastSingleIterator extends BroadcastSelfIterator {
 		return true;
 	}
 
+	@Override
+	public boolean nextRun() {
+		if (run >= runCount) {
+			aIndex = aMax;
+			bIndex = bMax;
+			return false;
+		}
+
+		if (run++ == 0) {
+			if (endrank >= 0) {
+				pos[endrank] = 0;
+			}
+			aIndex = aStart;
+			bIndex = bStart;
+		} else {
+			for (int j = runAxis - 1; j >= 0; j--) {
+				pos[j]++;
+				aIndex += aStride[j];
+				bIndex += bStride[j];
+				if (pos[j] >= maxShape[j]) {
+					pos[j] = 0;
+					aIndex -= aDelta[j]; // reset these dimensions
+					bIndex -= bDelta[j];
+				} else {
+					break;
+				}
+			}
+		}
+		runLength = runSize;
+		return true;
+	}
+
 	/**
 	 * @return shape of first broadcasted dataset
 	 */
@@ -138,6 +199,7 @@ public class BroadcastSingleIterator extends BroadcastSelfIterator {
 
 	@Override
 	public void reset() {
+		run = 0;
 		for (int i = 0; i <= endrank; i++)
 			pos[i] = 0;
 
@@ -150,7 +212,7 @@ public class BroadcastSingleIterator extends BroadcastSelfIterator {
 			bIndex = bStart - bStep;
 		}
 
-		if (aIndex == 0 || bIndex == 0) { // for zero-ranked datasets
+		if (aIndex == aStart || bIndex == bStart) { // for zero-ranked datasets or views broadcasted in last dimension
 			if (read) {
 				storeCurrentValues();
 			}
@@ -0,0 +1,331 @@
+/*-
+ * Copyright 2016 Diamond Light Source Ltd.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.january.dataset;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map.Entry;
+
+import org.eclipse.january.IMonitor;
+import org.eclipse.january.io.ILazyLoader;
+
+/**
+ * Memory-bounded cache of chunks read by lazy loaders. Slices of lazy datasets that use the cache
+ * are assembled from whole chunks so that repeatedly slicing overlapping regions (e.g. scrolling
+ * through frames or taking profiles across a stack) only reads each chunk once.
+ * <p>
+ * Chunks are keyed on the identity of their loader, the chunk shape and the chunk's position and
+ * the least recently used chunks are evicted once the total size exceeds the byte budget. A cache
+ * can be shared by many lazy datasets and is safe to use from several threads. A cached chunk at the
+ * edge of a dataset is read again when the dataset has grown past it. Chunks of a loader should be
+ * invalidated when its data changes; this is done by {@link LazyDynamicDataset#refreshShape()}
+ * @see LazyDataset#setChunkCache(ChunkCache, int...)
+ */
+public class ChunkCache {
+	/**
+	 * Default maximum number of items in a chunk
+	 */
+	public static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+
+	private final long maxBytes;
+	private final LinkedHashMap<Key, Dataset> chunks = new LinkedHashMap<Key, Dataset>(16, 0.75f, true);
+	private long bytes;
+	private long hits;
+	private long misses;
+	private long evictions;
+
+	private static final class Key {
+		private final ILazyLoader loader;
+		private final int[] chunk;
+		private final int[] index;
+		private final int hash;
+
+		Key(ILazyLoader loader, int[] chunk, int[] index) {
+			this.loader = loader;
+			this.chunk = chunk;
+			this.index = index;
+			hash = (System.identityHashCode(loader) * 31 + Arrays.hashCode(chunk)) * 31 + Arrays.hashCode(index);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return loader == other.loader && Arrays.equals(chunk, other.chunk) && Arrays.equals(index, other.index);
+		}
+	}
+
+	/**
+	 * @param maxBytes maximum total size of cached chunks in bytes
+	 */
+	public ChunkCache(long maxBytes) {
+		if (maxBytes <= 0) {
+			throw new IllegalArgumentException("Maximum size of cache must be positive");
+		}
+		this.maxBytes = maxBytes;
+	}
+
+	/**
+	 * Get shape of chunk that spans the last dimensions of given shape and has at most
+	 * {@link #DEFAULT_CHUNK_SIZE} items, e.g. a part or whole of an image in a stack
+	 * @param shape
+	 * @return chunk shape
+	 */
+	public static int[] getDefaultChunkShape(int[] shape) {
+		final int rank = shape.length;
+		int[] chunk = new int[rank];
+		Arrays.fill(chunk, 1);
+		long size = 1;
+		for (int i = rank - 1; i >= 0; i--) {
+			final int l = Math.max(1, shape[i]);
+			if (size * l > DEFAULT_CHUNK_SIZE) {
+				chunk[i] = (int) Math.max(1, DEFAULT_CHUNK_SIZE / size);
+				break;
+			}
+			chunk[i] = l;
+			size *= l;
+		}
+		return chunk;
+	}
+
+	/**
+	 * @return maximum total size of cached chunks in bytes
+	 */
+	public long getMaximumBytes() {
+		return maxBytes;
+	}
+
+	/**
+	 * @return total size of cached chunks in bytes
+	 */
+	public synchronized long getBytes() {
+		return bytes;
+	}
+
+	/**
+	 * @return number of cached chunks
+	 */
+	public synchronized int getChunkCount() {
+		return chunks.size();
+	}
+
+	/**
+	 * @return number of chunks found in cache
+	 */
+	public synchronized long getHitCount() {
+		return hits;
+	}
+
+	/**
+	 * @return number of chunks read by loaders
+	 */
+	public synchronized long getMissCount() {
+		return misses;
+	}
+
+	/**
+	 * @return number of chunks evicted to keep within byte budget
+	 */
+	public synchronized long getEvictionCount() {
+		return evictions;
+	}
+
+	/**
+	 * Reset hit, miss and eviction counts
+	 */
+	public synchronized void resetCounts() {
+		hits = 0;
+		misses = 0;
+		evictions = 0;
+	}
+
+	/**
+	 * Remove all chunks
+	 */
+	public synchronized void clear() {
+		chunks.clear();
+		bytes = 0;
+	}
+
+	/**
+	 * Remove all chunks read by given loader
+	 * @param loader
+	 */
+	public synchronized void invalidate(ILazyLoader loader) {
+		Iterator<Entry<Key, Dataset>> it = chunks.entrySet().iterator();
+		while (it.hasNext()) {
+			Entry<Key, Dataset> e = it.next();
+			if (e.getKey().loader == loader) {
+				bytes -= e.getValue().getNbytes();
+				it.remove();
+			}
+		}
+	}
+
+	/**
+	 * Get slice by assembling it from chunks
+	 * @param monitor
+	 * @param loader
+	 * @param shape shape of dataset provided by loader
+	 * @param chunk shape of chunk
+	 * @param slice
+	 * @param dtype dataset type
+	 * @param isize number of elements in each item
+	 * @return slice
+	 * @throws IOException
+	 */
+	Dataset getSlice(IMonitor monitor, ILazyLoader loader, int[] shape, int[] chunk, SliceND slice, int dtype, int isize) throws IOException {
+		final int rank = shape.length;
+		final int[] rshape = slice.getShape();
+		if (rank == 0 || ShapeUtils.calcLongSize(rshape) == 0) {
+			return DatasetUtils.convertToDataset(loader.getDataset(monitor, slice));
+		}
+
+		// select same positions with positive steps and flip result afterwards
+		final int[] start = slice.getStart().clone();
+		final int[] step = slice.getStep().clone();
+		Slice[] flip = null;
+		for (int d = 0; d < rank; d++) {
+			if (step[d] < 0) {
+				start[d] += (rshape[d] - 1) * step[d];
+				step[d] = -step[d];
+				if (flip == null) {
+					flip = new Slice[rank];
+				}
+				flip[d] = new Slice(null, null, -1);
+			}
+		}
+
+		// chunks touched in each dimension
+		final int[][] indexes = new int[rank][];
+		for (int d = 0; d < rank; d++) {
+			final int c = chunk[d];
+			final int first = start[d] / c;
+			final int last = (start[d] + (rshape[d] - 1) * step[d]) / c;
+			List<Integer> touched = new ArrayList<Integer>();
+			for (int i = first; i <= last; i++) {
+				if (getFirst(i * c, start[d], step[d]) < getFirst((i + 1) * c, start[d], step[d])) {
+					touched.add(i);
+				}
+			}
+			indexes[d] = new int[touched.size()];
+			for (int i = 0; i < indexes[d].length; i++) {
+				indexes[d][i] = touched.get(i);
+			}
+		}
+
+		Dataset result = DatasetFactory.zeros(isize, rshape, dtype);
+		final int[] pos = new int[rank];
+		final int[] index = new int[rank];
+		final int[] cstart = new int[rank];
+		final int[] cstop = new int[rank];
+		final int[] rstart = new int[rank];
+		final int[] rstop = new int[rank];
+		do {
+			for (int d = 0; d < rank; d++) {
+				index[d] = indexes[d][pos[d]];
+				final int c0 = index[d] * chunk[d];
+				rstart[d] = Math.max(0, getFirst(c0, start[d], step[d]));
+				rstop[d] = Math.min(rshape[d], getFirst(c0 + chunk[d], start[d], step[d]));
+				cstart[d] = start[d] + rstart[d] * step[d] - c0;
+				cstop[d] = cstart[d] + (rstop[d] - rstart[d] - 1) * step[d] + 1;
+			}
+			Dataset c = getChunk(monitor, loader, shape, chunk, index.clone());
+			result.setSlice(c.getSliceView(cstart, cstop, step), new SliceND(rshape, rstart, rstop, null));
+		} while (next(pos, indexes));
+
+		return flip == null ? result : result.getSliceView(flip).getSlice();
+	}
+
+	/**
+	 * @param p position
+	 * @param start
+	 * @param step positive step
+	 * @return index of first selected position that is at or after given position
+	 */
+	private static int getFirst(int p, int start, int step) {
+		final int delta = p - start;
+		return delta <= 0 ? 0 : (delta + step - 1) / step;
+	}
+
+	private static boolean next(int[] pos, int[][] indexes) {
+		for (int d = pos.length - 1; d >= 0; d--) {
+			if (++pos[d] < indexes[d].length) {
+				return true;
+			}
+			pos[d] = 0;
+		}
+		return false;
+	}
+
+	private Dataset getChunk(IMonitor monitor, ILazyLoader loader, int[] shape, int[] chunk, int[] index) throws IOException {
+		final int rank = shape.length;
+		final int[] cstart = new int[rank];
+		final int[] cstop = new int[rank];
+		long size = 1;
+		for (int d = 0; d < rank; d++) {
+			cstart[d] = index[d] * chunk[d];
+			cstop[d] = Math.min(cstart[d] + chunk[d], shape[d]);
+			size *= cstop[d] - cstart[d];
+		}
+
+		final Key key = new Key(loader, chunk, index);
+		synchronized (this) {
+			Dataset c = chunks.get(key);
+			if (c != null && c.getSize() >= size) { // edge chunk is stale if dataset has grown
+				hits++;
+				return c;
+			}
+			misses++;
+		}
+
+		Dataset c = DatasetUtils.convertToDataset(loader.getDataset(monitor, new SliceND(shape, cstart, cstop, null)));
+		put(key, c);
+		return c;
+	}
+
+	private synchronized void put(Key key, Dataset c) {
+		final int n = c.getNbytes();
+		if (n > maxBytes) {
+			return;
+		}
+		Dataset old = chunks.put(key, c);
+		if (old != null) {
+			bytes -= old.getNbytes();
+		}
+		bytes += n;
+		Iterator<Dataset> it = chunks.values().iterator();
+		while (bytes > maxBytes && it.hasNext()) {
+			bytes -= it.next().getNbytes();
+			it.remove();
+			evictions++;
+		}
+	}
+
+	@Override
+	public synchronized String toString() {
+		return "Chunk cache of " + chunks.size() + " chunks using " + bytes + " of " + maxBytes + " bytes (" + hits
+				+ " hits, " + misses + " misses, " + evictions + " evictions)";
+	}
+}
@@ -0,0 +1,361 @@
+/*-
+ * Copyright 2016 Diamond Light Source Ltd.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.january.dataset;
+
+import java.util.Arrays;
+
+import org.eclipse.january.DatasetException;
+
+/**
+ * In-memory dataset whose number of items can exceed 2<sup>31</sup>. Its items are held in chunks,
+ * which are datasets that each contain a contiguous range of rows (i.e. of positions in the first
+ * dimension) so every chunk is limited to the size of a dataset but the whole is not. Use
+ * {@link #getSlice(Slice...)} and {@link #setSlice(Object, Slice...)} to copy between it and datasets,
+ * {@link #getIterator()} to iterate over all its items and {@link Stats} to reduce it, e.g.
+ * <pre>
+ * ChunkedDataset volume = new ChunkedDataset(Dataset.FLOAT32, 2048, 2048, 2048);
+ * volume.setSlice(frame, new Slice(i, i + 1));
+ * double mean = Stats.mean(volume);
+ * </pre>
+ */
+public class ChunkedDataset {
+	/**
+	 * Default maximum number of elements in each chunk
+	 */
+	public static final int DEFAULT_CHUNK_SIZE = 1 << 26;
+
+	private final int dtype;
+	private final int isize;
+	private final int[] shape;
+	private final long size;
+	private final int chunkRows;
+	private final Dataset[] chunks;
+
+	/**
+	 * Create zero-filled dataset of single element items with default chunk size
+	 * @param dtype
+	 * @param shape
+	 */
+	public ChunkedDataset(final int dtype, final int... shape) {
+		this(dtype, DTypeUtils.getElementsPerItem(dtype), shape, 0);
+	}
+
+	/**
+	 * Create zero-filled dataset
+	 * @param dtype
+	 * @param isize number of elements in an item
+	 * @param shape
+	 * @param chunkRows number of rows in each chunk, if zero then use as many as fit in default chunk size
+	 */
+	public ChunkedDataset(final int dtype, final int isize, final int[] shape, int chunkRows) {
+		if (shape.length == 0) {
+			throw new IllegalArgumentException("Rank must be at least one");
+		}
+		for (int s : shape) {
+			if (s < 0) {
+				throw new IllegalArgumentException("Shape must not have negative dimensions");
+			}
+		}
+		if (chunkRows < 0) {
+			throw new IllegalArgumentException("Number of rows in chunk must not be negative");
+		}
+		this.dtype = dtype;
+		this.isize = isize;
+		this.shape = shape.clone();
+
+		long rowSize = 1;
+		for (int i = 1; i < shape.length; i++) {
+			rowSize *= shape[i];
+		}
+		if (rowSize * isize > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Row of chunked dataset is too large: " + Arrays.toString(shape));
+		}
+		size = rowSize * shape[0];
+
+		if (chunkRows == 0) {
+			chunkRows = (int) Math.max(1, DEFAULT_CHUNK_SIZE / Math.max(1, rowSize * isize));
+		} else if (rowSize * isize * chunkRows > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Number of rows in chunk is too large: " + chunkRows);
+		}
+		this.chunkRows = Math.max(1, Math.min(chunkRows, shape[0]));
+
+		final int n = (shape[0] + this.chunkRows - 1) / this.chunkRows;
+		chunks = new Dataset[n];
+		final int[] cshape = shape.clone();
+		for (int i = 0; i < n; i++) {
+			cshape[0] = getChunkEnd(i) - getChunkStart(i);
+			chunks[i] = DatasetFactory.zeros(isize, cshape, dtype);
+		}
+	}
+
+	/**
+	 * Create chunked dataset from lazy dataset by loading it a chunk at a time
+	 * @param lazy
+	 * @return chunked dataset
+	 * @throws DatasetException
+	 */
+	public static ChunkedDataset createFromLazyDataset(final ILazyDataset lazy) throws DatasetException {
+		final int dtype = DTypeUtils.getDType(lazy);
+		ChunkedDataset c = new ChunkedDataset(dtype, lazy.getElementsPerItem(), lazy.getShape(), 0);
+		for (int i = 0; i < c.chunks.length; i++) {
+			Dataset d = DatasetUtils.convertToDataset(lazy.getSlice(new Slice(c.getChunkStart(i), c.getChunkEnd(i))));
+			c.chunks[i].setSlice(d.reshape(c.chunks[i].getShapeRef()));
+		}
+		return c;
+	}
+
+	/**
+	 * @return dataset type
+	 */
+	public int getDType() {
+		return dtype;
+	}
+
+	/**
+	 * @return number of elements in each item
+	 */
+	public int getElementsPerItem() {
+		return isize;
+	}
+
+	/**
+	 * @return copy of shape
+	 */
+	public int[] getShape() {
+		return shape.clone();
+	}
+
+	/**
+	 * @return rank
+	 */
+	public int getRank() {
+		return shape.length;
+	}
+
+	/**
+	 * @return number of items
+	 */
+	public long getSize() {
+		return size;
+	}
+
+	/**
+	 * @return number of chunks
+	 */
+	public int getChunkCount() {
+		return chunks.length;
+	}
+
+	/**
+	 * @return maximum number of rows in a chunk
+	 */
+	public int getChunkRows() {
+		return chunkRows;
+	}
+
+	/**
+	 * Get chunk. Note its changes are reflected in this dataset
+	 * @param i
+	 * @return chunk
+	 */
+	public Dataset getChunk(final int i) {
+		return chunks[i];
+	}
+
+	/**
+	 * @param i
+	 * @return first row of chunk
+	 */
+	public int getChunkStart(final int i) {
+		return i * chunkRows;
+	}
+
+	/**
+	 * @param i
+	 * @return row after last row of chunk
+	 */
+	public int getChunkEnd(final int i) {
+		return (int) Math.min((long) (i + 1) * chunkRows, shape[0]);
+	}
+
+	/**
+	 * @return iterator over all items in chunks
+	 */
+	public ChunkedIterator getIterator() {
+		return new ChunkedIterator(this);
+	}
+
+	private int getRow(final int[] pos) {
+		if (pos.length != shape.length) {
+			throw new IllegalArgumentException("Number of position indexes must be equal to rank of dataset");
+		}
+		int r = pos[0];
+		if (r < 0) {
+			r += shape[0];
+		}
+		if (r < 0 || r >= shape[0]) {
+			throw new ArrayIndexOutOfBoundsException("Index (" + pos[0] + ") out of range [-" + shape[0] + "," + shape[0]
+					+ "] in dimension 0");
+		}
+		return r;
+	}
+
+	private int[] getLocalPosition(final int row, final int[] pos) {
+		int[] lpos = pos.clone();
+		lpos[0] = row % chunkRows;
+		return lpos;
+	}
+
+	/**
+	 * @param pos
+	 * @return item at given position as a double
+	 */
+	public double getDouble(final int... pos) {
+		final int r = getRow(pos);
+		return chunks[r / chunkRows].getDouble(getLocalPosition(r, pos));
+	}
+
+	/**
+	 * @param pos
+	 * @return item at given position as a long
+	 */
+	public long getLong(final int... pos) {
+		final int r = getRow(pos);
+		return chunks[r / chunkRows].getLong(getLocalPosition(r, pos));
+	}
+
+	/**
+	 * @param pos
+	 * @return item at given position
+	 */
+	public Object getObject(final int... pos) {
+		final int r = getRow(pos);
+		return chunks[r / chunkRows].getObject(getLocalPosition(r, pos));
+	}
+
+	/**
+	 * Set item at given position
+	 * @param obj
+	 * @param pos
+	 */
+	public void set(final Object obj, final int... pos) {
+		final int r = getRow(pos);
+		chunks[r / chunkRows].set(obj, getLocalPosition(r, pos));
+	}
+
+	/**
+	 * Fill all items with given value
+	 * @param obj
+	 * @return this
+	 */
+	public ChunkedDataset fill(final Object obj) {
+		for (Dataset c : chunks) {
+			c.fill(obj);
+		}
+		return this;
+	}
+
+	/**
+	 * @param slice
+	 * @return copy of slice of items
+	 */
+	public Dataset getSlice(final Slice... slice) {
+		return getSlice(new SliceND(shape, slice));
+	}
+
+	/**
+	 * @param slice
+	 * @return copy of slice of items
+	 */
+	public Dataset getSlice(final SliceND slice) {
+		final Dataset result = DatasetFactory.zeros(isize, slice.getShape(), dtype);
+		transfer(result, slice, false);
+		return result;
+	}
+
+	/**
+	 * Set items in slice from given object which is broadcasted to the slice's shape
+	 * @param obj
+	 * @param slice
+	 * @return this
+	 */
+	public ChunkedDataset setSlice(final Object obj, final Slice... slice) {
+		return setSlice(obj, new SliceND(shape, slice));
+	}
+
+	/**
+	 * Set items in slice from given object which is broadcasted to the slice's shape
+	 * @param obj
+	 * @param slice
+	 * @return this
+	 */
+	public ChunkedDataset setSlice(final Object obj, final SliceND slice) {
+		final Dataset d = obj instanceof Dataset ? (Dataset) obj : DatasetFactory.createFromObject(obj);
+		transfer(d.getBroadcastView(slice.getShape()), slice, true);
+		return this;
+	}
+
+	/**
+	 * Copy between dataset and slice of chunks
+	 * @param d dataset with shape of slice
+	 * @param slice
+	 * @param write if true, copy from dataset to chunks
+	 */
+	private void transfer(final Dataset d, final SliceND slice, final boolean write) {
+		if (!Arrays.equals(shape, slice.getSourceShape())) {
+			throw new IllegalArgumentException("Slice does not match shape of chunked dataset");
+		}
+		final int[] lshape = slice.getShape();
+		if (ShapeUtils.calcLongSize(lshape) == 0) {
+			return;
+		}
+		final int rank = shape.length;
+		final int[] start = slice.getStart();
+		final int[] step = slice.getStep();
+		final int n = lshape[0];
+		final int s = step[0];
+
+		int k = 0;
+		while (k < n) {
+			final int r = start[0] + k * s;
+			final int c = r / chunkRows;
+			final int cs = getChunkStart(c);
+			final int m = s > 0 ? Math.min(n - k, (getChunkEnd(c) - 1 - r) / s + 1) : Math.min(n - k, (r - cs) / -s + 1);
+
+			final Dataset chunk = chunks[c];
+			final SliceND local = new SliceND(chunk.getShapeRef());
+			setSlice(local, 0, r - cs, m, s);
+			for (int i = 1; i < rank; i++) {
+				setSlice(local, i, start[i], lshape[i], step[i]);
+			}
+			final Dataset part = d.getSliceView(new Slice(k, k + m));
+			if (write) {
+				chunk.setSlice(part, local);
+			} else {
+				part.setSlice(chunk.getSliceView(local));
+			}
+			k += m;
+		}
+	}
+
+	private static void setSlice(final SliceND slice, final int i, final int start, final int n, final int step) {
+		final int stop = start + n * step;
+		if (stop < 0) {
+			slice.setSlice(i, start, null, step);
+		} else {
+			slice.setSlice(i, start, stop, step);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "Chunked dataset of shape " + Arrays.toString(shape) + " in " + chunks.length + " chunks";
+	}
+}
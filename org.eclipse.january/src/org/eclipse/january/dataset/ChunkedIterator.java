@@ -0,0 +1,101 @@
+/*-
+ * Copyright 2016 Diamond Light Source Ltd.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.january.dataset;
+
+/**
+ * Class to provide iteration through all the items of a chunked dataset. The index refers to the
+ * data array that backs the current chunk:
+ * <pre>
+ *  ChunkedIterator iter = chunked.getIterator();
+ *
+ *  while (iter.hasNext()) {
+ *      double v = iter.getChunk().getElementDoubleAbs(iter.index);
+ *  }
+ * </pre>
+ */
+public class ChunkedIterator extends IndexIterator {
+	private final ChunkedDataset data;
+	private final int isize;
+	private final int[] pos;
+	private int c;
+	private int imax;
+	private long position;
+	private Dataset chunk;
+
+	/**
+	 * @param data
+	 */
+	public ChunkedIterator(final ChunkedDataset data) {
+		this.data = data;
+		isize = data.getElementsPerItem();
+		pos = new int[data.getRank()];
+		reset();
+	}
+
+	@Override
+	public boolean hasNext() {
+		index += isize;
+		position++;
+		while (index >= imax) {
+			if (++c >= data.getChunkCount()) {
+				chunk = null;
+				imax = 0;
+				return false;
+			}
+			chunk = data.getChunk(c);
+			index = 0;
+			imax = chunk.getSize() * isize;
+		}
+		return true;
+	}
+
+	/**
+	 * @return chunk whose data array contains current item
+	 */
+	public Dataset getChunk() {
+		return chunk;
+	}
+
+	/**
+	 * @return index of current item in whole chunked dataset
+	 */
+	public long getPosition() {
+		return position;
+	}
+
+	@Override
+	public int[] getPos() {
+		if (chunk == null) {
+			return null;
+		}
+		int n = index / isize;
+		for (int i = pos.length - 1; i > 0; i--) {
+			final int s = chunk.getShapeRef()[i];
+			pos[i] = n % s;
+			n /= s;
+		}
+		pos[0] = data.getChunkStart(c) + n;
+		return pos;
+	}
+
+	@Override
+	public void reset() {
+		c = -1;
+		chunk = null;
+		imax = 0;
+		index = -isize;
+		position = -1;
+	}
+
+	@Override
+	public int[] getShape() {
+		return data.getShape();
+	}
+}
@@ -14,9 +14,15 @@ package org.eclipse.january.dataset;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.Function;
 
 /**
  * Comparison and logical methods
+ * <p>
+ * The methods whose names end in "Mask" return bit masks that pack their results in an eighth of
+ * the memory of a boolean dataset
  */
 public class Comparisons {
 	/**
@@ -1764,4 +1770,204 @@ public class Comparisons {
 		}
 		return equality ? Monotonicity.NONINCREASING : Monotonicity.STRICTLY_DECREASING;
 	}
+
+	private interface LongComparison {
+		boolean compare(long a, long b);
+	}
+
+	private interface DoubleComparison {
+		boolean compare(double a, double b);
+	}
+
+	/**
+	 * Compare item-wise and pack results into a bit mask
+	 * @param a
+	 * @param b
+	 * @param lc comparison of integer values
+	 * @param dc comparison of floating point values
+	 * @param compound comparison used for multi-element items
+	 * @return bit mask
+	 */
+	private static BitMask compareToMask(Object a, Object b, LongComparison lc, DoubleComparison dc,
+			BiFunction<Object, Object, BooleanDataset> compound) {
+		final Dataset da = a instanceof Dataset ? (Dataset) a : DatasetFactory.createFromObject(a);
+		final Dataset db = b instanceof Dataset ? (Dataset) b : DatasetFactory.createFromObject(b);
+		if (da.getElementsPerItem() != 1 || db.getElementsPerItem() != 1) {
+			return BitMask.pack(compound.apply(da, db));
+		}
+
+		final BroadcastIterator it = BroadcastIterator.createIterator(da, db);
+		final BitMask r = new BitMask(it.getShape());
+		int i = 0;
+		if (it.isOutputDouble()) {
+			while (it.hasNext()) {
+				if (dc.compare(it.aDouble, it.bDouble)) {
+					r.setAbs(true, i);
+				}
+				i++;
+			}
+		} else {
+			while (it.hasNext()) {
+				if (lc.compare(it.aLong, it.bLong)) {
+					r.setAbs(true, i);
+				}
+				i++;
+			}
+		}
+		return r;
+	}
+
+	/**
+	 * Check each item and pack results into a bit mask
+	 * @param a
+	 * @param p test of floating point value
+	 * @param compound test used for multi-element items
+	 * @return bit mask
+	 */
+	private static BitMask testToMask(Object a, DoublePredicate p, Function<Object, BooleanDataset> compound) {
+		final Dataset da = a instanceof Dataset ? (Dataset) a : DatasetFactory.createFromObject(a);
+		if (da.getElementsPerItem() != 1) {
+			return BitMask.pack(compound.apply(da));
+		}
+
+		final BitMask r = new BitMask(da.getShapeRef());
+		final IndexIterator it = da.getIterator();
+		int i = 0;
+		while (it.hasNext()) {
+			if (p.test(da.getElementDoubleAbs(it.index))) {
+				r.setAbs(true, i);
+			}
+			i++;
+		}
+		return r;
+	}
+
+	/**
+	 * Compare item-wise for whether a's element is equal b's
+	 * @param a
+	 * @param b
+	 * @return bit mask where item is true if a == b
+	 * @see #equalTo(Object, Object)
+	 */
+	public static BitMask equalToMask(Object a, Object b) {
+		return compareToMask(a, b, (x, y) -> x == y, (x, y) -> x == y, Comparisons::equalTo);
+	}
+
+	/**
+	 * Compare item-wise for whether a's element is greater than b's
+	 * @param a
+	 * @param b
+	 * @return bit mask where item is true if a > b
+	 * @see #greaterThan(Object, Object)
+	 */
+	public static BitMask greaterThanMask(Object a, Object b) {
+		return compareToMask(a, b, (x, y) -> x > y, (x, y) -> x > y, Comparisons::greaterThan);
+	}
+
+	/**
+	 * Compare item-wise for whether a's element is greater than or equal to b's
+	 * @param a
+	 * @param b
+	 * @return bit mask where item is true if a >= b
+	 * @see #greaterThanOrEqualTo(Object, Object)
+	 */
+	public static BitMask greaterThanOrEqualToMask(Object a, Object b) {
+		return compareToMask(a, b, (x, y) -> x >= y, (x, y) -> x >= y, Comparisons::greaterThanOrEqualTo);
+	}
+
+	/**
+	 * Compare item-wise for whether a's element is less than b's
+	 * @param a
+	 * @param b
+	 * @return bit mask where item is true if a < b
+	 * @see #lessThan(Object, Object)
+	 */
+	public static BitMask lessThanMask(Object a, Object b) {
+		return compareToMask(a, b, (x, y) -> x < y, (x, y) -> x < y, Comparisons::lessThan);
+	}
+
+	/**
+	 * Compare item-wise for whether a's element is less than or equal to b's
+	 * @param a
+	 * @param b
+	 * @return bit mask where item is true if a <= b
+	 * @see #lessThanOrEqualTo(Object, Object)
+	 */
+	public static BitMask lessThanOrEqualToMask(Object a, Object b) {
+		return compareToMask(a, b, (x, y) -> x <= y, (x, y) -> x <= y, Comparisons::lessThanOrEqualTo);
+	}
+
+	/**
+	 * @param a
+	 * @param lo lower bound
+	 * @param hi upper bound
+	 * @return bit mask where item is true if l <= a <= h
+	 * @see #withinRange(Object, Number, Number)
+	 */
+	public static BitMask withinRangeMask(Object a, Number lo, Number hi) {
+		final Dataset da = a instanceof Dataset ? (Dataset) a : DatasetFactory.createFromObject(a);
+		if (!da.hasFloatingPointElements() && da.getElementsPerItem() == 1) {
+			final long l = lo.longValue();
+			final long h = hi.longValue();
+			final BitMask r = new BitMask(da.getShapeRef());
+			final IndexIterator it = da.getIterator();
+			int i = 0;
+			while (it.hasNext()) {
+				final long al = da.getElementLongAbs(it.index);
+				if (al >= l && al <= h) {
+					r.setAbs(true, i);
+				}
+				i++;
+			}
+			return r;
+		}
+		final double l = lo.doubleValue();
+		final double h = hi.doubleValue();
+		return testToMask(da, x -> x >= l && x <= h, o -> withinRange(o, lo, hi));
+	}
+
+	/**
+	 * Check item-wise for whether any a's elements are Not-a-Numbers
+	 * @param a
+	 * @return bit mask where item is true if any of its elements are NaNs
+	 * @see #isNaN(Object)
+	 */
+	public static BitMask isNaNMask(Object a) {
+		return testToMask(a, Double::isNaN, Comparisons::isNaN);
+	}
+
+	/**
+	 * Check item-wise for whether all a's elements are finite (or not infinite and not Not-a-Number)
+	 * @param a
+	 * @return bit mask where item is true if all of its elements are finite
+	 * @see #isFinite(Object)
+	 */
+	public static BitMask isFiniteMask(Object a) {
+		return testToMask(a, x -> !Double.isNaN(x) && !Double.isInfinite(x), Comparisons::isFinite);
+	}
+
+	/**
+	 * @param a
+	 * @return true if all items are true
+	 */
+	public static boolean allTrue(BitMask a) {
+		return a.allTrue();
+	}
+
+	/**
+	 * @param a
+	 * @return true if any item is true
+	 */
+	public static boolean anyTrue(BitMask a) {
+		return a.anyTrue();
+	}
+
+	/**
+	 * Create a list of indices of positions where items are true
+	 * @param a
+	 * @return list of positions as integer datasets
+	 */
+	public static List<IntegerDataset> nonZero(BitMask a) {
+		return a.nonZero();
+	}
 }
@@ -101,12 +101,7 @@ public class CompoundFloatDataset extends AbstractCompoundDataset {
 				stride = null;
 				base = null;
 				odata = data = createArray(size);
-				IndexIterator iter = dataset.getIterator();
-				for (int j = 0; iter.hasNext();) {
-					for (int i = 0; i < isize; i++) {
-						data[j++] = dataset.data[iter.index + i];
-					}
-				}
+				StridedCopier.copy(dataset, data);
 			}
 		} catch (Throwable t) {
 			logger.error("Could not create a dataset of shape {}", Arrays.toString(shape), t);
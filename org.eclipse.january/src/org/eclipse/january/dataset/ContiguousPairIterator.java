@@ -21,6 +21,7 @@ public class ContiguousPairIterator extends BroadcastIterator {
 	private final int bMax; // maximum index in array
 	private final int bStep;
 	private final int oStep;
+	private boolean run;
 
 	public ContiguousPairIterator(Dataset a, Dataset b, Dataset o, boolean createIfNull) {
 		super(a, b, o);
@@ -72,6 +73,25 @@ public class ContiguousPairIterator extends BroadcastIterator {
 		return true;
 	}
 
+	@Override
+	public boolean nextRun() {
+		if (run || aMax == 0) {
+			aIndex = aMax;
+			bIndex = bMax;
+			return false;
+		}
+
+		run = true;
+		aIndex = 0;
+		bIndex = 0;
+		oIndex = 0;
+		runLength = aMax / aStep;
+		aRunStride = aStep;
+		bRunStride = bStep;
+		oRunStride = oStep;
+		return true;
+	}
+
 	@Override
 	public int[] getPos() {
 		return null;
@@ -79,6 +99,7 @@ public class ContiguousPairIterator extends BroadcastIterator {
 
 	@Override
 	public void reset() {
+		run = false;
 		aIndex = -aStep;
 		bIndex = -bStep;
 		oIndex = -oStep;
@@ -17,6 +17,7 @@ public class ContiguousSingleIterator extends BroadcastSelfIterator {
 	private final int aStep; // step over items
 	private final int bMax; // maximum index in array
 	private final int bStep;
+	private boolean run;
 
 	public ContiguousSingleIterator(Dataset a, Dataset b) {
 		super(a, b);
@@ -47,6 +48,23 @@ public class ContiguousSingleIterator extends BroadcastSelfIterator {
 		return true;
 	}
 
+	@Override
+	public boolean nextRun() {
+		if (run || aMax == 0) {
+			aIndex = aMax;
+			bIndex = bMax;
+			return false;
+		}
+
+		run = true;
+		aIndex = 0;
+		bIndex = 0;
+		runLength = aMax / aStep;
+		aRunStride = aStep;
+		bRunStride = bStep;
+		return true;
+	}
+
 	@Override
 	public int[] getPos() {
 		return null;
@@ -54,6 +72,7 @@ public class ContiguousSingleIterator extends BroadcastSelfIterator {
 
 	@Override
 	public void reset() {
+		run = false;
 		aIndex = -aStep;
 		bIndex = -bStep;
 		if (read) {
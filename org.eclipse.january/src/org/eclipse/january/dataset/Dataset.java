@@ -13,6 +13,11 @@
 package org.eclipse.january.dataset;
 
 import java.io.Serializable;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.DoubleStream;
+import java.util.stream.LongStream;
 
 import org.eclipse.january.IMonitor;
 
@@ -1336,4 +1341,91 @@ public interface Dataset extends IDataset {
 	 * @return root mean square along axis in dataset
 	 */
 	public Dataset rootMeanSquare(int axis);
+
+	/**
+	 * Apply operator to all elements as doubles. This runs in parallel when the global execution mode
+	 * is parallel
+	 * @param op
+	 * @return float64 dataset of results with same shape and number of elements per item
+	 * @see #mapToDouble(DoubleUnaryOperator, ExecutionMode)
+	 */
+	public Dataset mapToDouble(DoubleUnaryOperator op);
+
+	/**
+	 * Apply operator to all elements as doubles
+	 * @param op operator which must be safe to call from several threads in parallel mode
+	 * @param mode execution mode (can be null to use global mode)
+	 * @return float64 dataset of results with same shape and number of elements per item
+	 */
+	public Dataset mapToDouble(DoubleUnaryOperator op, ExecutionMode mode);
+
+	/**
+	 * Apply operator to all elements as longs. This runs in parallel when the global execution mode
+	 * is parallel
+	 * @param op
+	 * @return int64 dataset of results with same shape and number of elements per item
+	 * @see #mapToLong(LongUnaryOperator, ExecutionMode)
+	 */
+	public Dataset mapToLong(LongUnaryOperator op);
+
+	/**
+	 * Apply operator to all elements as longs
+	 * @param op operator which must be safe to call from several threads in parallel mode
+	 * @param mode execution mode (can be null to use global mode)
+	 * @return int64 dataset of results with same shape and number of elements per item
+	 */
+	public Dataset mapToLong(LongUnaryOperator op, ExecutionMode mode);
+
+	/**
+	 * Reduce all elements as doubles. This runs in parallel when the global execution mode is parallel
+	 * @param identity
+	 * @param op
+	 * @return result of reduction
+	 * @see #reduce(double, DoubleBinaryOperator, ExecutionMode)
+	 */
+	public double reduce(double identity, DoubleBinaryOperator op);
+
+	/**
+	 * Reduce all elements as doubles. In parallel mode, contiguous ranges of elements are reduced
+	 * separately from the identity and then their results are reduced in order so the operator must
+	 * be associative
+	 * @param identity value that leaves other operand unchanged
+	 * @param op
+	 * @param mode execution mode (can be null to use global mode)
+	 * @return result of reduction
+	 */
+	public double reduce(double identity, DoubleBinaryOperator op, ExecutionMode mode);
+
+	/**
+	 * Pass all elements as doubles with their indexes in row-major order. This runs in parallel
+	 * when the global execution mode is parallel
+	 * @param action
+	 * @see #forEachIndexed(IntDoubleConsumer, ExecutionMode)
+	 */
+	public void forEachIndexed(IntDoubleConsumer action);
+
+	/**
+	 * Pass all elements as doubles with their indexes in row-major order
+	 * @param action action which must be safe to call from several threads in parallel mode
+	 * @param mode execution mode (can be null to use global mode)
+	 */
+	public void forEachIndexed(IntDoubleConsumer action, ExecutionMode mode);
+
+	/**
+	 * Stream over all elements as doubles in row-major order. The stream reads directly from the
+	 * dataset (so it reflects changes made before it is consumed) and can be made parallel with
+	 * {@link DoubleStream#parallel()} as it splits on ranges of elements
+	 * @return sequential stream of elements
+	 * @see DatasetUtils#doubleStream(ILazyDataset)
+	 */
+	public DoubleStream doubleStream();
+
+	/**
+	 * Stream over all elements as longs in row-major order. The stream reads directly from the
+	 * dataset (so it reflects changes made before it is consumed) and can be made parallel with
+	 * {@link LongStream#parallel()} as it splits on ranges of elements
+	 * @return sequential stream of elements
+	 * @see DatasetUtils#longStream(ILazyDataset)
+	 */
+	public LongStream longStream();
 }
@@ -0,0 +1,735 @@
+/*-
+ * Copyright 2016 Diamond Light Source Ltd.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.january.dataset;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Expression of element-wise binary operations on datasets that is evaluated lazily. When
+ * evaluated, all operations are applied in a single pass over blocks of items so no intermediate
+ * datasets are created. For example, a flat-field correction can be written as
+ * <pre>
+ * Dataset c = DatasetExpression.of(raw).subtract(dark).divide(DatasetExpression.of(flat).subtract(dark)).evaluate();
+ * </pre>
+ * Operands can be expressions, datasets or objects that can be converted to datasets and are broadcast
+ * against each other as in {@link Maths}. A new output has the type that the same operations in
+ * {@link Maths} would give. Expressions are immutable so can be reused as sub-expressions.
+ * <p>
+ * Each operation gives the type that it would in {@link Maths} so results match the chained calls
+ * to {@link Maths}. Operations of integer type use long values that are wrapped to that type and
+ * those of floating point type use double values that are rounded to that type. Only integer and
+ * floating point datasets with single element items are supported
+ */
+public class DatasetExpression {
+	private static final int BLOCK = 1024; // number of items evaluated at a time
+
+	private final Dataset leaf;
+	private final BinaryOperation op;
+	private final DatasetExpression left;
+	private final DatasetExpression right;
+
+	private DatasetExpression(final Dataset leaf) {
+		this.leaf = leaf;
+		op = null;
+		left = null;
+		right = null;
+	}
+
+	private DatasetExpression(final BinaryOperation op, final DatasetExpression left, final DatasetExpression right) {
+		leaf = null;
+		this.op = op;
+		this.left = left;
+		this.right = right;
+	}
+
+	/**
+	 * @param a expression, dataset or object that can be converted to a dataset
+	 * @return expression of given operand
+	 */
+	public static DatasetExpression of(final Object a) {
+		if (a instanceof DatasetExpression) {
+			return (DatasetExpression) a;
+		}
+		final Dataset d = a instanceof Dataset ? (Dataset) a : DatasetFactory.createFromObject(a);
+		final int dtype = d.getDType();
+		if (d.getElementsPerItem() != 1 || !(DTypeUtils.isDTypeInteger(dtype) || DTypeUtils.isDTypeFloating(dtype))) {
+			throw new IllegalArgumentException("Expression supports integer or floating point datasets with single element items only");
+		}
+		return new DatasetExpression(d);
+	}
+
+	/**
+	 * @param op binary operation
+	 * @param b second operand
+	 * @return expression of this op b
+	 */
+	public DatasetExpression operate(final BinaryOperation op, final Object b) {
+		if (op == null) {
+			throw new IllegalArgumentException("Operation must not be null");
+		}
+		return new DatasetExpression(op, this, of(b));
+	}
+
+	/**
+	 * @param b
+	 * @return expression of this + b
+	 */
+	public DatasetExpression add(final Object b) {
+		return operate(new BinaryOperation.Addition(), b);
+	}
+
+	/**
+	 * @param b
+	 * @return expression of this - b
+	 */
+	public DatasetExpression subtract(final Object b) {
+		return operate(new BinaryOperation.Subtraction(), b);
+	}
+
+	/**
+	 * @param b
+	 * @return expression of this * b
+	 */
+	public DatasetExpression multiply(final Object b) {
+		return operate(new BinaryOperation.Multiplication(), b);
+	}
+
+	/**
+	 * @param b
+	 * @return expression of this / b
+	 */
+	public DatasetExpression divide(final Object b) {
+		return operate(new BinaryOperation.Division(), b);
+	}
+
+	/**
+	 * @param b
+	 * @return expression of this / b, where division by zero gives zero
+	 */
+	public DatasetExpression dividez(final Object b) {
+		return operate(new BinaryOperation.DivisionWithZero(), b);
+	}
+
+	/**
+	 * @param b
+	 * @return expression of this / b, rounded towards negative infinity
+	 */
+	public DatasetExpression divideTowardsFloor(final Object b) {
+		return operate(new BinaryOperation.DivisionTowardsFloor(), b);
+	}
+
+	/**
+	 * @param b
+	 * @return expression of this % b
+	 */
+	public DatasetExpression remainder(final Object b) {
+		return operate(new BinaryOperation.Remainder(), b);
+	}
+
+	/**
+	 * @param b
+	 * @return expression of this ** b
+	 */
+	public DatasetExpression power(final Object b) {
+		return operate(new BinaryOperation.Exponentiation(), b);
+	}
+
+	/**
+	 * @return broadcasted shape of all operands
+	 */
+	public int[] getShape() {
+		final List<Dataset> leaves = new ArrayList<Dataset>();
+		new Evaluator(this, leaves);
+		return broadcastShape(leaves);
+	}
+
+	/**
+	 * Evaluate expression into a new dataset
+	 * @return dataset
+	 */
+	public Dataset evaluate() {
+		return evaluate(null, null);
+	}
+
+	/**
+	 * Evaluate expression
+	 * @param o output can be null - in which case, a new dataset is created
+	 * @return output dataset
+	 */
+	public Dataset evaluate(final Dataset o) {
+		return evaluate(o, null);
+	}
+
+	/**
+	 * Evaluate expression
+	 * @param o output can be null - in which case, a new dataset is created
+	 * @param mode execution mode can be null - in which case, the global mode is used
+	 * @return output dataset
+	 */
+	public Dataset evaluate(final Dataset o, final ExecutionMode mode) {
+		final List<Dataset> leaves = new ArrayList<Dataset>();
+		final Evaluator evaluator = new Evaluator(this, leaves);
+		final int[] shape = broadcastShape(leaves);
+
+		final Dataset result;
+		if (o == null) {
+			result = DatasetFactory.zeros(shape, evaluator.getDType());
+		} else {
+			if (!Arrays.equals(shape, o.getShapeRef())) {
+				throw new IllegalArgumentException("Output does not match broadcasted shape");
+			}
+			if (o.getElementsPerItem() != 1) {
+				throw new IllegalArgumentException("Output must have single element items");
+			}
+			result = o;
+		}
+
+		final int n = leaves.size();
+		final Dataset[] views = new Dataset[n];
+		for (int i = 0; i < n; i++) {
+			views[i] = leaves.get(i).getBroadcastView(shape);
+		}
+
+		if (shape.length > 0 && ParallelUtils.isParallel(mode, result.getSize())) {
+			final int axis = ParallelUtils.findSplitAxis(shape);
+			ParallelUtils.forRange(0, shape[axis], new ParallelUtils.RangeOperation() {
+				@Override
+				public void run(int start, int stop) {
+					SliceND slice = new SliceND(shape);
+					slice.setSlice(axis, start, stop, 1);
+					Dataset[] chunks = new Dataset[n];
+					for (int i = 0; i < n; i++) {
+						chunks[i] = views[i].getSliceView(slice);
+					}
+					evaluator.evaluate(chunks, result.getSliceView(slice));
+				}
+			});
+		} else {
+			evaluator.evaluate(views, result);
+		}
+		result.setDirty();
+		return result;
+	}
+
+	/**
+	 * @param a dataset type and rank of first operand
+	 * @param b dataset type and rank of second operand
+	 * @return dataset type and rank of result of operation as given in {@link Maths}
+	 * @see BroadcastUtils#createDataset(Dataset, Dataset, int[])
+	 */
+	private static int[] getTypeAndRank(final int[] a, final int[] b) {
+		final int tt = DTypeUtils.getBestDType(a[0], b[0]);
+		final int rt;
+		if (a[1] == 0 ^ b[1] == 0) { // ignore type of zero-rank operand unless it's floating point
+			if (a[1] == 0) {
+				rt = DTypeUtils.isDTypeFloating(a[0]) ? tt : b[0];
+			} else {
+				rt = DTypeUtils.isDTypeFloating(b[0]) ? tt : a[0];
+			}
+		} else {
+			rt = tt;
+		}
+		return new int[] {rt, Math.max(a[1], b[1])};
+	}
+
+	private static int[] broadcastShape(final List<Dataset> leaves) {
+		final int[][] shapes = new int[leaves.size()][];
+		for (int i = 0; i < shapes.length; i++) {
+			shapes[i] = leaves.get(i).getShapeRef();
+		}
+		return BroadcastUtils.broadcastShapes(shapes).get(0);
+	}
+
+	private static final int OTHER = 0;
+	private static final int ADD = 1;
+	private static final int SUBTRACT = 2;
+	private static final int MULTIPLY = 3;
+	private static final int DIVIDE = 4;
+	private static final int POWER = 5;
+
+	private static int getCode(final BinaryOperation op) {
+		final Class<?> c = op.getClass();
+		if (c == BinaryOperation.Addition.class) {
+			return ADD;
+		} else if (c == BinaryOperation.Subtraction.class) {
+			return SUBTRACT;
+		} else if (c == BinaryOperation.Multiplication.class) {
+			return MULTIPLY;
+		} else if (c == BinaryOperation.Division.class) {
+			return DIVIDE;
+		} else if (c == BinaryOperation.Exponentiation.class) {
+			return POWER;
+		}
+		return OTHER;
+	}
+
+	private static long toLong(double d) {
+		return (long) d;
+	}
+
+	/**
+	 * Expression flattened into a list of steps where each step's values are held in a buffer.
+	 * A step either reads values from an operand or operates on the buffers of earlier steps.
+	 * Steps of integer type hold long values and those of floating point type hold double values
+	 */
+	private static class Evaluator {
+		private final int[] leafIndex; // index of operand or -1 for operation
+		private final BinaryOperation[] ops;
+		private final int[] codes;
+		private final int[] lhs;
+		private final int[] rhs;
+		private final int[] dtypes;
+		private final boolean[] isInteger;
+		private final boolean[] needsDouble; // integer step is operand of floating point step
+		private final int steps;
+
+		/**
+		 * @param root expression
+		 * @param leaves list to hold distinct operands
+		 */
+		public Evaluator(final DatasetExpression root, final List<Dataset> leaves) {
+			final List<DatasetExpression> nodes = new ArrayList<DatasetExpression>();
+			final Map<Dataset, Integer> seen = new IdentityHashMap<Dataset, Integer>();
+			final List<int[]> args = new ArrayList<int[]>();
+			final List<Integer> indexes = new ArrayList<Integer>();
+			final List<int[]> types = new ArrayList<int[]>();
+			flatten(root, nodes, args, indexes, types, seen, leaves);
+			steps = nodes.size();
+			leafIndex = new int[steps];
+			ops = new BinaryOperation[steps];
+			codes = new int[steps];
+			lhs = new int[steps];
+			rhs = new int[steps];
+			dtypes = new int[steps];
+			isInteger = new boolean[steps];
+			needsDouble = new boolean[steps];
+			for (int i = 0; i < steps; i++) {
+				DatasetExpression e = nodes.get(i);
+				leafIndex[i] = indexes.get(i);
+				dtypes[i] = types.get(i)[0];
+				isInteger[i] = DTypeUtils.isDTypeInteger(dtypes[i]);
+				if (e.op != null) {
+					ops[i] = e.op;
+					codes[i] = getCode(e.op);
+					lhs[i] = args.get(i)[0];
+					rhs[i] = args.get(i)[1];
+					if (!isInteger[i]) {
+						needsDouble[lhs[i]] = true;
+						needsDouble[rhs[i]] = true;
+					}
+				}
+			}
+		}
+
+		/**
+		 * @return dataset type of result
+		 */
+		public int getDType() {
+			return dtypes[steps - 1];
+		}
+
+		/**
+		 * Add steps of expression in post-order
+		 * @return step holding value of expression
+		 */
+		private static int flatten(final DatasetExpression e, final List<DatasetExpression> nodes, final List<int[]> args,
+				final List<Integer> indexes, final List<int[]> types, final Map<Dataset, Integer> seen, final List<Dataset> leaves) {
+			if (e.leaf != null) {
+				Integer s = seen.get(e.leaf);
+				if (s != null) { // read each distinct operand once
+					return s;
+				}
+				s = nodes.size();
+				seen.put(e.leaf, s);
+				nodes.add(e);
+				args.add(null);
+				indexes.add(leaves.size());
+				types.add(new int[] {e.leaf.getDType(), e.leaf.getRank()});
+				leaves.add(e.leaf);
+				return s;
+			}
+
+			int l = flatten(e.left, nodes, args, indexes, types, seen, leaves);
+			int r = flatten(e.right, nodes, args, indexes, types, seen, leaves);
+			nodes.add(e);
+			args.add(new int[] {l, r});
+			indexes.add(-1);
+			types.add(getTypeAndRank(types.get(l), types.get(r)));
+			return nodes.size() - 1;
+		}
+
+		/**
+		 * Evaluate into output. This walks along the last dimension in blocks and, for each
+		 * block, fills the buffers of operands and applies the operations in turn
+		 * @param views operands broadcast to output's shape
+		 * @param o output
+		 */
+		public void evaluate(final Dataset[] views, final Dataset o) {
+			final int[] shape = o.getShapeRef();
+			final int rank = shape.length;
+			final int size = o.getSize();
+			if (size == 0) {
+				return;
+			}
+			final int n = views.length;
+			final int[][] strides = new int[n + 1][];
+			final int[] index = new int[n + 1]; // index of start of current line
+			final int[] step = new int[n + 1]; // step along last dimension
+			for (int i = 0; i <= n; i++) {
+				Dataset d = i < n ? views[i] : o;
+				strides[i] = BroadcastUtils.createBroadcastStrides(d, shape);
+				index[i] = d.getOffset();
+				step[i] = rank == 0 ? 0 : strides[i][rank - 1];
+			}
+			final int length = rank == 0 ? 1 : shape[rank - 1];
+			final int[] pos = new int[Math.max(rank - 1, 0)];
+
+			final long[][] lbuffers = new long[steps][];
+			final double[][] dbuffers = new double[steps][];
+			for (int s = 0; s < steps; s++) {
+				if (isInteger[s]) {
+					lbuffers[s] = new long[BLOCK];
+				}
+				if (!isInteger[s] || needsDouble[s]) {
+					dbuffers[s] = new double[BLOCK];
+				}
+			}
+			final int last = steps - 1;
+			for (int lines = size / length; lines > 0; lines--) {
+				for (int start = 0; start < length; start += BLOCK) {
+					final int m = Math.min(BLOCK, length - start);
+					for (int s = 0; s < steps; s++) {
+						final int l = leafIndex[s];
+						if (isInteger[s]) {
+							final long[] b = lbuffers[s];
+							if (l >= 0) {
+								fill(views[l], index[l] + start * step[l], step[l], b, m);
+							} else {
+								operate(s, lbuffers[lhs[s]], lbuffers[rhs[s]], b, m);
+								wrap(dtypes[s], b, m);
+							}
+							if (needsDouble[s]) {
+								final double[] d = dbuffers[s];
+								for (int i = 0; i < m; i++) {
+									d[i] = b[i];
+								}
+							}
+						} else {
+							final double[] b = dbuffers[s];
+							if (l >= 0) {
+								fill(views[l], index[l] + start * step[l], step[l], b, m);
+							} else {
+								operate(s, dbuffers[lhs[s]], dbuffers[rhs[s]], b, m);
+								if (dtypes[s] == Dataset.FLOAT32) {
+									for (int i = 0; i < m; i++) {
+										b[i] = (float) b[i];
+									}
+								}
+							}
+						}
+					}
+					if (isInteger[last]) {
+						store(o, index[n] + start * step[n], step[n], lbuffers[last], m);
+					} else {
+						store(o, index[n] + start * step[n], step[n], dbuffers[last], m);
+					}
+				}
+
+				// move to next line
+				for (int j = rank - 2; j >= 0; j--) {
+					if (++pos[j] < shape[j]) {
+						for (int i = 0; i <= n; i++) {
+							index[i] += strides[i][j];
+						}
+						break;
+					}
+					pos[j] = 0;
+					for (int i = 0; i <= n; i++) {
+						index[i] -= strides[i][j] * (shape[j] - 1);
+					}
+				}
+			}
+		}
+
+		/**
+		 * Wrap values to range of integer type
+		 * @param dtype
+		 * @param b
+		 * @param m
+		 */
+		private static void wrap(final int dtype, final long[] b, final int m) {
+			switch (dtype) {
+			case Dataset.INT8:
+				for (int i = 0; i < m; i++) {
+					b[i] = (byte) b[i];
+				}
+				break;
+			case Dataset.INT16:
+				for (int i = 0; i < m; i++) {
+					b[i] = (short) b[i];
+				}
+				break;
+			case Dataset.INT32:
+				for (int i = 0; i < m; i++) {
+					b[i] = (int) b[i];
+				}
+				break;
+			default:
+				break;
+			}
+		}
+
+		private void operate(final int s, final long[] a, final long[] b, final long[] out, final int m) {
+			switch (codes[s]) {
+			case ADD:
+				for (int i = 0; i < m; i++) {
+					out[i] = a[i] + b[i];
+				}
+				break;
+			case SUBTRACT:
+				for (int i = 0; i < m; i++) {
+					out[i] = a[i] - b[i];
+				}
+				break;
+			case MULTIPLY:
+				for (int i = 0; i < m; i++) {
+					out[i] = a[i] * b[i];
+				}
+				break;
+			case POWER: // as in Maths, which does not map infinities to zero
+				for (int i = 0; i < m; i++) {
+					out[i] = toLong(Math.pow(a[i], b[i]));
+				}
+				break;
+			default:
+				final BinaryOperation op = ops[s];
+				for (int i = 0; i < m; i++) {
+					out[i] = op.longOperate(a[i], b[i]);
+				}
+				break;
+			}
+		}
+
+		private void operate(final int s, final double[] a, final double[] b, final double[] out, final int m) {
+			switch (codes[s]) {
+			case ADD:
+				for (int i = 0; i < m; i++) {
+					out[i] = a[i] + b[i];
+				}
+				break;
+			case SUBTRACT:
+				for (int i = 0; i < m; i++) {
+					out[i] = a[i] - b[i];
+				}
+				break;
+			case MULTIPLY:
+				for (int i = 0; i < m; i++) {
+					out[i] = a[i] * b[i];
+				}
+				break;
+			case DIVIDE:
+				for (int i = 0; i < m; i++) {
+					out[i] = a[i] / b[i];
+				}
+				break;
+			default:
+				final BinaryOperation op = ops[s];
+				for (int i = 0; i < m; i++) {
+					out[i] = op.doubleOperate(a[i], b[i]);
+				}
+				break;
+			}
+		}
+
+		private static void fill(final Dataset d, int index, final int step, final long[] buffer, final int m) {
+			switch (d.getDType()) {
+			case Dataset.INT8:
+				final byte[] i8data = ((ByteDataset) d).getData();
+				for (int i = 0; i < m; i++, index += step) {
+					buffer[i] = i8data[index];
+				}
+				break;
+			case Dataset.INT16:
+				final short[] i16data = ((ShortDataset) d).getData();
+				for (int i = 0; i < m; i++, index += step) {
+					buffer[i] = i16data[index];
+				}
+				break;
+			case Dataset.INT32:
+				final int[] i32data = ((IntegerDataset) d).getData();
+				for (int i = 0; i < m; i++, index += step) {
+					buffer[i] = i32data[index];
+				}
+				break;
+			case Dataset.INT64:
+				final long[] i64data = ((LongDataset) d).getData();
+				for (int i = 0; i < m; i++, index += step) {
+					buffer[i] = i64data[index];
+				}
+				break;
+			default:
+				for (int i = 0; i < m; i++, index += step) {
+					buffer[i] = d.getElementLongAbs(index);
+				}
+				break;
+			}
+		}
+
+		private static void fill(final Dataset d, int index, final int step, final double[] buffer, final int m) {
+			switch (d.getDType()) {
+			case Dataset.INT8:
+				final byte[] i8data = ((ByteDataset) d).getData();
+				for (int i = 0; i < m; i++, index += step) {
+					buffer[i] = i8data[index];
+				}
+				break;
+			case Dataset.INT16:
+				final short[] i16data = ((ShortDataset) d).getData();
+				for (int i = 0; i < m; i++, index += step) {
+					buffer[i] = i16data[index];
+				}
+				break;
+			case Dataset.INT32:
+				final int[] i32data = ((IntegerDataset) d).getData();
+				for (int i = 0; i < m; i++, index += step) {
+					buffer[i] = i32data[index];
+				}
+				break;
+			case Dataset.INT64:
+				final long[] i64data = ((LongDataset) d).getData();
+				for (int i = 0; i < m; i++, index += step) {
+					buffer[i] = i64data[index];
+				}
+				break;
+			case Dataset.FLOAT32:
+				final float[] f32data = ((FloatDataset) d).getData();
+				for (int i = 0; i < m; i++, index += step) {
+					buffer[i] = f32data[index];
+				}
+				break;
+			case Dataset.FLOAT64:
+				final double[] f64data = ((DoubleDataset) d).getData();
+				if (step == 1) {
+					System.arraycopy(f64data, index, buffer, 0, m);
+				} else {
+					for (int i = 0; i < m; i++, index += step) {
+						buffer[i] = f64data[index];
+					}
+				}
+				break;
+			default:
+				for (int i = 0; i < m; i++, index += step) {
+					buffer[i] = d.getElementDoubleAbs(index);
+				}
+				break;
+			}
+		}
+
+		private static void store(final Dataset o, int index, final int step, final long[] buffer, final int m) {
+			switch (o.getDType()) {
+			case Dataset.INT8:
+				final byte[] i8data = ((ByteDataset) o).getData();
+				for (int i = 0; i < m; i++, index += step) {
+					i8data[index] = (byte) buffer[i];
+				}
+				break;
+			case Dataset.INT16:
+				final short[] i16data = ((ShortDataset) o).getData();
+				for (int i = 0; i < m; i++, index += step) {
+					i16data[index] = (short) buffer[i];
+				}
+				break;
+			case Dataset.INT32:
+				final int[] i32data = ((IntegerDataset) o).getData();
+				for (int i = 0; i < m; i++, index += step) {
+					i32data[index] = (int) buffer[i];
+				}
+				break;
+			case Dataset.INT64:
+				final long[] i64data = ((LongDataset) o).getData();
+				for (int i = 0; i < m; i++, index += step) {
+					i64data[index] = buffer[i];
+				}
+				break;
+			case Dataset.FLOAT32:
+				final float[] f32data = ((FloatDataset) o).getData();
+				for (int i = 0; i < m; i++, index += step) {
+					f32data[index] = buffer[i];
+				}
+				break;
+			case Dataset.FLOAT64:
+				final double[] f64data = ((DoubleDataset) o).getData();
+				for (int i = 0; i < m; i++, index += step) {
+					f64data[index] = buffer[i];
+				}
+				break;
+			default:
+				for (int i = 0; i < m; i++, index += step) {
+					o.setObjectAbs(index, buffer[i]);
+				}
+				break;
+			}
+		}
+
+		private static void store(final Dataset o, int index, final int step, final double[] buffer, final int m) {
+			switch (o.getDType()) {
+			case Dataset.INT8:
+				final byte[] i8data = ((ByteDataset) o).getData();
+				for (int i = 0; i < m; i++, index += step) {
+					i8data[index] = (byte) toLong(buffer[i]);
+				}
+				break;
+			case Dataset.INT16:
+				final short[] i16data = ((ShortDataset) o).getData();
+				for (int i = 0; i < m; i++, index += step) {
+					i16data[index] = (short) toLong(buffer[i]);
+				}
+				break;
+			case Dataset.INT32:
+				final int[] i32data = ((IntegerDataset) o).getData();
+				for (int i = 0; i < m; i++, index += step) {
+					i32data[index] = (int) toLong(buffer[i]);
+				}
+				break;
+			case Dataset.INT64:
+				final long[] i64data = ((LongDataset) o).getData();
+				for (int i = 0; i < m; i++, index += step) {
+					i64data[index] = toLong(buffer[i]);
+				}
+				break;
+			case Dataset.FLOAT32:
+				final float[] f32data = ((FloatDataset) o).getData();
+				for (int i = 0; i < m; i++, index += step) {
+					f32data[index] = (float) buffer[i];
+				}
+				break;
+			case Dataset.FLOAT64:
+				final double[] f64data = ((DoubleDataset) o).getData();
+				if (step == 1) {
+					System.arraycopy(buffer, 0, f64data, index, m);
+				} else {
+					for (int i = 0; i < m; i++, index += step) {
+						f64data[index] = buffer[i];
+					}
+				}
+				break;
+			default:
+				for (int i = 0; i < m; i++, index += step) {
+					o.setObjectAbs(index, buffer[i]);
+				}
+				break;
+			}
+		}
+	}
+}
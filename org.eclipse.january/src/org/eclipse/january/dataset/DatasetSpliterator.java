@@ -0,0 +1,247 @@
+/*-
+ * Copyright 2016 Diamond Light Source Ltd.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.january.dataset;
+
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+
+/**
+ * Spliterator over the elements of a dataset in row-major order. It splits on ranges of element
+ * indexes and reads directly from the dataset's buffer (using its strides for views) so no copy of
+ * the data is made
+ */
+abstract class DatasetSpliterator {
+	/**
+	 * Minimum number of elements in a split
+	 */
+	static final int MIN_SPLIT = 1 << 10;
+
+	static final int CHARACTERISTICS = Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL;
+
+	protected final Dataset data;
+	private final int isize;
+	private final int[] shape;
+	private final int[] stride;
+	private final int offset;
+	protected int index;
+	protected final int end;
+
+	/**
+	 * @param data
+	 * @param start index of first element
+	 * @param end index after last element
+	 */
+	DatasetSpliterator(final Dataset data, final int start, final int end) {
+		this.data = data;
+		isize = data.getElementsPerItem();
+		shape = data.getShapeRef();
+		stride = data.getStrides();
+		offset = data.getOffset();
+		index = start;
+		this.end = end;
+	}
+
+	/**
+	 * @return true if buffer index of each element is equal to its index
+	 */
+	protected boolean isContiguous() {
+		return stride == null;
+	}
+
+	/**
+	 * @return midpoint to split at or -1 if remainder is too small to split
+	 */
+	protected int getSplit() {
+		final int n = end - index;
+		if (n < 2 * MIN_SPLIT) {
+			return -1;
+		}
+		return index + n / 2;
+	}
+
+	public long estimateSize() {
+		return end - index;
+	}
+
+	public int characteristics() {
+		return CHARACTERISTICS;
+	}
+
+	/**
+	 * @param k index of element
+	 * @return index of element in buffer
+	 */
+	protected int getBufferIndex(final int k) {
+		if (stride == null) {
+			return k;
+		}
+		int item = k / isize;
+		int b = offset + k % isize;
+		for (int d = shape.length - 1; d >= 0; d--) {
+			b += (item % shape[d]) * stride[d];
+			item /= shape[d];
+		}
+		return b;
+	}
+
+	/**
+	 * Pass buffer index of each remaining element to consumer
+	 * @param consumer
+	 */
+	protected void forEachBufferIndex(final IntConsumer consumer) {
+		int k = index;
+		index = end;
+		if (k >= end) {
+			return;
+		}
+		if (stride == null) {
+			for (; k < end; k++) {
+				consumer.accept(k);
+			}
+			return;
+		}
+
+		final int rank = shape.length;
+		final int[] pos = new int[rank];
+		int item = k / isize;
+		int e = k % isize;
+		int b = offset;
+		for (int d = rank - 1; d >= 0; d--) {
+			pos[d] = item % shape[d];
+			item /= shape[d];
+			b += pos[d] * stride[d];
+		}
+		while (true) {
+			for (; e < isize && k < end; e++, k++) {
+				consumer.accept(b + e);
+			}
+			if (k >= end) {
+				break;
+			}
+			e = 0;
+			for (int d = rank - 1; d >= 0; d--) {
+				b += stride[d];
+				if (++pos[d] < shape[d]) {
+					break;
+				}
+				b -= shape[d] * stride[d];
+				pos[d] = 0;
+			}
+		}
+	}
+
+	/**
+	 * Spliterator over elements as doubles
+	 */
+	static class Doubles extends DatasetSpliterator implements Spliterator.OfDouble {
+		/**
+		 * @param data
+		 */
+		Doubles(final Dataset data) {
+			this(data, 0, data.getSize() * data.getElementsPerItem());
+		}
+
+		private Doubles(final Dataset data, final int start, final int end) {
+			super(data, start, end);
+		}
+
+		@Override
+		public Doubles trySplit() {
+			final int mid = getSplit();
+			if (mid < 0) {
+				return null;
+			}
+			final Doubles prefix = new Doubles(data, index, mid);
+			index = mid;
+			return prefix;
+		}
+
+		@Override
+		public boolean tryAdvance(final DoubleConsumer action) {
+			if (index >= end) {
+				return false;
+			}
+			action.accept(data.getElementDoubleAbs(getBufferIndex(index++)));
+			return true;
+		}
+
+		@Override
+		public void forEachRemaining(final DoubleConsumer action) {
+			final Object buffer = data.getBuffer();
+			if (isContiguous() && buffer instanceof double[]) {
+				final double[] array = (double[]) buffer;
+				for (int i = index; i < end; i++) {
+					action.accept(array[i]);
+				}
+				index = end;
+			} else {
+				forEachBufferIndex(i -> action.accept(data.getElementDoubleAbs(i)));
+			}
+		}
+	}
+
+	/**
+	 * Spliterator over elements as longs
+	 */
+	static class Longs extends DatasetSpliterator implements Spliterator.OfLong {
+		/**
+		 * @param data
+		 */
+		Longs(final Dataset data) {
+			this(data, 0, data.getSize() * data.getElementsPerItem());
+		}
+
+		private Longs(final Dataset data, final int start, final int end) {
+			super(data, start, end);
+		}
+
+		@Override
+		public Longs trySplit() {
+			final int mid = getSplit();
+			if (mid < 0) {
+				return null;
+			}
+			final Longs prefix = new Longs(data, index, mid);
+			index = mid;
+			return prefix;
+		}
+
+		@Override
+		public boolean tryAdvance(final LongConsumer action) {
+			if (index >= end) {
+				return false;
+			}
+			action.accept(data.getElementLongAbs(getBufferIndex(index++)));
+			return true;
+		}
+
+		@Override
+		public void forEachRemaining(final LongConsumer action) {
+			final Object buffer = data.getBuffer();
+			if (isContiguous() && buffer instanceof long[]) {
+				final long[] array = (long[]) buffer;
+				for (int i = index; i < end; i++) {
+					action.accept(array[i]);
+				}
+				index = end;
+			} else if (isContiguous() && buffer instanceof int[]) {
+				final int[] array = (int[]) buffer;
+				for (int i = index; i < end; i++) {
+					action.accept(array[i]);
+				}
+				index = end;
+			} else {
+				forEachBufferIndex(i -> action.accept(data.getElementLongAbs(i)));
+			}
+		}
+	}
+}
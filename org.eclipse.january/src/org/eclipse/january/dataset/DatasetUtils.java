@@ -17,6 +17,9 @@ import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.DoubleStream;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
 
 import org.apache.commons.math3.util.MathArrays;
 import org.eclipse.january.DatasetException;
@@ -375,6 +378,264 @@ public class DatasetUtils {
 		}
 	}
 
+	/**
+	 * See {@link #argsort(Dataset, Integer, boolean, ExecutionMode)} with unstable sort and global execution mode
+	 * @param a
+	 * @param axis to sort along (if null, then sort flattened dataset)
+	 * @return indexes that would sort dataset
+	 */
+	public static IntegerDataset argsort(final Dataset a, final Integer axis) {
+		return argsort(a, axis, false, null);
+	}
+
+	/**
+	 * See {@link #argsort(Dataset, Integer, boolean, ExecutionMode)} with global execution mode
+	 * @param a
+	 * @param axis to sort along (if null, then sort flattened dataset)
+	 * @param stable if true, then equal items keep their order
+	 * @return indexes that would sort dataset
+	 */
+	public static IntegerDataset argsort(final Dataset a, final Integer axis, final boolean stable) {
+		return argsort(a, axis, stable, null);
+	}
+
+	/**
+	 * Find indexes that would sort dataset along an axis. Items are ordered as in {@link Dataset#sort(Integer)}
+	 * so NaNs are placed last. Lanes along the axis are sorted in parallel when enabled; a
+	 * flattened dataset is sorted in parallel runs that are then merged
+	 * @param a
+	 * @param axis to sort along (if null, then sort flattened dataset)
+	 * @param stable if true, then equal items keep their order
+	 * @param mode execution mode (can be null to use global mode)
+	 * @return indexes that would sort dataset. These are positions along axis in a dataset of
+	 * the same shape or, if axis is null, indexes in flattened dataset in a 1D dataset
+	 */
+	public static IntegerDataset argsort(final Dataset a, final Integer axis, final boolean stable, final ExecutionMode mode) {
+		if (a.getElementsPerItem() != 1) {
+			throw new IllegalArgumentException("Compound datasets are not supported");
+		}
+		if (!DTypeUtils.isDTypeNumerical(a.getDType())) {
+			throw new UnsupportedOperationException("Sorting non-numerical datasets not supported yet");
+		}
+		final boolean isFloat = a.hasFloatingPointElements();
+
+		if (axis == null) {
+			final int size = a.getSize();
+			final long[] keys = new long[size];
+			final IndexIterator it = a.getIterator();
+			for (int i = 0; it.hasNext(); i++) {
+				keys[i] = getSortKey(a, it.index, isFloat);
+			}
+			final int[] indexes = new int[size];
+			for (int i = 0; i < size; i++) {
+				indexes[i] = i;
+			}
+			sortIndexes(keys, indexes, stable, mode);
+			return DatasetFactory.createFromObject(IntegerDataset.class, indexes, size);
+		}
+
+		final AbstractDataset d = (AbstractDataset) a;
+		final int[] shape = a.getShapeRef();
+		final int ax = d.checkAxis(axis);
+		final int n = shape[ax];
+		final int step = d.getAxisStep(ax);
+		int s = 1;
+		for (int i = ax + 1; i < shape.length; i++) {
+			s *= shape[i];
+		}
+		final int inner = s;
+		final IntegerDataset result = DatasetFactory.zeros(IntegerDataset.class, shape);
+		final int[] rdata = result.getData();
+		d.forEachLane(ax, mode, () -> {
+			final long[] keys = new long[n];
+			final int[] indexes = new int[n];
+			final int[] tmp = new int[n];
+			return (l, o) -> {
+				for (int i = 0, j = o; i < n; i++, j += step) {
+					keys[i] = getSortKey(a, j, isFloat);
+					indexes[i] = i;
+				}
+				if (stable) {
+					mergeSort(keys, indexes, tmp, 0, n);
+				} else {
+					quickSort(keys, indexes, tmp, 0, n, 2 * (32 - Integer.numberOfLeadingZeros(n)));
+				}
+				for (int i = 0, j = (l / inner) * n * inner + l % inner; i < n; i++, j += inner) {
+					rdata[j] = indexes[i];
+				}
+			};
+		});
+		return result;
+	}
+
+	/**
+	 * @param a
+	 * @param index in buffer
+	 * @param isFloat
+	 * @return key whose signed order is the order of item in {@link Arrays#sort(double[])}
+	 */
+	private static long getSortKey(final Dataset a, final int index, final boolean isFloat) {
+		if (!isFloat) {
+			return a.getElementLongAbs(index);
+		}
+		final long b = Double.doubleToLongBits(a.getElementDoubleAbs(index));
+		return b ^ ((b >> 63) & Long.MAX_VALUE);
+	}
+
+	/**
+	 * Sort indexes by their keys. In parallel, runs are sorted then merged pairwise in order
+	 * @param keys
+	 * @param indexes
+	 * @param stable
+	 * @param mode
+	 */
+	private static void sortIndexes(final long[] keys, final int[] indexes, final boolean stable, final ExecutionMode mode) {
+		final int size = indexes.length;
+		final int[] tmp = new int[size];
+		if (!ParallelUtils.isParallel(mode, size)) {
+			if (stable) {
+				mergeSort(keys, indexes, tmp, 0, size);
+			} else {
+				quickSort(keys, indexes, tmp, 0, size, 2 * (32 - Integer.numberOfLeadingZeros(size)));
+			}
+			return;
+		}
+
+		final int run = ParallelUtils.calcGrainSize(size);
+		final int runs = (size + run - 1) / run;
+		ParallelUtils.forRange(0, runs, 1, (start, stop) -> {
+			for (int r = start; r < stop; r++) {
+				final int from = r * run;
+				final int to = Math.min(size, from + run);
+				if (stable) {
+					mergeSort(keys, indexes, tmp, from, to);
+				} else {
+					quickSort(keys, indexes, tmp, from, to, 2 * (32 - Integer.numberOfLeadingZeros(to - from)));
+				}
+			}
+		});
+		for (long width = run; width < size; width *= 2) {
+			final int w = (int) width;
+			final int pairs = (int) ((size + 2 * width - 1) / (2 * width));
+			ParallelUtils.forRange(0, pairs, 1, (start, stop) -> {
+				for (int p = start; p < stop; p++) {
+					final int from = 2 * p * w;
+					final int mid = Math.min(size, from + w);
+					final int to = (int) Math.min(size, from + 2L * w);
+					if (mid < to) {
+						merge(keys, indexes, tmp, from, mid, to);
+					}
+				}
+			});
+		}
+	}
+
+	private static final int INSERTION_SORT_LIMIT = 32;
+
+	private static void insertionSort(final long[] keys, final int[] indexes, final int from, final int to) {
+		for (int i = from + 1; i < to; i++) {
+			final int x = indexes[i];
+			final long k = keys[x];
+			int j = i - 1;
+			while (j >= from && keys[indexes[j]] > k) {
+				indexes[j + 1] = indexes[j];
+				j--;
+			}
+			indexes[j + 1] = x;
+		}
+	}
+
+	/**
+	 * Stable sort of range of indexes by their keys
+	 * @param keys
+	 * @param indexes
+	 * @param tmp scratch array as long as indexes
+	 * @param from
+	 * @param to
+	 */
+	private static void mergeSort(final long[] keys, final int[] indexes, final int[] tmp, final int from, final int to) {
+		if (to - from <= INSERTION_SORT_LIMIT) {
+			insertionSort(keys, indexes, from, to);
+			return;
+		}
+		final int mid = (from + to) >>> 1;
+		mergeSort(keys, indexes, tmp, from, mid);
+		mergeSort(keys, indexes, tmp, mid, to);
+		merge(keys, indexes, tmp, from, mid, to);
+	}
+
+	/**
+	 * Merge two adjacent sorted ranges of indexes, taking from first range when keys are equal
+	 * @param keys
+	 * @param indexes
+	 * @param tmp scratch array as long as indexes
+	 * @param from
+	 * @param mid
+	 * @param to
+	 */
+	private static void merge(final long[] keys, final int[] indexes, final int[] tmp, final int from, final int mid, final int to) {
+		if (keys[indexes[mid - 1]] <= keys[indexes[mid]]) {
+			return;
+		}
+		System.arraycopy(indexes, from, tmp, from, mid - from);
+		int i = from;
+		int j = mid;
+		int k = from;
+		while (i < mid && j < to) {
+			indexes[k++] = keys[indexes[j]] < keys[tmp[i]] ? indexes[j++] : tmp[i++];
+		}
+		while (i < mid) {
+			indexes[k++] = tmp[i++];
+		}
+	}
+
+	/**
+	 * Unstable sort of range of indexes by their keys. This falls back to merge sort if
+	 * partitioning goes too deep
+	 * @param keys
+	 * @param indexes
+	 * @param tmp scratch array as long as indexes
+	 * @param from
+	 * @param to
+	 * @param depth remaining depth of partitioning
+	 */
+	private static void quickSort(final long[] keys, final int[] indexes, final int[] tmp, int from, int to, int depth) {
+		while (to - from > INSERTION_SORT_LIMIT) {
+			if (depth-- == 0) {
+				mergeSort(keys, indexes, tmp, from, to);
+				return;
+			}
+			final long x = keys[indexes[from]];
+			final long y = keys[indexes[(from + to) >>> 1]];
+			final long z = keys[indexes[to - 1]];
+			final long pivot = Math.max(Math.min(x, y), Math.min(Math.max(x, y), z));
+			int i = from;
+			int j = to - 1;
+			while (i <= j) {
+				while (keys[indexes[i]] < pivot) {
+					i++;
+				}
+				while (keys[indexes[j]] > pivot) {
+					j--;
+				}
+				if (i <= j) {
+					final int t = indexes[i];
+					indexes[i++] = indexes[j];
+					indexes[j--] = t;
+				}
+			}
+			// recurse into smaller part
+			if (j + 1 - from < to - i) {
+				quickSort(keys, indexes, tmp, from, j + 1, depth);
+				from = i;
+			} else {
+				quickSort(keys, indexes, tmp, i, to, depth);
+				to = j + 1;
+			}
+		}
+		insertionSort(keys, indexes, from, to);
+	}
+
 	/**
 	 * Concatenate the set of datasets along given axis
 	 * @param as
@@ -2379,6 +2640,70 @@ public class DatasetUtils {
 		return r;
 	}
 
+	/**
+	 * Select content according where condition is true. The other inputs are broadcasted to the
+	 * shape of the condition
+	 * @param condition bit mask
+	 * @param x
+	 * @param y
+	 * @return dataset where content is x or y depending on whether condition is true or otherwise
+	 */
+	public static Dataset select(BitMask condition, Object x, Object y) {
+		final int[] shape = condition.getShape();
+		final Dataset dx = x instanceof Dataset ? (Dataset) x : DatasetFactory.createFromObject(x);
+		final Dataset dy = y instanceof Dataset ? (Dataset) y : DatasetFactory.createFromObject(y);
+		int dt = DTypeUtils.getBestDType(dx.getDType(), dy.getDType());
+		int ds = Math.max(dx.getElementsPerItem(), dy.getElementsPerItem());
+
+		Dataset r = DatasetFactory.zeros(ds, shape, dt);
+		r.setSlice(dy.getBroadcastView(shape));
+		final Dataset bx = dx.getBroadcastView(shape);
+		final int rank = shape.length;
+		final int[] stride = BroadcastUtils.createBroadcastStrides(bx, shape);
+		final int offset = bx.getOffset();
+		final int[] pos = new int[rank];
+		for (int i = condition.nextTrue(0); i >= 0; i = condition.nextTrue(i + 1)) {
+			int k = i;
+			int index = offset;
+			for (int d = rank - 1; d >= 0; d--) {
+				pos[d] = k % shape[d];
+				k /= shape[d];
+				index += pos[d] * stride[d];
+			}
+			if (ds != 1) {
+				r.set(bx.getObject(pos), pos);
+				continue;
+			}
+			switch (dt) {
+			case Dataset.BOOL:
+				((BooleanDataset) r).getData()[i] = bx.getElementBooleanAbs(index);
+				break;
+			case Dataset.INT8:
+				((ByteDataset) r).getData()[i] = (byte) bx.getElementLongAbs(index);
+				break;
+			case Dataset.INT16:
+				((ShortDataset) r).getData()[i] = (short) bx.getElementLongAbs(index);
+				break;
+			case Dataset.INT32:
+				((IntegerDataset) r).getData()[i] = (int) bx.getElementLongAbs(index);
+				break;
+			case Dataset.INT64:
+				((LongDataset) r).getData()[i] = bx.getElementLongAbs(index);
+				break;
+			case Dataset.FLOAT32:
+				((FloatDataset) r).getData()[i] = (float) bx.getElementDoubleAbs(index);
+				break;
+			case Dataset.FLOAT64:
+				((DoubleDataset) r).getData()[i] = bx.getElementDoubleAbs(index);
+				break;
+			default:
+				r.set(bx.getObject(pos), pos);
+				break;
+			}
+		}
+		return r;
+	}
+
 	/**
 	 * Select content from choices where condition is true, otherwise use default. All inputs are broadcasted to a maximum shape
 	 * @param conditions array of boolean datasets
@@ -2650,4 +2975,54 @@ public class DatasetUtils {
 			return c;
 		}
 	}
+
+	/**
+	 * Stream over all elements of a lazy dataset as doubles in row-major order. The dataset is
+	 * loaded in chunks of rows as the stream is consumed and a parallel stream splits on those
+	 * chunks
+	 * @param lazy
+	 * @return sequential stream of elements
+	 * @see Dataset#doubleStream()
+	 */
+	public static DoubleStream doubleStream(ILazyDataset lazy) {
+		return doubleStream(lazy, LazyDatasetSpliterator.getChunkRows(lazy));
+	}
+
+	/**
+	 * Stream over all elements of a lazy dataset as doubles in row-major order
+	 * @param lazy
+	 * @param rows number of rows (along first dimension) to load in each chunk
+	 * @return sequential stream of elements
+	 */
+	public static DoubleStream doubleStream(ILazyDataset lazy, int rows) {
+		if (lazy instanceof IDataset) {
+			return convertToDataset((IDataset) lazy).doubleStream();
+		}
+		return StreamSupport.doubleStream(new LazyDatasetSpliterator.Doubles(lazy, rows), false);
+	}
+
+	/**
+	 * Stream over all elements of a lazy dataset as longs in row-major order. The dataset is
+	 * loaded in chunks of rows as the stream is consumed and a parallel stream splits on those
+	 * chunks
+	 * @param lazy
+	 * @return sequential stream of elements
+	 * @see Dataset#longStream()
+	 */
+	public static LongStream longStream(ILazyDataset lazy) {
+		return longStream(lazy, LazyDatasetSpliterator.getChunkRows(lazy));
+	}
+
+	/**
+	 * Stream over all elements of a lazy dataset as longs in row-major order
+	 * @param lazy
+	 * @param rows number of rows (along first dimension) to load in each chunk
+	 * @return sequential stream of elements
+	 */
+	public static LongStream longStream(ILazyDataset lazy, int rows) {
+		if (lazy instanceof IDataset) {
+			return convertToDataset((IDataset) lazy).longStream();
+		}
+		return StreamSupport.longStream(new LazyDatasetSpliterator.Longs(lazy, rows), false);
+	}
 }
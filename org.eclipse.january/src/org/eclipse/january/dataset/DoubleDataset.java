@@ -123,10 +123,7 @@ public class DoubleDataset extends AbstractDataset {
 				base = null;
 				odata = data = createArray(size);
 
-				IndexIterator iter = dataset.getIterator();
-				for (int i = 0; iter.hasNext(); i++) {
-					data[i] = dataset.data[iter.index];
-				}
+				StridedCopier.copy(dataset, data);
 			}
 		} catch (Throwable t) {
 			logger.error("Could not create a dataset of shape {}", Arrays.toString(shape), t);
@@ -588,23 +585,36 @@ public class DoubleDataset extends AbstractDataset {
 	public DoubleDataset sort(Integer axis) {
 		if (axis == null) { // BOOLEAN_OMIT
 			if (stride == null) { // BOOLEAN_OMIT
-				Arrays.sort(data); // BOOLEAN_OMIT
+				if (ParallelUtils.isParallel(null, size)) { // NAN_OMIT
+					Arrays.parallelSort(data); // NAN_OMIT
+				} else { // NAN_OMIT
+					Arrays.sort(data); // NAN_OMIT
+				} // NAN_OMIT
+				// Arrays.sort(data); // OBJECT_USE // BOOLEAN_OMIT
 			} else { // BOOLEAN_OMIT
 				DoubleDataset ads = clone().sort(null); // BOOLEAN_OMIT
 				setSlicedView(getView(false), ads); // BOOLEAN_OMIT
 			} // BOOLEAN_OMIT
 		} else { // BOOLEAN_OMIT
-			axis = checkAxis(axis); // BOOLEAN_OMIT
-			 // BOOLEAN_OMIT 
-			DoubleDataset ads = new DoubleDataset(shape[axis]); // BOOLEAN_OMIT
-			PositionIterator pi = getPositionIterator(axis); // BOOLEAN_OMIT
-			int[] pos = pi.getPos(); // BOOLEAN_OMIT
-			boolean[] hit = pi.getOmit(); // BOOLEAN_OMIT
-			while (pi.hasNext()) { // BOOLEAN_OMIT
-				copyItemsFromAxes(pos, hit, ads); // BOOLEAN_OMIT
-				Arrays.sort(ads.data); // BOOLEAN_OMIT
-				setItemsOnAxes(pos, hit, ads.data); // BOOLEAN_OMIT
-			} // BOOLEAN_OMIT
+			final int a = checkAxis(axis); // BOOLEAN_OMIT
+			final int n = shape[a]; // BOOLEAN_OMIT
+			final int step = getAxisStep(a); // BOOLEAN_OMIT
+			forEachLane(a, null, () -> { // BOOLEAN_OMIT
+				final double[] lane = step == 1 ? null : new double[n]; // PRIM_TYPE // BOOLEAN_OMIT
+				return (l, o) -> { // BOOLEAN_OMIT
+					if (step == 1) { // BOOLEAN_OMIT
+						Arrays.sort(data, o, o + n); // BOOLEAN_OMIT
+						return; // BOOLEAN_OMIT
+					} // BOOLEAN_OMIT
+					for (int i = 0, j = o; i < n; i++, j += step) { // BOOLEAN_OMIT
+						lane[i] = data[j]; // BOOLEAN_OMIT
+					} // BOOLEAN_OMIT
+					Arrays.sort(lane); // BOOLEAN_OMIT
+					for (int i = 0, j = o; i < n; i++, j += step) { // BOOLEAN_OMIT
+						data[j] = lane[i]; // BOOLEAN_OMIT
+					} // BOOLEAN_OMIT
+				}; // BOOLEAN_OMIT
+			}); // BOOLEAN_OMIT
 		} // BOOLEAN_OMIT
 		 // BOOLEAN_OMIT 
 		setDirty(); // BOOLEAN_OMIT
@@ -0,0 +1,25 @@
+/*-
+ * Copyright 2016 Diamond Light Source Ltd.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.january.dataset;
+
+/**
+ * Execution mode for operations that can run over several threads
+ * @see ParallelUtils
+ */
+public enum ExecutionMode {
+	/**
+	 * Run in calling thread
+	 */
+	SERIAL,
+	/**
+	 * Split work into tasks run in a fork/join pool when dataset size is not less than threshold
+	 */
+	PARALLEL,
+}
@@ -13,6 +13,11 @@
 package org.eclipse.january.dataset;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.eclipse.january.DatasetException;
 import org.eclipse.january.IMonitor;
@@ -140,6 +145,110 @@ public interface ILazyDataset extends Serializable, IMetadataProvider, INameable
 	 */
 	public IDataset getSlice(final IMonitor monitor, final SliceND slice) throws DatasetException;
 
+	/**
+	 * Get a slice of the dataset without blocking. The slice is read by {@link #getSlice(IMonitor, SliceND)}
+	 * on the executor given by {@link LazyDatasetBase#getAsyncExecutor()} and cancelling the returned
+	 * future cancels the monitor passed to the loader
+	 * 
+	 * @param slice an n-D slice (can be null for whole dataset)
+	 * @return future of the dataset of the sliced data
+	 * @see #getSlice(SliceND)
+	 */
+	public default CompletableFuture<IDataset> getSliceAsync(final SliceND slice) {
+		return getSliceAsync(null, slice);
+	}
+
+	/**
+	 * Get a slice of the dataset without blocking. The slice is read on another thread and
+	 * cancelling the returned future or the monitor stops the reading if the loader supports it
+	 * 
+	 * @param monitor can be null
+	 * @param slice an n-D slice (can be null for whole dataset)
+	 * @return future of the dataset of the sliced data
+	 * @see #getSlice(IMonitor, SliceND)
+	 */
+	public default CompletableFuture<IDataset> getSliceAsync(final IMonitor monitor, final SliceND slice) {
+		final CompletableFuture<IDataset> future = new CompletableFuture<IDataset>();
+		final IMonitor m = new LazyDatasetBase.FutureMonitor(monitor, future);
+		final SliceND s = slice == null ? new SliceND(getShape()) : slice.clone();
+		try {
+			LazyDatasetBase.getAsyncExecutor().execute(() -> {
+				if (m.isCancelled()) {
+					future.cancel(false);
+					return;
+				}
+				try {
+					IDataset d = getSlice(m, s);
+					if (m.isCancelled()) {
+						future.cancel(false);
+					} else {
+						future.complete(d);
+					}
+				} catch (Throwable e) {
+					future.completeExceptionally(e);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			future.completeExceptionally(e);
+		}
+		return future;
+	}
+
+	/**
+	 * Get slices of the dataset without blocking
+	 * 
+	 * @param slices list of n-D slices
+	 * @return future of the list of datasets of the sliced data in the same order as the slices
+	 * @see #getSliceAsync(SliceND)
+	 */
+	public default CompletableFuture<List<IDataset>> getSlicesAsync(final List<SliceND> slices) {
+		return getSlicesAsync(null, slices);
+	}
+
+	/**
+	 * Get slices of the dataset without blocking. Cancelling the returned future or the monitor
+	 * cancels the reading of all the slices
+	 * 
+	 * @param monitor can be null
+	 * @param slices list of n-D slices
+	 * @return future of the list of datasets of the sliced data in the same order as the slices
+	 * @see #getSliceAsync(IMonitor, SliceND)
+	 */
+	public default CompletableFuture<List<IDataset>> getSlicesAsync(final IMonitor monitor, final List<SliceND> slices) {
+		final CompletableFuture<List<IDataset>> future = new CompletableFuture<List<IDataset>>();
+		final IMonitor m = new LazyDatasetBase.FutureMonitor(monitor, future);
+		final int n = slices.size();
+		final List<CompletableFuture<IDataset>> parts = new ArrayList<CompletableFuture<IDataset>>(n);
+		for (int i = 0; i < n; i++) {
+			parts.add(getSliceAsync(m, slices.get(i)));
+		}
+
+		// fail as soon as any slice fails
+		for (CompletableFuture<IDataset> p : parts) {
+			p.whenComplete((d, e) -> {
+				if (e != null) {
+					future.completeExceptionally(e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+				}
+			});
+		}
+		CompletableFuture.allOf(parts.toArray(new CompletableFuture<?>[n])).thenRun(() -> {
+			List<IDataset> results = new ArrayList<IDataset>(n);
+			for (CompletableFuture<IDataset> p : parts) {
+				results.add(p.join());
+			}
+			future.complete(results);
+		});
+		// cancel outstanding slices
+		future.whenComplete((v, e) -> {
+			if (e != null) {
+				for (CompletableFuture<IDataset> p : parts) {
+					p.cancel(false);
+				}
+			}
+		});
+		return future;
+	}
+
 	/**
 	 * Get a slice of the dataset. The returned lazy dataset is a view on a selection of items
 	 * 
@@ -12,6 +12,8 @@
 
 package org.eclipse.january.dataset;
 
+import java.util.function.IntConsumer;
+
 /**
  * <p>Class to provide iteration through whole data array that backs a dataset</p>
  * <p>Instantiate an iterator and use it in a while loop:
@@ -47,6 +49,16 @@ public abstract class IndexIterator {
 	 */
 	abstract public void reset();
 
+	/**
+	 * Pass each remaining index to action
+	 * @param action
+	 */
+	public void forEachRemaining(IntConsumer action) {
+		while (hasNext()) {
+			action.accept(index);
+		}
+	}
+
 	/**
 	 * @return shape of iterator (can be null, if not known or applicable)
 	 */
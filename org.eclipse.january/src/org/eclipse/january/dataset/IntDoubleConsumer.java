@@ -0,0 +1,23 @@
+/*-
+ * Copyright 2016 Diamond Light Source Ltd.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.january.dataset;
+
+/**
+ * Operation that accepts an index and a double value, e.g. an element of a dataset and its position
+ * in row-major order
+ */
+@FunctionalInterface
+public interface IntDoubleConsumer {
+	/**
+	 * @param index
+	 * @param value
+	 */
+	public void accept(int index, double value);
+}
@@ -123,10 +123,7 @@ public class IntegerDataset extends AbstractDataset {
 				base = null;
 				odata = data = createArray(size);
 
-				IndexIterator iter = dataset.getIterator();
-				for (int i = 0; iter.hasNext(); i++) {
-					data[i] = dataset.data[iter.index];
-				}
+				StridedCopier.copy(dataset, data);
 			}
 		} catch (Throwable t) {
 			logger.error("Could not create a dataset of shape {}", Arrays.toString(shape), t);
@@ -588,23 +585,36 @@ public class IntegerDataset extends AbstractDataset {
 	public IntegerDataset sort(Integer axis) {
 		if (axis == null) {
 			if (stride == null) {
-				Arrays.sort(data);
+				if (ParallelUtils.isParallel(null, size)) {
+					Arrays.parallelSort(data);
+				} else {
+					Arrays.sort(data);
+				}
+				// Arrays.sort(data); // OBJECT_USE
 			} else {
 				IntegerDataset ads = clone().sort(null);
 				setSlicedView(getView(false), ads);
 			}
 		} else {
-			axis = checkAxis(axis);
-			
-			IntegerDataset ads = new IntegerDataset(shape[axis]);
-			PositionIterator pi = getPositionIterator(axis);
-			int[] pos = pi.getPos();
-			boolean[] hit = pi.getOmit();
-			while (pi.hasNext()) {
-				copyItemsFromAxes(pos, hit, ads);
-				Arrays.sort(ads.data);
-				setItemsOnAxes(pos, hit, ads.data);
-			}
+			final int a = checkAxis(axis);
+			final int n = shape[a];
+			final int step = getAxisStep(a);
+			forEachLane(a, null, () -> {
+				final int[] lane = step == 1 ? null : new int[n]; // PRIM_TYPE
+				return (l, o) -> {
+					if (step == 1) {
+						Arrays.sort(data, o, o + n);
+						return;
+					}
+					for (int i = 0, j = o; i < n; i++, j += step) {
+						lane[i] = data[j];
+					}
+					Arrays.sort(lane);
+					for (int i = 0, j = o; i < n; i++, j += step) {
+						data[j] = lane[i];
+					}
+				};
+			});
 		}
 		
 		setDirty();
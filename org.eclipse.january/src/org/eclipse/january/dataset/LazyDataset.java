@@ -51,6 +51,9 @@ public class LazyDataset extends LazyDatasetBase implements Serializable, Clonea
 	protected int[]       map; // transposition map (same length as current shape)
 	protected Map<Class<? extends MetadataType>, List<MetadataType>> oMetadata = null;
 
+	protected transient ChunkCache cache = null;
+	protected int[] chunkShape = null; // null for default
+
 	/**
 	 * Create a lazy dataset
 	 * @param name
@@ -205,9 +208,42 @@ public class LazyDataset extends LazyDatasetBase implements Serializable, Clonea
 		ret.base = base;
 		ret.metadata = copyMetadata();
 		ret.oMetadata = oMetadata;
+		ret.cache = cache;
+		ret.chunkShape = chunkShape;
 		return ret;
 	}
 
+	/**
+	 * Set cache of chunks to read slices through. Slices are assembled from whole chunks which are
+	 * kept in the cache so later slices that overlap them do not need to read them again. Views of
+	 * this dataset share its cache
+	 * @param cache can be null to read slices directly from loader
+	 * @param chunk shape of chunks (relative to loader's shape). If null, chunks span the last
+	 * dimensions and hold at most {@link ChunkCache#DEFAULT_CHUNK_SIZE} items
+	 */
+	public void setChunkCache(ChunkCache cache, int... chunk) {
+		if (chunk != null && chunk.length == 0) {
+			chunk = null;
+		}
+		if (chunk != null) {
+			for (int c : chunk) {
+				if (c <= 0) {
+					throw new IllegalArgumentException("Chunk shape must be positive");
+				}
+			}
+			chunk = chunk.clone();
+		}
+		this.cache = cache;
+		chunkShape = chunk;
+	}
+
+	/**
+	 * @return cache of chunks or null if slices are read directly from loader
+	 */
+	public ChunkCache getChunkCache() {
+		return cache;
+	}
+
 	@Override
 	public void setShape(int... shape) {
 		setShapeInternal(shape);
@@ -407,7 +443,7 @@ public class LazyDataset extends LazyDatasetBase implements Serializable, Clonea
 			a = base.getSlice(monitor, nslice);
 		} else {
 			try {
-				a = DatasetUtils.convertToDataset(loader.getDataset(monitor, nslice));
+				a = loadSlice(monitor, nslice);
 			} catch (IOException e) {
 				logger.error("Problem getting {}: {}", String.format("slice %s %s %s from %s", Arrays.toString(slice.getStart()), Arrays.toString(slice.getStop()),
 								Arrays.toString(slice.getStep()), loader), e);
@@ -434,6 +470,25 @@ public class LazyDataset extends LazyDatasetBase implements Serializable, Clonea
 		return a;
 	}
 
+	private Dataset loadSlice(IMonitor monitor, SliceND nslice) throws IOException {
+		if (cache == null) {
+			return DatasetUtils.convertToDataset(loader.getDataset(monitor, nslice));
+		}
+
+		int[] chunk = chunkShape;
+		final int rank = oShape.length;
+		if (chunk == null) {
+			chunk = ChunkCache.getDefaultChunkShape(oShape);
+		} else if (chunk.length != rank) { // rank changed by setting maximum shape
+			int[] nChunk = new int[rank];
+			Arrays.fill(nChunk, 1);
+			int n = Math.min(rank, chunk.length);
+			System.arraycopy(chunk, chunk.length - n, nChunk, rank - n, n);
+			chunk = nChunk;
+		}
+		return cache.getSlice(monitor, loader, oShape, chunk, nslice, dtype, isize);
+	}
+
 	// reverse transform
 	private int[] getOriginal(int[] values) {
 		if (values == null)
@@ -22,8 +22,15 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.january.DatasetException;
+import org.eclipse.january.IMonitor;
 import org.eclipse.january.MetadataException;
 import org.eclipse.january.metadata.ErrorMetadata;
 import org.eclipse.january.metadata.IMetadata;
@@ -1002,4 +1009,71 @@ public abstract class LazyDatasetBase implements ILazyDataset, Serializable {
 
 		return axes;
 	}
+
+	private static volatile Executor asyncExecutor = null;
+
+	private static class DefaultExecutorHolder {
+		static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()),
+				new DaemonThreadFactory());
+	}
+
+	private static class DaemonThreadFactory implements ThreadFactory {
+		private final AtomicInteger count = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable r) {
+			Thread t = new Thread(r, "Lazy dataset slicer " + count.incrementAndGet());
+			t.setDaemon(true);
+			return t;
+		}
+	}
+
+	/**
+	 * @return executor used to get slices asynchronously
+	 */
+	public static Executor getAsyncExecutor() {
+		Executor e = asyncExecutor;
+		return e == null ? DefaultExecutorHolder.EXECUTOR : e;
+	}
+
+	/**
+	 * Set executor used to get slices asynchronously. As slicing a lazy dataset often waits on
+	 * I/O, this should not be a pool used for computation
+	 * @param executor can be null to use default pool of daemon threads
+	 */
+	public static void setAsyncExecutor(Executor executor) {
+		asyncExecutor = executor;
+	}
+
+	/**
+	 * Monitor that is cancelled when its future is cancelled
+	 */
+	static class FutureMonitor implements IMonitor {
+		private final IMonitor monitor;
+		private final CompletableFuture<?> future;
+
+		FutureMonitor(IMonitor monitor, CompletableFuture<?> future) {
+			this.monitor = monitor;
+			this.future = future;
+		}
+
+		@Override
+		public void worked(int amount) {
+			if (monitor != null) {
+				monitor.worked(amount);
+			}
+		}
+
+		@Override
+		public boolean isCancelled() {
+			return future.isCancelled() || (monitor != null && monitor.isCancelled());
+		}
+
+		@Override
+		public void subTask(String taskName) {
+			if (monitor != null) {
+				monitor.subTask(taskName);
+			}
+		}
+	}
 }
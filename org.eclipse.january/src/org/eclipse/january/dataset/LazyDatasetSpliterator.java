@@ -0,0 +1,225 @@
+/*-
+ * Copyright 2016 Diamond Light Source Ltd.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.january.dataset;
+
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+import java.util.function.LongConsumer;
+
+import org.eclipse.january.DatasetException;
+
+/**
+ * Spliterator over the elements of a lazy dataset in row-major order. The dataset is loaded in
+ * chunks of rows (along its first dimension) as they are traversed and it splits on chunk
+ * boundaries so each chunk is loaded once by one thread.
+ * <p>
+ * As streams cannot throw checked exceptions, a failure to load a chunk is rethrown as a runtime
+ * exception
+ */
+abstract class LazyDatasetSpliterator {
+	/**
+	 * Default target number of elements in each chunk
+	 */
+	static final int CHUNK_SIZE = 1 << 20;
+
+	protected final ILazyDataset lazy;
+	protected final int rows;
+	protected final long rowSize;
+	protected int row;
+	protected final int end;
+	protected DatasetSpliterator current;
+
+	/**
+	 * @param lazy
+	 * @param rows number of rows in each chunk
+	 * @param start first row
+	 * @param end row after last row
+	 * @param current spliterator of partly traversed chunk (can be null)
+	 */
+	LazyDatasetSpliterator(final ILazyDataset lazy, final int rows, final int start, final int end, final DatasetSpliterator current) {
+		if (rows <= 0) {
+			throw new IllegalArgumentException("Number of rows in chunk must be positive");
+		}
+		this.lazy = lazy;
+		this.rows = rows;
+		final int[] shape = lazy.getShape();
+		rowSize = shape.length == 0 ? lazy.getElementsPerItem() :
+			ShapeUtils.calcLongSize(shape) / Math.max(1, shape[0]) * lazy.getElementsPerItem();
+		row = start;
+		this.end = end;
+		this.current = current;
+	}
+
+	/**
+	 * @param lazy
+	 * @return number of rows to load in each chunk
+	 */
+	static int getChunkRows(final ILazyDataset lazy) {
+		final int[] shape = lazy.getShape();
+		if (shape.length == 0 || shape[0] == 0) {
+			return 1;
+		}
+		final long size = ShapeUtils.calcLongSize(shape) / shape[0] * lazy.getElementsPerItem();
+		return (int) Math.max(1, Math.min(shape[0], CHUNK_SIZE / Math.max(1, size)));
+	}
+
+	/**
+	 * @param lazy
+	 * @return number of rows in lazy dataset
+	 */
+	static int getRowCount(final ILazyDataset lazy) {
+		final int[] shape = lazy.getShape();
+		return shape.length == 0 ? 1 : shape[0];
+	}
+
+	/**
+	 * Load next chunk and advance row
+	 * @return chunk
+	 */
+	protected Dataset nextChunk() {
+		final int stop = (int) Math.min((long) row + rows, end);
+		IDataset chunk;
+		try {
+			chunk = lazy.getRank() == 0 ? lazy.getSlice() : lazy.getSlice(new Slice(row, stop));
+		} catch (DatasetException e) {
+			throw new RuntimeException("Could not get data from lazy dataset", e);
+		}
+		row = stop;
+		return DatasetUtils.convertToDataset(chunk);
+	}
+
+	/**
+	 * @return boundary of chunk to split at or -1 if remainder is too small to split
+	 */
+	protected int getSplit() {
+		final int chunks = (int) ((end - row + (long) rows - 1) / rows);
+		if (chunks < 2) {
+			return -1;
+		}
+		return row + (chunks / 2) * rows;
+	}
+
+	/**
+	 * @return true if current chunk has been traversed
+	 */
+	protected boolean isCurrentDone() {
+		return current == null || current.estimateSize() == 0;
+	}
+
+	public long estimateSize() {
+		return (end - row) * rowSize + (current == null ? 0 : current.estimateSize());
+	}
+
+	public int characteristics() {
+		return DatasetSpliterator.CHARACTERISTICS;
+	}
+
+	/**
+	 * Spliterator over elements as doubles
+	 */
+	static class Doubles extends LazyDatasetSpliterator implements Spliterator.OfDouble {
+		/**
+		 * @param lazy
+		 * @param rows number of rows in each chunk
+		 */
+		Doubles(final ILazyDataset lazy, final int rows) {
+			this(lazy, rows, 0, getRowCount(lazy), null);
+		}
+
+		private Doubles(final ILazyDataset lazy, final int rows, final int start, final int end, final DatasetSpliterator current) {
+			super(lazy, rows, start, end, current);
+		}
+
+		@Override
+		public Doubles trySplit() {
+			final int mid = getSplit();
+			if (mid < 0) {
+				return null;
+			}
+			final Doubles prefix = new Doubles(lazy, rows, row, mid, current);
+			current = null;
+			row = mid;
+			return prefix;
+		}
+
+		@Override
+		public boolean tryAdvance(final DoubleConsumer action) {
+			while (isCurrentDone()) {
+				if (row >= end) {
+					return false;
+				}
+				current = new DatasetSpliterator.Doubles(nextChunk());
+			}
+			return ((DatasetSpliterator.Doubles) current).tryAdvance(action);
+		}
+
+		@Override
+		public void forEachRemaining(final DoubleConsumer action) {
+			if (current != null) {
+				((DatasetSpliterator.Doubles) current).forEachRemaining(action);
+				current = null;
+			}
+			while (row < end) {
+				new DatasetSpliterator.Doubles(nextChunk()).forEachRemaining(action);
+			}
+		}
+	}
+
+	/**
+	 * Spliterator over elements as longs
+	 */
+	static class Longs extends LazyDatasetSpliterator implements Spliterator.OfLong {
+		/**
+		 * @param lazy
+		 * @param rows number of rows in each chunk
+		 */
+		Longs(final ILazyDataset lazy, final int rows) {
+			this(lazy, rows, 0, getRowCount(lazy), null);
+		}
+
+		private Longs(final ILazyDataset lazy, final int rows, final int start, final int end, final DatasetSpliterator current) {
+			super(lazy, rows, start, end, current);
+		}
+
+		@Override
+		public Longs trySplit() {
+			final int mid = getSplit();
+			if (mid < 0) {
+				return null;
+			}
+			final Longs prefix = new Longs(lazy, rows, row, mid, current);
+			current = null;
+			row = mid;
+			return prefix;
+		}
+
+		@Override
+		public boolean tryAdvance(final LongConsumer action) {
+			while (isCurrentDone()) {
+				if (row >= end) {
+					return false;
+				}
+				current = new DatasetSpliterator.Longs(nextChunk());
+			}
+			return ((DatasetSpliterator.Longs) current).tryAdvance(action);
+		}
+
+		@Override
+		public void forEachRemaining(final LongConsumer action) {
+			if (current != null) {
+				((DatasetSpliterator.Longs) current).forEachRemaining(action);
+				current = null;
+			}
+			while (row < end) {
+				new DatasetSpliterator.Longs(nextChunk()).forEachRemaining(action);
+			}
+		}
+	}
+}
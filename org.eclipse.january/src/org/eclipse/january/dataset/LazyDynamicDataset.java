@@ -97,6 +97,9 @@ public class LazyDynamicDataset extends LazyDataset implements IDynamicDataset {
 
 	@Override
 	public void refreshShape() {
+		if (cache != null) {
+			cache.invalidate(loader);
+		}
 		if (loader instanceof ILazyDynamicLoader) {
 			resize(((ILazyDynamicLoader)loader).refreshShape());
 		}
@@ -179,6 +182,8 @@ public class LazyDynamicDataset extends LazyDataset implements IDynamicDataset {
 		ret.metadata = copyMetadata();
 		ret.oMetadata = oMetadata;
 		ret.eventDelegate = eventDelegate;
+		ret.cache = cache;
+		ret.chunkShape = chunkShape;
 		return ret;
 	}
 
@@ -12,14 +12,32 @@
 
 package org.eclipse.january.dataset;
 
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.january.DatasetException;
+import org.eclipse.january.IMonitor;
+import org.eclipse.january.io.ILazyLoader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Mathematics class for lazy datasets
+ * <p>
+ * The whole-dataset reductions (sum, minimum, maximum, variance, argument of maximum and
+ * histogram) stream over blocks of the dataset along its first dimension so only a bounded
+ * amount of data is held in memory at once. When parallel, several blocks are loaded and reduced
+ * at the same time within the memory budget. Each block reports one unit of work to the monitor
+ * and the reduction stops with an exception if the monitor is cancelled
+ * <p>
+ * The element-wise operations return lazy datasets whose loaders apply the operation to each
+ * requested slice of their operands so the whole result is never held in memory
  */
 public final class LazyMaths {
 	/**
@@ -140,4 +158,602 @@ public final class LazyMaths {
 
 		return DatasetFactory.zeros(nshape, Dataset.FLOAT64);
 	}
+
+	/**
+	 * Default maximum number of bytes to hold in memory in blocks when reducing
+	 */
+	public static final long DEFAULT_MEMORY_BUDGET = 256L << 20;
+
+	private static volatile long budget = DEFAULT_MEMORY_BUDGET;
+
+	/**
+	 * @return maximum number of bytes to hold in memory in blocks when reducing
+	 */
+	public static long getMemoryBudget() {
+		return budget;
+	}
+
+	/**
+	 * Set maximum number of bytes to hold in memory in blocks when reducing
+	 * @param bytes
+	 */
+	public static void setMemoryBudget(long bytes) {
+		if (bytes <= 0) {
+			throw new IllegalArgumentException("Memory budget must be positive");
+		}
+		budget = bytes;
+	}
+
+	/**
+	 * Reduction of a block of a lazy dataset
+	 * @param <T> type of partial result
+	 */
+	private interface BlockReduction<T> {
+		/**
+		 * @param block
+		 * @param offset index of first item of block in whole dataset
+		 * @return partial result
+		 */
+		T reduce(Dataset block, long offset);
+	}
+
+	/**
+	 * Reduce each block of lazy dataset
+	 * @param data
+	 * @param monitor can be null
+	 * @param mode execution mode (can be null to use global mode)
+	 * @param reduction
+	 * @return partial results of blocks in order
+	 * @throws DatasetException
+	 */
+	private static <T> List<T> reduceBlocks(final ILazyDataset data, final IMonitor monitor, final ExecutionMode mode,
+			final BlockReduction<T> reduction) throws DatasetException {
+		if (data.getElementsPerItem() != 1) {
+			throw new IllegalArgumentException("Compound datasets are not supported");
+		}
+		final int[] shape = data.getShape();
+		final long size = ShapeUtils.calcLongSize(shape);
+		if (size == 0) {
+			throw new IllegalArgumentException("Dataset is empty");
+		}
+
+		final int rank = shape.length;
+		final int length = rank == 0 ? 1 : shape[0];
+		final long rowSize = size / length;
+		final long rowBytes = rowSize * DTypeUtils.getItemBytes(DTypeUtils.getDTypeFromClass(data.getElementClass()));
+		final boolean parallel = ParallelUtils.isParallel(mode, size);
+		final int threads = parallel ? ParallelUtils.getParallelism() : 1;
+		int rows = (int) Math.max(1, Math.min(length, budget / threads / Math.max(1, rowBytes)));
+		if (data instanceof ILazyWriteableDataset) { // align to chunks
+			int[] chunks = ((ILazyWriteableDataset) data).getChunking();
+			if (chunks != null && chunks.length == rank && rank > 0 && chunks[0] > 0 && rows > chunks[0]) {
+				rows -= rows % chunks[0];
+			}
+		}
+		final int step = rows;
+		final int blocks = (length + step - 1) / step;
+		final List<T> results = new ArrayList<T>(blocks);
+		for (int b = 0; b < blocks; b++) {
+			results.add(null);
+		}
+
+		if (!parallel || blocks == 1) {
+			for (int b = 0; b < blocks; b++) {
+				results.set(b, reduceBlock(data, monitor, reduction, b * step, Math.min(length, (b + 1) * step), rowSize));
+			}
+			return results;
+		}
+
+		final AtomicInteger next = new AtomicInteger();
+		final IMonitor m = monitor == null ? null : new SynchronizedMonitor(monitor);
+		final List<CompletableFuture<Void>> workers = new ArrayList<CompletableFuture<Void>>();
+		for (int t = 0, n = Math.min(threads, blocks); t < n; t++) {
+			workers.add(CompletableFuture.runAsync(() -> {
+				int b;
+				while ((b = next.getAndIncrement()) < blocks) {
+					try {
+						results.set(b, reduceBlock(data, m, reduction, b * step, Math.min(length, (b + 1) * step), rowSize));
+					} catch (DatasetException e) {
+						next.set(blocks); // stop other workers
+						throw new CompletionException(e);
+					}
+				}
+			}, LazyDatasetBase.getAsyncExecutor()));
+		}
+		try {
+			CompletableFuture.allOf(workers.toArray(new CompletableFuture<?>[workers.size()])).join();
+		} catch (CompletionException e) {
+			Throwable c = e.getCause();
+			if (c instanceof DatasetException) {
+				throw (DatasetException) c;
+			} else if (c instanceof RuntimeException) {
+				throw (RuntimeException) c;
+			}
+			throw new DatasetException(c);
+		}
+		return results;
+	}
+
+	private static <T> T reduceBlock(final ILazyDataset data, final IMonitor monitor, final BlockReduction<T> reduction,
+			final int start, final int stop, final long rowSize) throws DatasetException {
+		if (monitor != null && monitor.isCancelled()) {
+			throw new DatasetException("Reduction cancelled");
+		}
+		IDataset block;
+		if (data.getRank() == 0) {
+			block = data.getSlice(monitor);
+		} else if (data instanceof Dataset) {
+			block = ((Dataset) data).getSliceView(new Slice(start, stop));
+		} else {
+			block = data.getSlice(monitor, new Slice(start, stop));
+		}
+		T r = reduction.reduce(DatasetUtils.convertToDataset(block), start * rowSize);
+		if (monitor != null) {
+			monitor.worked(1);
+		}
+		return r;
+	}
+
+	/**
+	 * Monitor that can be used by several threads
+	 */
+	private static class SynchronizedMonitor implements IMonitor {
+		private final IMonitor monitor;
+
+		SynchronizedMonitor(IMonitor monitor) {
+			this.monitor = monitor;
+		}
+
+		@Override
+		public synchronized void worked(int amount) {
+			monitor.worked(amount);
+		}
+
+		@Override
+		public synchronized boolean isCancelled() {
+			return monitor.isCancelled();
+		}
+
+		@Override
+		public synchronized void subTask(String taskName) {
+			monitor.subTask(taskName);
+		}
+	}
+
+	/**
+	 * @param data
+	 * @return sum of all items in lazy dataset
+	 * @throws DatasetException
+	 */
+	public static double sum(final ILazyDataset data) throws DatasetException {
+		return sum(data, null, null);
+	}
+
+	/**
+	 * @param data
+	 * @param monitor can be null
+	 * @param mode execution mode (can be null to use global mode)
+	 * @return sum of all items in lazy dataset
+	 * @throws DatasetException
+	 */
+	public static double sum(final ILazyDataset data, final IMonitor monitor, final ExecutionMode mode) throws DatasetException {
+		double sum = 0;
+		for (Double s : reduceBlocks(data, monitor, mode, (block, offset) -> ((Number) block.sum()).doubleValue())) {
+			sum += s;
+		}
+		return sum;
+	}
+
+	/**
+	 * @param data
+	 * @return minimum of all items in lazy dataset (NaN if any item is NaN)
+	 * @throws DatasetException
+	 */
+	public static double min(final ILazyDataset data) throws DatasetException {
+		return min(data, null, null);
+	}
+
+	/**
+	 * @param data
+	 * @param monitor can be null
+	 * @param mode execution mode (can be null to use global mode)
+	 * @return minimum of all items in lazy dataset (NaN if any item is NaN)
+	 * @throws DatasetException
+	 */
+	public static double min(final ILazyDataset data, final IMonitor monitor, final ExecutionMode mode) throws DatasetException {
+		double min = Double.POSITIVE_INFINITY;
+		for (Double m : reduceBlocks(data, monitor, mode, (block, offset) -> block.min().doubleValue())) {
+			min = Math.min(min, m);
+		}
+		return min;
+	}
+
+	/**
+	 * @param data
+	 * @return maximum of all items in lazy dataset (NaN if any item is NaN)
+	 * @throws DatasetException
+	 */
+	public static double max(final ILazyDataset data) throws DatasetException {
+		return max(data, null, null);
+	}
+
+	/**
+	 * @param data
+	 * @param monitor can be null
+	 * @param mode execution mode (can be null to use global mode)
+	 * @return maximum of all items in lazy dataset (NaN if any item is NaN)
+	 * @throws DatasetException
+	 */
+	public static double max(final ILazyDataset data, final IMonitor monitor, final ExecutionMode mode) throws DatasetException {
+		double max = Double.NEGATIVE_INFINITY;
+		for (Double m : reduceBlocks(data, monitor, mode, (block, offset) -> block.max().doubleValue())) {
+			max = Math.max(max, m);
+		}
+		return max;
+	}
+
+	/**
+	 * @param data
+	 * @return index of first maximum of all items in lazy dataset (or of first NaN) as if it were flattened
+	 * @throws DatasetException
+	 */
+	public static long argMax(final ILazyDataset data) throws DatasetException {
+		return argMax(data, null, null);
+	}
+
+	/**
+	 * @param data
+	 * @param monitor can be null
+	 * @param mode execution mode (can be null to use global mode)
+	 * @return index of first maximum of all items in lazy dataset (or of first NaN) as if it were flattened
+	 * @throws DatasetException
+	 */
+	public static long argMax(final ILazyDataset data, final IMonitor monitor, final ExecutionMode mode) throws DatasetException {
+		List<double[]> partials = reduceBlocks(data, monitor, mode, (block, offset) -> {
+			int i = block.argMax();
+			return new double[] {block.getDouble(ShapeUtils.getNDPositionFromShape(i, block.getShapeRef())), offset + i};
+		});
+		double[] best = null;
+		for (double[] p : partials) {
+			if (best == null || (!Double.isNaN(best[0]) && (Double.isNaN(p[0]) || p[0] > best[0]))) {
+				best = p;
+			}
+		}
+		return (long) best[1];
+	}
+
+	/**
+	 * @param data
+	 * @return sample variance of all items in lazy dataset
+	 * @throws DatasetException
+	 */
+	public static double variance(final ILazyDataset data) throws DatasetException {
+		return variance(data, false, null, null);
+	}
+
+	/**
+	 * @param data
+	 * @param isWholePopulation if false, use N-1 as denominator
+	 * @param monitor can be null
+	 * @param mode execution mode (can be null to use global mode)
+	 * @return variance of all items in lazy dataset
+	 * @throws DatasetException
+	 */
+	public static double variance(final ILazyDataset data, final boolean isWholePopulation, final IMonitor monitor, final ExecutionMode mode) throws DatasetException {
+		List<double[]> partials = reduceBlocks(data, monitor, mode, (block, offset) -> {
+			final int n = block.getSize();
+			return new double[] {n, ((Number) block.mean()).doubleValue(), block.variance(true).doubleValue() * n};
+		});
+
+		// combine counts, means and sums of squared differences
+		double count = 0;
+		double mean = 0;
+		double m2 = 0;
+		for (double[] p : partials) {
+			final double n = count + p[0];
+			final double delta = p[1] - mean;
+			mean += delta * p[0] / n;
+			m2 += p[2] + delta * delta * count * p[0] / n;
+			count = n;
+		}
+		return m2 / (isWholePopulation ? count : count - 1);
+	}
+
+	/**
+	 * Histogram of all items in lazy dataset using range of its values that are not NaNs. When
+	 * all items are NaNs, all counts are zero
+	 * @param data
+	 * @param bins number of bins
+	 * @return histogram
+	 * @throws DatasetException
+	 * @see #histogram(ILazyDataset, int, double, double, IMonitor, ExecutionMode)
+	 */
+	public static Dataset histogram(final ILazyDataset data, final int bins) throws DatasetException {
+		if (bins <= 0) {
+			throw new IllegalArgumentException("Number of bins must be positive");
+		}
+		// find range in one pass as a block's maximum is cached with its minimum
+		double lo = Double.POSITIVE_INFINITY;
+		double hi = Double.NEGATIVE_INFINITY;
+		for (double[] r : reduceBlocks(data, null, null, (block, offset) -> new double[] {block.min(true).doubleValue(), block.max(true).doubleValue()})) {
+			lo = Math.min(lo, r[0]);
+			hi = Math.max(hi, r[1]);
+		}
+		if (lo > hi) { // all items are NaNs
+			return DatasetFactory.zeros(new int[] {bins}, Dataset.INT64);
+		}
+		return histogram(data, bins, lo, hi, null, null);
+	}
+
+	/**
+	 * Histogram of all items in lazy dataset. The bins are equal divisions of given range and the
+	 * last one includes the upper bound. Items outside the range and NaNs are not counted
+	 * @param data
+	 * @param bins number of bins
+	 * @param lo lower bound of range
+	 * @param hi upper bound of range
+	 * @param monitor can be null
+	 * @param mode execution mode (can be null to use global mode)
+	 * @return histogram as 64-bit integer dataset of counts
+	 * @throws DatasetException
+	 */
+	public static Dataset histogram(final ILazyDataset data, final int bins, final double lo, final double hi,
+			final IMonitor monitor, final ExecutionMode mode) throws DatasetException {
+		if (bins <= 0) {
+			throw new IllegalArgumentException("Number of bins must be positive");
+		}
+		if (!(hi >= lo)) {
+			throw new IllegalArgumentException("Upper bound of range must not be less than lower bound");
+		}
+		final double scale = hi > lo ? bins / (hi - lo) : 0;
+		List<long[]> partials = reduceBlocks(data, monitor, mode, (block, offset) -> {
+			final long[] counts = new long[bins];
+			final IndexIterator it = block.getIterator();
+			while (it.hasNext()) {
+				final double v = block.getElementDoubleAbs(it.index);
+				if (v >= lo && v <= hi) {
+					counts[Math.min(bins - 1, (int) ((v - lo) * scale))]++;
+				}
+			}
+			return counts;
+		});
+
+		final long[] counts = new long[bins];
+		for (long[] p : partials) {
+			for (int i = 0; i < bins; i++) {
+				counts[i] += p[i];
+			}
+		}
+		return DatasetFactory.createFromObject(counts);
+	}
+
+	/**
+	 * Element-wise operation on slices of operands
+	 */
+	private interface SliceOperation extends Serializable {
+		/**
+		 * @param operands
+		 * @return result of operation
+		 */
+		Dataset operate(Dataset[] operands);
+	}
+
+	/**
+	 * Loader that applies an operation to slices of its operands which are broadcast to the shape
+	 * of the result. Operands can be lazy datasets or datasets
+	 */
+	private static class OperationLoader implements ILazyLoader {
+		private static final long serialVersionUID = 1L;
+
+		private final Object[] operands;
+		private final int[] shape;
+		private final SliceOperation operation;
+
+		OperationLoader(final Object[] operands, final int[] shape, final SliceOperation operation) {
+			this.operands = operands;
+			this.shape = shape;
+			this.operation = operation;
+		}
+
+		@Override
+		public boolean isFileReadable() {
+			return true;
+		}
+
+		@Override
+		public IDataset getDataset(IMonitor mon, SliceND slice) throws IOException {
+			final Dataset[] slices = new Dataset[operands.length];
+			try {
+				for (int i = 0; i < operands.length; i++) {
+					final Object o = operands[i];
+					final ILazyDataset l = (ILazyDataset) o;
+					final int[] oshape = l.getShape();
+					if (oshape.length == 0) {
+						slices[i] = DatasetUtils.convertToDataset(l.getSlice(mon));
+						continue;
+					}
+					final SliceND s = getOperandSlice(oshape, slice);
+					slices[i] = o instanceof Dataset ? ((Dataset) o).getSliceView(s) :
+						DatasetUtils.convertToDataset(l.getSlice(mon, s));
+				}
+			} catch (DatasetException e) {
+				throw new IOException("Could not get slice of operand", e);
+			}
+			return operation.operate(slices);
+		}
+
+		/**
+		 * @param oshape shape of operand
+		 * @param slice of result
+		 * @return slice of operand to broadcast to slice of result
+		 */
+		private SliceND getOperandSlice(final int[] oshape, final SliceND slice) {
+			final int[] start = slice.getStart();
+			final int[] stop = slice.getStop();
+			final int[] step = slice.getStep();
+			final int offset = shape.length - oshape.length;
+			final SliceND s = new SliceND(oshape);
+			for (int i = 0; i < oshape.length; i++) {
+				if (oshape[i] == 1) {
+					s.setSlice(i, 0, 1, 1);
+				} else {
+					final int j = i + offset;
+					// negative step can stop before the start of dimension
+					s.setSlice(i, Integer.valueOf(start[j]), stop[j] < 0 ? null : Integer.valueOf(stop[j]), step[j]);
+				}
+			}
+			return s;
+		}
+	}
+
+	/**
+	 * Create lazy dataset that applies operation to slices of operands
+	 * @param name
+	 * @param operation
+	 * @param objects operands
+	 * @return lazy dataset
+	 */
+	private static ILazyDataset createLazyOperation(final String name, final SliceOperation operation, final Object... objects) {
+		final int n = objects.length;
+		final Object[] operands = new Object[n];
+		final int[][] shapes = new int[n][];
+		final Dataset[] probes = new Dataset[n];
+		for (int i = 0; i < n; i++) {
+			final Object o = objects[i];
+			final ILazyDataset l;
+			if (o instanceof ILazyDataset) {
+				l = o instanceof IDataset ? DatasetUtils.convertToDataset((IDataset) o) : ((ILazyDataset) o).getSliceView();
+			} else {
+				l = DatasetFactory.createFromObject(o);
+			}
+			operands[i] = l;
+			shapes[i] = l.getShape();
+
+			// single item of operand type to find type of result
+			final int dtype = DTypeUtils.getDTypeFromClass(l.getElementClass(), l.getElementsPerItem());
+			probes[i] = DatasetFactory.zeros(l.getElementsPerItem(), shapes[i].length == 0 ? new int[0] : new int[] {1}, dtype);
+			probes[i].fill(1);
+		}
+
+		final int[] shape = BroadcastUtils.broadcastShapes(shapes).get(0);
+		BroadcastUtils.broadcastShapesToMax(shape, shapes); // check all are compatible
+		final Dataset probe = operation.operate(probes);
+		return new LazyDataset(name, probe.getDType(), probe.getElementsPerItem(), shape,
+				new OperationLoader(operands, shape, operation));
+	}
+
+	/**
+	 * @param a
+	 * @param b
+	 * @return lazy dataset of a + b
+	 * @see Maths#add(Object, Object)
+	 */
+	public static ILazyDataset add(final ILazyDataset a, final Object b) {
+		return createLazyOperation(a.getName(), o -> Maths.add(o[0], o[1]), a, b);
+	}
+
+	/**
+	 * @param a
+	 * @param b
+	 * @return lazy dataset of a - b
+	 * @see Maths#subtract(Object, Object)
+	 */
+	public static ILazyDataset subtract(final ILazyDataset a, final Object b) {
+		return createLazyOperation(a.getName(), o -> Maths.subtract(o[0], o[1]), a, b);
+	}
+
+	/**
+	 * @param a
+	 * @param b
+	 * @return lazy dataset of a * b
+	 * @see Maths#multiply(Object, Object)
+	 */
+	public static ILazyDataset multiply(final ILazyDataset a, final Object b) {
+		return createLazyOperation(a.getName(), o -> Maths.multiply(o[0], o[1]), a, b);
+	}
+
+	/**
+	 * @param a
+	 * @param b
+	 * @return lazy dataset of a / b
+	 * @see Maths#divide(Object, Object)
+	 */
+	public static ILazyDataset divide(final ILazyDataset a, final Object b) {
+		return createLazyOperation(a.getName(), o -> Maths.divide(o[0], o[1]), a, b);
+	}
+
+	/**
+	 * @param a
+	 * @param b
+	 * @return lazy dataset of a ** b
+	 * @see Maths#power(Object, Object)
+	 */
+	public static ILazyDataset power(final ILazyDataset a, final Object b) {
+		return createLazyOperation(a.getName(), o -> Maths.power(o[0], o[1]), a, b);
+	}
+
+	/**
+	 * @param a
+	 * @param b
+	 * @return lazy dataset of element-wise maximum of a and b
+	 * @see Maths#maximum(Object, Object)
+	 */
+	public static ILazyDataset maximum(final ILazyDataset a, final Object b) {
+		return createLazyOperation(a.getName(), o -> Maths.maximum(o[0], o[1]), a, b);
+	}
+
+	/**
+	 * @param a
+	 * @param b
+	 * @return lazy dataset of element-wise minimum of a and b
+	 * @see Maths#minimum(Object, Object)
+	 */
+	public static ILazyDataset minimum(final ILazyDataset a, final Object b) {
+		return createLazyOperation(a.getName(), o -> Maths.minimum(o[0], o[1]), a, b);
+	}
+
+	/**
+	 * @param a
+	 * @return lazy dataset of absolute values of a
+	 * @see Maths#abs(Object)
+	 */
+	public static ILazyDataset abs(final ILazyDataset a) {
+		return createLazyOperation(a.getName(), o -> Maths.abs(o[0]), a);
+	}
+
+	/**
+	 * @param a
+	 * @return lazy dataset of -a
+	 * @see Maths#negative(Object)
+	 */
+	public static ILazyDataset negative(final ILazyDataset a) {
+		return createLazyOperation(a.getName(), o -> Maths.negative(o[0]), a);
+	}
+
+	/**
+	 * @param a
+	 * @return lazy dataset of square roots of a
+	 * @see Maths#sqrt(Object)
+	 */
+	public static ILazyDataset sqrt(final ILazyDataset a) {
+		return createLazyOperation(a.getName(), o -> Maths.sqrt(o[0]), a);
+	}
+
+	/**
+	 * @param a
+	 * @return lazy dataset of exponentials of a
+	 * @see Maths#exp(Object)
+	 */
+	public static ILazyDataset exp(final ILazyDataset a) {
+		return createLazyOperation(a.getName(), o -> Maths.exp(o[0]), a);
+	}
+
+	/**
+	 * @param a
+	 * @return lazy dataset of natural logarithms of a
+	 * @see Maths#log(Object)
+	 */
+	public static ILazyDataset log(final ILazyDataset a) {
+		return createLazyOperation(a.getName(), o -> Maths.log(o[0]), a);
+	}
 }
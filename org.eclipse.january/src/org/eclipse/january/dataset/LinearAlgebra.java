@@ -34,9 +34,16 @@ public class LinearAlgebra {
 
 	private static final int CROSSOVERPOINT = 16; // point at which using slice iterators for inner loop is faster 
 
+	// block sizes for matrix multiplication so that a block of second matrix fits in L2 cache
+	private static final int BLOCK_K = 128;
+	private static final int BLOCK_N = 256;
+
+	private static final int MAX_JACOBI_SWEEPS = 50;
+
 	/**
 	 * Calculate the tensor dot product over given axes. This is the sum of products of elements selected
-	 * from the given axes in each dataset
+	 * from the given axes in each dataset. Floating point datasets are multiplied as blocked matrices
+	 * without the compensated summation used for other datasets
 	 * @param a
 	 * @param b
 	 * @param axisa axis dimension in a to sum over (can be -ve)
@@ -44,6 +51,10 @@ public class LinearAlgebra {
 	 * @return tensor dot product
 	 */
 	public static Dataset tensorDotProduct(final Dataset a, final Dataset b, final int axisa, final int axisb) {
+		if (isMultiplySupported(a, b)) {
+			return tensorDotProduct(a, b, new int[] {axisa}, new int[] {axisb});
+		}
+
 		// this is slower for summing lengths < ~15
 		final int[] ashape = a.getShapeRef();
 		final int[] bshape = b.getShapeRef();
@@ -116,7 +127,8 @@ public class LinearAlgebra {
 
 	/**
 	 * Calculate the tensor dot product over given axes. This is the sum of products of elements selected
-	 * from the given axes in each dataset
+	 * from the given axes in each dataset. Floating point datasets are multiplied as blocked matrices
+	 * without the compensated summation used for other datasets
 	 * @param a
 	 * @param b
 	 * @param axisa axis dimensions in a to sum over (can be -ve)
@@ -175,6 +187,35 @@ public class LinearAlgebra {
 		int dtype = DTypeUtils.getBestDType(a.getDType(), b.getDType());
 		Dataset data = DatasetFactory.zeros(dshape, dtype);
 
+		if (isMultiplySupported(a, b)) { // pack as matrices with summing axes last in a and first in b
+			final int[] aorder = new int[arank];
+			final int[] border = new int[brank];
+			int m = 1;
+			int n = 1;
+			int k = 1;
+			int j = 0;
+			for (int i = 0; i < arank; i++) {
+				if (achoice[i]) {
+					aorder[j++] = i;
+					m *= ashape[i];
+				}
+			}
+			for (int i = 0; i < aaxes.length; i++) {
+				aorder[j++] = aaxes[i];
+				border[i] = baxes[i];
+				k *= ashape[aaxes[i]];
+			}
+			j = aaxes.length;
+			for (int i = 0; i < brank; i++) {
+				if (bchoice[i]) {
+					border[j++] = i;
+					n *= bshape[i];
+				}
+			}
+			multiply(pack(a, aorder), pack(b, border), m, k, n, data);
+			return data;
+		}
+
 		SliceIterator ita = a.getSliceIteratorFromAxes(null, achoice);
 		int l = 0;
 		final int[] apos = ita.getPos();
@@ -250,6 +291,10 @@ public class LinearAlgebra {
 			throw new UnsupportedOperationException("Compound datasets not supported");
 		}
 		Dataset o = DatasetFactory.zeros(shape, DTypeUtils.getBestDType(a.getDType(), b.getDType()));
+		if (isMultiplySupported(a, b)) {
+			multiply(pack(a), pack(b), a.getSize(), 1, b.getSize(), o);
+			return o;
+		}
 
 		IndexIterator ita = a.getIterator();
 		IndexIterator itb = b.getIterator();
@@ -264,6 +309,125 @@ public class LinearAlgebra {
 		return o;
 	}
 
+	/**
+	 * @param a
+	 * @param b
+	 * @return true if product of datasets can be calculated by matrix multiplication
+	 */
+	private static boolean isMultiplySupported(final Dataset a, final Dataset b) {
+		if (a.getElementsPerItem() != 1 || b.getElementsPerItem() != 1) {
+			return false;
+		}
+		final int dtype = DTypeUtils.getBestDType(a.getDType(), b.getDType());
+		return dtype == Dataset.FLOAT32 || dtype == Dataset.FLOAT64;
+	}
+
+	/**
+	 * Pack dataset into array in row-major order
+	 * @param a
+	 * @param axes order of axes to use
+	 * @return array of values
+	 */
+	private static double[] pack(final Dataset a, final int... axes) {
+		final Dataset t = axes.length == 0 ? a : a.getTransposedView(axes);
+		if (t.getDType() == Dataset.FLOAT64 && t.getStrides() == null) {
+			return (double[]) t.getBuffer();
+		}
+		final double[] values = new double[t.getSize()];
+		final IndexIterator it = t.getIterator();
+		int i = 0;
+		while (it.hasNext()) {
+			values[i++] = t.getElementDoubleAbs(it.index);
+		}
+		return values;
+	}
+
+	/**
+	 * Multiply matrices and store result in dataset. The computation is split into blocks of rows
+	 * (or columns when there are too few rows) which are processed in parallel if enabled. The products
+	 * are accumulated without compensated summation so rounding errors grow with k
+	 * @param a m by k matrix in row-major order
+	 * @param b k by n matrix in row-major order
+	 * @param m
+	 * @param k
+	 * @param n
+	 * @param result float dataset of size m*n with contiguous buffer
+	 */
+	private static void multiply(final double[] a, final double[] b, final int m, final int k, final int n, final Dataset result) {
+		final double[] c = result.getDType() == Dataset.FLOAT64 ? (double[]) result.getBuffer() : new double[m * n];
+		if (ParallelUtils.isParallel(null, (long) m * n * Math.max(1, k))) {
+			final boolean byRow = m >= ParallelUtils.getParallelism() || m >= n;
+			ParallelUtils.forRange(0, byRow ? m : n, new ParallelUtils.RangeOperation() {
+				@Override
+				public void run(int start, int stop) {
+					if (byRow) {
+						multiply(a, b, c, k, n, start, stop, 0, n);
+					} else {
+						multiply(a, b, c, k, n, 0, m, start, stop);
+					}
+				}
+			});
+		} else {
+			multiply(a, b, c, k, n, 0, m, 0, n);
+		}
+		if (c != result.getBuffer()) {
+			final float[] f = (float[]) result.getBuffer();
+			for (int i = 0; i < c.length; i++) {
+				f[i] = (float) c[i];
+			}
+		}
+	}
+
+	/**
+	 * Accumulate product of block of matrices in given rows and columns
+	 * @param a
+	 * @param b
+	 * @param c
+	 * @param k
+	 * @param n
+	 * @param rStart
+	 * @param rStop
+	 * @param cStart
+	 * @param cStop
+	 */
+	private static void multiply(final double[] a, final double[] b, final double[] c, final int k, final int n,
+			final int rStart, final int rStop, final int cStart, final int cStop) {
+		for (int pb = 0; pb < k; pb += BLOCK_K) {
+			final int pe = Math.min(pb + BLOCK_K, k);
+			for (int jb = cStart; jb < cStop; jb += BLOCK_N) {
+				final int je = Math.min(jb + BLOCK_N, cStop);
+				int i = rStart;
+				for (; i + 1 < rStop; i += 2) { // two rows at a time to reuse loaded values of b
+					final int c0 = i * n;
+					final int c1 = c0 + n;
+					final int a0 = i * k;
+					final int a1 = a0 + k;
+					for (int p = pb; p < pe; p++) {
+						final double v0 = a[a0 + p];
+						final double v1 = a[a1 + p];
+						final int bp = p * n;
+						for (int j = jb; j < je; j++) {
+							final double v = b[bp + j];
+							c[c0 + j] += v0 * v;
+							c[c1 + j] += v1 * v;
+						}
+					}
+				}
+				if (i < rStop) {
+					final int c0 = i * n;
+					final int a0 = i * k;
+					for (int p = pb; p < pe; p++) {
+						final double v0 = a[a0 + p];
+						final int bp = p * n;
+						for (int j = jb; j < je; j++) {
+							c[c0 + j] += v0 * b[bp + j];
+						}
+					}
+				}
+			}
+		}
+	}
+
 	/**
 	 * Calculate the cross product of two datasets. Datasets must be broadcastable and
 	 * possess last dimensions of length 2 or 3
@@ -1221,6 +1385,323 @@ public class LinearAlgebra {
 		return createDataset(cg.solve((RealLinearOperator) createRealMatrix(a), createRealVector(v)));
 	}
 
+	/**
+	 * Calculate determinants of stack of square matrices
+	 * @param a dataset whose last two axes are matrices
+	 * @return dataset of determinants with shape of leading axes
+	 */
+	public static Dataset calcDeterminantStack(final Dataset a) {
+		final int n = checkSquareStack(a);
+		final int[] shape = a.getShapeRef();
+		final double[] values = pack(a);
+		final DoubleDataset result = DatasetFactory.zeros(DoubleDataset.class, Arrays.copyOf(shape, shape.length - 2));
+		final double[] out = result.getData();
+		runStack(out.length, n, new ParallelUtils.RangeOperation() {
+			@Override
+			public void run(int start, int stop) {
+				final int nn = n * n;
+				final double[] w = new double[nn];
+				final int[] perm = new int[n];
+				for (int m = start; m < stop; m++) {
+					System.arraycopy(values, m * nn, w, 0, nn);
+					double det = decomposeLU(w, n, perm);
+					for (int i = 0; i < nn && det != 0; i += n + 1) {
+						det *= w[i];
+					}
+					out[m] = det;
+				}
+			}
+		});
+		return result;
+	}
+
+	/**
+	 * Calculate inverses of stack of square matrices. Singular matrices have inverses filled with NaNs
+	 * @param a dataset whose last two axes are matrices
+	 * @return dataset of inverses with same shape
+	 */
+	public static Dataset calcInverseStack(final Dataset a) {
+		final int n = checkSquareStack(a);
+		final double[] values = pack(a);
+		final DoubleDataset result = DatasetFactory.zeros(DoubleDataset.class, a.getShapeRef());
+		final double[] out = result.getData();
+		final int nn = n * n;
+		runStack(nn == 0 ? 0 : out.length / nn, n, new ParallelUtils.RangeOperation() {
+			@Override
+			public void run(int start, int stop) {
+				final double[] w = new double[nn];
+				final double[] identity = new double[nn];
+				for (int i = 0; i < nn; i += n + 1) {
+					identity[i] = 1;
+				}
+				final int[] perm = new int[n];
+				for (int m = start; m < stop; m++) {
+					System.arraycopy(values, m * nn, w, 0, nn);
+					if (decomposeLU(w, n, perm) == 0) {
+						Arrays.fill(out, m * nn, (m + 1) * nn, Double.NaN);
+					} else {
+						solveLU(w, n, perm, identity, 0, n, out, m * nn);
+					}
+				}
+			}
+		});
+		return result;
+	}
+
+	/**
+	 * Solve stack of linear matrix equations A x = v. Singular matrices have solutions filled with NaNs
+	 * @param a dataset whose last two axes are square matrices
+	 * @param v dataset whose leading axes match those of a and whose last axis (or second-to-last axis
+	 * when it has the same rank as a) matches the matrix size
+	 * @return dataset of x with same shape as v
+	 */
+	public static Dataset solveStack(final Dataset a, final Dataset v) {
+		final int n = checkSquareStack(a);
+		final int[] ashape = a.getShapeRef();
+		final int[] vshape = v.getShapeRef();
+		final int lrank = ashape.length - 2;
+		final boolean isVector = vshape.length == lrank + 1;
+		if (v.getElementsPerItem() != 1) {
+			throw new UnsupportedOperationException("Compound datasets not supported");
+		}
+		if ((!isVector && vshape.length != ashape.length) || !Arrays.equals(Arrays.copyOf(ashape, lrank), Arrays.copyOf(vshape, lrank))
+				|| vshape[lrank] != n) {
+			throw new IllegalArgumentException("Shape of right-hand side " + Arrays.toString(vshape)
+					+ " does not match shape of matrices " + Arrays.toString(ashape));
+		}
+		final int k = isVector ? 1 : vshape[lrank + 1];
+		final double[] values = pack(a);
+		final double[] rhs = pack(v);
+		final DoubleDataset result = DatasetFactory.zeros(DoubleDataset.class, vshape);
+		final double[] out = result.getData();
+		final int nn = n * n;
+		final int nk = n * k;
+		runStack(ShapeUtils.calcSize(Arrays.copyOf(ashape, lrank)), n, new ParallelUtils.RangeOperation() {
+			@Override
+			public void run(int start, int stop) {
+				final double[] w = new double[nn];
+				final int[] perm = new int[n];
+				for (int m = start; m < stop; m++) {
+					System.arraycopy(values, m * nn, w, 0, nn);
+					if (decomposeLU(w, n, perm) == 0) {
+						Arrays.fill(out, m * nk, (m + 1) * nk, Double.NaN);
+					} else {
+						solveLU(w, n, perm, rhs, m * nk, k, out, m * nk);
+					}
+				}
+			}
+		});
+		return result;
+	}
+
+	/**
+	 * Calculate eigenvalues of stack of real symmetric matrices using the cyclic Jacobi method
+	 * @param a dataset whose last two axes are symmetric matrices
+	 * @return dataset of eigenvalues in descending order whose last axis is the matrix size
+	 */
+	public static Dataset calcSymmetricEigenvaluesStack(final Dataset a) {
+		final int n = checkSquareStack(a);
+		final int[] shape = a.getShapeRef();
+		final double[] values = pack(a);
+		final DoubleDataset result = DatasetFactory.zeros(DoubleDataset.class, Arrays.copyOf(shape, shape.length - 1));
+		final double[] out = result.getData();
+		final int nn = n * n;
+		runStack(n == 0 ? 0 : out.length / n, n, new ParallelUtils.RangeOperation() {
+			@Override
+			public void run(int start, int stop) {
+				final double[] w = new double[nn];
+				for (int m = start; m < stop; m++) {
+					System.arraycopy(values, m * nn, w, 0, nn);
+					diagonalizeSymmetric(w, n);
+					final int o = m * n;
+					for (int i = 0; i < n; i++) { // insertion sort into descending order
+						final double e = w[i * (n + 1)];
+						int j = o + i;
+						for (; j > o && out[j - 1] < e; j--) {
+							out[j] = out[j - 1];
+						}
+						out[j] = e;
+					}
+				}
+			}
+		});
+		return result;
+	}
+
+	/**
+	 * @param a
+	 * @return size of square matrices in stack
+	 */
+	private static int checkSquareStack(final Dataset a) {
+		final int[] shape = a.getShapeRef();
+		final int rank = shape.length;
+		if (rank < 2) {
+			throw new IllegalArgumentException("Dataset must be at least rank 2");
+		}
+		if (shape[rank - 1] != shape[rank - 2]) {
+			throw new IllegalArgumentException("Last two axes of dataset must have the same length");
+		}
+		if (a.getElementsPerItem() != 1) {
+			throw new UnsupportedOperationException("Compound datasets not supported");
+		}
+		return shape[rank - 1];
+	}
+
+	/**
+	 * Run operation over stack of matrices, in parallel if enabled
+	 * @param count number of matrices
+	 * @param n size of matrices
+	 * @param op
+	 */
+	private static void runStack(final int count, final int n, final ParallelUtils.RangeOperation op) {
+		if (ParallelUtils.isParallel(null, (long) count * n * n * n)) {
+			ParallelUtils.forRange(0, count, op);
+		} else {
+			op.run(0, count);
+		}
+	}
+
+	/**
+	 * Decompose square matrix in place into L U with partial pivoting. The unit diagonal of L is not stored
+	 * @param w row-major matrix
+	 * @param n size of matrix
+	 * @param perm row permutation
+	 * @return sign of permutation or zero if matrix is singular
+	 */
+	private static int decomposeLU(final double[] w, final int n, final int[] perm) {
+		int sign = 1;
+		for (int i = 0; i < n; i++) {
+			perm[i] = i;
+		}
+		for (int j = 0; j < n; j++) {
+			int p = j;
+			double max = Math.abs(w[j * n + j]);
+			for (int i = j + 1; i < n; i++) {
+				final double x = Math.abs(w[i * n + j]);
+				if (x > max) {
+					max = x;
+					p = i;
+				}
+			}
+			if (!(max > 0)) {
+				return 0;
+			}
+			if (p != j) {
+				for (int c = 0; c < n; c++) {
+					final double t = w[p * n + c];
+					w[p * n + c] = w[j * n + c];
+					w[j * n + c] = t;
+				}
+				final int t = perm[p];
+				perm[p] = perm[j];
+				perm[j] = t;
+				sign = -sign;
+			}
+			final int rj = j * n;
+			final double d = w[rj + j];
+			for (int i = j + 1; i < n; i++) {
+				final int ri = i * n;
+				final double f = w[ri + j] / d;
+				w[ri + j] = f;
+				for (int c = j + 1; c < n; c++) {
+					w[ri + c] -= f * w[rj + c];
+				}
+			}
+		}
+		return sign;
+	}
+
+	/**
+	 * Solve L U x = P b
+	 * @param lu decomposed matrix
+	 * @param n size of matrix
+	 * @param perm row permutation
+	 * @param b row-major n by k matrix
+	 * @param bo offset of b
+	 * @param k number of columns
+	 * @param x row-major n by k matrix
+	 * @param xo offset of x
+	 */
+	private static void solveLU(final double[] lu, final int n, final int[] perm, final double[] b, final int bo, final int k,
+			final double[] x, final int xo) {
+		for (int c = 0; c < k; c++) {
+			for (int i = 0; i < n; i++) {
+				double s = b[bo + perm[i] * k + c];
+				final int ri = i * n;
+				for (int j = 0; j < i; j++) {
+					s -= lu[ri + j] * x[xo + j * k + c];
+				}
+				x[xo + i * k + c] = s;
+			}
+			for (int i = n - 1; i >= 0; i--) {
+				double s = x[xo + i * k + c];
+				final int ri = i * n;
+				for (int j = i + 1; j < n; j++) {
+					s -= lu[ri + j] * x[xo + j * k + c];
+				}
+				x[xo + i * k + c] = s / lu[ri + i];
+			}
+		}
+	}
+
+	/**
+	 * Diagonalize symmetric matrix in place by Jacobi rotations
+	 * @param w row-major matrix
+	 * @param n size of matrix
+	 */
+	private static void diagonalizeSymmetric(final double[] w, final int n) {
+		double total = 0;
+		for (double x : w) {
+			total += x * x;
+		}
+		final double tolerance = total * Math.ulp(1.) * Math.ulp(1.);
+		for (int sweep = 0; sweep < MAX_JACOBI_SWEEPS; sweep++) {
+			double off = 0;
+			for (int p = 0; p < n; p++) {
+				for (int q = p + 1; q < n; q++) {
+					off += w[p * n + q] * w[p * n + q];
+				}
+			}
+			if (!(off > tolerance)) {
+				return;
+			}
+			for (int p = 0; p < n; p++) {
+				for (int q = p + 1; q < n; q++) {
+					final double apq = w[p * n + q];
+					if (apq == 0) {
+						continue;
+					}
+					final double theta = (w[q * n + q] - w[p * n + p]) / (2 * apq);
+					double t = 1 / (Math.abs(theta) + Math.sqrt(theta * theta + 1));
+					if (Double.isInfinite(theta * theta)) {
+						t = 0.5 / Math.abs(theta);
+					}
+					if (theta < 0) {
+						t = -t;
+					}
+					final double c = 1 / Math.sqrt(t * t + 1);
+					final double s = t * c;
+					for (int r = 0; r < n; r++) { // columns
+						final int rp = r * n + p;
+						final int rq = r * n + q;
+						final double arp = w[rp];
+						final double arq = w[rq];
+						w[rp] = c * arp - s * arq;
+						w[rq] = s * arp + c * arq;
+					}
+					for (int r = 0; r < n; r++) { // rows
+						final int pr = p * n + r;
+						final int qr = q * n + r;
+						final double apr = w[pr];
+						final double aqr = w[qr];
+						w[pr] = c * apr - s * aqr;
+						w[qr] = s * apr + c * aqr;
+					}
+				}
+			}
+		}
+	}
+
 	private static RealMatrix createRealMatrix(Dataset a) {
 		if (a.getRank() != 2) {
 			throw new IllegalArgumentException("Dataset must be rank 2");
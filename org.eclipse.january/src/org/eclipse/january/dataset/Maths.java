@@ -3328,6 +3328,57 @@ public class Maths {
 		return grad;
 	}
 
+	/**
+	 * @param a
+	 * @param o
+	 * @return true if both datasets have the same shape and no strides so items in backing
+	 * arrays correspond one-to-one and start at zero
+	 */
+	private static boolean isContiguous(final Dataset a, final Dataset o) {
+		return a.getStrides() == null && o.getStrides() == null && Arrays.equals(a.getShapeRef(), o.getShapeRef());
+	}
+
+	/**
+	 * Operation on corresponding chunks of broadcasted inputs and output
+	 */
+	private interface ChunkOperation {
+		/**
+		 * @param a chunk of first input
+		 * @param b chunk of second input (can be null for single input operations)
+		 * @param o chunk of output
+		 */
+		public void operate(Dataset a, Dataset b, Dataset o);
+	}
+
+	/**
+	 * Split output into chunks along an axis and run operation on each chunk in parallel.
+	 * The inputs are broadcasted to the output's shape and sliced in the same way so the
+	 * chunks can be processed with any of the broadcast iterators
+	 * @param a first input
+	 * @param b second input (can be null for single input operations)
+	 * @param o output
+	 * @param op
+	 */
+	private static void operateInParallel(final Dataset a, final Dataset b, final Dataset o, final ChunkOperation op) {
+		final int[] shape = o.getShapeRef();
+		if (shape.length == 0) {
+			op.operate(a, b, o);
+			return;
+		}
+		final int axis = ParallelUtils.findSplitAxis(shape);
+		final Dataset ba = a.getBroadcastView(shape);
+		final Dataset bb = b == null ? null : b.getBroadcastView(shape);
+
+		ParallelUtils.forRange(0, shape[axis], new ParallelUtils.RangeOperation() {
+			@Override
+			public void run(int start, int stop) {
+				SliceND slice = new SliceND(shape);
+				slice.setSlice(axis, start, stop, 1);
+				op.operate(ba.getSliceView(slice), bb == null ? null : bb.getSliceView(slice), o.getSliceView(slice));
+			}
+		});
+	}
+
 
 // Start of generated code - see functions.txt and generatefunctions.py
 	/**
@@ -3348,17 +3399,42 @@ public class Maths {
 	 * @return a + b, addition of a and b
 	 */
 	public static Dataset add(final Object a, final Object b, final Dataset o) {
+		return add(a, b, o, null);
+	}
+
+	/**
+	 * add operator
+	 * @param a
+	 * @param b
+	 * @param o output can be null - in which case, a new dataset is created
+	 * @param mode execution mode can be null - in which case, the global mode is used
+	 * @return a + b, addition of a and b
+	 */
+	public static Dataset add(final Object a, final Object b, final Dataset o, final ExecutionMode mode) {
 		final Dataset da = a instanceof Dataset ? (Dataset) a : DatasetFactory.createFromObject(a);
 		final Dataset db = b instanceof Dataset ? (Dataset) b : DatasetFactory.createFromObject(b);
 		final BroadcastIterator it = BroadcastIterator.createIterator(da, db, o, true);
 		final Dataset result = it.getOutput();
+		if (ParallelUtils.isParallel(mode, result.getSize())) {
+			operateInParallel(da, db, result, new ChunkOperation() {
+				@Override
+				public void operate(Dataset ca, Dataset cb, Dataset co) {
+					add(ca, cb, co, ExecutionMode.SERIAL);
+				}
+			});
+			addBinaryOperatorName(da, db, result, "+");
+			return result;
+		}
 		final int is = result.getElementsPerItem();
 		final int dt = result.getDType();
+		final boolean sameDType = da.getDType() == dt && db.getDType() == dt;
 
 		switch(dt) {
 		case Dataset.INT8:
 			final byte[] oi8data = ((ByteDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (sameDType) {
+				addRuns(it, da, db, oi8data);
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double iax = it.aDouble;
 					final double ibx = it.bDouble;
@@ -3378,7 +3454,9 @@ public class Maths {
 			break;
 		case Dataset.INT16:
 			final short[] oi16data = ((ShortDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (sameDType) {
+				addRuns(it, da, db, oi16data);
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double iax = it.aDouble;
 					final double ibx = it.bDouble;
@@ -3398,7 +3476,9 @@ public class Maths {
 			break;
 		case Dataset.INT64:
 			final long[] oi64data = ((LongDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (sameDType) {
+				addRuns(it, da, db, oi64data);
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double iax = it.aDouble;
 					final double ibx = it.bDouble;
@@ -3418,7 +3498,9 @@ public class Maths {
 			break;
 		case Dataset.INT32:
 			final int[] oi32data = ((IntegerDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (sameDType) {
+				addRuns(it, da, db, oi32data);
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double iax = it.aDouble;
 					final double ibx = it.bDouble;
@@ -3870,7 +3952,9 @@ public class Maths {
 			break;
 		case Dataset.FLOAT32:
 			final float[] of32data = ((FloatDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (sameDType) {
+				addRuns(it, da, db, of32data);
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double iax = it.aDouble;
 					final double ibx = it.bDouble;
@@ -3890,7 +3974,9 @@ public class Maths {
 			break;
 		case Dataset.FLOAT64:
 			final double[] of64data = ((DoubleDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (sameDType) {
+				addRuns(it, da, db, of64data);
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double iax = it.aDouble;
 					final double ibx = it.bDouble;
@@ -4218,6 +4304,210 @@ public class Maths {
 		return result;
 	}
 
+	private static void addRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final byte[] oi8data) {
+		final byte[] ai8data = ((ByteDataset) da).data;
+		final byte[] bi8data = ((ByteDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai8data[ia + i];
+					final long ibx = bi8data[ib + i];
+					byte ox;
+					ox = (byte) (iax + ibx);
+					oi8data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final long iax = ai8data[ia];
+					final long ibx = bi8data[ib];
+					byte ox;
+					ox = (byte) (iax + ibx);
+					oi8data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void addRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final short[] oi16data) {
+		final short[] ai16data = ((ShortDataset) da).data;
+		final short[] bi16data = ((ShortDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai16data[ia + i];
+					final long ibx = bi16data[ib + i];
+					short ox;
+					ox = (short) (iax + ibx);
+					oi16data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final long iax = ai16data[ia];
+					final long ibx = bi16data[ib];
+					short ox;
+					ox = (short) (iax + ibx);
+					oi16data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void addRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final long[] oi64data) {
+		final long[] ai64data = ((LongDataset) da).data;
+		final long[] bi64data = ((LongDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai64data[ia + i];
+					final long ibx = bi64data[ib + i];
+					long ox;
+					ox = (iax + ibx);
+					oi64data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final long iax = ai64data[ia];
+					final long ibx = bi64data[ib];
+					long ox;
+					ox = (iax + ibx);
+					oi64data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void addRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final int[] oi32data) {
+		final int[] ai32data = ((IntegerDataset) da).data;
+		final int[] bi32data = ((IntegerDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai32data[ia + i];
+					final long ibx = bi32data[ib + i];
+					int ox;
+					ox = (int) (iax + ibx);
+					oi32data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final long iax = ai32data[ia];
+					final long ibx = bi32data[ib];
+					int ox;
+					ox = (int) (iax + ibx);
+					oi32data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void addRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final float[] of32data) {
+		final float[] af32data = ((FloatDataset) da).data;
+		final float[] bf32data = ((FloatDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final double iax = af32data[ia + i];
+					final double ibx = bf32data[ib + i];
+					float ox;
+					ox = (float) (iax + ibx);
+					of32data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final double iax = af32data[ia];
+					final double ibx = bf32data[ib];
+					float ox;
+					ox = (float) (iax + ibx);
+					of32data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void addRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final double[] of64data) {
+		final double[] af64data = ((DoubleDataset) da).data;
+		final double[] bf64data = ((DoubleDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final double iax = af64data[ia + i];
+					final double ibx = bf64data[ib + i];
+					double ox;
+					ox = (iax + ibx);
+					of64data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final double iax = af64data[ia];
+					final double ibx = bf64data[ib];
+					double ox;
+					ox = (iax + ibx);
+					of64data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
 	/**
 	 * subtract operator
 	 * @param a
@@ -4236,17 +4526,42 @@ public class Maths {
 	 * @return a - b, subtraction of a by b
 	 */
 	public static Dataset subtract(final Object a, final Object b, final Dataset o) {
+		return subtract(a, b, o, null);
+	}
+
+	/**
+	 * subtract operator
+	 * @param a
+	 * @param b
+	 * @param o output can be null - in which case, a new dataset is created
+	 * @param mode execution mode can be null - in which case, the global mode is used
+	 * @return a - b, subtraction of a by b
+	 */
+	public static Dataset subtract(final Object a, final Object b, final Dataset o, final ExecutionMode mode) {
 		final Dataset da = a instanceof Dataset ? (Dataset) a : DatasetFactory.createFromObject(a);
 		final Dataset db = b instanceof Dataset ? (Dataset) b : DatasetFactory.createFromObject(b);
 		final BroadcastIterator it = BroadcastIterator.createIterator(da, db, o, true);
 		final Dataset result = it.getOutput();
+		if (ParallelUtils.isParallel(mode, result.getSize())) {
+			operateInParallel(da, db, result, new ChunkOperation() {
+				@Override
+				public void operate(Dataset ca, Dataset cb, Dataset co) {
+					subtract(ca, cb, co, ExecutionMode.SERIAL);
+				}
+			});
+			addBinaryOperatorName(da, db, result, "-");
+			return result;
+		}
 		final int is = result.getElementsPerItem();
 		final int dt = result.getDType();
+		final boolean sameDType = da.getDType() == dt && db.getDType() == dt;
 
 		switch(dt) {
 		case Dataset.INT8:
 			final byte[] oi8data = ((ByteDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (sameDType) {
+				subtractRuns(it, da, db, oi8data);
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double iax = it.aDouble;
 					final double ibx = it.bDouble;
@@ -4266,7 +4581,9 @@ public class Maths {
 			break;
 		case Dataset.INT16:
 			final short[] oi16data = ((ShortDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (sameDType) {
+				subtractRuns(it, da, db, oi16data);
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double iax = it.aDouble;
 					final double ibx = it.bDouble;
@@ -4286,7 +4603,9 @@ public class Maths {
 			break;
 		case Dataset.INT64:
 			final long[] oi64data = ((LongDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (sameDType) {
+				subtractRuns(it, da, db, oi64data);
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double iax = it.aDouble;
 					final double ibx = it.bDouble;
@@ -4306,7 +4625,9 @@ public class Maths {
 			break;
 		case Dataset.INT32:
 			final int[] oi32data = ((IntegerDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (sameDType) {
+				subtractRuns(it, da, db, oi32data);
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double iax = it.aDouble;
 					final double ibx = it.bDouble;
@@ -4758,7 +5079,9 @@ public class Maths {
 			break;
 		case Dataset.FLOAT32:
 			final float[] of32data = ((FloatDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (sameDType) {
+				subtractRuns(it, da, db, of32data);
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double iax = it.aDouble;
 					final double ibx = it.bDouble;
@@ -4778,7 +5101,9 @@ public class Maths {
 			break;
 		case Dataset.FLOAT64:
 			final double[] of64data = ((DoubleDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (sameDType) {
+				subtractRuns(it, da, db, of64data);
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double iax = it.aDouble;
 					final double ibx = it.bDouble;
@@ -5106,6 +5431,210 @@ public class Maths {
 		return result;
 	}
 
+	private static void subtractRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final byte[] oi8data) {
+		final byte[] ai8data = ((ByteDataset) da).data;
+		final byte[] bi8data = ((ByteDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai8data[ia + i];
+					final long ibx = bi8data[ib + i];
+					byte ox;
+					ox = (byte) (iax - ibx);
+					oi8data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final long iax = ai8data[ia];
+					final long ibx = bi8data[ib];
+					byte ox;
+					ox = (byte) (iax - ibx);
+					oi8data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void subtractRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final short[] oi16data) {
+		final short[] ai16data = ((ShortDataset) da).data;
+		final short[] bi16data = ((ShortDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai16data[ia + i];
+					final long ibx = bi16data[ib + i];
+					short ox;
+					ox = (short) (iax - ibx);
+					oi16data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final long iax = ai16data[ia];
+					final long ibx = bi16data[ib];
+					short ox;
+					ox = (short) (iax - ibx);
+					oi16data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void subtractRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final long[] oi64data) {
+		final long[] ai64data = ((LongDataset) da).data;
+		final long[] bi64data = ((LongDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai64data[ia + i];
+					final long ibx = bi64data[ib + i];
+					long ox;
+					ox = (iax - ibx);
+					oi64data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final long iax = ai64data[ia];
+					final long ibx = bi64data[ib];
+					long ox;
+					ox = (iax - ibx);
+					oi64data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void subtractRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final int[] oi32data) {
+		final int[] ai32data = ((IntegerDataset) da).data;
+		final int[] bi32data = ((IntegerDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai32data[ia + i];
+					final long ibx = bi32data[ib + i];
+					int ox;
+					ox = (int) (iax - ibx);
+					oi32data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final long iax = ai32data[ia];
+					final long ibx = bi32data[ib];
+					int ox;
+					ox = (int) (iax - ibx);
+					oi32data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void subtractRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final float[] of32data) {
+		final float[] af32data = ((FloatDataset) da).data;
+		final float[] bf32data = ((FloatDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final double iax = af32data[ia + i];
+					final double ibx = bf32data[ib + i];
+					float ox;
+					ox = (float) (iax - ibx);
+					of32data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final double iax = af32data[ia];
+					final double ibx = bf32data[ib];
+					float ox;
+					ox = (float) (iax - ibx);
+					of32data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void subtractRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final double[] of64data) {
+		final double[] af64data = ((DoubleDataset) da).data;
+		final double[] bf64data = ((DoubleDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final double iax = af64data[ia + i];
+					final double ibx = bf64data[ib + i];
+					double ox;
+					ox = (iax - ibx);
+					of64data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final double iax = af64data[ia];
+					final double ibx = bf64data[ib];
+					double ox;
+					ox = (iax - ibx);
+					of64data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
 	/**
 	 * multiply operator
 	 * @param a
@@ -5124,17 +5653,42 @@ public class Maths {
 	 * @return a * b, product of a and b
 	 */
 	public static Dataset multiply(final Object a, final Object b, final Dataset o) {
+		return multiply(a, b, o, null);
+	}
+
+	/**
+	 * multiply operator
+	 * @param a
+	 * @param b
+	 * @param o output can be null - in which case, a new dataset is created
+	 * @param mode execution mode can be null - in which case, the global mode is used
+	 * @return a * b, product of a and b
+	 */
+	public static Dataset multiply(final Object a, final Object b, final Dataset o, final ExecutionMode mode) {
 		final Dataset da = a instanceof Dataset ? (Dataset) a : DatasetFactory.createFromObject(a);
 		final Dataset db = b instanceof Dataset ? (Dataset) b : DatasetFactory.createFromObject(b);
 		final BroadcastIterator it = BroadcastIterator.createIterator(da, db, o, true);
 		final Dataset result = it.getOutput();
+		if (ParallelUtils.isParallel(mode, result.getSize())) {
+			operateInParallel(da, db, result, new ChunkOperation() {
+				@Override
+				public void operate(Dataset ca, Dataset cb, Dataset co) {
+					multiply(ca, cb, co, ExecutionMode.SERIAL);
+				}
+			});
+			addBinaryOperatorName(da, db, result, "*");
+			return result;
+		}
 		final int is = result.getElementsPerItem();
 		final int dt = result.getDType();
+		final boolean sameDType = da.getDType() == dt && db.getDType() == dt;
 
 		switch(dt) {
 		case Dataset.INT8:
 			final byte[] oi8data = ((ByteDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (sameDType) {
+				multiplyRuns(it, da, db, oi8data);
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double iax = it.aDouble;
 					final double ibx = it.bDouble;
@@ -5154,7 +5708,9 @@ public class Maths {
 			break;
 		case Dataset.INT16:
 			final short[] oi16data = ((ShortDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (sameDType) {
+				multiplyRuns(it, da, db, oi16data);
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double iax = it.aDouble;
 					final double ibx = it.bDouble;
@@ -5174,7 +5730,9 @@ public class Maths {
 			break;
 		case Dataset.INT64:
 			final long[] oi64data = ((LongDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (sameDType) {
+				multiplyRuns(it, da, db, oi64data);
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double iax = it.aDouble;
 					final double ibx = it.bDouble;
@@ -5194,7 +5752,9 @@ public class Maths {
 			break;
 		case Dataset.INT32:
 			final int[] oi32data = ((IntegerDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (sameDType) {
+				multiplyRuns(it, da, db, oi32data);
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double iax = it.aDouble;
 					final double ibx = it.bDouble;
@@ -5646,7 +6206,9 @@ public class Maths {
 			break;
 		case Dataset.FLOAT32:
 			final float[] of32data = ((FloatDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (sameDType) {
+				multiplyRuns(it, da, db, of32data);
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double iax = it.aDouble;
 					final double ibx = it.bDouble;
@@ -5666,7 +6228,9 @@ public class Maths {
 			break;
 		case Dataset.FLOAT64:
 			final double[] of64data = ((DoubleDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (sameDType) {
+				multiplyRuns(it, da, db, of64data);
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double iax = it.aDouble;
 					final double ibx = it.bDouble;
@@ -5994,6 +6558,210 @@ public class Maths {
 		return result;
 	}
 
+	private static void multiplyRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final byte[] oi8data) {
+		final byte[] ai8data = ((ByteDataset) da).data;
+		final byte[] bi8data = ((ByteDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai8data[ia + i];
+					final long ibx = bi8data[ib + i];
+					byte ox;
+					ox = (byte) (iax * ibx);
+					oi8data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final long iax = ai8data[ia];
+					final long ibx = bi8data[ib];
+					byte ox;
+					ox = (byte) (iax * ibx);
+					oi8data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void multiplyRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final short[] oi16data) {
+		final short[] ai16data = ((ShortDataset) da).data;
+		final short[] bi16data = ((ShortDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai16data[ia + i];
+					final long ibx = bi16data[ib + i];
+					short ox;
+					ox = (short) (iax * ibx);
+					oi16data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final long iax = ai16data[ia];
+					final long ibx = bi16data[ib];
+					short ox;
+					ox = (short) (iax * ibx);
+					oi16data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void multiplyRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final long[] oi64data) {
+		final long[] ai64data = ((LongDataset) da).data;
+		final long[] bi64data = ((LongDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai64data[ia + i];
+					final long ibx = bi64data[ib + i];
+					long ox;
+					ox = (iax * ibx);
+					oi64data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final long iax = ai64data[ia];
+					final long ibx = bi64data[ib];
+					long ox;
+					ox = (iax * ibx);
+					oi64data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void multiplyRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final int[] oi32data) {
+		final int[] ai32data = ((IntegerDataset) da).data;
+		final int[] bi32data = ((IntegerDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai32data[ia + i];
+					final long ibx = bi32data[ib + i];
+					int ox;
+					ox = (int) (iax * ibx);
+					oi32data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final long iax = ai32data[ia];
+					final long ibx = bi32data[ib];
+					int ox;
+					ox = (int) (iax * ibx);
+					oi32data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void multiplyRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final float[] of32data) {
+		final float[] af32data = ((FloatDataset) da).data;
+		final float[] bf32data = ((FloatDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final double iax = af32data[ia + i];
+					final double ibx = bf32data[ib + i];
+					float ox;
+					ox = (float) (iax * ibx);
+					of32data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final double iax = af32data[ia];
+					final double ibx = bf32data[ib];
+					float ox;
+					ox = (float) (iax * ibx);
+					of32data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void multiplyRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final double[] of64data) {
+		final double[] af64data = ((DoubleDataset) da).data;
+		final double[] bf64data = ((DoubleDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final double iax = af64data[ia + i];
+					final double ibx = bf64data[ib + i];
+					double ox;
+					ox = (iax * ibx);
+					of64data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final double iax = af64data[ia];
+					final double ibx = bf64data[ib];
+					double ox;
+					ox = (iax * ibx);
+					of64data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
 	/**
 	 * divide operator
 	 * @param a
@@ -6012,17 +6780,42 @@ public class Maths {
 	 * @return a / b, division of a by b
 	 */
 	public static Dataset divide(final Object a, final Object b, final Dataset o) {
+		return divide(a, b, o, null);
+	}
+
+	/**
+	 * divide operator
+	 * @param a
+	 * @param b
+	 * @param o output can be null - in which case, a new dataset is created
+	 * @param mode execution mode can be null - in which case, the global mode is used
+	 * @return a / b, division of a by b
+	 */
+	public static Dataset divide(final Object a, final Object b, final Dataset o, final ExecutionMode mode) {
 		final Dataset da = a instanceof Dataset ? (Dataset) a : DatasetFactory.createFromObject(a);
 		final Dataset db = b instanceof Dataset ? (Dataset) b : DatasetFactory.createFromObject(b);
 		final BroadcastIterator it = BroadcastIterator.createIterator(da, db, o, true);
 		final Dataset result = it.getOutput();
+		if (ParallelUtils.isParallel(mode, result.getSize())) {
+			operateInParallel(da, db, result, new ChunkOperation() {
+				@Override
+				public void operate(Dataset ca, Dataset cb, Dataset co) {
+					divide(ca, cb, co, ExecutionMode.SERIAL);
+				}
+			});
+			addBinaryOperatorName(da, db, result, "/");
+			return result;
+		}
 		final int is = result.getElementsPerItem();
 		final int dt = result.getDType();
+		final boolean sameDType = da.getDType() == dt && db.getDType() == dt;
 
 		switch(dt) {
 		case Dataset.INT8:
 			final byte[] oi8data = ((ByteDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (sameDType) {
+				divideRuns(it, da, db, oi8data);
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double iax = it.aDouble;
 					final double ibx = it.bDouble;
@@ -6042,7 +6835,9 @@ public class Maths {
 			break;
 		case Dataset.INT16:
 			final short[] oi16data = ((ShortDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (sameDType) {
+				divideRuns(it, da, db, oi16data);
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double iax = it.aDouble;
 					final double ibx = it.bDouble;
@@ -6062,7 +6857,9 @@ public class Maths {
 			break;
 		case Dataset.INT64:
 			final long[] oi64data = ((LongDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (sameDType) {
+				divideRuns(it, da, db, oi64data);
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double iax = it.aDouble;
 					final double ibx = it.bDouble;
@@ -6082,7 +6879,9 @@ public class Maths {
 			break;
 		case Dataset.INT32:
 			final int[] oi32data = ((IntegerDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (sameDType) {
+				divideRuns(it, da, db, oi32data);
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double iax = it.aDouble;
 					final double ibx = it.bDouble;
@@ -6534,7 +7333,9 @@ public class Maths {
 			break;
 		case Dataset.FLOAT32:
 			final float[] of32data = ((FloatDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (sameDType) {
+				divideRuns(it, da, db, of32data);
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double iax = it.aDouble;
 					final double ibx = it.bDouble;
@@ -6554,7 +7355,9 @@ public class Maths {
 			break;
 		case Dataset.FLOAT64:
 			final double[] of64data = ((DoubleDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (sameDType) {
+				divideRuns(it, da, db, of64data);
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double iax = it.aDouble;
 					final double ibx = it.bDouble;
@@ -6948,8 +7751,212 @@ public class Maths {
 		return result;
 	}
 
-	/**
-	 * dividez operator
+	private static void divideRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final byte[] oi8data) {
+		final byte[] ai8data = ((ByteDataset) da).data;
+		final byte[] bi8data = ((ByteDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai8data[ia + i];
+					final long ibx = bi8data[ib + i];
+					byte ox;
+					ox = (byte) (ibx == 0 ? 0 : iax / ibx);
+					oi8data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final long iax = ai8data[ia];
+					final long ibx = bi8data[ib];
+					byte ox;
+					ox = (byte) (ibx == 0 ? 0 : iax / ibx);
+					oi8data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void divideRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final short[] oi16data) {
+		final short[] ai16data = ((ShortDataset) da).data;
+		final short[] bi16data = ((ShortDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai16data[ia + i];
+					final long ibx = bi16data[ib + i];
+					short ox;
+					ox = (short) (ibx == 0 ? 0 : iax / ibx);
+					oi16data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final long iax = ai16data[ia];
+					final long ibx = bi16data[ib];
+					short ox;
+					ox = (short) (ibx == 0 ? 0 : iax / ibx);
+					oi16data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void divideRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final long[] oi64data) {
+		final long[] ai64data = ((LongDataset) da).data;
+		final long[] bi64data = ((LongDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai64data[ia + i];
+					final long ibx = bi64data[ib + i];
+					long ox;
+					ox = (ibx == 0 ? 0 : iax / ibx);
+					oi64data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final long iax = ai64data[ia];
+					final long ibx = bi64data[ib];
+					long ox;
+					ox = (ibx == 0 ? 0 : iax / ibx);
+					oi64data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void divideRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final int[] oi32data) {
+		final int[] ai32data = ((IntegerDataset) da).data;
+		final int[] bi32data = ((IntegerDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai32data[ia + i];
+					final long ibx = bi32data[ib + i];
+					int ox;
+					ox = (int) (ibx == 0 ? 0 : iax / ibx);
+					oi32data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final long iax = ai32data[ia];
+					final long ibx = bi32data[ib];
+					int ox;
+					ox = (int) (ibx == 0 ? 0 : iax / ibx);
+					oi32data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void divideRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final float[] of32data) {
+		final float[] af32data = ((FloatDataset) da).data;
+		final float[] bf32data = ((FloatDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final double iax = af32data[ia + i];
+					final double ibx = bf32data[ib + i];
+					float ox;
+					ox = (float) (iax / ibx);
+					of32data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final double iax = af32data[ia];
+					final double ibx = bf32data[ib];
+					float ox;
+					ox = (float) (iax / ibx);
+					of32data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void divideRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final double[] of64data) {
+		final double[] af64data = ((DoubleDataset) da).data;
+		final double[] bf64data = ((DoubleDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final double iax = af64data[ia + i];
+					final double ibx = bf64data[ib + i];
+					double ox;
+					ox = (iax / ibx);
+					of64data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final double iax = af64data[ia];
+					final double ibx = bf64data[ib];
+					double ox;
+					ox = (iax / ibx);
+					of64data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	/**
+	 * dividez operator
 	 * @param a
 	 * @param b
 	 * @return a / b, division of a by b
@@ -6966,17 +7973,42 @@ public class Maths {
 	 * @return a / b, division of a by b
 	 */
 	public static Dataset dividez(final Object a, final Object b, final Dataset o) {
+		return dividez(a, b, o, null);
+	}
+
+	/**
+	 * dividez operator
+	 * @param a
+	 * @param b
+	 * @param o output can be null - in which case, a new dataset is created
+	 * @param mode execution mode can be null - in which case, the global mode is used
+	 * @return a / b, division of a by b
+	 */
+	public static Dataset dividez(final Object a, final Object b, final Dataset o, final ExecutionMode mode) {
 		final Dataset da = a instanceof Dataset ? (Dataset) a : DatasetFactory.createFromObject(a);
 		final Dataset db = b instanceof Dataset ? (Dataset) b : DatasetFactory.createFromObject(b);
 		final BroadcastIterator it = BroadcastIterator.createIterator(da, db, o, true);
 		final Dataset result = it.getOutput();
+		if (ParallelUtils.isParallel(mode, result.getSize())) {
+			operateInParallel(da, db, result, new ChunkOperation() {
+				@Override
+				public void operate(Dataset ca, Dataset cb, Dataset co) {
+					dividez(ca, cb, co, ExecutionMode.SERIAL);
+				}
+			});
+			addBinaryOperatorName(da, db, result, "/");
+			return result;
+		}
 		final int is = result.getElementsPerItem();
 		final int dt = result.getDType();
+		final boolean sameDType = da.getDType() == dt && db.getDType() == dt;
 
 		switch(dt) {
 		case Dataset.INT8:
 			final byte[] oi8data = ((ByteDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (sameDType) {
+				dividezRuns(it, da, db, oi8data);
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double iax = it.aDouble;
 					final double ibx = it.bDouble;
@@ -6996,7 +8028,9 @@ public class Maths {
 			break;
 		case Dataset.INT16:
 			final short[] oi16data = ((ShortDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (sameDType) {
+				dividezRuns(it, da, db, oi16data);
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double iax = it.aDouble;
 					final double ibx = it.bDouble;
@@ -7016,7 +8050,9 @@ public class Maths {
 			break;
 		case Dataset.INT64:
 			final long[] oi64data = ((LongDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (sameDType) {
+				dividezRuns(it, da, db, oi64data);
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double iax = it.aDouble;
 					final double ibx = it.bDouble;
@@ -7036,7 +8072,9 @@ public class Maths {
 			break;
 		case Dataset.INT32:
 			final int[] oi32data = ((IntegerDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (sameDType) {
+				dividezRuns(it, da, db, oi32data);
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double iax = it.aDouble;
 					final double ibx = it.bDouble;
@@ -7488,7 +8526,9 @@ public class Maths {
 			break;
 		case Dataset.FLOAT32:
 			final float[] of32data = ((FloatDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (sameDType) {
+				dividezRuns(it, da, db, of32data);
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double iax = it.aDouble;
 					final double ibx = it.bDouble;
@@ -7508,7 +8548,9 @@ public class Maths {
 			break;
 		case Dataset.FLOAT64:
 			final double[] of64data = ((DoubleDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (sameDType) {
+				dividezRuns(it, da, db, of64data);
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double iax = it.aDouble;
 					final double ibx = it.bDouble;
@@ -7910,6 +8952,210 @@ public class Maths {
 		return result;
 	}
 
+	private static void dividezRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final byte[] oi8data) {
+		final byte[] ai8data = ((ByteDataset) da).data;
+		final byte[] bi8data = ((ByteDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai8data[ia + i];
+					final long ibx = bi8data[ib + i];
+					byte ox;
+					ox = (byte) (ibx == 0 ? 0 : iax / ibx);
+					oi8data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final long iax = ai8data[ia];
+					final long ibx = bi8data[ib];
+					byte ox;
+					ox = (byte) (ibx == 0 ? 0 : iax / ibx);
+					oi8data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void dividezRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final short[] oi16data) {
+		final short[] ai16data = ((ShortDataset) da).data;
+		final short[] bi16data = ((ShortDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai16data[ia + i];
+					final long ibx = bi16data[ib + i];
+					short ox;
+					ox = (short) (ibx == 0 ? 0 : iax / ibx);
+					oi16data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final long iax = ai16data[ia];
+					final long ibx = bi16data[ib];
+					short ox;
+					ox = (short) (ibx == 0 ? 0 : iax / ibx);
+					oi16data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void dividezRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final long[] oi64data) {
+		final long[] ai64data = ((LongDataset) da).data;
+		final long[] bi64data = ((LongDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai64data[ia + i];
+					final long ibx = bi64data[ib + i];
+					long ox;
+					ox = (ibx == 0 ? 0 : iax / ibx);
+					oi64data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final long iax = ai64data[ia];
+					final long ibx = bi64data[ib];
+					long ox;
+					ox = (ibx == 0 ? 0 : iax / ibx);
+					oi64data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void dividezRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final int[] oi32data) {
+		final int[] ai32data = ((IntegerDataset) da).data;
+		final int[] bi32data = ((IntegerDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai32data[ia + i];
+					final long ibx = bi32data[ib + i];
+					int ox;
+					ox = (int) (ibx == 0 ? 0 : iax / ibx);
+					oi32data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final long iax = ai32data[ia];
+					final long ibx = bi32data[ib];
+					int ox;
+					ox = (int) (ibx == 0 ? 0 : iax / ibx);
+					oi32data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void dividezRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final float[] of32data) {
+		final float[] af32data = ((FloatDataset) da).data;
+		final float[] bf32data = ((FloatDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final double iax = af32data[ia + i];
+					final double ibx = bf32data[ib + i];
+					float ox;
+					ox = (float) (ibx == 0 ? 0 : iax / ibx);
+					of32data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final double iax = af32data[ia];
+					final double ibx = bf32data[ib];
+					float ox;
+					ox = (float) (ibx == 0 ? 0 : iax / ibx);
+					of32data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void dividezRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final double[] of64data) {
+		final double[] af64data = ((DoubleDataset) da).data;
+		final double[] bf64data = ((DoubleDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final double iax = af64data[ia + i];
+					final double ibx = bf64data[ib + i];
+					double ox;
+					ox = (ibx == 0 ? 0 : iax / ibx);
+					of64data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final double iax = af64data[ia];
+					final double ibx = bf64data[ib];
+					double ox;
+					ox = (ibx == 0 ? 0 : iax / ibx);
+					of64data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
 	/**
 	 * divideTowardsFloor operator
 	 * @param a
@@ -7928,17 +9174,42 @@ public class Maths {
 	 * @return a / b, division of a by b but rounded towards negative infinity
 	 */
 	public static Dataset divideTowardsFloor(final Object a, final Object b, final Dataset o) {
+		return divideTowardsFloor(a, b, o, null);
+	}
+
+	/**
+	 * divideTowardsFloor operator
+	 * @param a
+	 * @param b
+	 * @param o output can be null - in which case, a new dataset is created
+	 * @param mode execution mode can be null - in which case, the global mode is used
+	 * @return a / b, division of a by b but rounded towards negative infinity
+	 */
+	public static Dataset divideTowardsFloor(final Object a, final Object b, final Dataset o, final ExecutionMode mode) {
 		final Dataset da = a instanceof Dataset ? (Dataset) a : DatasetFactory.createFromObject(a);
 		final Dataset db = b instanceof Dataset ? (Dataset) b : DatasetFactory.createFromObject(b);
 		final BroadcastIterator it = BroadcastIterator.createIterator(da, db, o, true);
 		final Dataset result = it.getOutput();
+		if (ParallelUtils.isParallel(mode, result.getSize())) {
+			operateInParallel(da, db, result, new ChunkOperation() {
+				@Override
+				public void operate(Dataset ca, Dataset cb, Dataset co) {
+					divideTowardsFloor(ca, cb, co, ExecutionMode.SERIAL);
+				}
+			});
+			addBinaryOperatorName(da, db, result, "/");
+			return result;
+		}
 		final int is = result.getElementsPerItem();
 		final int dt = result.getDType();
+		final boolean sameDType = da.getDType() == dt && db.getDType() == dt;
 
 		switch(dt) {
 		case Dataset.INT8:
 			final byte[] oi8data = ((ByteDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (sameDType) {
+				divideTowardsFloorRuns(it, da, db, oi8data);
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double iax = it.aDouble;
 					final double ibx = it.bDouble;
@@ -7972,7 +9243,9 @@ public class Maths {
 			break;
 		case Dataset.INT16:
 			final short[] oi16data = ((ShortDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (sameDType) {
+				divideTowardsFloorRuns(it, da, db, oi16data);
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double iax = it.aDouble;
 					final double ibx = it.bDouble;
@@ -8006,7 +9279,9 @@ public class Maths {
 			break;
 		case Dataset.INT64:
 			final long[] oi64data = ((LongDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (sameDType) {
+				divideTowardsFloorRuns(it, da, db, oi64data);
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double iax = it.aDouble;
 					final double ibx = it.bDouble;
@@ -8040,7 +9315,9 @@ public class Maths {
 			break;
 		case Dataset.INT32:
 			final int[] oi32data = ((IntegerDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (sameDType) {
+				divideTowardsFloorRuns(it, da, db, oi32data);
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double iax = it.aDouble;
 					final double ibx = it.bDouble;
@@ -8898,7 +10175,9 @@ public class Maths {
 			break;
 		case Dataset.FLOAT32:
 			final float[] of32data = ((FloatDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (sameDType) {
+				divideTowardsFloorRuns(it, da, db, of32data);
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double iax = it.aDouble;
 					final double ibx = it.bDouble;
@@ -8918,7 +10197,9 @@ public class Maths {
 			break;
 		case Dataset.FLOAT64:
 			final double[] of64data = ((DoubleDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (sameDType) {
+				divideTowardsFloorRuns(it, da, db, of64data);
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double iax = it.aDouble;
 					final double ibx = it.bDouble;
@@ -9312,86 +10593,375 @@ public class Maths {
 		return result;
 	}
 
-	/**
-	 * power operator
-	 * @param a
-	 * @param b
-	 * @return a ** b, raise a to power of b
-	 */
-	public static Dataset power(final Object a, final Object b) {
-		return power(a, b, null);
-	}
-
-	/**
-	 * power operator
-	 * @param a
-	 * @param b
-	 * @param o output can be null - in which case, a new dataset is created
-	 * @return a ** b, raise a to power of b
-	 */
-	public static Dataset power(final Object a, final Object b, final Dataset o) {
-		final Dataset da = a instanceof Dataset ? (Dataset) a : DatasetFactory.createFromObject(a);
-		final Dataset db = b instanceof Dataset ? (Dataset) b : DatasetFactory.createFromObject(b);
-		final BroadcastIterator it = BroadcastIterator.createIterator(da, db, o, true);
-		final Dataset result = it.getOutput();
-		final int is = result.getElementsPerItem();
-		final int dt = result.getDType();
-
-		switch(dt) {
-		case Dataset.INT8:
-			final byte[] oi8data = ((ByteDataset) result).data;
-			if (it.isOutputDouble()) {
-				while (it.hasNext()) {
-					final double iax = it.aDouble;
-					final double ibx = it.bDouble;
+	private static void divideTowardsFloorRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final byte[] oi8data) {
+		final byte[] ai8data = ((ByteDataset) da).data;
+		final byte[] bi8data = ((ByteDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai8data[ia + i];
+					final long ibx = bi8data[ib + i];
 					byte ox;
-					ox = (byte) toLong(Math.pow(iax, ibx));
-					oi8data[it.oIndex] = ox;
+					if (ibx == 0) {
+						ox = 0;
+					} else {
+						ox = (byte) (iax / ibx);
+						if (iax != ox * ibx && ((iax < 0) ^ (ibx < 0))) {
+							ox--;
+						}
+					}
+					oi8data[io + i] = ox;
 				}
 			} else {
-				while (it.hasNext()) {
-					final long iax = it.aLong;
-					final long ibx = it.bLong;
+				for (int i = 0; i < n; i++) {
+					final long iax = ai8data[ia];
+					final long ibx = bi8data[ib];
 					byte ox;
-					ox = (byte) toLong(Math.pow(iax, ibx));
-					oi8data[it.oIndex] = ox;
+					if (ibx == 0) {
+						ox = 0;
+					} else {
+						ox = (byte) (iax / ibx);
+						if (iax != ox * ibx && ((iax < 0) ^ (ibx < 0))) {
+							ox--;
+						}
+					}
+					oi8data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
 				}
 			}
-			break;
-		case Dataset.INT16:
-			final short[] oi16data = ((ShortDataset) result).data;
-			if (it.isOutputDouble()) {
-				while (it.hasNext()) {
-					final double iax = it.aDouble;
-					final double ibx = it.bDouble;
+		}
+	}
+
+	private static void divideTowardsFloorRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final short[] oi16data) {
+		final short[] ai16data = ((ShortDataset) da).data;
+		final short[] bi16data = ((ShortDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai16data[ia + i];
+					final long ibx = bi16data[ib + i];
 					short ox;
-					ox = (short) toLong(Math.pow(iax, ibx));
-					oi16data[it.oIndex] = ox;
+					if (ibx == 0) {
+						ox = 0;
+					} else {
+						ox = (short) (iax / ibx);
+						if (iax != ox * ibx && ((iax < 0) ^ (ibx < 0))) {
+							ox--;
+						}
+					}
+					oi16data[io + i] = ox;
 				}
 			} else {
-				while (it.hasNext()) {
-					final long iax = it.aLong;
-					final long ibx = it.bLong;
+				for (int i = 0; i < n; i++) {
+					final long iax = ai16data[ia];
+					final long ibx = bi16data[ib];
 					short ox;
-					ox = (short) toLong(Math.pow(iax, ibx));
-					oi16data[it.oIndex] = ox;
+					if (ibx == 0) {
+						ox = 0;
+					} else {
+						ox = (short) (iax / ibx);
+						if (iax != ox * ibx && ((iax < 0) ^ (ibx < 0))) {
+							ox--;
+						}
+					}
+					oi16data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
 				}
 			}
-			break;
-		case Dataset.INT64:
-			final long[] oi64data = ((LongDataset) result).data;
-			if (it.isOutputDouble()) {
-				while (it.hasNext()) {
-					final double iax = it.aDouble;
-					final double ibx = it.bDouble;
+		}
+	}
+
+	private static void divideTowardsFloorRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final long[] oi64data) {
+		final long[] ai64data = ((LongDataset) da).data;
+		final long[] bi64data = ((LongDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai64data[ia + i];
+					final long ibx = bi64data[ib + i];
 					long ox;
-					ox = toLong(Math.pow(iax, ibx));
-					oi64data[it.oIndex] = ox;
-				}
-			} else {
-				while (it.hasNext()) {
-					final long iax = it.aLong;
-					final long ibx = it.bLong;
+					if (ibx == 0) {
+						ox = 0;
+					} else {
+						ox = (iax / ibx);
+						if (iax != ox * ibx && ((iax < 0) ^ (ibx < 0))) {
+							ox--;
+						}
+					}
+					oi64data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final long iax = ai64data[ia];
+					final long ibx = bi64data[ib];
+					long ox;
+					if (ibx == 0) {
+						ox = 0;
+					} else {
+						ox = (iax / ibx);
+						if (iax != ox * ibx && ((iax < 0) ^ (ibx < 0))) {
+							ox--;
+						}
+					}
+					oi64data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void divideTowardsFloorRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final int[] oi32data) {
+		final int[] ai32data = ((IntegerDataset) da).data;
+		final int[] bi32data = ((IntegerDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai32data[ia + i];
+					final long ibx = bi32data[ib + i];
+					int ox;
+					if (ibx == 0) {
+						ox = 0;
+					} else {
+						ox = (int) (iax / ibx);
+						if (iax != ox * ibx && ((iax < 0) ^ (ibx < 0))) {
+							ox--;
+						}
+					}
+					oi32data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final long iax = ai32data[ia];
+					final long ibx = bi32data[ib];
+					int ox;
+					if (ibx == 0) {
+						ox = 0;
+					} else {
+						ox = (int) (iax / ibx);
+						if (iax != ox * ibx && ((iax < 0) ^ (ibx < 0))) {
+							ox--;
+						}
+					}
+					oi32data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void divideTowardsFloorRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final float[] of32data) {
+		final float[] af32data = ((FloatDataset) da).data;
+		final float[] bf32data = ((FloatDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final double iax = af32data[ia + i];
+					final double ibx = bf32data[ib + i];
+					float ox;
+					ox = (float) (iax / ibx);
+					of32data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final double iax = af32data[ia];
+					final double ibx = bf32data[ib];
+					float ox;
+					ox = (float) (iax / ibx);
+					of32data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void divideTowardsFloorRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final double[] of64data) {
+		final double[] af64data = ((DoubleDataset) da).data;
+		final double[] bf64data = ((DoubleDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final double iax = af64data[ia + i];
+					final double ibx = bf64data[ib + i];
+					double ox;
+					ox = (iax / ibx);
+					of64data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final double iax = af64data[ia];
+					final double ibx = bf64data[ib];
+					double ox;
+					ox = (iax / ibx);
+					of64data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	/**
+	 * power operator
+	 * @param a
+	 * @param b
+	 * @return a ** b, raise a to power of b
+	 */
+	public static Dataset power(final Object a, final Object b) {
+		return power(a, b, null);
+	}
+
+	/**
+	 * power operator
+	 * @param a
+	 * @param b
+	 * @param o output can be null - in which case, a new dataset is created
+	 * @return a ** b, raise a to power of b
+	 */
+	public static Dataset power(final Object a, final Object b, final Dataset o) {
+		return power(a, b, o, null);
+	}
+
+	/**
+	 * power operator
+	 * @param a
+	 * @param b
+	 * @param o output can be null - in which case, a new dataset is created
+	 * @param mode execution mode can be null - in which case, the global mode is used
+	 * @return a ** b, raise a to power of b
+	 */
+	public static Dataset power(final Object a, final Object b, final Dataset o, final ExecutionMode mode) {
+		final Dataset da = a instanceof Dataset ? (Dataset) a : DatasetFactory.createFromObject(a);
+		final Dataset db = b instanceof Dataset ? (Dataset) b : DatasetFactory.createFromObject(b);
+		final BroadcastIterator it = BroadcastIterator.createIterator(da, db, o, true);
+		final Dataset result = it.getOutput();
+		if (ParallelUtils.isParallel(mode, result.getSize())) {
+			operateInParallel(da, db, result, new ChunkOperation() {
+				@Override
+				public void operate(Dataset ca, Dataset cb, Dataset co) {
+					power(ca, cb, co, ExecutionMode.SERIAL);
+				}
+			});
+			addBinaryOperatorName(da, db, result, "**");
+			return result;
+		}
+		final int is = result.getElementsPerItem();
+		final int dt = result.getDType();
+		final boolean sameDType = da.getDType() == dt && db.getDType() == dt;
+
+		switch(dt) {
+		case Dataset.INT8:
+			final byte[] oi8data = ((ByteDataset) result).data;
+			if (sameDType) {
+				powerRuns(it, da, db, oi8data);
+			} else if (it.isOutputDouble()) {
+				while (it.hasNext()) {
+					final double iax = it.aDouble;
+					final double ibx = it.bDouble;
+					byte ox;
+					ox = (byte) toLong(Math.pow(iax, ibx));
+					oi8data[it.oIndex] = ox;
+				}
+			} else {
+				while (it.hasNext()) {
+					final long iax = it.aLong;
+					final long ibx = it.bLong;
+					byte ox;
+					ox = (byte) toLong(Math.pow(iax, ibx));
+					oi8data[it.oIndex] = ox;
+				}
+			}
+			break;
+		case Dataset.INT16:
+			final short[] oi16data = ((ShortDataset) result).data;
+			if (sameDType) {
+				powerRuns(it, da, db, oi16data);
+			} else if (it.isOutputDouble()) {
+				while (it.hasNext()) {
+					final double iax = it.aDouble;
+					final double ibx = it.bDouble;
+					short ox;
+					ox = (short) toLong(Math.pow(iax, ibx));
+					oi16data[it.oIndex] = ox;
+				}
+			} else {
+				while (it.hasNext()) {
+					final long iax = it.aLong;
+					final long ibx = it.bLong;
+					short ox;
+					ox = (short) toLong(Math.pow(iax, ibx));
+					oi16data[it.oIndex] = ox;
+				}
+			}
+			break;
+		case Dataset.INT64:
+			final long[] oi64data = ((LongDataset) result).data;
+			if (sameDType) {
+				powerRuns(it, da, db, oi64data);
+			} else if (it.isOutputDouble()) {
+				while (it.hasNext()) {
+					final double iax = it.aDouble;
+					final double ibx = it.bDouble;
+					long ox;
+					ox = toLong(Math.pow(iax, ibx));
+					oi64data[it.oIndex] = ox;
+				}
+			} else {
+				while (it.hasNext()) {
+					final long iax = it.aLong;
+					final long ibx = it.bLong;
 					long ox;
 					ox = toLong(Math.pow(iax, ibx));
 					oi64data[it.oIndex] = ox;
@@ -9400,7 +10970,9 @@ public class Maths {
 			break;
 		case Dataset.INT32:
 			final int[] oi32data = ((IntegerDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (sameDType) {
+				powerRuns(it, da, db, oi32data);
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double iax = it.aDouble;
 					final double ibx = it.bDouble;
@@ -9852,7 +11424,9 @@ public class Maths {
 			break;
 		case Dataset.FLOAT32:
 			final float[] of32data = ((FloatDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (sameDType) {
+				powerRuns(it, da, db, of32data);
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double iax = it.aDouble;
 					final double ibx = it.bDouble;
@@ -9872,7 +11446,9 @@ public class Maths {
 			break;
 		case Dataset.FLOAT64:
 			final double[] of64data = ((DoubleDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (sameDType) {
+				powerRuns(it, da, db, of64data);
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double iax = it.aDouble;
 					final double ibx = it.bDouble;
@@ -10212,6 +11788,210 @@ public class Maths {
 		return result;
 	}
 
+	private static void powerRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final byte[] oi8data) {
+		final byte[] ai8data = ((ByteDataset) da).data;
+		final byte[] bi8data = ((ByteDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai8data[ia + i];
+					final long ibx = bi8data[ib + i];
+					byte ox;
+					ox = (byte) toLong(Math.pow(iax, ibx));
+					oi8data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final long iax = ai8data[ia];
+					final long ibx = bi8data[ib];
+					byte ox;
+					ox = (byte) toLong(Math.pow(iax, ibx));
+					oi8data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void powerRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final short[] oi16data) {
+		final short[] ai16data = ((ShortDataset) da).data;
+		final short[] bi16data = ((ShortDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai16data[ia + i];
+					final long ibx = bi16data[ib + i];
+					short ox;
+					ox = (short) toLong(Math.pow(iax, ibx));
+					oi16data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final long iax = ai16data[ia];
+					final long ibx = bi16data[ib];
+					short ox;
+					ox = (short) toLong(Math.pow(iax, ibx));
+					oi16data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void powerRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final long[] oi64data) {
+		final long[] ai64data = ((LongDataset) da).data;
+		final long[] bi64data = ((LongDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai64data[ia + i];
+					final long ibx = bi64data[ib + i];
+					long ox;
+					ox = toLong(Math.pow(iax, ibx));
+					oi64data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final long iax = ai64data[ia];
+					final long ibx = bi64data[ib];
+					long ox;
+					ox = toLong(Math.pow(iax, ibx));
+					oi64data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void powerRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final int[] oi32data) {
+		final int[] ai32data = ((IntegerDataset) da).data;
+		final int[] bi32data = ((IntegerDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai32data[ia + i];
+					final long ibx = bi32data[ib + i];
+					int ox;
+					ox = (int) toLong(Math.pow(iax, ibx));
+					oi32data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final long iax = ai32data[ia];
+					final long ibx = bi32data[ib];
+					int ox;
+					ox = (int) toLong(Math.pow(iax, ibx));
+					oi32data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void powerRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final float[] of32data) {
+		final float[] af32data = ((FloatDataset) da).data;
+		final float[] bf32data = ((FloatDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final double iax = af32data[ia + i];
+					final double ibx = bf32data[ib + i];
+					float ox;
+					ox = (float) (Math.pow(iax, ibx));
+					of32data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final double iax = af32data[ia];
+					final double ibx = bf32data[ib];
+					float ox;
+					ox = (float) (Math.pow(iax, ibx));
+					of32data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void powerRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final double[] of64data) {
+		final double[] af64data = ((DoubleDataset) da).data;
+		final double[] bf64data = ((DoubleDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final double iax = af64data[ia + i];
+					final double ibx = bf64data[ib + i];
+					double ox;
+					ox = (Math.pow(iax, ibx));
+					of64data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final double iax = af64data[ia];
+					final double ibx = bf64data[ib];
+					double ox;
+					ox = (Math.pow(iax, ibx));
+					of64data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
 	/**
 	 * remainder operator
 	 * @param a
@@ -10230,17 +12010,42 @@ public class Maths {
 	 * @return a % b, remainder of division of a by b
 	 */
 	public static Dataset remainder(final Object a, final Object b, final Dataset o) {
+		return remainder(a, b, o, null);
+	}
+
+	/**
+	 * remainder operator
+	 * @param a
+	 * @param b
+	 * @param o output can be null - in which case, a new dataset is created
+	 * @param mode execution mode can be null - in which case, the global mode is used
+	 * @return a % b, remainder of division of a by b
+	 */
+	public static Dataset remainder(final Object a, final Object b, final Dataset o, final ExecutionMode mode) {
 		final Dataset da = a instanceof Dataset ? (Dataset) a : DatasetFactory.createFromObject(a);
 		final Dataset db = b instanceof Dataset ? (Dataset) b : DatasetFactory.createFromObject(b);
 		final BroadcastIterator it = BroadcastIterator.createIterator(da, db, o, true);
 		final Dataset result = it.getOutput();
+		if (ParallelUtils.isParallel(mode, result.getSize())) {
+			operateInParallel(da, db, result, new ChunkOperation() {
+				@Override
+				public void operate(Dataset ca, Dataset cb, Dataset co) {
+					remainder(ca, cb, co, ExecutionMode.SERIAL);
+				}
+			});
+			addBinaryOperatorName(da, db, result, "%");
+			return result;
+		}
 		final int is = result.getElementsPerItem();
 		final int dt = result.getDType();
+		final boolean sameDType = da.getDType() == dt && db.getDType() == dt;
 
 		switch(dt) {
 		case Dataset.INT8:
 			final byte[] oi8data = ((ByteDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (sameDType) {
+				remainderRuns(it, da, db, oi8data);
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double iax = it.aDouble;
 					final double ibx = it.bDouble;
@@ -10260,7 +12065,9 @@ public class Maths {
 			break;
 		case Dataset.INT16:
 			final short[] oi16data = ((ShortDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (sameDType) {
+				remainderRuns(it, da, db, oi16data);
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double iax = it.aDouble;
 					final double ibx = it.bDouble;
@@ -10280,7 +12087,9 @@ public class Maths {
 			break;
 		case Dataset.INT64:
 			final long[] oi64data = ((LongDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (sameDType) {
+				remainderRuns(it, da, db, oi64data);
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double iax = it.aDouble;
 					final double ibx = it.bDouble;
@@ -10300,7 +12109,9 @@ public class Maths {
 			break;
 		case Dataset.INT32:
 			final int[] oi32data = ((IntegerDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (sameDType) {
+				remainderRuns(it, da, db, oi32data);
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double iax = it.aDouble;
 					final double ibx = it.bDouble;
@@ -10752,7 +12563,9 @@ public class Maths {
 			break;
 		case Dataset.FLOAT32:
 			final float[] of32data = ((FloatDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (sameDType) {
+				remainderRuns(it, da, db, of32data);
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double iax = it.aDouble;
 					final double ibx = it.bDouble;
@@ -10772,7 +12585,9 @@ public class Maths {
 			break;
 		case Dataset.FLOAT64:
 			final double[] of64data = ((DoubleDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (sameDType) {
+				remainderRuns(it, da, db, of64data);
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double iax = it.aDouble;
 					final double ibx = it.bDouble;
@@ -11014,35 +12829,264 @@ public class Maths {
 		return result;
 	}
 
-	/**
-	 * maximum operator
-	 * @param a
-	 * @param b
-	 * @return return maximum of a and b
-	 */
-	public static Dataset maximum(final Object a, final Object b) {
-		return maximum(a, b, null);
+	private static void remainderRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final byte[] oi8data) {
+		final byte[] ai8data = ((ByteDataset) da).data;
+		final byte[] bi8data = ((ByteDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai8data[ia + i];
+					final long ibx = bi8data[ib + i];
+					byte ox;
+					ox = (byte) (ibx == 0 ? 0 : iax % ibx);
+					oi8data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final long iax = ai8data[ia];
+					final long ibx = bi8data[ib];
+					byte ox;
+					ox = (byte) (ibx == 0 ? 0 : iax % ibx);
+					oi8data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
 	}
 
-	/**
-	 * maximum operator
-	 * @param a
-	 * @param b
-	 * @param o output can be null - in which case, a new dataset is created
+	private static void remainderRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final short[] oi16data) {
+		final short[] ai16data = ((ShortDataset) da).data;
+		final short[] bi16data = ((ShortDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai16data[ia + i];
+					final long ibx = bi16data[ib + i];
+					short ox;
+					ox = (short) (ibx == 0 ? 0 : iax % ibx);
+					oi16data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final long iax = ai16data[ia];
+					final long ibx = bi16data[ib];
+					short ox;
+					ox = (short) (ibx == 0 ? 0 : iax % ibx);
+					oi16data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void remainderRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final long[] oi64data) {
+		final long[] ai64data = ((LongDataset) da).data;
+		final long[] bi64data = ((LongDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai64data[ia + i];
+					final long ibx = bi64data[ib + i];
+					long ox;
+					ox = (ibx == 0 ? 0 : iax % ibx);
+					oi64data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final long iax = ai64data[ia];
+					final long ibx = bi64data[ib];
+					long ox;
+					ox = (ibx == 0 ? 0 : iax % ibx);
+					oi64data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void remainderRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final int[] oi32data) {
+		final int[] ai32data = ((IntegerDataset) da).data;
+		final int[] bi32data = ((IntegerDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai32data[ia + i];
+					final long ibx = bi32data[ib + i];
+					int ox;
+					ox = (int) (ibx == 0 ? 0 : iax % ibx);
+					oi32data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final long iax = ai32data[ia];
+					final long ibx = bi32data[ib];
+					int ox;
+					ox = (int) (ibx == 0 ? 0 : iax % ibx);
+					oi32data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void remainderRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final float[] of32data) {
+		final float[] af32data = ((FloatDataset) da).data;
+		final float[] bf32data = ((FloatDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final double iax = af32data[ia + i];
+					final double ibx = bf32data[ib + i];
+					float ox;
+					ox = (float) (iax % ibx);
+					of32data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final double iax = af32data[ia];
+					final double ibx = bf32data[ib];
+					float ox;
+					ox = (float) (iax % ibx);
+					of32data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void remainderRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final double[] of64data) {
+		final double[] af64data = ((DoubleDataset) da).data;
+		final double[] bf64data = ((DoubleDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final double iax = af64data[ia + i];
+					final double ibx = bf64data[ib + i];
+					double ox;
+					ox = (iax % ibx);
+					of64data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final double iax = af64data[ia];
+					final double ibx = bf64data[ib];
+					double ox;
+					ox = (iax % ibx);
+					of64data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	/**
+	 * maximum operator
+	 * @param a
+	 * @param b
+	 * @return return maximum of a and b
+	 */
+	public static Dataset maximum(final Object a, final Object b) {
+		return maximum(a, b, null);
+	}
+
+	/**
+	 * maximum operator
+	 * @param a
+	 * @param b
+	 * @param o output can be null - in which case, a new dataset is created
 	 * @return return maximum of a and b
 	 */
 	public static Dataset maximum(final Object a, final Object b, final Dataset o) {
+		return maximum(a, b, o, null);
+	}
+
+	/**
+	 * maximum operator
+	 * @param a
+	 * @param b
+	 * @param o output can be null - in which case, a new dataset is created
+	 * @param mode execution mode can be null - in which case, the global mode is used
+	 * @return return maximum of a and b
+	 */
+	public static Dataset maximum(final Object a, final Object b, final Dataset o, final ExecutionMode mode) {
 		final Dataset da = a instanceof Dataset ? (Dataset) a : DatasetFactory.createFromObject(a);
 		final Dataset db = b instanceof Dataset ? (Dataset) b : DatasetFactory.createFromObject(b);
 		final BroadcastIterator it = BroadcastIterator.createIterator(da, db, o, true);
 		final Dataset result = it.getOutput();
+		if (ParallelUtils.isParallel(mode, result.getSize())) {
+			operateInParallel(da, db, result, new ChunkOperation() {
+				@Override
+				public void operate(Dataset ca, Dataset cb, Dataset co) {
+					maximum(ca, cb, co, ExecutionMode.SERIAL);
+				}
+			});
+			addBinaryOperatorName(da, db, result, "maximum");
+			return result;
+		}
 		final int is = result.getElementsPerItem();
 		final int dt = result.getDType();
+		final boolean sameDType = da.getDType() == dt && db.getDType() == dt;
 
 		switch(dt) {
 		case Dataset.INT8:
 			final byte[] oi8data = ((ByteDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (sameDType) {
+				maximumRuns(it, da, db, oi8data);
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double iax = it.aDouble;
 					final double ibx = it.bDouble;
@@ -11062,7 +13106,9 @@ public class Maths {
 			break;
 		case Dataset.INT16:
 			final short[] oi16data = ((ShortDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (sameDType) {
+				maximumRuns(it, da, db, oi16data);
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double iax = it.aDouble;
 					final double ibx = it.bDouble;
@@ -11082,7 +13128,9 @@ public class Maths {
 			break;
 		case Dataset.INT64:
 			final long[] oi64data = ((LongDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (sameDType) {
+				maximumRuns(it, da, db, oi64data);
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double iax = it.aDouble;
 					final double ibx = it.bDouble;
@@ -11102,7 +13150,9 @@ public class Maths {
 			break;
 		case Dataset.INT32:
 			final int[] oi32data = ((IntegerDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (sameDType) {
+				maximumRuns(it, da, db, oi32data);
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double iax = it.aDouble;
 					final double ibx = it.bDouble;
@@ -11554,7 +13604,9 @@ public class Maths {
 			break;
 		case Dataset.FLOAT32:
 			final float[] of32data = ((FloatDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (sameDType) {
+				maximumRuns(it, da, db, of32data);
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double iax = it.aDouble;
 					final double ibx = it.bDouble;
@@ -11574,7 +13626,9 @@ public class Maths {
 			break;
 		case Dataset.FLOAT64:
 			final double[] of64data = ((DoubleDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (sameDType) {
+				maximumRuns(it, da, db, of64data);
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double iax = it.aDouble;
 					final double ibx = it.bDouble;
@@ -11947,6 +14001,210 @@ public class Maths {
 		return result;
 	}
 
+	private static void maximumRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final byte[] oi8data) {
+		final byte[] ai8data = ((ByteDataset) da).data;
+		final byte[] bi8data = ((ByteDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai8data[ia + i];
+					final long ibx = bi8data[ib + i];
+					byte ox;
+					ox = (byte) toLong(Math.max(iax, ibx));
+					oi8data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final long iax = ai8data[ia];
+					final long ibx = bi8data[ib];
+					byte ox;
+					ox = (byte) toLong(Math.max(iax, ibx));
+					oi8data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void maximumRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final short[] oi16data) {
+		final short[] ai16data = ((ShortDataset) da).data;
+		final short[] bi16data = ((ShortDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai16data[ia + i];
+					final long ibx = bi16data[ib + i];
+					short ox;
+					ox = (short) toLong(Math.max(iax, ibx));
+					oi16data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final long iax = ai16data[ia];
+					final long ibx = bi16data[ib];
+					short ox;
+					ox = (short) toLong(Math.max(iax, ibx));
+					oi16data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void maximumRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final long[] oi64data) {
+		final long[] ai64data = ((LongDataset) da).data;
+		final long[] bi64data = ((LongDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai64data[ia + i];
+					final long ibx = bi64data[ib + i];
+					long ox;
+					ox = toLong(Math.max(iax, ibx));
+					oi64data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final long iax = ai64data[ia];
+					final long ibx = bi64data[ib];
+					long ox;
+					ox = toLong(Math.max(iax, ibx));
+					oi64data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void maximumRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final int[] oi32data) {
+		final int[] ai32data = ((IntegerDataset) da).data;
+		final int[] bi32data = ((IntegerDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai32data[ia + i];
+					final long ibx = bi32data[ib + i];
+					int ox;
+					ox = (int) toLong(Math.max(iax, ibx));
+					oi32data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final long iax = ai32data[ia];
+					final long ibx = bi32data[ib];
+					int ox;
+					ox = (int) toLong(Math.max(iax, ibx));
+					oi32data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void maximumRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final float[] of32data) {
+		final float[] af32data = ((FloatDataset) da).data;
+		final float[] bf32data = ((FloatDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final double iax = af32data[ia + i];
+					final double ibx = bf32data[ib + i];
+					float ox;
+					ox = (float) (Math.max(iax, ibx));
+					of32data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final double iax = af32data[ia];
+					final double ibx = bf32data[ib];
+					float ox;
+					ox = (float) (Math.max(iax, ibx));
+					of32data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void maximumRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final double[] of64data) {
+		final double[] af64data = ((DoubleDataset) da).data;
+		final double[] bf64data = ((DoubleDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final double iax = af64data[ia + i];
+					final double ibx = bf64data[ib + i];
+					double ox;
+					ox = (Math.max(iax, ibx));
+					of64data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final double iax = af64data[ia];
+					final double ibx = bf64data[ib];
+					double ox;
+					ox = (Math.max(iax, ibx));
+					of64data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
 	/**
 	 * minimum operator
 	 * @param a
@@ -11965,17 +14223,42 @@ public class Maths {
 	 * @return return minimum of a and b
 	 */
 	public static Dataset minimum(final Object a, final Object b, final Dataset o) {
+		return minimum(a, b, o, null);
+	}
+
+	/**
+	 * minimum operator
+	 * @param a
+	 * @param b
+	 * @param o output can be null - in which case, a new dataset is created
+	 * @param mode execution mode can be null - in which case, the global mode is used
+	 * @return return minimum of a and b
+	 */
+	public static Dataset minimum(final Object a, final Object b, final Dataset o, final ExecutionMode mode) {
 		final Dataset da = a instanceof Dataset ? (Dataset) a : DatasetFactory.createFromObject(a);
 		final Dataset db = b instanceof Dataset ? (Dataset) b : DatasetFactory.createFromObject(b);
 		final BroadcastIterator it = BroadcastIterator.createIterator(da, db, o, true);
 		final Dataset result = it.getOutput();
+		if (ParallelUtils.isParallel(mode, result.getSize())) {
+			operateInParallel(da, db, result, new ChunkOperation() {
+				@Override
+				public void operate(Dataset ca, Dataset cb, Dataset co) {
+					minimum(ca, cb, co, ExecutionMode.SERIAL);
+				}
+			});
+			addBinaryOperatorName(da, db, result, "minimum");
+			return result;
+		}
 		final int is = result.getElementsPerItem();
 		final int dt = result.getDType();
+		final boolean sameDType = da.getDType() == dt && db.getDType() == dt;
 
 		switch(dt) {
 		case Dataset.INT8:
 			final byte[] oi8data = ((ByteDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (sameDType) {
+				minimumRuns(it, da, db, oi8data);
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double iax = it.aDouble;
 					final double ibx = it.bDouble;
@@ -11995,7 +14278,9 @@ public class Maths {
 			break;
 		case Dataset.INT16:
 			final short[] oi16data = ((ShortDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (sameDType) {
+				minimumRuns(it, da, db, oi16data);
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double iax = it.aDouble;
 					final double ibx = it.bDouble;
@@ -12015,7 +14300,9 @@ public class Maths {
 			break;
 		case Dataset.INT64:
 			final long[] oi64data = ((LongDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (sameDType) {
+				minimumRuns(it, da, db, oi64data);
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double iax = it.aDouble;
 					final double ibx = it.bDouble;
@@ -12035,7 +14322,9 @@ public class Maths {
 			break;
 		case Dataset.INT32:
 			final int[] oi32data = ((IntegerDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (sameDType) {
+				minimumRuns(it, da, db, oi32data);
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double iax = it.aDouble;
 					final double ibx = it.bDouble;
@@ -12487,7 +14776,9 @@ public class Maths {
 			break;
 		case Dataset.FLOAT32:
 			final float[] of32data = ((FloatDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (sameDType) {
+				minimumRuns(it, da, db, of32data);
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double iax = it.aDouble;
 					final double ibx = it.bDouble;
@@ -12507,7 +14798,9 @@ public class Maths {
 			break;
 		case Dataset.FLOAT64:
 			final double[] of64data = ((DoubleDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (sameDType) {
+				minimumRuns(it, da, db, of64data);
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double iax = it.aDouble;
 					final double ibx = it.bDouble;
@@ -12883,6 +15176,210 @@ public class Maths {
 		return result;
 	}
 
+	private static void minimumRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final byte[] oi8data) {
+		final byte[] ai8data = ((ByteDataset) da).data;
+		final byte[] bi8data = ((ByteDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai8data[ia + i];
+					final long ibx = bi8data[ib + i];
+					byte ox;
+					ox = (byte) toLong(Math.min(iax, ibx));
+					oi8data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final long iax = ai8data[ia];
+					final long ibx = bi8data[ib];
+					byte ox;
+					ox = (byte) toLong(Math.min(iax, ibx));
+					oi8data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void minimumRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final short[] oi16data) {
+		final short[] ai16data = ((ShortDataset) da).data;
+		final short[] bi16data = ((ShortDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai16data[ia + i];
+					final long ibx = bi16data[ib + i];
+					short ox;
+					ox = (short) toLong(Math.min(iax, ibx));
+					oi16data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final long iax = ai16data[ia];
+					final long ibx = bi16data[ib];
+					short ox;
+					ox = (short) toLong(Math.min(iax, ibx));
+					oi16data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void minimumRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final long[] oi64data) {
+		final long[] ai64data = ((LongDataset) da).data;
+		final long[] bi64data = ((LongDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai64data[ia + i];
+					final long ibx = bi64data[ib + i];
+					long ox;
+					ox = toLong(Math.min(iax, ibx));
+					oi64data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final long iax = ai64data[ia];
+					final long ibx = bi64data[ib];
+					long ox;
+					ox = toLong(Math.min(iax, ibx));
+					oi64data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void minimumRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final int[] oi32data) {
+		final int[] ai32data = ((IntegerDataset) da).data;
+		final int[] bi32data = ((IntegerDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai32data[ia + i];
+					final long ibx = bi32data[ib + i];
+					int ox;
+					ox = (int) toLong(Math.min(iax, ibx));
+					oi32data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final long iax = ai32data[ia];
+					final long ibx = bi32data[ib];
+					int ox;
+					ox = (int) toLong(Math.min(iax, ibx));
+					oi32data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void minimumRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final float[] of32data) {
+		final float[] af32data = ((FloatDataset) da).data;
+		final float[] bf32data = ((FloatDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final double iax = af32data[ia + i];
+					final double ibx = bf32data[ib + i];
+					float ox;
+					ox = (float) (Math.min(iax, ibx));
+					of32data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final double iax = af32data[ia];
+					final double ibx = bf32data[ib];
+					float ox;
+					ox = (float) (Math.min(iax, ibx));
+					of32data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void minimumRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final double[] of64data) {
+		final double[] af64data = ((DoubleDataset) da).data;
+		final double[] bf64data = ((DoubleDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final double iax = af64data[ia + i];
+					final double ibx = bf64data[ib + i];
+					double ox;
+					ox = (Math.min(iax, ibx));
+					of64data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final double iax = af64data[ia];
+					final double ibx = bf64data[ib];
+					double ox;
+					ox = (Math.min(iax, ibx));
+					of64data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
 	/**
 	 * bitwiseAnd operator
 	 * @param a
@@ -12901,18 +15398,43 @@ public class Maths {
 	 * @return a & b, bitwise AND of a and b
 	 */
 	public static Dataset bitwiseAnd(final Object a, final Object b, final Dataset o) {
+		return bitwiseAnd(a, b, o, null);
+	}
+
+	/**
+	 * bitwiseAnd operator
+	 * @param a
+	 * @param b
+	 * @param o output can be null - in which case, a new dataset is created
+	 * @param mode execution mode can be null - in which case, the global mode is used
+	 * @return a & b, bitwise AND of a and b
+	 */
+	public static Dataset bitwiseAnd(final Object a, final Object b, final Dataset o, final ExecutionMode mode) {
 		final Dataset da = a instanceof Dataset ? (Dataset) a : DatasetFactory.createFromObject(a);
 		final Dataset db = b instanceof Dataset ? (Dataset) b : DatasetFactory.createFromObject(b);
 		final BroadcastIterator it = BroadcastIterator.createIterator(da, db, o, true);
 		it.setOutputDouble(false);
 		final Dataset result = it.getOutput();
+		if (ParallelUtils.isParallel(mode, result.getSize())) {
+			operateInParallel(da, db, result, new ChunkOperation() {
+				@Override
+				public void operate(Dataset ca, Dataset cb, Dataset co) {
+					bitwiseAnd(ca, cb, co, ExecutionMode.SERIAL);
+				}
+			});
+			addBinaryOperatorName(da, db, result, "&");
+			return result;
+		}
 		final int is = result.getElementsPerItem();
 		final int dt = result.getDType();
+		final boolean sameDType = da.getDType() == dt && db.getDType() == dt;
 
 		switch(dt) {
 		case Dataset.INT8:
 			final byte[] oi8data = ((ByteDataset) result).data;
-			{
+			if (sameDType) {
+				bitwiseAndRuns(it, da, db, oi8data);
+			} else {
 				while (it.hasNext()) {
 					final long iax = it.aLong;
 					final long ibx = it.bLong;
@@ -12924,7 +15446,9 @@ public class Maths {
 			break;
 		case Dataset.INT16:
 			final short[] oi16data = ((ShortDataset) result).data;
-			{
+			if (sameDType) {
+				bitwiseAndRuns(it, da, db, oi16data);
+			} else {
 				while (it.hasNext()) {
 					final long iax = it.aLong;
 					final long ibx = it.bLong;
@@ -12936,7 +15460,9 @@ public class Maths {
 			break;
 		case Dataset.INT64:
 			final long[] oi64data = ((LongDataset) result).data;
-			{
+			if (sameDType) {
+				bitwiseAndRuns(it, da, db, oi64data);
+			} else {
 				while (it.hasNext()) {
 					final long iax = it.aLong;
 					final long ibx = it.bLong;
@@ -12948,7 +15474,9 @@ public class Maths {
 			break;
 		case Dataset.INT32:
 			final int[] oi32data = ((IntegerDataset) result).data;
-			{
+			if (sameDType) {
+				bitwiseAndRuns(it, da, db, oi32data);
+			} else {
 				while (it.hasNext()) {
 					final long iax = it.aLong;
 					final long ibx = it.bLong;
@@ -13206,6 +15734,142 @@ public class Maths {
 		return result;
 	}
 
+	private static void bitwiseAndRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final byte[] oi8data) {
+		final byte[] ai8data = ((ByteDataset) da).data;
+		final byte[] bi8data = ((ByteDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai8data[ia + i];
+					final long ibx = bi8data[ib + i];
+					byte ox;
+					ox = (byte) (iax & ibx);
+					oi8data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final long iax = ai8data[ia];
+					final long ibx = bi8data[ib];
+					byte ox;
+					ox = (byte) (iax & ibx);
+					oi8data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void bitwiseAndRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final short[] oi16data) {
+		final short[] ai16data = ((ShortDataset) da).data;
+		final short[] bi16data = ((ShortDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai16data[ia + i];
+					final long ibx = bi16data[ib + i];
+					short ox;
+					ox = (short) (iax & ibx);
+					oi16data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final long iax = ai16data[ia];
+					final long ibx = bi16data[ib];
+					short ox;
+					ox = (short) (iax & ibx);
+					oi16data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void bitwiseAndRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final long[] oi64data) {
+		final long[] ai64data = ((LongDataset) da).data;
+		final long[] bi64data = ((LongDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai64data[ia + i];
+					final long ibx = bi64data[ib + i];
+					long ox;
+					ox = (iax & ibx);
+					oi64data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final long iax = ai64data[ia];
+					final long ibx = bi64data[ib];
+					long ox;
+					ox = (iax & ibx);
+					oi64data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void bitwiseAndRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final int[] oi32data) {
+		final int[] ai32data = ((IntegerDataset) da).data;
+		final int[] bi32data = ((IntegerDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai32data[ia + i];
+					final long ibx = bi32data[ib + i];
+					int ox;
+					ox = (int) (iax & ibx);
+					oi32data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final long iax = ai32data[ia];
+					final long ibx = bi32data[ib];
+					int ox;
+					ox = (int) (iax & ibx);
+					oi32data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
 	/**
 	 * bitwiseOr operator
 	 * @param a
@@ -13224,18 +15888,43 @@ public class Maths {
 	 * @return a | b, bitwise inclusive OR of a and b
 	 */
 	public static Dataset bitwiseOr(final Object a, final Object b, final Dataset o) {
+		return bitwiseOr(a, b, o, null);
+	}
+
+	/**
+	 * bitwiseOr operator
+	 * @param a
+	 * @param b
+	 * @param o output can be null - in which case, a new dataset is created
+	 * @param mode execution mode can be null - in which case, the global mode is used
+	 * @return a | b, bitwise inclusive OR of a and b
+	 */
+	public static Dataset bitwiseOr(final Object a, final Object b, final Dataset o, final ExecutionMode mode) {
 		final Dataset da = a instanceof Dataset ? (Dataset) a : DatasetFactory.createFromObject(a);
 		final Dataset db = b instanceof Dataset ? (Dataset) b : DatasetFactory.createFromObject(b);
 		final BroadcastIterator it = BroadcastIterator.createIterator(da, db, o, true);
 		it.setOutputDouble(false);
 		final Dataset result = it.getOutput();
+		if (ParallelUtils.isParallel(mode, result.getSize())) {
+			operateInParallel(da, db, result, new ChunkOperation() {
+				@Override
+				public void operate(Dataset ca, Dataset cb, Dataset co) {
+					bitwiseOr(ca, cb, co, ExecutionMode.SERIAL);
+				}
+			});
+			addBinaryOperatorName(da, db, result, "|");
+			return result;
+		}
 		final int is = result.getElementsPerItem();
 		final int dt = result.getDType();
+		final boolean sameDType = da.getDType() == dt && db.getDType() == dt;
 
 		switch(dt) {
 		case Dataset.INT8:
 			final byte[] oi8data = ((ByteDataset) result).data;
-			{
+			if (sameDType) {
+				bitwiseOrRuns(it, da, db, oi8data);
+			} else {
 				while (it.hasNext()) {
 					final long iax = it.aLong;
 					final long ibx = it.bLong;
@@ -13247,7 +15936,9 @@ public class Maths {
 			break;
 		case Dataset.INT16:
 			final short[] oi16data = ((ShortDataset) result).data;
-			{
+			if (sameDType) {
+				bitwiseOrRuns(it, da, db, oi16data);
+			} else {
 				while (it.hasNext()) {
 					final long iax = it.aLong;
 					final long ibx = it.bLong;
@@ -13259,7 +15950,9 @@ public class Maths {
 			break;
 		case Dataset.INT64:
 			final long[] oi64data = ((LongDataset) result).data;
-			{
+			if (sameDType) {
+				bitwiseOrRuns(it, da, db, oi64data);
+			} else {
 				while (it.hasNext()) {
 					final long iax = it.aLong;
 					final long ibx = it.bLong;
@@ -13271,7 +15964,9 @@ public class Maths {
 			break;
 		case Dataset.INT32:
 			final int[] oi32data = ((IntegerDataset) result).data;
-			{
+			if (sameDType) {
+				bitwiseOrRuns(it, da, db, oi32data);
+			} else {
 				while (it.hasNext()) {
 					final long iax = it.aLong;
 					final long ibx = it.bLong;
@@ -13529,6 +16224,142 @@ public class Maths {
 		return result;
 	}
 
+	private static void bitwiseOrRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final byte[] oi8data) {
+		final byte[] ai8data = ((ByteDataset) da).data;
+		final byte[] bi8data = ((ByteDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai8data[ia + i];
+					final long ibx = bi8data[ib + i];
+					byte ox;
+					ox = (byte) (iax | ibx);
+					oi8data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final long iax = ai8data[ia];
+					final long ibx = bi8data[ib];
+					byte ox;
+					ox = (byte) (iax | ibx);
+					oi8data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void bitwiseOrRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final short[] oi16data) {
+		final short[] ai16data = ((ShortDataset) da).data;
+		final short[] bi16data = ((ShortDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai16data[ia + i];
+					final long ibx = bi16data[ib + i];
+					short ox;
+					ox = (short) (iax | ibx);
+					oi16data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final long iax = ai16data[ia];
+					final long ibx = bi16data[ib];
+					short ox;
+					ox = (short) (iax | ibx);
+					oi16data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void bitwiseOrRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final long[] oi64data) {
+		final long[] ai64data = ((LongDataset) da).data;
+		final long[] bi64data = ((LongDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai64data[ia + i];
+					final long ibx = bi64data[ib + i];
+					long ox;
+					ox = (iax | ibx);
+					oi64data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final long iax = ai64data[ia];
+					final long ibx = bi64data[ib];
+					long ox;
+					ox = (iax | ibx);
+					oi64data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void bitwiseOrRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final int[] oi32data) {
+		final int[] ai32data = ((IntegerDataset) da).data;
+		final int[] bi32data = ((IntegerDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai32data[ia + i];
+					final long ibx = bi32data[ib + i];
+					int ox;
+					ox = (int) (iax | ibx);
+					oi32data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final long iax = ai32data[ia];
+					final long ibx = bi32data[ib];
+					int ox;
+					ox = (int) (iax | ibx);
+					oi32data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
 	/**
 	 * bitwiseXor operator
 	 * @param a
@@ -13547,18 +16378,43 @@ public class Maths {
 	 * @return a ^ b, bitwise exclusive OR of a and b
 	 */
 	public static Dataset bitwiseXor(final Object a, final Object b, final Dataset o) {
+		return bitwiseXor(a, b, o, null);
+	}
+
+	/**
+	 * bitwiseXor operator
+	 * @param a
+	 * @param b
+	 * @param o output can be null - in which case, a new dataset is created
+	 * @param mode execution mode can be null - in which case, the global mode is used
+	 * @return a ^ b, bitwise exclusive OR of a and b
+	 */
+	public static Dataset bitwiseXor(final Object a, final Object b, final Dataset o, final ExecutionMode mode) {
 		final Dataset da = a instanceof Dataset ? (Dataset) a : DatasetFactory.createFromObject(a);
 		final Dataset db = b instanceof Dataset ? (Dataset) b : DatasetFactory.createFromObject(b);
 		final BroadcastIterator it = BroadcastIterator.createIterator(da, db, o, true);
 		it.setOutputDouble(false);
 		final Dataset result = it.getOutput();
+		if (ParallelUtils.isParallel(mode, result.getSize())) {
+			operateInParallel(da, db, result, new ChunkOperation() {
+				@Override
+				public void operate(Dataset ca, Dataset cb, Dataset co) {
+					bitwiseXor(ca, cb, co, ExecutionMode.SERIAL);
+				}
+			});
+			addBinaryOperatorName(da, db, result, "^");
+			return result;
+		}
 		final int is = result.getElementsPerItem();
 		final int dt = result.getDType();
+		final boolean sameDType = da.getDType() == dt && db.getDType() == dt;
 
 		switch(dt) {
 		case Dataset.INT8:
 			final byte[] oi8data = ((ByteDataset) result).data;
-			{
+			if (sameDType) {
+				bitwiseXorRuns(it, da, db, oi8data);
+			} else {
 				while (it.hasNext()) {
 					final long iax = it.aLong;
 					final long ibx = it.bLong;
@@ -13570,7 +16426,9 @@ public class Maths {
 			break;
 		case Dataset.INT16:
 			final short[] oi16data = ((ShortDataset) result).data;
-			{
+			if (sameDType) {
+				bitwiseXorRuns(it, da, db, oi16data);
+			} else {
 				while (it.hasNext()) {
 					final long iax = it.aLong;
 					final long ibx = it.bLong;
@@ -13582,7 +16440,9 @@ public class Maths {
 			break;
 		case Dataset.INT64:
 			final long[] oi64data = ((LongDataset) result).data;
-			{
+			if (sameDType) {
+				bitwiseXorRuns(it, da, db, oi64data);
+			} else {
 				while (it.hasNext()) {
 					final long iax = it.aLong;
 					final long ibx = it.bLong;
@@ -13594,7 +16454,9 @@ public class Maths {
 			break;
 		case Dataset.INT32:
 			final int[] oi32data = ((IntegerDataset) result).data;
-			{
+			if (sameDType) {
+				bitwiseXorRuns(it, da, db, oi32data);
+			} else {
 				while (it.hasNext()) {
 					final long iax = it.aLong;
 					final long ibx = it.bLong;
@@ -13852,6 +16714,142 @@ public class Maths {
 		return result;
 	}
 
+	private static void bitwiseXorRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final byte[] oi8data) {
+		final byte[] ai8data = ((ByteDataset) da).data;
+		final byte[] bi8data = ((ByteDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai8data[ia + i];
+					final long ibx = bi8data[ib + i];
+					byte ox;
+					ox = (byte) (iax ^ ibx);
+					oi8data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final long iax = ai8data[ia];
+					final long ibx = bi8data[ib];
+					byte ox;
+					ox = (byte) (iax ^ ibx);
+					oi8data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void bitwiseXorRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final short[] oi16data) {
+		final short[] ai16data = ((ShortDataset) da).data;
+		final short[] bi16data = ((ShortDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai16data[ia + i];
+					final long ibx = bi16data[ib + i];
+					short ox;
+					ox = (short) (iax ^ ibx);
+					oi16data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final long iax = ai16data[ia];
+					final long ibx = bi16data[ib];
+					short ox;
+					ox = (short) (iax ^ ibx);
+					oi16data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void bitwiseXorRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final long[] oi64data) {
+		final long[] ai64data = ((LongDataset) da).data;
+		final long[] bi64data = ((LongDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai64data[ia + i];
+					final long ibx = bi64data[ib + i];
+					long ox;
+					ox = (iax ^ ibx);
+					oi64data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final long iax = ai64data[ia];
+					final long ibx = bi64data[ib];
+					long ox;
+					ox = (iax ^ ibx);
+					oi64data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void bitwiseXorRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final int[] oi32data) {
+		final int[] ai32data = ((IntegerDataset) da).data;
+		final int[] bi32data = ((IntegerDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai32data[ia + i];
+					final long ibx = bi32data[ib + i];
+					int ox;
+					ox = (int) (iax ^ ibx);
+					oi32data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final long iax = ai32data[ia];
+					final long ibx = bi32data[ib];
+					int ox;
+					ox = (int) (iax ^ ibx);
+					oi32data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
 	/**
 	 * leftShift operator
 	 * @param a
@@ -13870,18 +16868,43 @@ public class Maths {
 	 * @return a << b, bitwise left shift of a by b
 	 */
 	public static Dataset leftShift(final Object a, final Object b, final Dataset o) {
+		return leftShift(a, b, o, null);
+	}
+
+	/**
+	 * leftShift operator
+	 * @param a
+	 * @param b
+	 * @param o output can be null - in which case, a new dataset is created
+	 * @param mode execution mode can be null - in which case, the global mode is used
+	 * @return a << b, bitwise left shift of a by b
+	 */
+	public static Dataset leftShift(final Object a, final Object b, final Dataset o, final ExecutionMode mode) {
 		final Dataset da = a instanceof Dataset ? (Dataset) a : DatasetFactory.createFromObject(a);
 		final Dataset db = b instanceof Dataset ? (Dataset) b : DatasetFactory.createFromObject(b);
 		final BroadcastIterator it = BroadcastIterator.createIterator(da, db, o, true);
 		it.setOutputDouble(false);
 		final Dataset result = it.getOutput();
+		if (ParallelUtils.isParallel(mode, result.getSize())) {
+			operateInParallel(da, db, result, new ChunkOperation() {
+				@Override
+				public void operate(Dataset ca, Dataset cb, Dataset co) {
+					leftShift(ca, cb, co, ExecutionMode.SERIAL);
+				}
+			});
+			addBinaryOperatorName(da, db, result, "<<");
+			return result;
+		}
 		final int is = result.getElementsPerItem();
 		final int dt = result.getDType();
+		final boolean sameDType = da.getDType() == dt && db.getDType() == dt;
 
 		switch(dt) {
 		case Dataset.INT8:
 			final byte[] oi8data = ((ByteDataset) result).data;
-			{
+			if (sameDType) {
+				leftShiftRuns(it, da, db, oi8data);
+			} else {
 				while (it.hasNext()) {
 					final long iax = it.aLong;
 					final long ibx = it.bLong;
@@ -13893,7 +16916,9 @@ public class Maths {
 			break;
 		case Dataset.INT16:
 			final short[] oi16data = ((ShortDataset) result).data;
-			{
+			if (sameDType) {
+				leftShiftRuns(it, da, db, oi16data);
+			} else {
 				while (it.hasNext()) {
 					final long iax = it.aLong;
 					final long ibx = it.bLong;
@@ -13905,7 +16930,9 @@ public class Maths {
 			break;
 		case Dataset.INT64:
 			final long[] oi64data = ((LongDataset) result).data;
-			{
+			if (sameDType) {
+				leftShiftRuns(it, da, db, oi64data);
+			} else {
 				while (it.hasNext()) {
 					final long iax = it.aLong;
 					final long ibx = it.bLong;
@@ -13917,7 +16944,9 @@ public class Maths {
 			break;
 		case Dataset.INT32:
 			final int[] oi32data = ((IntegerDataset) result).data;
-			{
+			if (sameDType) {
+				leftShiftRuns(it, da, db, oi32data);
+			} else {
 				while (it.hasNext()) {
 					final long iax = it.aLong;
 					final long ibx = it.bLong;
@@ -14150,29 +17179,165 @@ public class Maths {
 					}
 				}
 			} else {
-				{
-					while (it.hasNext()) {
-						long iax = it.aLong;
-						long ibx = it.bLong;
-						int ox;
-						ox = (int) (iax << ibx);
-						oai32data[it.oIndex] = ox;
-						for (int j = 1; j < is; j++) {
-							iax = da.getElementLongAbs(it.aIndex + j);
-							ibx = db.getElementLongAbs(it.bIndex + j);
-							ox = (int) (iax << ibx);
-							oai32data[it.oIndex + j] = ox;
-						}
-					}
+				{
+					while (it.hasNext()) {
+						long iax = it.aLong;
+						long ibx = it.bLong;
+						int ox;
+						ox = (int) (iax << ibx);
+						oai32data[it.oIndex] = ox;
+						for (int j = 1; j < is; j++) {
+							iax = da.getElementLongAbs(it.aIndex + j);
+							ibx = db.getElementLongAbs(it.bIndex + j);
+							ox = (int) (iax << ibx);
+							oai32data[it.oIndex + j] = ox;
+						}
+					}
+				}
+			}
+			break;
+		default:
+			throw new IllegalArgumentException("leftShift supports integer, compound integer datasets only");
+		}
+
+		addBinaryOperatorName(da, db, result, "<<");
+		return result;
+	}
+
+	private static void leftShiftRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final byte[] oi8data) {
+		final byte[] ai8data = ((ByteDataset) da).data;
+		final byte[] bi8data = ((ByteDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai8data[ia + i];
+					final long ibx = bi8data[ib + i];
+					byte ox;
+					ox = (byte) (iax << ibx);
+					oi8data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final long iax = ai8data[ia];
+					final long ibx = bi8data[ib];
+					byte ox;
+					ox = (byte) (iax << ibx);
+					oi8data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void leftShiftRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final short[] oi16data) {
+		final short[] ai16data = ((ShortDataset) da).data;
+		final short[] bi16data = ((ShortDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai16data[ia + i];
+					final long ibx = bi16data[ib + i];
+					short ox;
+					ox = (short) (iax << ibx);
+					oi16data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final long iax = ai16data[ia];
+					final long ibx = bi16data[ib];
+					short ox;
+					ox = (short) (iax << ibx);
+					oi16data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void leftShiftRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final long[] oi64data) {
+		final long[] ai64data = ((LongDataset) da).data;
+		final long[] bi64data = ((LongDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai64data[ia + i];
+					final long ibx = bi64data[ib + i];
+					long ox;
+					ox = (iax << ibx);
+					oi64data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final long iax = ai64data[ia];
+					final long ibx = bi64data[ib];
+					long ox;
+					ox = (iax << ibx);
+					oi64data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
 				}
 			}
-			break;
-		default:
-			throw new IllegalArgumentException("leftShift supports integer, compound integer datasets only");
 		}
+	}
 
-		addBinaryOperatorName(da, db, result, "<<");
-		return result;
+	private static void leftShiftRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final int[] oi32data) {
+		final int[] ai32data = ((IntegerDataset) da).data;
+		final int[] bi32data = ((IntegerDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai32data[ia + i];
+					final long ibx = bi32data[ib + i];
+					int ox;
+					ox = (int) (iax << ibx);
+					oi32data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final long iax = ai32data[ia];
+					final long ibx = bi32data[ib];
+					int ox;
+					ox = (int) (iax << ibx);
+					oi32data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
 	}
 
 	/**
@@ -14193,18 +17358,43 @@ public class Maths {
 	 * @return a >> b, bitwise right shift of a by b
 	 */
 	public static Dataset rightShift(final Object a, final Object b, final Dataset o) {
+		return rightShift(a, b, o, null);
+	}
+
+	/**
+	 * rightShift operator
+	 * @param a
+	 * @param b
+	 * @param o output can be null - in which case, a new dataset is created
+	 * @param mode execution mode can be null - in which case, the global mode is used
+	 * @return a >> b, bitwise right shift of a by b
+	 */
+	public static Dataset rightShift(final Object a, final Object b, final Dataset o, final ExecutionMode mode) {
 		final Dataset da = a instanceof Dataset ? (Dataset) a : DatasetFactory.createFromObject(a);
 		final Dataset db = b instanceof Dataset ? (Dataset) b : DatasetFactory.createFromObject(b);
 		final BroadcastIterator it = BroadcastIterator.createIterator(da, db, o, true);
 		it.setOutputDouble(false);
 		final Dataset result = it.getOutput();
+		if (ParallelUtils.isParallel(mode, result.getSize())) {
+			operateInParallel(da, db, result, new ChunkOperation() {
+				@Override
+				public void operate(Dataset ca, Dataset cb, Dataset co) {
+					rightShift(ca, cb, co, ExecutionMode.SERIAL);
+				}
+			});
+			addBinaryOperatorName(da, db, result, ">>");
+			return result;
+		}
 		final int is = result.getElementsPerItem();
 		final int dt = result.getDType();
+		final boolean sameDType = da.getDType() == dt && db.getDType() == dt;
 
 		switch(dt) {
 		case Dataset.INT8:
 			final byte[] oi8data = ((ByteDataset) result).data;
-			{
+			if (sameDType) {
+				rightShiftRuns(it, da, db, oi8data);
+			} else {
 				while (it.hasNext()) {
 					final long iax = it.aLong;
 					final long ibx = it.bLong;
@@ -14216,7 +17406,9 @@ public class Maths {
 			break;
 		case Dataset.INT16:
 			final short[] oi16data = ((ShortDataset) result).data;
-			{
+			if (sameDType) {
+				rightShiftRuns(it, da, db, oi16data);
+			} else {
 				while (it.hasNext()) {
 					final long iax = it.aLong;
 					final long ibx = it.bLong;
@@ -14228,7 +17420,9 @@ public class Maths {
 			break;
 		case Dataset.INT64:
 			final long[] oi64data = ((LongDataset) result).data;
-			{
+			if (sameDType) {
+				rightShiftRuns(it, da, db, oi64data);
+			} else {
 				while (it.hasNext()) {
 					final long iax = it.aLong;
 					final long ibx = it.bLong;
@@ -14240,7 +17434,9 @@ public class Maths {
 			break;
 		case Dataset.INT32:
 			final int[] oi32data = ((IntegerDataset) result).data;
-			{
+			if (sameDType) {
+				rightShiftRuns(it, da, db, oi32data);
+			} else {
 				while (it.hasNext()) {
 					final long iax = it.aLong;
 					final long ibx = it.bLong;
@@ -14498,6 +17694,142 @@ public class Maths {
 		return result;
 	}
 
+	private static void rightShiftRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final byte[] oi8data) {
+		final byte[] ai8data = ((ByteDataset) da).data;
+		final byte[] bi8data = ((ByteDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai8data[ia + i];
+					final long ibx = bi8data[ib + i];
+					byte ox;
+					ox = (byte) (iax >> ibx);
+					oi8data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final long iax = ai8data[ia];
+					final long ibx = bi8data[ib];
+					byte ox;
+					ox = (byte) (iax >> ibx);
+					oi8data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void rightShiftRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final short[] oi16data) {
+		final short[] ai16data = ((ShortDataset) da).data;
+		final short[] bi16data = ((ShortDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai16data[ia + i];
+					final long ibx = bi16data[ib + i];
+					short ox;
+					ox = (short) (iax >> ibx);
+					oi16data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final long iax = ai16data[ia];
+					final long ibx = bi16data[ib];
+					short ox;
+					ox = (short) (iax >> ibx);
+					oi16data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void rightShiftRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final long[] oi64data) {
+		final long[] ai64data = ((LongDataset) da).data;
+		final long[] bi64data = ((LongDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai64data[ia + i];
+					final long ibx = bi64data[ib + i];
+					long ox;
+					ox = (iax >> ibx);
+					oi64data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final long iax = ai64data[ia];
+					final long ibx = bi64data[ib];
+					long ox;
+					ox = (iax >> ibx);
+					oi64data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void rightShiftRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final int[] oi32data) {
+		final int[] ai32data = ((IntegerDataset) da).data;
+		final int[] bi32data = ((IntegerDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai32data[ia + i];
+					final long ibx = bi32data[ib + i];
+					int ox;
+					ox = (int) (iax >> ibx);
+					oi32data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final long iax = ai32data[ia];
+					final long ibx = bi32data[ib];
+					int ox;
+					ox = (int) (iax >> ibx);
+					oi32data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
 	/**
 	 * unsignedRightShift operator
 	 * @param a
@@ -14516,20 +17848,45 @@ public class Maths {
 	 * @return a >>> b, bitwise right shift of a by b with zeros added
 	 */
 	public static Dataset unsignedRightShift(final Object a, final Object b, final Dataset o) {
+		return unsignedRightShift(a, b, o, null);
+	}
+
+	/**
+	 * unsignedRightShift operator
+	 * @param a
+	 * @param b
+	 * @param o output can be null - in which case, a new dataset is created
+	 * @param mode execution mode can be null - in which case, the global mode is used
+	 * @return a >>> b, bitwise right shift of a by b with zeros added
+	 */
+	public static Dataset unsignedRightShift(final Object a, final Object b, final Dataset o, final ExecutionMode mode) {
 		final Dataset da = a instanceof Dataset ? (Dataset) a : DatasetFactory.createFromObject(a);
 		final Dataset db = b instanceof Dataset ? (Dataset) b : DatasetFactory.createFromObject(b);
 		final BroadcastIterator it = BroadcastIterator.createIterator(da, db, o, true);
 		it.setOutputDouble(false);
 		final long unsignedMask;
 		final Dataset result = it.getOutput();
+		if (ParallelUtils.isParallel(mode, result.getSize())) {
+			operateInParallel(da, db, result, new ChunkOperation() {
+				@Override
+				public void operate(Dataset ca, Dataset cb, Dataset co) {
+					unsignedRightShift(ca, cb, co, ExecutionMode.SERIAL);
+				}
+			});
+			addBinaryOperatorName(da, db, result, ">>>");
+			return result;
+		}
 		final int is = result.getElementsPerItem();
 		final int dt = result.getDType();
+		final boolean sameDType = da.getDType() == dt && db.getDType() == dt;
 
 		switch(dt) {
 		case Dataset.INT8:
 			final byte[] oi8data = ((ByteDataset) result).data;
 			unsignedMask = 0xffL;
-			{
+			if (sameDType) {
+				unsignedRightShiftRuns(it, da, db, oi8data, unsignedMask);
+			} else {
 				while (it.hasNext()) {
 					final long iax = it.aLong;
 					final long ibx = it.bLong;
@@ -14542,7 +17899,9 @@ public class Maths {
 		case Dataset.INT16:
 			final short[] oi16data = ((ShortDataset) result).data;
 			unsignedMask = 0xffffL;
-			{
+			if (sameDType) {
+				unsignedRightShiftRuns(it, da, db, oi16data, unsignedMask);
+			} else {
 				while (it.hasNext()) {
 					final long iax = it.aLong;
 					final long ibx = it.bLong;
@@ -14555,7 +17914,9 @@ public class Maths {
 		case Dataset.INT64:
 			final long[] oi64data = ((LongDataset) result).data;
 			unsignedMask = 0xffffffffffffffffL;
-			{
+			if (sameDType) {
+				unsignedRightShiftRuns(it, da, db, oi64data, unsignedMask);
+			} else {
 				while (it.hasNext()) {
 					final long iax = it.aLong;
 					final long ibx = it.bLong;
@@ -14568,7 +17929,9 @@ public class Maths {
 		case Dataset.INT32:
 			final int[] oi32data = ((IntegerDataset) result).data;
 			unsignedMask = 0xffffffffL;
-			{
+			if (sameDType) {
+				unsignedRightShiftRuns(it, da, db, oi32data, unsignedMask);
+			} else {
 				while (it.hasNext()) {
 					final long iax = it.aLong;
 					final long ibx = it.bLong;
@@ -14830,6 +18193,142 @@ public class Maths {
 		return result;
 	}
 
+	private static void unsignedRightShiftRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final byte[] oi8data, final long unsignedMask) {
+		final byte[] ai8data = ((ByteDataset) da).data;
+		final byte[] bi8data = ((ByteDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai8data[ia + i];
+					final long ibx = bi8data[ib + i];
+					byte ox;
+					ox = (byte) ((unsignedMask & iax) >>> ibx);
+					oi8data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final long iax = ai8data[ia];
+					final long ibx = bi8data[ib];
+					byte ox;
+					ox = (byte) ((unsignedMask & iax) >>> ibx);
+					oi8data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void unsignedRightShiftRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final short[] oi16data, final long unsignedMask) {
+		final short[] ai16data = ((ShortDataset) da).data;
+		final short[] bi16data = ((ShortDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai16data[ia + i];
+					final long ibx = bi16data[ib + i];
+					short ox;
+					ox = (short) ((unsignedMask & iax) >>> ibx);
+					oi16data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final long iax = ai16data[ia];
+					final long ibx = bi16data[ib];
+					short ox;
+					ox = (short) ((unsignedMask & iax) >>> ibx);
+					oi16data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void unsignedRightShiftRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final long[] oi64data, final long unsignedMask) {
+		final long[] ai64data = ((LongDataset) da).data;
+		final long[] bi64data = ((LongDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai64data[ia + i];
+					final long ibx = bi64data[ib + i];
+					long ox;
+					ox = ((unsignedMask & iax) >>> ibx);
+					oi64data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final long iax = ai64data[ia];
+					final long ibx = bi64data[ib];
+					long ox;
+					ox = ((unsignedMask & iax) >>> ibx);
+					oi64data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
+	private static void unsignedRightShiftRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final int[] oi32data, final long unsignedMask) {
+		final int[] ai32data = ((IntegerDataset) da).data;
+		final int[] bi32data = ((IntegerDataset) db).data;
+		while (it.nextRun()) {
+			final int n = it.runLength;
+			final int as = it.aRunStride;
+			final int bs = it.bRunStride;
+			final int os = it.oRunStride;
+			int ia = it.aIndex;
+			int ib = it.bIndex;
+			int io = it.oIndex;
+			if (as == 1 && bs == 1 && os == 1) { // contiguous run
+				for (int i = 0; i < n; i++) {
+					final long iax = ai32data[ia + i];
+					final long ibx = bi32data[ib + i];
+					int ox;
+					ox = (int) ((unsignedMask & iax) >>> ibx);
+					oi32data[io + i] = ox;
+				}
+			} else {
+				for (int i = 0; i < n; i++) {
+					final long iax = ai32data[ia];
+					final long ibx = bi32data[ib];
+					int ox;
+					ox = (int) ((unsignedMask & iax) >>> ibx);
+					oi32data[io] = ox;
+					ia += as;
+					ib += bs;
+					io += os;
+				}
+			}
+		}
+	}
+
 	/**
 	 * bitwiseInvert - ~a, bitwise invert (or NOT) each element
 	 * @param a
@@ -14846,16 +18345,46 @@ public class Maths {
 	 * @return dataset
 	 */
 	public static Dataset bitwiseInvert(final Object a, final Dataset o) {
+		return bitwiseInvert(a, o, null);
+	}
+
+	/**
+	 * bitwiseInvert - ~a, bitwise invert (or NOT) each element
+	 * @param a
+	 * @param o output can be null - in which case, a new dataset is created
+	 * @param mode execution mode can be null - in which case, the global mode is used
+	 * @return dataset
+	 */
+	public static Dataset bitwiseInvert(final Object a, final Dataset o, final ExecutionMode mode) {
 		final Dataset da = a instanceof Dataset ? (Dataset) a : DatasetFactory.createFromObject(a);
 		final SingleInputBroadcastIterator it = new SingleInputBroadcastIterator(da, o, true, true, true);
 		final Dataset result = it.getOutput();
+		if (ParallelUtils.isParallel(mode, result.getSize())) {
+			operateInParallel(da, null, result, new ChunkOperation() {
+				@Override
+				public void operate(Dataset ca, Dataset cb, Dataset co) {
+					bitwiseInvert(ca, co, ExecutionMode.SERIAL);
+				}
+			});
+			addFunctionName(result, "bitwiseInvert");
+			return result;
+		}
 		final int is = result.getElementsPerItem();
 		final int dt = result.getDType();
 
 		switch(dt) {
 		case Dataset.INT8:
 			final byte[] oi8data = ((ByteDataset) result).data;
-			{
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final byte[] ai8data = ((ByteDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai8data[i];
+					byte ox;
+					ox = (byte) toLong(~ix);
+					oi8data[i] = ox;
+				}
+			} else {
 				while (it.hasNext()) {
 					final long ix = it.aLong;
 					byte ox;
@@ -14866,7 +18395,16 @@ public class Maths {
 			break;
 		case Dataset.INT16:
 			final short[] oi16data = ((ShortDataset) result).data;
-			{
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final short[] ai16data = ((ShortDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai16data[i];
+					short ox;
+					ox = (short) toLong(~ix);
+					oi16data[i] = ox;
+				}
+			} else {
 				while (it.hasNext()) {
 					final long ix = it.aLong;
 					short ox;
@@ -14877,7 +18415,16 @@ public class Maths {
 			break;
 		case Dataset.INT64:
 			final long[] oi64data = ((LongDataset) result).data;
-			{
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final long[] ai64data = ((LongDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai64data[i];
+					long ox;
+					ox = toLong(~ix);
+					oi64data[i] = ox;
+				}
+			} else {
 				while (it.hasNext()) {
 					final long ix = it.aLong;
 					long ox;
@@ -14888,7 +18435,16 @@ public class Maths {
 			break;
 		case Dataset.INT32:
 			final int[] oi32data = ((IntegerDataset) result).data;
-			{
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final int[] ai32data = ((IntegerDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai32data[i];
+					int ox;
+					ox = (int) toLong(~ix);
+					oi32data[i] = ox;
+				}
+			} else {
 				while (it.hasNext()) {
 					final long ix = it.aLong;
 					int ox;
@@ -15061,16 +18617,46 @@ public class Maths {
 	 * @return dataset
 	 */
 	public static Dataset sin(final Object a, final Dataset o) {
+		return sin(a, o, null);
+	}
+
+	/**
+	 * sin - evaluate the sine function on each element of the dataset
+	 * @param a
+	 * @param o output can be null - in which case, a new dataset is created
+	 * @param mode execution mode can be null - in which case, the global mode is used
+	 * @return dataset
+	 */
+	public static Dataset sin(final Object a, final Dataset o, final ExecutionMode mode) {
 		final Dataset da = a instanceof Dataset ? (Dataset) a : DatasetFactory.createFromObject(a);
 		final SingleInputBroadcastIterator it = new SingleInputBroadcastIterator(da, o, true);
 		final Dataset result = it.getOutput();
+		if (ParallelUtils.isParallel(mode, result.getSize())) {
+			operateInParallel(da, null, result, new ChunkOperation() {
+				@Override
+				public void operate(Dataset ca, Dataset cb, Dataset co) {
+					sin(ca, co, ExecutionMode.SERIAL);
+				}
+			});
+			addFunctionName(result, "sin");
+			return result;
+		}
 		final int is = result.getElementsPerItem();
 		final int dt = result.getDType();
 
 		switch(dt) {
 		case Dataset.INT8:
 			final byte[] oi8data = ((ByteDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final byte[] ai8data = ((ByteDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai8data[i];
+					byte ox;
+					ox = (byte) toLong(Math.sin(ix));
+					oi8data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					byte ox;
@@ -15088,7 +18674,16 @@ public class Maths {
 			break;
 		case Dataset.INT16:
 			final short[] oi16data = ((ShortDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final short[] ai16data = ((ShortDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai16data[i];
+					short ox;
+					ox = (short) toLong(Math.sin(ix));
+					oi16data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					short ox;
@@ -15106,7 +18701,16 @@ public class Maths {
 			break;
 		case Dataset.INT64:
 			final long[] oi64data = ((LongDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final long[] ai64data = ((LongDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai64data[i];
+					long ox;
+					ox = toLong(Math.sin(ix));
+					oi64data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					long ox;
@@ -15124,7 +18728,16 @@ public class Maths {
 			break;
 		case Dataset.INT32:
 			final int[] oi32data = ((IntegerDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final int[] ai32data = ((IntegerDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai32data[i];
+					int ox;
+					ox = (int) toLong(Math.sin(ix));
+					oi32data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					int ox;
@@ -15382,7 +18995,16 @@ public class Maths {
 			break;
 		case Dataset.FLOAT32:
 			final float[] of32data = ((FloatDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final float[] af32data = ((FloatDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final double ix = af32data[i];
+					float ox;
+					ox = (float) (Math.sin(ix));
+					of32data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					float ox;
@@ -15400,7 +19022,16 @@ public class Maths {
 			break;
 		case Dataset.FLOAT64:
 			final double[] of64data = ((DoubleDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final double[] af64data = ((DoubleDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final double ix = af64data[i];
+					double ox;
+					ox = (Math.sin(ix));
+					of64data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					double ox;
@@ -15612,16 +19243,46 @@ public class Maths {
 	 * @return dataset
 	 */
 	public static Dataset cos(final Object a, final Dataset o) {
+		return cos(a, o, null);
+	}
+
+	/**
+	 * cos - evaluate the cosine function on each element of the dataset
+	 * @param a
+	 * @param o output can be null - in which case, a new dataset is created
+	 * @param mode execution mode can be null - in which case, the global mode is used
+	 * @return dataset
+	 */
+	public static Dataset cos(final Object a, final Dataset o, final ExecutionMode mode) {
 		final Dataset da = a instanceof Dataset ? (Dataset) a : DatasetFactory.createFromObject(a);
 		final SingleInputBroadcastIterator it = new SingleInputBroadcastIterator(da, o, true);
 		final Dataset result = it.getOutput();
+		if (ParallelUtils.isParallel(mode, result.getSize())) {
+			operateInParallel(da, null, result, new ChunkOperation() {
+				@Override
+				public void operate(Dataset ca, Dataset cb, Dataset co) {
+					cos(ca, co, ExecutionMode.SERIAL);
+				}
+			});
+			addFunctionName(result, "cos");
+			return result;
+		}
 		final int is = result.getElementsPerItem();
 		final int dt = result.getDType();
 
 		switch(dt) {
 		case Dataset.INT8:
 			final byte[] oi8data = ((ByteDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final byte[] ai8data = ((ByteDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai8data[i];
+					byte ox;
+					ox = (byte) toLong(Math.cos(ix));
+					oi8data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					byte ox;
@@ -15639,7 +19300,16 @@ public class Maths {
 			break;
 		case Dataset.INT16:
 			final short[] oi16data = ((ShortDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final short[] ai16data = ((ShortDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai16data[i];
+					short ox;
+					ox = (short) toLong(Math.cos(ix));
+					oi16data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					short ox;
@@ -15657,7 +19327,16 @@ public class Maths {
 			break;
 		case Dataset.INT64:
 			final long[] oi64data = ((LongDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final long[] ai64data = ((LongDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai64data[i];
+					long ox;
+					ox = toLong(Math.cos(ix));
+					oi64data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					long ox;
@@ -15675,7 +19354,16 @@ public class Maths {
 			break;
 		case Dataset.INT32:
 			final int[] oi32data = ((IntegerDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final int[] ai32data = ((IntegerDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai32data[i];
+					int ox;
+					ox = (int) toLong(Math.cos(ix));
+					oi32data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					int ox;
@@ -15933,7 +19621,16 @@ public class Maths {
 			break;
 		case Dataset.FLOAT32:
 			final float[] of32data = ((FloatDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final float[] af32data = ((FloatDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final double ix = af32data[i];
+					float ox;
+					ox = (float) (Math.cos(ix));
+					of32data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					float ox;
@@ -15951,7 +19648,16 @@ public class Maths {
 			break;
 		case Dataset.FLOAT64:
 			final double[] of64data = ((DoubleDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final double[] af64data = ((DoubleDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final double ix = af64data[i];
+					double ox;
+					ox = (Math.cos(ix));
+					of64data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					double ox;
@@ -16163,16 +19869,46 @@ public class Maths {
 	 * @return dataset
 	 */
 	public static Dataset tan(final Object a, final Dataset o) {
+		return tan(a, o, null);
+	}
+
+	/**
+	 * tan - evaluate the tangent function on each element of the dataset
+	 * @param a
+	 * @param o output can be null - in which case, a new dataset is created
+	 * @param mode execution mode can be null - in which case, the global mode is used
+	 * @return dataset
+	 */
+	public static Dataset tan(final Object a, final Dataset o, final ExecutionMode mode) {
 		final Dataset da = a instanceof Dataset ? (Dataset) a : DatasetFactory.createFromObject(a);
 		final SingleInputBroadcastIterator it = new SingleInputBroadcastIterator(da, o, true);
 		final Dataset result = it.getOutput();
+		if (ParallelUtils.isParallel(mode, result.getSize())) {
+			operateInParallel(da, null, result, new ChunkOperation() {
+				@Override
+				public void operate(Dataset ca, Dataset cb, Dataset co) {
+					tan(ca, co, ExecutionMode.SERIAL);
+				}
+			});
+			addFunctionName(result, "tan");
+			return result;
+		}
 		final int is = result.getElementsPerItem();
 		final int dt = result.getDType();
 
 		switch(dt) {
 		case Dataset.INT8:
 			final byte[] oi8data = ((ByteDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final byte[] ai8data = ((ByteDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai8data[i];
+					byte ox;
+					ox = (byte) toLong(Math.tan(ix));
+					oi8data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					byte ox;
@@ -16190,7 +19926,16 @@ public class Maths {
 			break;
 		case Dataset.INT16:
 			final short[] oi16data = ((ShortDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final short[] ai16data = ((ShortDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai16data[i];
+					short ox;
+					ox = (short) toLong(Math.tan(ix));
+					oi16data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					short ox;
@@ -16208,7 +19953,16 @@ public class Maths {
 			break;
 		case Dataset.INT64:
 			final long[] oi64data = ((LongDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final long[] ai64data = ((LongDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai64data[i];
+					long ox;
+					ox = toLong(Math.tan(ix));
+					oi64data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					long ox;
@@ -16226,7 +19980,16 @@ public class Maths {
 			break;
 		case Dataset.INT32:
 			final int[] oi32data = ((IntegerDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final int[] ai32data = ((IntegerDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai32data[i];
+					int ox;
+					ox = (int) toLong(Math.tan(ix));
+					oi32data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					int ox;
@@ -16484,7 +20247,16 @@ public class Maths {
 			break;
 		case Dataset.FLOAT32:
 			final float[] of32data = ((FloatDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final float[] af32data = ((FloatDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final double ix = af32data[i];
+					float ox;
+					ox = (float) (Math.tan(ix));
+					of32data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					float ox;
@@ -16502,7 +20274,16 @@ public class Maths {
 			break;
 		case Dataset.FLOAT64:
 			final double[] of64data = ((DoubleDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final double[] af64data = ((DoubleDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final double ix = af64data[i];
+					double ox;
+					ox = (Math.tan(ix));
+					of64data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					double ox;
@@ -16738,16 +20519,46 @@ public class Maths {
 	 * @return dataset
 	 */
 	public static Dataset arcsin(final Object a, final Dataset o) {
+		return arcsin(a, o, null);
+	}
+
+	/**
+	 * arcsin - evaluate the inverse sine function on each element of the dataset
+	 * @param a
+	 * @param o output can be null - in which case, a new dataset is created
+	 * @param mode execution mode can be null - in which case, the global mode is used
+	 * @return dataset
+	 */
+	public static Dataset arcsin(final Object a, final Dataset o, final ExecutionMode mode) {
 		final Dataset da = a instanceof Dataset ? (Dataset) a : DatasetFactory.createFromObject(a);
 		final SingleInputBroadcastIterator it = new SingleInputBroadcastIterator(da, o, true);
 		final Dataset result = it.getOutput();
+		if (ParallelUtils.isParallel(mode, result.getSize())) {
+			operateInParallel(da, null, result, new ChunkOperation() {
+				@Override
+				public void operate(Dataset ca, Dataset cb, Dataset co) {
+					arcsin(ca, co, ExecutionMode.SERIAL);
+				}
+			});
+			addFunctionName(result, "arcsin");
+			return result;
+		}
 		final int is = result.getElementsPerItem();
 		final int dt = result.getDType();
 
 		switch(dt) {
 		case Dataset.INT8:
 			final byte[] oi8data = ((ByteDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final byte[] ai8data = ((ByteDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai8data[i];
+					byte ox;
+					ox = (byte) toLong(Math.asin(ix));
+					oi8data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					byte ox;
@@ -16765,7 +20576,16 @@ public class Maths {
 			break;
 		case Dataset.INT16:
 			final short[] oi16data = ((ShortDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final short[] ai16data = ((ShortDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai16data[i];
+					short ox;
+					ox = (short) toLong(Math.asin(ix));
+					oi16data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					short ox;
@@ -16783,7 +20603,16 @@ public class Maths {
 			break;
 		case Dataset.INT64:
 			final long[] oi64data = ((LongDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final long[] ai64data = ((LongDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai64data[i];
+					long ox;
+					ox = toLong(Math.asin(ix));
+					oi64data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					long ox;
@@ -16801,7 +20630,16 @@ public class Maths {
 			break;
 		case Dataset.INT32:
 			final int[] oi32data = ((IntegerDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final int[] ai32data = ((IntegerDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai32data[i];
+					int ox;
+					ox = (int) toLong(Math.asin(ix));
+					oi32data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					int ox;
@@ -17059,7 +20897,16 @@ public class Maths {
 			break;
 		case Dataset.FLOAT32:
 			final float[] of32data = ((FloatDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final float[] af32data = ((FloatDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final double ix = af32data[i];
+					float ox;
+					ox = (float) (Math.asin(ix));
+					of32data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					float ox;
@@ -17077,7 +20924,16 @@ public class Maths {
 			break;
 		case Dataset.FLOAT64:
 			final double[] of64data = ((DoubleDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final double[] af64data = ((DoubleDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final double ix = af64data[i];
+					double ox;
+					ox = (Math.asin(ix));
+					of64data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					double ox;
@@ -17297,16 +21153,46 @@ public class Maths {
 	 * @return dataset
 	 */
 	public static Dataset arccos(final Object a, final Dataset o) {
+		return arccos(a, o, null);
+	}
+
+	/**
+	 * arccos - evaluate the inverse cosine function on each element of the dataset
+	 * @param a
+	 * @param o output can be null - in which case, a new dataset is created
+	 * @param mode execution mode can be null - in which case, the global mode is used
+	 * @return dataset
+	 */
+	public static Dataset arccos(final Object a, final Dataset o, final ExecutionMode mode) {
 		final Dataset da = a instanceof Dataset ? (Dataset) a : DatasetFactory.createFromObject(a);
 		final SingleInputBroadcastIterator it = new SingleInputBroadcastIterator(da, o, true);
 		final Dataset result = it.getOutput();
+		if (ParallelUtils.isParallel(mode, result.getSize())) {
+			operateInParallel(da, null, result, new ChunkOperation() {
+				@Override
+				public void operate(Dataset ca, Dataset cb, Dataset co) {
+					arccos(ca, co, ExecutionMode.SERIAL);
+				}
+			});
+			addFunctionName(result, "arccos");
+			return result;
+		}
 		final int is = result.getElementsPerItem();
 		final int dt = result.getDType();
 
 		switch(dt) {
 		case Dataset.INT8:
 			final byte[] oi8data = ((ByteDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final byte[] ai8data = ((ByteDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai8data[i];
+					byte ox;
+					ox = (byte) toLong(Math.acos(ix));
+					oi8data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					byte ox;
@@ -17324,7 +21210,16 @@ public class Maths {
 			break;
 		case Dataset.INT16:
 			final short[] oi16data = ((ShortDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final short[] ai16data = ((ShortDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai16data[i];
+					short ox;
+					ox = (short) toLong(Math.acos(ix));
+					oi16data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					short ox;
@@ -17342,7 +21237,16 @@ public class Maths {
 			break;
 		case Dataset.INT64:
 			final long[] oi64data = ((LongDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final long[] ai64data = ((LongDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai64data[i];
+					long ox;
+					ox = toLong(Math.acos(ix));
+					oi64data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					long ox;
@@ -17360,7 +21264,16 @@ public class Maths {
 			break;
 		case Dataset.INT32:
 			final int[] oi32data = ((IntegerDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final int[] ai32data = ((IntegerDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai32data[i];
+					int ox;
+					ox = (int) toLong(Math.acos(ix));
+					oi32data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					int ox;
@@ -17618,7 +21531,16 @@ public class Maths {
 			break;
 		case Dataset.FLOAT32:
 			final float[] of32data = ((FloatDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final float[] af32data = ((FloatDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final double ix = af32data[i];
+					float ox;
+					ox = (float) (Math.acos(ix));
+					of32data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					float ox;
@@ -17636,7 +21558,16 @@ public class Maths {
 			break;
 		case Dataset.FLOAT64:
 			final double[] of64data = ((DoubleDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final double[] af64data = ((DoubleDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final double ix = af64data[i];
+					double ox;
+					ox = (Math.acos(ix));
+					of64data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					double ox;
@@ -17856,16 +21787,46 @@ public class Maths {
 	 * @return dataset
 	 */
 	public static Dataset arctan(final Object a, final Dataset o) {
+		return arctan(a, o, null);
+	}
+
+	/**
+	 * arctan - evaluate the inverse tangent function on each element of the dataset
+	 * @param a
+	 * @param o output can be null - in which case, a new dataset is created
+	 * @param mode execution mode can be null - in which case, the global mode is used
+	 * @return dataset
+	 */
+	public static Dataset arctan(final Object a, final Dataset o, final ExecutionMode mode) {
 		final Dataset da = a instanceof Dataset ? (Dataset) a : DatasetFactory.createFromObject(a);
 		final SingleInputBroadcastIterator it = new SingleInputBroadcastIterator(da, o, true);
 		final Dataset result = it.getOutput();
+		if (ParallelUtils.isParallel(mode, result.getSize())) {
+			operateInParallel(da, null, result, new ChunkOperation() {
+				@Override
+				public void operate(Dataset ca, Dataset cb, Dataset co) {
+					arctan(ca, co, ExecutionMode.SERIAL);
+				}
+			});
+			addFunctionName(result, "arctan");
+			return result;
+		}
 		final int is = result.getElementsPerItem();
 		final int dt = result.getDType();
 
 		switch(dt) {
 		case Dataset.INT8:
 			final byte[] oi8data = ((ByteDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final byte[] ai8data = ((ByteDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai8data[i];
+					byte ox;
+					ox = (byte) toLong(Math.atan(ix));
+					oi8data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					byte ox;
@@ -17883,7 +21844,16 @@ public class Maths {
 			break;
 		case Dataset.INT16:
 			final short[] oi16data = ((ShortDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final short[] ai16data = ((ShortDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai16data[i];
+					short ox;
+					ox = (short) toLong(Math.atan(ix));
+					oi16data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					short ox;
@@ -17901,7 +21871,16 @@ public class Maths {
 			break;
 		case Dataset.INT64:
 			final long[] oi64data = ((LongDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final long[] ai64data = ((LongDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai64data[i];
+					long ox;
+					ox = toLong(Math.atan(ix));
+					oi64data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					long ox;
@@ -17919,7 +21898,16 @@ public class Maths {
 			break;
 		case Dataset.INT32:
 			final int[] oi32data = ((IntegerDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final int[] ai32data = ((IntegerDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai32data[i];
+					int ox;
+					ox = (int) toLong(Math.atan(ix));
+					oi32data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					int ox;
@@ -18177,7 +22165,16 @@ public class Maths {
 			break;
 		case Dataset.FLOAT32:
 			final float[] of32data = ((FloatDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final float[] af32data = ((FloatDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final double ix = af32data[i];
+					float ox;
+					ox = (float) (Math.atan(ix));
+					of32data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					float ox;
@@ -18195,7 +22192,16 @@ public class Maths {
 			break;
 		case Dataset.FLOAT64:
 			final double[] of64data = ((DoubleDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final double[] af64data = ((DoubleDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final double ix = af64data[i];
+					double ox;
+					ox = (Math.atan(ix));
+					of64data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					double ox;
@@ -18415,16 +22421,46 @@ public class Maths {
 	 * @return dataset
 	 */
 	public static Dataset sinh(final Object a, final Dataset o) {
+		return sinh(a, o, null);
+	}
+
+	/**
+	 * sinh - evaluate the hyperbolic sine function on each element of the dataset
+	 * @param a
+	 * @param o output can be null - in which case, a new dataset is created
+	 * @param mode execution mode can be null - in which case, the global mode is used
+	 * @return dataset
+	 */
+	public static Dataset sinh(final Object a, final Dataset o, final ExecutionMode mode) {
 		final Dataset da = a instanceof Dataset ? (Dataset) a : DatasetFactory.createFromObject(a);
 		final SingleInputBroadcastIterator it = new SingleInputBroadcastIterator(da, o, true);
 		final Dataset result = it.getOutput();
+		if (ParallelUtils.isParallel(mode, result.getSize())) {
+			operateInParallel(da, null, result, new ChunkOperation() {
+				@Override
+				public void operate(Dataset ca, Dataset cb, Dataset co) {
+					sinh(ca, co, ExecutionMode.SERIAL);
+				}
+			});
+			addFunctionName(result, "sinh");
+			return result;
+		}
 		final int is = result.getElementsPerItem();
 		final int dt = result.getDType();
 
 		switch(dt) {
 		case Dataset.INT8:
 			final byte[] oi8data = ((ByteDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final byte[] ai8data = ((ByteDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai8data[i];
+					byte ox;
+					ox = (byte) toLong(Math.sinh(ix));
+					oi8data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					byte ox;
@@ -18442,7 +22478,16 @@ public class Maths {
 			break;
 		case Dataset.INT16:
 			final short[] oi16data = ((ShortDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final short[] ai16data = ((ShortDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai16data[i];
+					short ox;
+					ox = (short) toLong(Math.sinh(ix));
+					oi16data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					short ox;
@@ -18460,7 +22505,16 @@ public class Maths {
 			break;
 		case Dataset.INT64:
 			final long[] oi64data = ((LongDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final long[] ai64data = ((LongDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai64data[i];
+					long ox;
+					ox = toLong(Math.sinh(ix));
+					oi64data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					long ox;
@@ -18478,7 +22532,16 @@ public class Maths {
 			break;
 		case Dataset.INT32:
 			final int[] oi32data = ((IntegerDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final int[] ai32data = ((IntegerDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai32data[i];
+					int ox;
+					ox = (int) toLong(Math.sinh(ix));
+					oi32data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					int ox;
@@ -18736,7 +22799,16 @@ public class Maths {
 			break;
 		case Dataset.FLOAT32:
 			final float[] of32data = ((FloatDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final float[] af32data = ((FloatDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final double ix = af32data[i];
+					float ox;
+					ox = (float) (Math.sinh(ix));
+					of32data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					float ox;
@@ -18754,7 +22826,16 @@ public class Maths {
 			break;
 		case Dataset.FLOAT64:
 			final double[] of64data = ((DoubleDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final double[] af64data = ((DoubleDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final double ix = af64data[i];
+					double ox;
+					ox = (Math.sinh(ix));
+					of64data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					double ox;
@@ -18966,16 +23047,46 @@ public class Maths {
 	 * @return dataset
 	 */
 	public static Dataset cosh(final Object a, final Dataset o) {
+		return cosh(a, o, null);
+	}
+
+	/**
+	 * cosh - evaluate the hyperbolic cosine function on each element of the dataset
+	 * @param a
+	 * @param o output can be null - in which case, a new dataset is created
+	 * @param mode execution mode can be null - in which case, the global mode is used
+	 * @return dataset
+	 */
+	public static Dataset cosh(final Object a, final Dataset o, final ExecutionMode mode) {
 		final Dataset da = a instanceof Dataset ? (Dataset) a : DatasetFactory.createFromObject(a);
 		final SingleInputBroadcastIterator it = new SingleInputBroadcastIterator(da, o, true);
 		final Dataset result = it.getOutput();
+		if (ParallelUtils.isParallel(mode, result.getSize())) {
+			operateInParallel(da, null, result, new ChunkOperation() {
+				@Override
+				public void operate(Dataset ca, Dataset cb, Dataset co) {
+					cosh(ca, co, ExecutionMode.SERIAL);
+				}
+			});
+			addFunctionName(result, "cosh");
+			return result;
+		}
 		final int is = result.getElementsPerItem();
 		final int dt = result.getDType();
 
 		switch(dt) {
 		case Dataset.INT8:
 			final byte[] oi8data = ((ByteDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final byte[] ai8data = ((ByteDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai8data[i];
+					byte ox;
+					ox = (byte) toLong(Math.cosh(ix));
+					oi8data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					byte ox;
@@ -18993,7 +23104,16 @@ public class Maths {
 			break;
 		case Dataset.INT16:
 			final short[] oi16data = ((ShortDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final short[] ai16data = ((ShortDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai16data[i];
+					short ox;
+					ox = (short) toLong(Math.cosh(ix));
+					oi16data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					short ox;
@@ -19011,7 +23131,16 @@ public class Maths {
 			break;
 		case Dataset.INT64:
 			final long[] oi64data = ((LongDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final long[] ai64data = ((LongDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai64data[i];
+					long ox;
+					ox = toLong(Math.cosh(ix));
+					oi64data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					long ox;
@@ -19029,7 +23158,16 @@ public class Maths {
 			break;
 		case Dataset.INT32:
 			final int[] oi32data = ((IntegerDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final int[] ai32data = ((IntegerDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai32data[i];
+					int ox;
+					ox = (int) toLong(Math.cosh(ix));
+					oi32data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					int ox;
@@ -19287,7 +23425,16 @@ public class Maths {
 			break;
 		case Dataset.FLOAT32:
 			final float[] of32data = ((FloatDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final float[] af32data = ((FloatDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final double ix = af32data[i];
+					float ox;
+					ox = (float) (Math.cosh(ix));
+					of32data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					float ox;
@@ -19305,7 +23452,16 @@ public class Maths {
 			break;
 		case Dataset.FLOAT64:
 			final double[] of64data = ((DoubleDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final double[] af64data = ((DoubleDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final double ix = af64data[i];
+					double ox;
+					ox = (Math.cosh(ix));
+					of64data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					double ox;
@@ -19517,16 +23673,46 @@ public class Maths {
 	 * @return dataset
 	 */
 	public static Dataset tanh(final Object a, final Dataset o) {
+		return tanh(a, o, null);
+	}
+
+	/**
+	 * tanh - evaluate the tangent hyperbolic function on each element of the dataset
+	 * @param a
+	 * @param o output can be null - in which case, a new dataset is created
+	 * @param mode execution mode can be null - in which case, the global mode is used
+	 * @return dataset
+	 */
+	public static Dataset tanh(final Object a, final Dataset o, final ExecutionMode mode) {
 		final Dataset da = a instanceof Dataset ? (Dataset) a : DatasetFactory.createFromObject(a);
 		final SingleInputBroadcastIterator it = new SingleInputBroadcastIterator(da, o, true);
 		final Dataset result = it.getOutput();
+		if (ParallelUtils.isParallel(mode, result.getSize())) {
+			operateInParallel(da, null, result, new ChunkOperation() {
+				@Override
+				public void operate(Dataset ca, Dataset cb, Dataset co) {
+					tanh(ca, co, ExecutionMode.SERIAL);
+				}
+			});
+			addFunctionName(result, "tanh");
+			return result;
+		}
 		final int is = result.getElementsPerItem();
 		final int dt = result.getDType();
 
 		switch(dt) {
 		case Dataset.INT8:
 			final byte[] oi8data = ((ByteDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final byte[] ai8data = ((ByteDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai8data[i];
+					byte ox;
+					ox = (byte) toLong(Math.tanh(ix));
+					oi8data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					byte ox;
@@ -19544,7 +23730,16 @@ public class Maths {
 			break;
 		case Dataset.INT16:
 			final short[] oi16data = ((ShortDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final short[] ai16data = ((ShortDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai16data[i];
+					short ox;
+					ox = (short) toLong(Math.tanh(ix));
+					oi16data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					short ox;
@@ -19562,7 +23757,16 @@ public class Maths {
 			break;
 		case Dataset.INT64:
 			final long[] oi64data = ((LongDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final long[] ai64data = ((LongDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai64data[i];
+					long ox;
+					ox = toLong(Math.tanh(ix));
+					oi64data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					long ox;
@@ -19580,7 +23784,16 @@ public class Maths {
 			break;
 		case Dataset.INT32:
 			final int[] oi32data = ((IntegerDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final int[] ai32data = ((IntegerDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai32data[i];
+					int ox;
+					ox = (int) toLong(Math.tanh(ix));
+					oi32data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					int ox;
@@ -19838,7 +24051,16 @@ public class Maths {
 			break;
 		case Dataset.FLOAT32:
 			final float[] of32data = ((FloatDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final float[] af32data = ((FloatDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final double ix = af32data[i];
+					float ox;
+					ox = (float) (Math.tanh(ix));
+					of32data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					float ox;
@@ -19856,7 +24078,16 @@ public class Maths {
 			break;
 		case Dataset.FLOAT64:
 			final double[] of64data = ((DoubleDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final double[] af64data = ((DoubleDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final double ix = af64data[i];
+					double ox;
+					ox = (Math.tanh(ix));
+					of64data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					double ox;
@@ -20092,16 +24323,46 @@ public class Maths {
 	 * @return dataset
 	 */
 	public static Dataset arcsinh(final Object a, final Dataset o) {
+		return arcsinh(a, o, null);
+	}
+
+	/**
+	 * arcsinh - evaluate the inverse hyperbolic sine function on each element of the dataset
+	 * @param a
+	 * @param o output can be null - in which case, a new dataset is created
+	 * @param mode execution mode can be null - in which case, the global mode is used
+	 * @return dataset
+	 */
+	public static Dataset arcsinh(final Object a, final Dataset o, final ExecutionMode mode) {
 		final Dataset da = a instanceof Dataset ? (Dataset) a : DatasetFactory.createFromObject(a);
 		final SingleInputBroadcastIterator it = new SingleInputBroadcastIterator(da, o, true);
 		final Dataset result = it.getOutput();
+		if (ParallelUtils.isParallel(mode, result.getSize())) {
+			operateInParallel(da, null, result, new ChunkOperation() {
+				@Override
+				public void operate(Dataset ca, Dataset cb, Dataset co) {
+					arcsinh(ca, co, ExecutionMode.SERIAL);
+				}
+			});
+			addFunctionName(result, "arcsinh");
+			return result;
+		}
 		final int is = result.getElementsPerItem();
 		final int dt = result.getDType();
 
 		switch(dt) {
 		case Dataset.INT8:
 			final byte[] oi8data = ((ByteDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final byte[] ai8data = ((ByteDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai8data[i];
+					byte ox;
+					ox = (byte) toLong(Math.log(ix + Math.sqrt(ix*ix + 1)));
+					oi8data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					byte ox;
@@ -20119,7 +24380,16 @@ public class Maths {
 			break;
 		case Dataset.INT16:
 			final short[] oi16data = ((ShortDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final short[] ai16data = ((ShortDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai16data[i];
+					short ox;
+					ox = (short) toLong(Math.log(ix + Math.sqrt(ix*ix + 1)));
+					oi16data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					short ox;
@@ -20137,7 +24407,16 @@ public class Maths {
 			break;
 		case Dataset.INT64:
 			final long[] oi64data = ((LongDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final long[] ai64data = ((LongDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai64data[i];
+					long ox;
+					ox = toLong(Math.log(ix + Math.sqrt(ix*ix + 1)));
+					oi64data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					long ox;
@@ -20155,7 +24434,16 @@ public class Maths {
 			break;
 		case Dataset.INT32:
 			final int[] oi32data = ((IntegerDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final int[] ai32data = ((IntegerDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai32data[i];
+					int ox;
+					ox = (int) toLong(Math.log(ix + Math.sqrt(ix*ix + 1)));
+					oi32data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					int ox;
@@ -20413,7 +24701,16 @@ public class Maths {
 			break;
 		case Dataset.FLOAT32:
 			final float[] of32data = ((FloatDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final float[] af32data = ((FloatDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final double ix = af32data[i];
+					float ox;
+					ox = (float) (Math.log(ix + Math.sqrt(ix*ix + 1)));
+					of32data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					float ox;
@@ -20431,7 +24728,16 @@ public class Maths {
 			break;
 		case Dataset.FLOAT64:
 			final double[] of64data = ((DoubleDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final double[] af64data = ((DoubleDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final double ix = af64data[i];
+					double ox;
+					ox = (Math.log(ix + Math.sqrt(ix*ix + 1)));
+					of64data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					double ox;
@@ -20651,16 +24957,46 @@ public class Maths {
 	 * @return dataset
 	 */
 	public static Dataset arccosh(final Object a, final Dataset o) {
+		return arccosh(a, o, null);
+	}
+
+	/**
+	 * arccosh - evaluate the inverse hyperbolic cosine function on each element of the dataset
+	 * @param a
+	 * @param o output can be null - in which case, a new dataset is created
+	 * @param mode execution mode can be null - in which case, the global mode is used
+	 * @return dataset
+	 */
+	public static Dataset arccosh(final Object a, final Dataset o, final ExecutionMode mode) {
 		final Dataset da = a instanceof Dataset ? (Dataset) a : DatasetFactory.createFromObject(a);
 		final SingleInputBroadcastIterator it = new SingleInputBroadcastIterator(da, o, true);
 		final Dataset result = it.getOutput();
+		if (ParallelUtils.isParallel(mode, result.getSize())) {
+			operateInParallel(da, null, result, new ChunkOperation() {
+				@Override
+				public void operate(Dataset ca, Dataset cb, Dataset co) {
+					arccosh(ca, co, ExecutionMode.SERIAL);
+				}
+			});
+			addFunctionName(result, "arccosh");
+			return result;
+		}
 		final int is = result.getElementsPerItem();
 		final int dt = result.getDType();
 
 		switch(dt) {
 		case Dataset.INT8:
 			final byte[] oi8data = ((ByteDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final byte[] ai8data = ((ByteDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai8data[i];
+					byte ox;
+					ox = (byte) toLong(Math.log(ix + Math.sqrt(ix*ix - 1)));
+					oi8data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					byte ox;
@@ -20678,7 +25014,16 @@ public class Maths {
 			break;
 		case Dataset.INT16:
 			final short[] oi16data = ((ShortDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final short[] ai16data = ((ShortDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai16data[i];
+					short ox;
+					ox = (short) toLong(Math.log(ix + Math.sqrt(ix*ix - 1)));
+					oi16data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					short ox;
@@ -20696,7 +25041,16 @@ public class Maths {
 			break;
 		case Dataset.INT64:
 			final long[] oi64data = ((LongDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final long[] ai64data = ((LongDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai64data[i];
+					long ox;
+					ox = toLong(Math.log(ix + Math.sqrt(ix*ix - 1)));
+					oi64data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					long ox;
@@ -20714,7 +25068,16 @@ public class Maths {
 			break;
 		case Dataset.INT32:
 			final int[] oi32data = ((IntegerDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final int[] ai32data = ((IntegerDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai32data[i];
+					int ox;
+					ox = (int) toLong(Math.log(ix + Math.sqrt(ix*ix - 1)));
+					oi32data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					int ox;
@@ -20972,7 +25335,16 @@ public class Maths {
 			break;
 		case Dataset.FLOAT32:
 			final float[] of32data = ((FloatDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final float[] af32data = ((FloatDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final double ix = af32data[i];
+					float ox;
+					ox = (float) (Math.log(ix + Math.sqrt(ix*ix - 1)));
+					of32data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					float ox;
@@ -20990,7 +25362,16 @@ public class Maths {
 			break;
 		case Dataset.FLOAT64:
 			final double[] of64data = ((DoubleDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final double[] af64data = ((DoubleDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final double ix = af64data[i];
+					double ox;
+					ox = (Math.log(ix + Math.sqrt(ix*ix - 1)));
+					of64data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					double ox;
@@ -21210,16 +25591,46 @@ public class Maths {
 	 * @return dataset
 	 */
 	public static Dataset arctanh(final Object a, final Dataset o) {
+		return arctanh(a, o, null);
+	}
+
+	/**
+	 * arctanh - evaluate the inverse hyperbolic tangent function on each element of the dataset
+	 * @param a
+	 * @param o output can be null - in which case, a new dataset is created
+	 * @param mode execution mode can be null - in which case, the global mode is used
+	 * @return dataset
+	 */
+	public static Dataset arctanh(final Object a, final Dataset o, final ExecutionMode mode) {
 		final Dataset da = a instanceof Dataset ? (Dataset) a : DatasetFactory.createFromObject(a);
 		final SingleInputBroadcastIterator it = new SingleInputBroadcastIterator(da, o, true);
 		final Dataset result = it.getOutput();
+		if (ParallelUtils.isParallel(mode, result.getSize())) {
+			operateInParallel(da, null, result, new ChunkOperation() {
+				@Override
+				public void operate(Dataset ca, Dataset cb, Dataset co) {
+					arctanh(ca, co, ExecutionMode.SERIAL);
+				}
+			});
+			addFunctionName(result, "arctanh");
+			return result;
+		}
 		final int is = result.getElementsPerItem();
 		final int dt = result.getDType();
 
 		switch(dt) {
 		case Dataset.INT8:
 			final byte[] oi8data = ((ByteDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final byte[] ai8data = ((ByteDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai8data[i];
+					byte ox;
+					ox = (byte) toLong(0.5*Math.log((1 + ix)/(1 - ix)));
+					oi8data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					byte ox;
@@ -21237,7 +25648,16 @@ public class Maths {
 			break;
 		case Dataset.INT16:
 			final short[] oi16data = ((ShortDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final short[] ai16data = ((ShortDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai16data[i];
+					short ox;
+					ox = (short) toLong(0.5*Math.log((1 + ix)/(1 - ix)));
+					oi16data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					short ox;
@@ -21255,7 +25675,16 @@ public class Maths {
 			break;
 		case Dataset.INT64:
 			final long[] oi64data = ((LongDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final long[] ai64data = ((LongDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai64data[i];
+					long ox;
+					ox = toLong(0.5*Math.log((1 + ix)/(1 - ix)));
+					oi64data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					long ox;
@@ -21273,7 +25702,16 @@ public class Maths {
 			break;
 		case Dataset.INT32:
 			final int[] oi32data = ((IntegerDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final int[] ai32data = ((IntegerDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai32data[i];
+					int ox;
+					ox = (int) toLong(0.5*Math.log((1 + ix)/(1 - ix)));
+					oi32data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					int ox;
@@ -21531,7 +25969,16 @@ public class Maths {
 			break;
 		case Dataset.FLOAT32:
 			final float[] of32data = ((FloatDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final float[] af32data = ((FloatDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final double ix = af32data[i];
+					float ox;
+					ox = (float) (0.5*Math.log((1 + ix)/(1 - ix)));
+					of32data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					float ox;
@@ -21549,7 +25996,16 @@ public class Maths {
 			break;
 		case Dataset.FLOAT64:
 			final double[] of64data = ((DoubleDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final double[] af64data = ((DoubleDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final double ix = af64data[i];
+					double ox;
+					ox = (0.5*Math.log((1 + ix)/(1 - ix)));
+					of64data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					double ox;
@@ -21769,16 +26225,46 @@ public class Maths {
 	 * @return dataset
 	 */
 	public static Dataset log(final Object a, final Dataset o) {
+		return log(a, o, null);
+	}
+
+	/**
+	 * log - evaluate the logarithm function on each element of the dataset
+	 * @param a
+	 * @param o output can be null - in which case, a new dataset is created
+	 * @param mode execution mode can be null - in which case, the global mode is used
+	 * @return dataset
+	 */
+	public static Dataset log(final Object a, final Dataset o, final ExecutionMode mode) {
 		final Dataset da = a instanceof Dataset ? (Dataset) a : DatasetFactory.createFromObject(a);
 		final SingleInputBroadcastIterator it = new SingleInputBroadcastIterator(da, o, true);
 		final Dataset result = it.getOutput();
+		if (ParallelUtils.isParallel(mode, result.getSize())) {
+			operateInParallel(da, null, result, new ChunkOperation() {
+				@Override
+				public void operate(Dataset ca, Dataset cb, Dataset co) {
+					log(ca, co, ExecutionMode.SERIAL);
+				}
+			});
+			addFunctionName(result, "log");
+			return result;
+		}
 		final int is = result.getElementsPerItem();
 		final int dt = result.getDType();
 
 		switch(dt) {
 		case Dataset.INT8:
 			final byte[] oi8data = ((ByteDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final byte[] ai8data = ((ByteDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai8data[i];
+					byte ox;
+					ox = (byte) toLong(Math.log(ix));
+					oi8data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					byte ox;
@@ -21796,7 +26282,16 @@ public class Maths {
 			break;
 		case Dataset.INT16:
 			final short[] oi16data = ((ShortDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final short[] ai16data = ((ShortDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai16data[i];
+					short ox;
+					ox = (short) toLong(Math.log(ix));
+					oi16data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					short ox;
@@ -21814,7 +26309,16 @@ public class Maths {
 			break;
 		case Dataset.INT64:
 			final long[] oi64data = ((LongDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final long[] ai64data = ((LongDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai64data[i];
+					long ox;
+					ox = toLong(Math.log(ix));
+					oi64data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					long ox;
@@ -21832,7 +26336,16 @@ public class Maths {
 			break;
 		case Dataset.INT32:
 			final int[] oi32data = ((IntegerDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final int[] ai32data = ((IntegerDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai32data[i];
+					int ox;
+					ox = (int) toLong(Math.log(ix));
+					oi32data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					int ox;
@@ -22090,7 +26603,16 @@ public class Maths {
 			break;
 		case Dataset.FLOAT32:
 			final float[] of32data = ((FloatDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final float[] af32data = ((FloatDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final double ix = af32data[i];
+					float ox;
+					ox = (float) (Math.log(ix));
+					of32data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					float ox;
@@ -22108,7 +26630,16 @@ public class Maths {
 			break;
 		case Dataset.FLOAT64:
 			final double[] of64data = ((DoubleDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final double[] af64data = ((DoubleDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final double ix = af64data[i];
+					double ox;
+					ox = (Math.log(ix));
+					of64data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					double ox;
@@ -22320,16 +26851,46 @@ public class Maths {
 	 * @return dataset
 	 */
 	public static Dataset log2(final Object a, final Dataset o) {
+		return log2(a, o, null);
+	}
+
+	/**
+	 * log2 - evaluate the logarithm function on each element of the dataset
+	 * @param a
+	 * @param o output can be null - in which case, a new dataset is created
+	 * @param mode execution mode can be null - in which case, the global mode is used
+	 * @return dataset
+	 */
+	public static Dataset log2(final Object a, final Dataset o, final ExecutionMode mode) {
 		final Dataset da = a instanceof Dataset ? (Dataset) a : DatasetFactory.createFromObject(a);
 		final SingleInputBroadcastIterator it = new SingleInputBroadcastIterator(da, o, true);
 		final Dataset result = it.getOutput();
+		if (ParallelUtils.isParallel(mode, result.getSize())) {
+			operateInParallel(da, null, result, new ChunkOperation() {
+				@Override
+				public void operate(Dataset ca, Dataset cb, Dataset co) {
+					log2(ca, co, ExecutionMode.SERIAL);
+				}
+			});
+			addFunctionName(result, "log2");
+			return result;
+		}
 		final int is = result.getElementsPerItem();
 		final int dt = result.getDType();
 
 		switch(dt) {
 		case Dataset.INT8:
 			final byte[] oi8data = ((ByteDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final byte[] ai8data = ((ByteDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai8data[i];
+					byte ox;
+					ox = (byte) toLong(Math.log(ix)/Math.log(2.));
+					oi8data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					byte ox;
@@ -22347,7 +26908,16 @@ public class Maths {
 			break;
 		case Dataset.INT16:
 			final short[] oi16data = ((ShortDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final short[] ai16data = ((ShortDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai16data[i];
+					short ox;
+					ox = (short) toLong(Math.log(ix)/Math.log(2.));
+					oi16data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					short ox;
@@ -22365,7 +26935,16 @@ public class Maths {
 			break;
 		case Dataset.INT64:
 			final long[] oi64data = ((LongDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final long[] ai64data = ((LongDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai64data[i];
+					long ox;
+					ox = toLong(Math.log(ix)/Math.log(2.));
+					oi64data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					long ox;
@@ -22383,7 +26962,16 @@ public class Maths {
 			break;
 		case Dataset.INT32:
 			final int[] oi32data = ((IntegerDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final int[] ai32data = ((IntegerDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai32data[i];
+					int ox;
+					ox = (int) toLong(Math.log(ix)/Math.log(2.));
+					oi32data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					int ox;
@@ -22641,7 +27229,16 @@ public class Maths {
 			break;
 		case Dataset.FLOAT32:
 			final float[] of32data = ((FloatDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final float[] af32data = ((FloatDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final double ix = af32data[i];
+					float ox;
+					ox = (float) (Math.log(ix)/Math.log(2.));
+					of32data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					float ox;
@@ -22659,7 +27256,16 @@ public class Maths {
 			break;
 		case Dataset.FLOAT64:
 			final double[] of64data = ((DoubleDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final double[] af64data = ((DoubleDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final double ix = af64data[i];
+					double ox;
+					ox = (Math.log(ix)/Math.log(2.));
+					of64data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					double ox;
@@ -22871,16 +27477,46 @@ public class Maths {
 	 * @return dataset
 	 */
 	public static Dataset log10(final Object a, final Dataset o) {
+		return log10(a, o, null);
+	}
+
+	/**
+	 * log10 - evaluate the logarithm function on each element of the dataset
+	 * @param a
+	 * @param o output can be null - in which case, a new dataset is created
+	 * @param mode execution mode can be null - in which case, the global mode is used
+	 * @return dataset
+	 */
+	public static Dataset log10(final Object a, final Dataset o, final ExecutionMode mode) {
 		final Dataset da = a instanceof Dataset ? (Dataset) a : DatasetFactory.createFromObject(a);
 		final SingleInputBroadcastIterator it = new SingleInputBroadcastIterator(da, o, true);
 		final Dataset result = it.getOutput();
+		if (ParallelUtils.isParallel(mode, result.getSize())) {
+			operateInParallel(da, null, result, new ChunkOperation() {
+				@Override
+				public void operate(Dataset ca, Dataset cb, Dataset co) {
+					log10(ca, co, ExecutionMode.SERIAL);
+				}
+			});
+			addFunctionName(result, "log10");
+			return result;
+		}
 		final int is = result.getElementsPerItem();
 		final int dt = result.getDType();
 
 		switch(dt) {
 		case Dataset.INT8:
 			final byte[] oi8data = ((ByteDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final byte[] ai8data = ((ByteDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai8data[i];
+					byte ox;
+					ox = (byte) toLong(Math.log10(ix));
+					oi8data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					byte ox;
@@ -22898,7 +27534,16 @@ public class Maths {
 			break;
 		case Dataset.INT16:
 			final short[] oi16data = ((ShortDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final short[] ai16data = ((ShortDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai16data[i];
+					short ox;
+					ox = (short) toLong(Math.log10(ix));
+					oi16data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					short ox;
@@ -22916,7 +27561,16 @@ public class Maths {
 			break;
 		case Dataset.INT64:
 			final long[] oi64data = ((LongDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final long[] ai64data = ((LongDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai64data[i];
+					long ox;
+					ox = toLong(Math.log10(ix));
+					oi64data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					long ox;
@@ -22934,7 +27588,16 @@ public class Maths {
 			break;
 		case Dataset.INT32:
 			final int[] oi32data = ((IntegerDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final int[] ai32data = ((IntegerDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai32data[i];
+					int ox;
+					ox = (int) toLong(Math.log10(ix));
+					oi32data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					int ox;
@@ -23192,7 +27855,16 @@ public class Maths {
 			break;
 		case Dataset.FLOAT32:
 			final float[] of32data = ((FloatDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final float[] af32data = ((FloatDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final double ix = af32data[i];
+					float ox;
+					ox = (float) (Math.log10(ix));
+					of32data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					float ox;
@@ -23210,7 +27882,16 @@ public class Maths {
 			break;
 		case Dataset.FLOAT64:
 			final double[] of64data = ((DoubleDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final double[] af64data = ((DoubleDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final double ix = af64data[i];
+					double ox;
+					ox = (Math.log10(ix));
+					of64data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					double ox;
@@ -23422,16 +28103,46 @@ public class Maths {
 	 * @return dataset
 	 */
 	public static Dataset log1p(final Object a, final Dataset o) {
+		return log1p(a, o, null);
+	}
+
+	/**
+	 * log1p - evaluate the logarithm function of 1 plus on each element of the dataset
+	 * @param a
+	 * @param o output can be null - in which case, a new dataset is created
+	 * @param mode execution mode can be null - in which case, the global mode is used
+	 * @return dataset
+	 */
+	public static Dataset log1p(final Object a, final Dataset o, final ExecutionMode mode) {
 		final Dataset da = a instanceof Dataset ? (Dataset) a : DatasetFactory.createFromObject(a);
 		final SingleInputBroadcastIterator it = new SingleInputBroadcastIterator(da, o, true);
 		final Dataset result = it.getOutput();
+		if (ParallelUtils.isParallel(mode, result.getSize())) {
+			operateInParallel(da, null, result, new ChunkOperation() {
+				@Override
+				public void operate(Dataset ca, Dataset cb, Dataset co) {
+					log1p(ca, co, ExecutionMode.SERIAL);
+				}
+			});
+			addFunctionName(result, "log1p");
+			return result;
+		}
 		final int is = result.getElementsPerItem();
 		final int dt = result.getDType();
 
 		switch(dt) {
 		case Dataset.INT8:
 			final byte[] oi8data = ((ByteDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final byte[] ai8data = ((ByteDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai8data[i];
+					byte ox;
+					ox = (byte) toLong(Math.log1p(ix));
+					oi8data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					byte ox;
@@ -23449,7 +28160,16 @@ public class Maths {
 			break;
 		case Dataset.INT16:
 			final short[] oi16data = ((ShortDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final short[] ai16data = ((ShortDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai16data[i];
+					short ox;
+					ox = (short) toLong(Math.log1p(ix));
+					oi16data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					short ox;
@@ -23467,7 +28187,16 @@ public class Maths {
 			break;
 		case Dataset.INT64:
 			final long[] oi64data = ((LongDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final long[] ai64data = ((LongDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai64data[i];
+					long ox;
+					ox = toLong(Math.log1p(ix));
+					oi64data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					long ox;
@@ -23485,7 +28214,16 @@ public class Maths {
 			break;
 		case Dataset.INT32:
 			final int[] oi32data = ((IntegerDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final int[] ai32data = ((IntegerDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai32data[i];
+					int ox;
+					ox = (int) toLong(Math.log1p(ix));
+					oi32data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					int ox;
@@ -23743,7 +28481,16 @@ public class Maths {
 			break;
 		case Dataset.FLOAT32:
 			final float[] of32data = ((FloatDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final float[] af32data = ((FloatDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final double ix = af32data[i];
+					float ox;
+					ox = (float) (Math.log1p(ix));
+					of32data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					float ox;
@@ -23761,7 +28508,16 @@ public class Maths {
 			break;
 		case Dataset.FLOAT64:
 			final double[] of64data = ((DoubleDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final double[] af64data = ((DoubleDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final double ix = af64data[i];
+					double ox;
+					ox = (Math.log1p(ix));
+					of64data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					double ox;
@@ -23973,16 +28729,46 @@ public class Maths {
 	 * @return dataset
 	 */
 	public static Dataset exp(final Object a, final Dataset o) {
+		return exp(a, o, null);
+	}
+
+	/**
+	 * exp - evaluate the exponential function on each element of the dataset
+	 * @param a
+	 * @param o output can be null - in which case, a new dataset is created
+	 * @param mode execution mode can be null - in which case, the global mode is used
+	 * @return dataset
+	 */
+	public static Dataset exp(final Object a, final Dataset o, final ExecutionMode mode) {
 		final Dataset da = a instanceof Dataset ? (Dataset) a : DatasetFactory.createFromObject(a);
 		final SingleInputBroadcastIterator it = new SingleInputBroadcastIterator(da, o, true);
 		final Dataset result = it.getOutput();
+		if (ParallelUtils.isParallel(mode, result.getSize())) {
+			operateInParallel(da, null, result, new ChunkOperation() {
+				@Override
+				public void operate(Dataset ca, Dataset cb, Dataset co) {
+					exp(ca, co, ExecutionMode.SERIAL);
+				}
+			});
+			addFunctionName(result, "exp");
+			return result;
+		}
 		final int is = result.getElementsPerItem();
 		final int dt = result.getDType();
 
 		switch(dt) {
 		case Dataset.INT8:
 			final byte[] oi8data = ((ByteDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final byte[] ai8data = ((ByteDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai8data[i];
+					byte ox;
+					ox = (byte) toLong(Math.exp(ix));
+					oi8data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					byte ox;
@@ -24000,7 +28786,16 @@ public class Maths {
 			break;
 		case Dataset.INT16:
 			final short[] oi16data = ((ShortDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final short[] ai16data = ((ShortDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai16data[i];
+					short ox;
+					ox = (short) toLong(Math.exp(ix));
+					oi16data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					short ox;
@@ -24018,7 +28813,16 @@ public class Maths {
 			break;
 		case Dataset.INT64:
 			final long[] oi64data = ((LongDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final long[] ai64data = ((LongDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai64data[i];
+					long ox;
+					ox = toLong(Math.exp(ix));
+					oi64data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					long ox;
@@ -24036,7 +28840,16 @@ public class Maths {
 			break;
 		case Dataset.INT32:
 			final int[] oi32data = ((IntegerDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final int[] ai32data = ((IntegerDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai32data[i];
+					int ox;
+					ox = (int) toLong(Math.exp(ix));
+					oi32data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					int ox;
@@ -24294,7 +29107,16 @@ public class Maths {
 			break;
 		case Dataset.FLOAT32:
 			final float[] of32data = ((FloatDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final float[] af32data = ((FloatDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final double ix = af32data[i];
+					float ox;
+					ox = (float) (Math.exp(ix));
+					of32data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					float ox;
@@ -24312,7 +29134,16 @@ public class Maths {
 			break;
 		case Dataset.FLOAT64:
 			final double[] of64data = ((DoubleDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final double[] af64data = ((DoubleDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final double ix = af64data[i];
+					double ox;
+					ox = (Math.exp(ix));
+					of64data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					double ox;
@@ -24532,16 +29363,46 @@ public class Maths {
 	 * @return dataset
 	 */
 	public static Dataset expm1(final Object a, final Dataset o) {
+		return expm1(a, o, null);
+	}
+
+	/**
+	 * expm1 - evaluate the exponential function - 1 on each element of the dataset
+	 * @param a
+	 * @param o output can be null - in which case, a new dataset is created
+	 * @param mode execution mode can be null - in which case, the global mode is used
+	 * @return dataset
+	 */
+	public static Dataset expm1(final Object a, final Dataset o, final ExecutionMode mode) {
 		final Dataset da = a instanceof Dataset ? (Dataset) a : DatasetFactory.createFromObject(a);
 		final SingleInputBroadcastIterator it = new SingleInputBroadcastIterator(da, o, true);
 		final Dataset result = it.getOutput();
+		if (ParallelUtils.isParallel(mode, result.getSize())) {
+			operateInParallel(da, null, result, new ChunkOperation() {
+				@Override
+				public void operate(Dataset ca, Dataset cb, Dataset co) {
+					expm1(ca, co, ExecutionMode.SERIAL);
+				}
+			});
+			addFunctionName(result, "expm1");
+			return result;
+		}
 		final int is = result.getElementsPerItem();
 		final int dt = result.getDType();
 
 		switch(dt) {
 		case Dataset.INT8:
 			final byte[] oi8data = ((ByteDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final byte[] ai8data = ((ByteDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai8data[i];
+					byte ox;
+					ox = (byte) toLong(Math.expm1(ix));
+					oi8data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					byte ox;
@@ -24559,7 +29420,16 @@ public class Maths {
 			break;
 		case Dataset.INT16:
 			final short[] oi16data = ((ShortDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final short[] ai16data = ((ShortDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai16data[i];
+					short ox;
+					ox = (short) toLong(Math.expm1(ix));
+					oi16data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					short ox;
@@ -24577,7 +29447,16 @@ public class Maths {
 			break;
 		case Dataset.INT64:
 			final long[] oi64data = ((LongDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final long[] ai64data = ((LongDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai64data[i];
+					long ox;
+					ox = toLong(Math.expm1(ix));
+					oi64data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					long ox;
@@ -24595,7 +29474,16 @@ public class Maths {
 			break;
 		case Dataset.INT32:
 			final int[] oi32data = ((IntegerDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final int[] ai32data = ((IntegerDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai32data[i];
+					int ox;
+					ox = (int) toLong(Math.expm1(ix));
+					oi32data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					int ox;
@@ -24853,7 +29741,16 @@ public class Maths {
 			break;
 		case Dataset.FLOAT32:
 			final float[] of32data = ((FloatDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final float[] af32data = ((FloatDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final double ix = af32data[i];
+					float ox;
+					ox = (float) (Math.expm1(ix));
+					of32data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					float ox;
@@ -24871,7 +29768,16 @@ public class Maths {
 			break;
 		case Dataset.FLOAT64:
 			final double[] of64data = ((DoubleDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final double[] af64data = ((DoubleDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final double ix = af64data[i];
+					double ox;
+					ox = (Math.expm1(ix));
+					of64data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					double ox;
@@ -25091,16 +29997,46 @@ public class Maths {
 	 * @return dataset
 	 */
 	public static Dataset sqrt(final Object a, final Dataset o) {
+		return sqrt(a, o, null);
+	}
+
+	/**
+	 * sqrt - evaluate the square root function on each element of the dataset
+	 * @param a
+	 * @param o output can be null - in which case, a new dataset is created
+	 * @param mode execution mode can be null - in which case, the global mode is used
+	 * @return dataset
+	 */
+	public static Dataset sqrt(final Object a, final Dataset o, final ExecutionMode mode) {
 		final Dataset da = a instanceof Dataset ? (Dataset) a : DatasetFactory.createFromObject(a);
 		final SingleInputBroadcastIterator it = new SingleInputBroadcastIterator(da, o, true);
 		final Dataset result = it.getOutput();
+		if (ParallelUtils.isParallel(mode, result.getSize())) {
+			operateInParallel(da, null, result, new ChunkOperation() {
+				@Override
+				public void operate(Dataset ca, Dataset cb, Dataset co) {
+					sqrt(ca, co, ExecutionMode.SERIAL);
+				}
+			});
+			addFunctionName(result, "sqrt");
+			return result;
+		}
 		final int is = result.getElementsPerItem();
 		final int dt = result.getDType();
 
 		switch(dt) {
 		case Dataset.INT8:
 			final byte[] oi8data = ((ByteDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final byte[] ai8data = ((ByteDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai8data[i];
+					byte ox;
+					ox = (byte) toLong(Math.sqrt(ix));
+					oi8data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					byte ox;
@@ -25118,7 +30054,16 @@ public class Maths {
 			break;
 		case Dataset.INT16:
 			final short[] oi16data = ((ShortDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final short[] ai16data = ((ShortDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai16data[i];
+					short ox;
+					ox = (short) toLong(Math.sqrt(ix));
+					oi16data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					short ox;
@@ -25136,7 +30081,16 @@ public class Maths {
 			break;
 		case Dataset.INT64:
 			final long[] oi64data = ((LongDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final long[] ai64data = ((LongDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai64data[i];
+					long ox;
+					ox = toLong(Math.sqrt(ix));
+					oi64data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					long ox;
@@ -25154,7 +30108,16 @@ public class Maths {
 			break;
 		case Dataset.INT32:
 			final int[] oi32data = ((IntegerDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final int[] ai32data = ((IntegerDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai32data[i];
+					int ox;
+					ox = (int) toLong(Math.sqrt(ix));
+					oi32data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					int ox;
@@ -25412,7 +30375,16 @@ public class Maths {
 			break;
 		case Dataset.FLOAT32:
 			final float[] of32data = ((FloatDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final float[] af32data = ((FloatDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final double ix = af32data[i];
+					float ox;
+					ox = (float) (Math.sqrt(ix));
+					of32data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					float ox;
@@ -25430,7 +30402,16 @@ public class Maths {
 			break;
 		case Dataset.FLOAT64:
 			final double[] of64data = ((DoubleDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final double[] af64data = ((DoubleDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final double ix = af64data[i];
+					double ox;
+					ox = (Math.sqrt(ix));
+					of64data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					double ox;
@@ -25650,16 +30631,46 @@ public class Maths {
 	 * @return dataset
 	 */
 	public static Dataset cbrt(final Object a, final Dataset o) {
+		return cbrt(a, o, null);
+	}
+
+	/**
+	 * cbrt - evaluate the cube root function on each element of the dataset
+	 * @param a
+	 * @param o output can be null - in which case, a new dataset is created
+	 * @param mode execution mode can be null - in which case, the global mode is used
+	 * @return dataset
+	 */
+	public static Dataset cbrt(final Object a, final Dataset o, final ExecutionMode mode) {
 		final Dataset da = a instanceof Dataset ? (Dataset) a : DatasetFactory.createFromObject(a);
 		final SingleInputBroadcastIterator it = new SingleInputBroadcastIterator(da, o, true);
 		final Dataset result = it.getOutput();
+		if (ParallelUtils.isParallel(mode, result.getSize())) {
+			operateInParallel(da, null, result, new ChunkOperation() {
+				@Override
+				public void operate(Dataset ca, Dataset cb, Dataset co) {
+					cbrt(ca, co, ExecutionMode.SERIAL);
+				}
+			});
+			addFunctionName(result, "cbrt");
+			return result;
+		}
 		final int is = result.getElementsPerItem();
 		final int dt = result.getDType();
 
 		switch(dt) {
 		case Dataset.INT8:
 			final byte[] oi8data = ((ByteDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final byte[] ai8data = ((ByteDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai8data[i];
+					byte ox;
+					ox = (byte) toLong(Math.cbrt(ix));
+					oi8data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					byte ox;
@@ -25677,7 +30688,16 @@ public class Maths {
 			break;
 		case Dataset.INT16:
 			final short[] oi16data = ((ShortDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final short[] ai16data = ((ShortDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai16data[i];
+					short ox;
+					ox = (short) toLong(Math.cbrt(ix));
+					oi16data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					short ox;
@@ -25695,7 +30715,16 @@ public class Maths {
 			break;
 		case Dataset.INT64:
 			final long[] oi64data = ((LongDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final long[] ai64data = ((LongDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai64data[i];
+					long ox;
+					ox = toLong(Math.cbrt(ix));
+					oi64data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					long ox;
@@ -25713,7 +30742,16 @@ public class Maths {
 			break;
 		case Dataset.INT32:
 			final int[] oi32data = ((IntegerDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final int[] ai32data = ((IntegerDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai32data[i];
+					int ox;
+					ox = (int) toLong(Math.cbrt(ix));
+					oi32data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					int ox;
@@ -25971,7 +31009,16 @@ public class Maths {
 			break;
 		case Dataset.FLOAT32:
 			final float[] of32data = ((FloatDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final float[] af32data = ((FloatDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final double ix = af32data[i];
+					float ox;
+					ox = (float) (Math.cbrt(ix));
+					of32data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					float ox;
@@ -25989,7 +31036,16 @@ public class Maths {
 			break;
 		case Dataset.FLOAT64:
 			final double[] of64data = ((DoubleDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final double[] af64data = ((DoubleDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final double ix = af64data[i];
+					double ox;
+					ox = (Math.cbrt(ix));
+					of64data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					double ox;
@@ -26209,16 +31265,46 @@ public class Maths {
 	 * @return dataset
 	 */
 	public static Dataset square(final Object a, final Dataset o) {
+		return square(a, o, null);
+	}
+
+	/**
+	 * square - square each element
+	 * @param a
+	 * @param o output can be null - in which case, a new dataset is created
+	 * @param mode execution mode can be null - in which case, the global mode is used
+	 * @return dataset
+	 */
+	public static Dataset square(final Object a, final Dataset o, final ExecutionMode mode) {
 		final Dataset da = a instanceof Dataset ? (Dataset) a : DatasetFactory.createFromObject(a);
 		final SingleInputBroadcastIterator it = new SingleInputBroadcastIterator(da, o, true);
 		final Dataset result = it.getOutput();
+		if (ParallelUtils.isParallel(mode, result.getSize())) {
+			operateInParallel(da, null, result, new ChunkOperation() {
+				@Override
+				public void operate(Dataset ca, Dataset cb, Dataset co) {
+					square(ca, co, ExecutionMode.SERIAL);
+				}
+			});
+			addFunctionName(result, "square");
+			return result;
+		}
 		final int is = result.getElementsPerItem();
 		final int dt = result.getDType();
 
 		switch(dt) {
 		case Dataset.INT8:
 			final byte[] oi8data = ((ByteDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final byte[] ai8data = ((ByteDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai8data[i];
+					byte ox;
+					ox = (byte) toLong(ix*ix);
+					oi8data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					byte ox;
@@ -26236,7 +31322,16 @@ public class Maths {
 			break;
 		case Dataset.INT16:
 			final short[] oi16data = ((ShortDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final short[] ai16data = ((ShortDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai16data[i];
+					short ox;
+					ox = (short) toLong(ix*ix);
+					oi16data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					short ox;
@@ -26254,7 +31349,16 @@ public class Maths {
 			break;
 		case Dataset.INT64:
 			final long[] oi64data = ((LongDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final long[] ai64data = ((LongDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai64data[i];
+					long ox;
+					ox = toLong(ix*ix);
+					oi64data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					long ox;
@@ -26272,7 +31376,16 @@ public class Maths {
 			break;
 		case Dataset.INT32:
 			final int[] oi32data = ((IntegerDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final int[] ai32data = ((IntegerDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai32data[i];
+					int ox;
+					ox = (int) toLong(ix*ix);
+					oi32data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					int ox;
@@ -26530,7 +31643,16 @@ public class Maths {
 			break;
 		case Dataset.FLOAT32:
 			final float[] of32data = ((FloatDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final float[] af32data = ((FloatDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final double ix = af32data[i];
+					float ox;
+					ox = (float) (ix*ix);
+					of32data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					float ox;
@@ -26548,7 +31670,16 @@ public class Maths {
 			break;
 		case Dataset.FLOAT64:
 			final double[] of64data = ((DoubleDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final double[] af64data = ((DoubleDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final double ix = af64data[i];
+					double ox;
+					ox = (ix*ix);
+					of64data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					double ox;
@@ -26760,16 +31891,46 @@ public class Maths {
 	 * @return dataset
 	 */
 	public static Dataset floor(final Object a, final Dataset o) {
+		return floor(a, o, null);
+	}
+
+	/**
+	 * floor - evaluate the floor function on each element of the dataset
+	 * @param a
+	 * @param o output can be null - in which case, a new dataset is created
+	 * @param mode execution mode can be null - in which case, the global mode is used
+	 * @return dataset
+	 */
+	public static Dataset floor(final Object a, final Dataset o, final ExecutionMode mode) {
 		final Dataset da = a instanceof Dataset ? (Dataset) a : DatasetFactory.createFromObject(a);
 		final SingleInputBroadcastIterator it = new SingleInputBroadcastIterator(da, o, true);
 		final Dataset result = it.getOutput();
+		if (ParallelUtils.isParallel(mode, result.getSize())) {
+			operateInParallel(da, null, result, new ChunkOperation() {
+				@Override
+				public void operate(Dataset ca, Dataset cb, Dataset co) {
+					floor(ca, co, ExecutionMode.SERIAL);
+				}
+			});
+			addFunctionName(result, "floor");
+			return result;
+		}
 		final int is = result.getElementsPerItem();
 		final int dt = result.getDType();
 
 		switch(dt) {
 		case Dataset.INT8:
 			final byte[] oi8data = ((ByteDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final byte[] ai8data = ((ByteDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai8data[i];
+					byte ox;
+					ox = (byte) toLong(ix);
+					oi8data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					byte ox;
@@ -26787,7 +31948,16 @@ public class Maths {
 			break;
 		case Dataset.INT16:
 			final short[] oi16data = ((ShortDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final short[] ai16data = ((ShortDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai16data[i];
+					short ox;
+					ox = (short) toLong(ix);
+					oi16data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					short ox;
@@ -26805,7 +31975,16 @@ public class Maths {
 			break;
 		case Dataset.INT64:
 			final long[] oi64data = ((LongDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final long[] ai64data = ((LongDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai64data[i];
+					long ox;
+					ox = toLong(ix);
+					oi64data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					long ox;
@@ -26823,7 +32002,16 @@ public class Maths {
 			break;
 		case Dataset.INT32:
 			final int[] oi32data = ((IntegerDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final int[] ai32data = ((IntegerDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai32data[i];
+					int ox;
+					ox = (int) toLong(ix);
+					oi32data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					int ox;
@@ -27081,7 +32269,16 @@ public class Maths {
 			break;
 		case Dataset.FLOAT32:
 			final float[] of32data = ((FloatDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final float[] af32data = ((FloatDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final double ix = af32data[i];
+					float ox;
+					ox = (float) (Math.floor(ix));
+					of32data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					float ox;
@@ -27099,7 +32296,16 @@ public class Maths {
 			break;
 		case Dataset.FLOAT64:
 			final double[] of64data = ((DoubleDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final double[] af64data = ((DoubleDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final double ix = af64data[i];
+					double ox;
+					ox = (Math.floor(ix));
+					of64data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					double ox;
@@ -27311,16 +32517,46 @@ public class Maths {
 	 * @return dataset
 	 */
 	public static Dataset ceil(final Object a, final Dataset o) {
+		return ceil(a, o, null);
+	}
+
+	/**
+	 * ceil - evaluate the ceiling function on each element of the dataset
+	 * @param a
+	 * @param o output can be null - in which case, a new dataset is created
+	 * @param mode execution mode can be null - in which case, the global mode is used
+	 * @return dataset
+	 */
+	public static Dataset ceil(final Object a, final Dataset o, final ExecutionMode mode) {
 		final Dataset da = a instanceof Dataset ? (Dataset) a : DatasetFactory.createFromObject(a);
 		final SingleInputBroadcastIterator it = new SingleInputBroadcastIterator(da, o, true);
 		final Dataset result = it.getOutput();
+		if (ParallelUtils.isParallel(mode, result.getSize())) {
+			operateInParallel(da, null, result, new ChunkOperation() {
+				@Override
+				public void operate(Dataset ca, Dataset cb, Dataset co) {
+					ceil(ca, co, ExecutionMode.SERIAL);
+				}
+			});
+			addFunctionName(result, "ceil");
+			return result;
+		}
 		final int is = result.getElementsPerItem();
 		final int dt = result.getDType();
 
 		switch(dt) {
 		case Dataset.INT8:
 			final byte[] oi8data = ((ByteDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final byte[] ai8data = ((ByteDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai8data[i];
+					byte ox;
+					ox = (byte) toLong(ix);
+					oi8data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					byte ox;
@@ -27338,7 +32574,16 @@ public class Maths {
 			break;
 		case Dataset.INT16:
 			final short[] oi16data = ((ShortDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final short[] ai16data = ((ShortDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai16data[i];
+					short ox;
+					ox = (short) toLong(ix);
+					oi16data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					short ox;
@@ -27356,7 +32601,16 @@ public class Maths {
 			break;
 		case Dataset.INT64:
 			final long[] oi64data = ((LongDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final long[] ai64data = ((LongDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai64data[i];
+					long ox;
+					ox = toLong(ix);
+					oi64data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					long ox;
@@ -27374,7 +32628,16 @@ public class Maths {
 			break;
 		case Dataset.INT32:
 			final int[] oi32data = ((IntegerDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final int[] ai32data = ((IntegerDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai32data[i];
+					int ox;
+					ox = (int) toLong(ix);
+					oi32data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					int ox;
@@ -27632,7 +32895,16 @@ public class Maths {
 			break;
 		case Dataset.FLOAT32:
 			final float[] of32data = ((FloatDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final float[] af32data = ((FloatDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final double ix = af32data[i];
+					float ox;
+					ox = (float) (Math.ceil(ix));
+					of32data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					float ox;
@@ -27650,7 +32922,16 @@ public class Maths {
 			break;
 		case Dataset.FLOAT64:
 			final double[] of64data = ((DoubleDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final double[] af64data = ((DoubleDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final double ix = af64data[i];
+					double ox;
+					ox = (Math.ceil(ix));
+					of64data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					double ox;
@@ -27862,16 +33143,46 @@ public class Maths {
 	 * @return dataset
 	 */
 	public static Dataset rint(final Object a, final Dataset o) {
+		return rint(a, o, null);
+	}
+
+	/**
+	 * rint - round each element of the dataset
+	 * @param a
+	 * @param o output can be null - in which case, a new dataset is created
+	 * @param mode execution mode can be null - in which case, the global mode is used
+	 * @return dataset
+	 */
+	public static Dataset rint(final Object a, final Dataset o, final ExecutionMode mode) {
 		final Dataset da = a instanceof Dataset ? (Dataset) a : DatasetFactory.createFromObject(a);
 		final SingleInputBroadcastIterator it = new SingleInputBroadcastIterator(da, o, true);
 		final Dataset result = it.getOutput();
+		if (ParallelUtils.isParallel(mode, result.getSize())) {
+			operateInParallel(da, null, result, new ChunkOperation() {
+				@Override
+				public void operate(Dataset ca, Dataset cb, Dataset co) {
+					rint(ca, co, ExecutionMode.SERIAL);
+				}
+			});
+			addFunctionName(result, "rint");
+			return result;
+		}
 		final int is = result.getElementsPerItem();
 		final int dt = result.getDType();
 
 		switch(dt) {
 		case Dataset.INT8:
 			final byte[] oi8data = ((ByteDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final byte[] ai8data = ((ByteDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai8data[i];
+					byte ox;
+					ox = (byte) toLong(ix);
+					oi8data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					byte ox;
@@ -27889,7 +33200,16 @@ public class Maths {
 			break;
 		case Dataset.INT16:
 			final short[] oi16data = ((ShortDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final short[] ai16data = ((ShortDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai16data[i];
+					short ox;
+					ox = (short) toLong(ix);
+					oi16data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					short ox;
@@ -27907,7 +33227,16 @@ public class Maths {
 			break;
 		case Dataset.INT64:
 			final long[] oi64data = ((LongDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final long[] ai64data = ((LongDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai64data[i];
+					long ox;
+					ox = toLong(ix);
+					oi64data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					long ox;
@@ -27925,7 +33254,16 @@ public class Maths {
 			break;
 		case Dataset.INT32:
 			final int[] oi32data = ((IntegerDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final int[] ai32data = ((IntegerDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai32data[i];
+					int ox;
+					ox = (int) toLong(ix);
+					oi32data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					int ox;
@@ -28183,7 +33521,16 @@ public class Maths {
 			break;
 		case Dataset.FLOAT32:
 			final float[] of32data = ((FloatDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final float[] af32data = ((FloatDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final double ix = af32data[i];
+					float ox;
+					ox = (float) (Math.rint(ix));
+					of32data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					float ox;
@@ -28201,7 +33548,16 @@ public class Maths {
 			break;
 		case Dataset.FLOAT64:
 			final double[] of64data = ((DoubleDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final double[] af64data = ((DoubleDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final double ix = af64data[i];
+					double ox;
+					ox = (Math.rint(ix));
+					of64data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					double ox;
@@ -28413,16 +33769,46 @@ public class Maths {
 	 * @return dataset
 	 */
 	public static Dataset truncate(final Object a, final Dataset o) {
+		return truncate(a, o, null);
+	}
+
+	/**
+	 * truncate - truncate each element to integers of the dataset
+	 * @param a
+	 * @param o output can be null - in which case, a new dataset is created
+	 * @param mode execution mode can be null - in which case, the global mode is used
+	 * @return dataset
+	 */
+	public static Dataset truncate(final Object a, final Dataset o, final ExecutionMode mode) {
 		final Dataset da = a instanceof Dataset ? (Dataset) a : DatasetFactory.createFromObject(a);
 		final SingleInputBroadcastIterator it = new SingleInputBroadcastIterator(da, o, true);
 		final Dataset result = it.getOutput();
+		if (ParallelUtils.isParallel(mode, result.getSize())) {
+			operateInParallel(da, null, result, new ChunkOperation() {
+				@Override
+				public void operate(Dataset ca, Dataset cb, Dataset co) {
+					truncate(ca, co, ExecutionMode.SERIAL);
+				}
+			});
+			addFunctionName(result, "truncate");
+			return result;
+		}
 		final int is = result.getElementsPerItem();
 		final int dt = result.getDType();
 
 		switch(dt) {
 		case Dataset.INT8:
 			final byte[] oi8data = ((ByteDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final byte[] ai8data = ((ByteDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai8data[i];
+					byte ox;
+					ox = (byte) toLong(ix);
+					oi8data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					byte ox;
@@ -28440,7 +33826,16 @@ public class Maths {
 			break;
 		case Dataset.INT16:
 			final short[] oi16data = ((ShortDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final short[] ai16data = ((ShortDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai16data[i];
+					short ox;
+					ox = (short) toLong(ix);
+					oi16data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					short ox;
@@ -28458,7 +33853,16 @@ public class Maths {
 			break;
 		case Dataset.INT64:
 			final long[] oi64data = ((LongDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final long[] ai64data = ((LongDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai64data[i];
+					long ox;
+					ox = toLong(ix);
+					oi64data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					long ox;
@@ -28476,7 +33880,16 @@ public class Maths {
 			break;
 		case Dataset.INT32:
 			final int[] oi32data = ((IntegerDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final int[] ai32data = ((IntegerDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai32data[i];
+					int ox;
+					ox = (int) toLong(ix);
+					oi32data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					int ox;
@@ -28734,7 +34147,16 @@ public class Maths {
 			break;
 		case Dataset.FLOAT32:
 			final float[] of32data = ((FloatDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final float[] af32data = ((FloatDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final double ix = af32data[i];
+					float ox;
+					ox = (float) (toLong(ix));
+					of32data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					float ox;
@@ -28752,7 +34174,16 @@ public class Maths {
 			break;
 		case Dataset.FLOAT64:
 			final double[] of64data = ((DoubleDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final double[] af64data = ((DoubleDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final double ix = af64data[i];
+					double ox;
+					ox = (toLong(ix));
+					of64data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					double ox;
@@ -28964,16 +34395,46 @@ public class Maths {
 	 * @return dataset
 	 */
 	public static Dataset toDegrees(final Object a, final Dataset o) {
+		return toDegrees(a, o, null);
+	}
+
+	/**
+	 * toDegrees - convert to degrees
+	 * @param a
+	 * @param o output can be null - in which case, a new dataset is created
+	 * @param mode execution mode can be null - in which case, the global mode is used
+	 * @return dataset
+	 */
+	public static Dataset toDegrees(final Object a, final Dataset o, final ExecutionMode mode) {
 		final Dataset da = a instanceof Dataset ? (Dataset) a : DatasetFactory.createFromObject(a);
 		final SingleInputBroadcastIterator it = new SingleInputBroadcastIterator(da, o, true);
 		final Dataset result = it.getOutput();
+		if (ParallelUtils.isParallel(mode, result.getSize())) {
+			operateInParallel(da, null, result, new ChunkOperation() {
+				@Override
+				public void operate(Dataset ca, Dataset cb, Dataset co) {
+					toDegrees(ca, co, ExecutionMode.SERIAL);
+				}
+			});
+			addFunctionName(result, "toDegrees");
+			return result;
+		}
 		final int is = result.getElementsPerItem();
 		final int dt = result.getDType();
 
 		switch(dt) {
 		case Dataset.INT8:
 			final byte[] oi8data = ((ByteDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final byte[] ai8data = ((ByteDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai8data[i];
+					byte ox;
+					ox = (byte) toLong(Math.toDegrees(ix));
+					oi8data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					byte ox;
@@ -28991,7 +34452,16 @@ public class Maths {
 			break;
 		case Dataset.INT16:
 			final short[] oi16data = ((ShortDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final short[] ai16data = ((ShortDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai16data[i];
+					short ox;
+					ox = (short) toLong(Math.toDegrees(ix));
+					oi16data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					short ox;
@@ -29009,7 +34479,16 @@ public class Maths {
 			break;
 		case Dataset.INT64:
 			final long[] oi64data = ((LongDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final long[] ai64data = ((LongDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai64data[i];
+					long ox;
+					ox = toLong(Math.toDegrees(ix));
+					oi64data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					long ox;
@@ -29027,7 +34506,16 @@ public class Maths {
 			break;
 		case Dataset.INT32:
 			final int[] oi32data = ((IntegerDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final int[] ai32data = ((IntegerDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai32data[i];
+					int ox;
+					ox = (int) toLong(Math.toDegrees(ix));
+					oi32data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					int ox;
@@ -29285,7 +34773,16 @@ public class Maths {
 			break;
 		case Dataset.FLOAT32:
 			final float[] of32data = ((FloatDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final float[] af32data = ((FloatDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final double ix = af32data[i];
+					float ox;
+					ox = (float) (Math.toDegrees(ix));
+					of32data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					float ox;
@@ -29303,7 +34800,16 @@ public class Maths {
 			break;
 		case Dataset.FLOAT64:
 			final double[] of64data = ((DoubleDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final double[] af64data = ((DoubleDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final double ix = af64data[i];
+					double ox;
+					ox = (Math.toDegrees(ix));
+					of64data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					double ox;
@@ -29515,16 +35021,46 @@ public class Maths {
 	 * @return dataset
 	 */
 	public static Dataset toRadians(final Object a, final Dataset o) {
+		return toRadians(a, o, null);
+	}
+
+	/**
+	 * toRadians - convert to radians
+	 * @param a
+	 * @param o output can be null - in which case, a new dataset is created
+	 * @param mode execution mode can be null - in which case, the global mode is used
+	 * @return dataset
+	 */
+	public static Dataset toRadians(final Object a, final Dataset o, final ExecutionMode mode) {
 		final Dataset da = a instanceof Dataset ? (Dataset) a : DatasetFactory.createFromObject(a);
 		final SingleInputBroadcastIterator it = new SingleInputBroadcastIterator(da, o, true);
 		final Dataset result = it.getOutput();
+		if (ParallelUtils.isParallel(mode, result.getSize())) {
+			operateInParallel(da, null, result, new ChunkOperation() {
+				@Override
+				public void operate(Dataset ca, Dataset cb, Dataset co) {
+					toRadians(ca, co, ExecutionMode.SERIAL);
+				}
+			});
+			addFunctionName(result, "toRadians");
+			return result;
+		}
 		final int is = result.getElementsPerItem();
 		final int dt = result.getDType();
 
 		switch(dt) {
 		case Dataset.INT8:
 			final byte[] oi8data = ((ByteDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final byte[] ai8data = ((ByteDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai8data[i];
+					byte ox;
+					ox = (byte) toLong(Math.toRadians(ix));
+					oi8data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					byte ox;
@@ -29542,7 +35078,16 @@ public class Maths {
 			break;
 		case Dataset.INT16:
 			final short[] oi16data = ((ShortDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final short[] ai16data = ((ShortDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai16data[i];
+					short ox;
+					ox = (short) toLong(Math.toRadians(ix));
+					oi16data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					short ox;
@@ -29560,7 +35105,16 @@ public class Maths {
 			break;
 		case Dataset.INT64:
 			final long[] oi64data = ((LongDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final long[] ai64data = ((LongDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai64data[i];
+					long ox;
+					ox = toLong(Math.toRadians(ix));
+					oi64data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					long ox;
@@ -29578,7 +35132,16 @@ public class Maths {
 			break;
 		case Dataset.INT32:
 			final int[] oi32data = ((IntegerDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final int[] ai32data = ((IntegerDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai32data[i];
+					int ox;
+					ox = (int) toLong(Math.toRadians(ix));
+					oi32data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					int ox;
@@ -29836,7 +35399,16 @@ public class Maths {
 			break;
 		case Dataset.FLOAT32:
 			final float[] of32data = ((FloatDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final float[] af32data = ((FloatDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final double ix = af32data[i];
+					float ox;
+					ox = (float) (Math.toRadians(ix));
+					of32data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					float ox;
@@ -29854,7 +35426,16 @@ public class Maths {
 			break;
 		case Dataset.FLOAT64:
 			final double[] of64data = ((DoubleDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final double[] af64data = ((DoubleDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final double ix = af64data[i];
+					double ox;
+					ox = (Math.toRadians(ix));
+					of64data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					double ox;
@@ -30066,16 +35647,46 @@ public class Maths {
 	 * @return dataset
 	 */
 	public static Dataset signum(final Object a, final Dataset o) {
+		return signum(a, o, null);
+	}
+
+	/**
+	 * signum - sign of each element
+	 * @param a
+	 * @param o output can be null - in which case, a new dataset is created
+	 * @param mode execution mode can be null - in which case, the global mode is used
+	 * @return dataset
+	 */
+	public static Dataset signum(final Object a, final Dataset o, final ExecutionMode mode) {
 		final Dataset da = a instanceof Dataset ? (Dataset) a : DatasetFactory.createFromObject(a);
 		final SingleInputBroadcastIterator it = new SingleInputBroadcastIterator(da, o, true);
 		final Dataset result = it.getOutput();
+		if (ParallelUtils.isParallel(mode, result.getSize())) {
+			operateInParallel(da, null, result, new ChunkOperation() {
+				@Override
+				public void operate(Dataset ca, Dataset cb, Dataset co) {
+					signum(ca, co, ExecutionMode.SERIAL);
+				}
+			});
+			addFunctionName(result, "signum");
+			return result;
+		}
 		final int is = result.getElementsPerItem();
 		final int dt = result.getDType();
 
 		switch(dt) {
 		case Dataset.INT8:
 			final byte[] oi8data = ((ByteDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final byte[] ai8data = ((ByteDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai8data[i];
+					byte ox;
+					ox = (byte) toLong(ix > 0 ? 1 : (ix < 0 ? -1 : 0));
+					oi8data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					byte ox;
@@ -30093,7 +35704,16 @@ public class Maths {
 			break;
 		case Dataset.INT16:
 			final short[] oi16data = ((ShortDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final short[] ai16data = ((ShortDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai16data[i];
+					short ox;
+					ox = (short) toLong(ix > 0 ? 1 : (ix < 0 ? -1 : 0));
+					oi16data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					short ox;
@@ -30111,7 +35731,16 @@ public class Maths {
 			break;
 		case Dataset.INT64:
 			final long[] oi64data = ((LongDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final long[] ai64data = ((LongDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai64data[i];
+					long ox;
+					ox = toLong(ix > 0 ? 1 : (ix < 0 ? -1 : 0));
+					oi64data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					long ox;
@@ -30129,7 +35758,16 @@ public class Maths {
 			break;
 		case Dataset.INT32:
 			final int[] oi32data = ((IntegerDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final int[] ai32data = ((IntegerDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai32data[i];
+					int ox;
+					ox = (int) toLong(ix > 0 ? 1 : (ix < 0 ? -1 : 0));
+					oi32data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					int ox;
@@ -30387,7 +36025,16 @@ public class Maths {
 			break;
 		case Dataset.FLOAT32:
 			final float[] of32data = ((FloatDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final float[] af32data = ((FloatDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final double ix = af32data[i];
+					float ox;
+					ox = (float) (Math.signum(ix));
+					of32data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					float ox;
@@ -30405,7 +36052,16 @@ public class Maths {
 			break;
 		case Dataset.FLOAT64:
 			final double[] of64data = ((DoubleDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final double[] af64data = ((DoubleDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final double ix = af64data[i];
+					double ox;
+					ox = (Math.signum(ix));
+					of64data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					double ox;
@@ -30617,16 +36273,46 @@ public class Maths {
 	 * @return dataset
 	 */
 	public static Dataset negative(final Object a, final Dataset o) {
+		return negative(a, o, null);
+	}
+
+	/**
+	 * negative - negative value of each element
+	 * @param a
+	 * @param o output can be null - in which case, a new dataset is created
+	 * @param mode execution mode can be null - in which case, the global mode is used
+	 * @return dataset
+	 */
+	public static Dataset negative(final Object a, final Dataset o, final ExecutionMode mode) {
 		final Dataset da = a instanceof Dataset ? (Dataset) a : DatasetFactory.createFromObject(a);
 		final SingleInputBroadcastIterator it = new SingleInputBroadcastIterator(da, o, true);
 		final Dataset result = it.getOutput();
+		if (ParallelUtils.isParallel(mode, result.getSize())) {
+			operateInParallel(da, null, result, new ChunkOperation() {
+				@Override
+				public void operate(Dataset ca, Dataset cb, Dataset co) {
+					negative(ca, co, ExecutionMode.SERIAL);
+				}
+			});
+			addFunctionName(result, "negative");
+			return result;
+		}
 		final int is = result.getElementsPerItem();
 		final int dt = result.getDType();
 
 		switch(dt) {
 		case Dataset.INT8:
 			final byte[] oi8data = ((ByteDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final byte[] ai8data = ((ByteDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai8data[i];
+					byte ox;
+					ox = (byte) toLong(-ix);
+					oi8data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					byte ox;
@@ -30644,7 +36330,16 @@ public class Maths {
 			break;
 		case Dataset.INT16:
 			final short[] oi16data = ((ShortDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final short[] ai16data = ((ShortDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai16data[i];
+					short ox;
+					ox = (short) toLong(-ix);
+					oi16data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					short ox;
@@ -30662,7 +36357,16 @@ public class Maths {
 			break;
 		case Dataset.INT64:
 			final long[] oi64data = ((LongDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final long[] ai64data = ((LongDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai64data[i];
+					long ox;
+					ox = toLong(-ix);
+					oi64data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					long ox;
@@ -30680,7 +36384,16 @@ public class Maths {
 			break;
 		case Dataset.INT32:
 			final int[] oi32data = ((IntegerDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final int[] ai32data = ((IntegerDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai32data[i];
+					int ox;
+					ox = (int) toLong(-ix);
+					oi32data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					int ox;
@@ -30938,7 +36651,16 @@ public class Maths {
 			break;
 		case Dataset.FLOAT32:
 			final float[] of32data = ((FloatDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final float[] af32data = ((FloatDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final double ix = af32data[i];
+					float ox;
+					ox = (float) (-ix);
+					of32data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					float ox;
@@ -30956,7 +36678,16 @@ public class Maths {
 			break;
 		case Dataset.FLOAT64:
 			final double[] of64data = ((DoubleDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final double[] af64data = ((DoubleDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final double ix = af64data[i];
+					double ox;
+					ox = (-ix);
+					of64data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					double ox;
@@ -31172,9 +36903,32 @@ public class Maths {
 	 * @return dataset
 	 */
 	public static Dataset clip(final Object a, final Dataset o, final Object pa, final Object pb) {
+		return clip(a, o, null, pa, pb);
+	}
+
+	/**
+	 * clip - clip elements to limits
+	 * @param a
+	 * @param o output can be null - in which case, a new dataset is created
+	 * @param mode execution mode can be null - in which case, the global mode is used
+	 * @param pa
+	 * @param pb
+	 * @return dataset
+	 */
+	public static Dataset clip(final Object a, final Dataset o, final ExecutionMode mode, final Object pa, final Object pb) {
 		final Dataset da = a instanceof Dataset ? (Dataset) a : DatasetFactory.createFromObject(a);
 		final SingleInputBroadcastIterator it = new SingleInputBroadcastIterator(da, o, true);
 		final Dataset result = it.getOutput();
+		if (ParallelUtils.isParallel(mode, result.getSize())) {
+			operateInParallel(da, null, result, new ChunkOperation() {
+				@Override
+				public void operate(Dataset ca, Dataset cb, Dataset co) {
+					clip(ca, co, ExecutionMode.SERIAL, pa, pb);
+				}
+			});
+			addFunctionName(result, "clip");
+			return result;
+		}
 		final int is = result.getElementsPerItem();
 		final int dt = result.getDType();
 		final double pax = DTypeUtils.toReal(pa);
@@ -31183,7 +36937,21 @@ public class Maths {
 		switch(dt) {
 		case Dataset.INT8:
 			final byte[] oi8data = ((ByteDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final byte[] ai8data = ((ByteDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai8data[i];
+					byte ox;
+					if (ix < pax)
+						ox = (byte) toLong(pax);
+					else if (ix > pbx)
+						ox = (byte) toLong(pbx);
+					else
+						ox = (byte) toLong(ix);
+					oi8data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					byte ox;
@@ -31211,7 +36979,21 @@ public class Maths {
 			break;
 		case Dataset.INT16:
 			final short[] oi16data = ((ShortDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final short[] ai16data = ((ShortDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai16data[i];
+					short ox;
+					if (ix < pax)
+						ox = (short) toLong(pax);
+					else if (ix > pbx)
+						ox = (short) toLong(pbx);
+					else
+						ox = (short) toLong(ix);
+					oi16data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					short ox;
@@ -31239,7 +37021,21 @@ public class Maths {
 			break;
 		case Dataset.INT64:
 			final long[] oi64data = ((LongDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final long[] ai64data = ((LongDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai64data[i];
+					long ox;
+					if (ix < pax)
+						ox = toLong(pax);
+					else if (ix > pbx)
+						ox = toLong(pbx);
+					else
+						ox = toLong(ix);
+					oi64data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					long ox;
@@ -31267,7 +37063,21 @@ public class Maths {
 			break;
 		case Dataset.INT32:
 			final int[] oi32data = ((IntegerDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final int[] ai32data = ((IntegerDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final long ix = ai32data[i];
+					int ox;
+					if (ix < pax)
+						ox = (int) toLong(pax);
+					else if (ix > pbx)
+						ox = (int) toLong(pbx);
+					else
+						ox = (int) toLong(ix);
+					oi32data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					int ox;
@@ -31655,7 +37465,23 @@ public class Maths {
 			break;
 		case Dataset.FLOAT32:
 			final float[] of32data = ((FloatDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final float[] af32data = ((FloatDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final double ix = af32data[i];
+					float ox;
+					if (Double.isNaN(ix))
+						ox = (float) ((pax+pbx)/2.);
+					else if (ix < pax)
+						ox = (float) (pax);
+					else if (ix > pbx)
+						ox = (float) (pbx);
+					else
+						ox = (float) (ix);
+					of32data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					float ox;
@@ -31687,7 +37513,23 @@ public class Maths {
 			break;
 		case Dataset.FLOAT64:
 			final double[] of64data = ((DoubleDataset) result).data;
-			if (it.isOutputDouble()) {
+			if (da.getDType() == dt && isContiguous(da, result)) {
+				final double[] af64data = ((DoubleDataset) da).data;
+				final int n = result.getSize();
+				for (int i = 0; i < n; i++) {
+					final double ix = af64data[i];
+					double ox;
+					if (Double.isNaN(ix))
+						ox = ((pax+pbx)/2.);
+					else if (ix < pax)
+						ox = (pax);
+					else if (ix > pbx)
+						ox = (pbx);
+					else
+						ox = (ix);
+					of64data[i] = ox;
+				}
+			} else if (it.isOutputDouble()) {
 				while (it.hasNext()) {
 					final double ix = it.aDouble;
 					double ox;
@@ -0,0 +1,214 @@
+/*-
+ * Copyright 2016 Diamond Light Source Ltd.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.january.dataset;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Global policy and helpers for running operations in parallel
+ * <p>
+ * By default, operations run serially. Set the mode to {@link ExecutionMode#PARALLEL} to split
+ * operations on datasets with at least {@link #getThreshold()} items across the threads of a
+ * fork/join pool. Methods that take an {@link ExecutionMode} argument use this global mode when
+ * that argument is null.
+ */
+public final class ParallelUtils {
+
+	/**
+	 * Default minimum number of items in a dataset for parallel execution
+	 */
+	public static final int DEFAULT_THRESHOLD = 1 << 16;
+
+	/**
+	 * Number of tasks per thread to create when splitting work
+	 */
+	private static final int TASKS_PER_THREAD = 4;
+
+	private static volatile ExecutionMode mode = ExecutionMode.SERIAL;
+	private static volatile int threshold = DEFAULT_THRESHOLD;
+	private static volatile ForkJoinPool pool = null;
+
+	private ParallelUtils() {
+	}
+
+	/**
+	 * @return global execution mode
+	 */
+	public static ExecutionMode getMode() {
+		return mode;
+	}
+
+	/**
+	 * Set global execution mode
+	 * @param mode if null, then set to serial
+	 */
+	public static void setMode(ExecutionMode mode) {
+		ParallelUtils.mode = mode == null ? ExecutionMode.SERIAL : mode;
+	}
+
+	/**
+	 * @return minimum number of items for parallel execution
+	 */
+	public static int getThreshold() {
+		return threshold;
+	}
+
+	/**
+	 * Set minimum number of items for parallel execution
+	 * @param threshold
+	 */
+	public static void setThreshold(int threshold) {
+		if (threshold < 1) {
+			throw new IllegalArgumentException("Threshold must be positive");
+		}
+		ParallelUtils.threshold = threshold;
+	}
+
+	/**
+	 * @return pool used for parallel execution
+	 */
+	public static ForkJoinPool getPool() {
+		ForkJoinPool p = pool;
+		if (p == null) {
+			p = DefaultPoolHolder.POOL;
+		}
+		return p;
+	}
+
+	/**
+	 * Set pool used for parallel execution
+	 * @param pool if null, then use default pool which has as many threads as available processors
+	 */
+	public static void setPool(ForkJoinPool pool) {
+		ParallelUtils.pool = pool;
+	}
+
+	/**
+	 * @return number of threads used for parallel execution
+	 */
+	public static int getParallelism() {
+		return getPool().getParallelism();
+	}
+
+	private static class DefaultPoolHolder {
+		static final ForkJoinPool POOL = new ForkJoinPool();
+	}
+
+	/**
+	 * @param mode execution mode (can be null to use global mode)
+	 * @param size number of items to process
+	 * @return true if work of given size should be run in parallel
+	 */
+	public static boolean isParallel(ExecutionMode mode, long size) {
+		if (mode == null) {
+			mode = ParallelUtils.mode;
+		}
+		return mode == ExecutionMode.PARALLEL && size > 1 && size >= threshold && getParallelism() > 1;
+	}
+
+	/**
+	 * @param length number of indexes
+	 * @return number of indexes per task so that work is split into a few tasks per thread
+	 */
+	public static int calcGrainSize(int length) {
+		int n = getParallelism() * TASKS_PER_THREAD;
+		return Math.max(1, (length + n - 1) / n);
+	}
+
+	/**
+	 * Find axis to split a shape into chunks. This is the first axis that is at least as
+	 * long as the number of threads or, failing that, the longest axis
+	 * @param shape
+	 * @return axis
+	 */
+	public static int findSplitAxis(final int[] shape) {
+		final int n = getParallelism();
+		int axis = 0;
+		for (int i = 0; i < shape.length; i++) {
+			if (shape[i] >= n) {
+				return i;
+			}
+			if (shape[i] > shape[axis]) {
+				axis = i;
+			}
+		}
+		return axis;
+	}
+
+	/**
+	 * Operation on a range of indexes
+	 */
+	public interface RangeOperation {
+		/**
+		 * @param start index
+		 * @param stop index (exclusive)
+		 */
+		public void run(int start, int stop);
+	}
+
+	/**
+	 * Run operation over given range of indexes by splitting it into sub-ranges which are
+	 * processed in parallel. This returns when all sub-ranges have been processed
+	 * @param start index
+	 * @param stop index (exclusive)
+	 * @param grain maximum number of indexes in each sub-range
+	 * @param op
+	 */
+	public static void forRange(int start, int stop, int grain, RangeOperation op) {
+		if (stop <= start) {
+			return;
+		}
+		RangeTask task = new RangeTask(start, stop, Math.max(1, grain), op);
+		ForkJoinPool p = getPool();
+		if (ForkJoinTask.getPool() == p) { // already in pool's thread so fork from here
+			task.invoke();
+		} else {
+			p.invoke(task);
+		}
+	}
+
+	/**
+	 * Run operation over given range of indexes by splitting it into a few sub-ranges per thread
+	 * @param start index
+	 * @param stop index (exclusive)
+	 * @param op
+	 * @see #forRange(int, int, int, RangeOperation)
+	 */
+	public static void forRange(int start, int stop, RangeOperation op) {
+		forRange(start, stop, calcGrainSize(stop - start), op);
+	}
+
+	private static class RangeTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+		private final int start;
+		private final int stop;
+		private final int grain;
+		private final RangeOperation op;
+
+		RangeTask(int start, int stop, int grain, RangeOperation op) {
+			this.start = start;
+			this.stop = stop;
+			this.grain = grain;
+			this.op = op;
+		}
+
+		@Override
+		protected void compute() {
+			if (stop - start <= grain) {
+				op.run(start, stop);
+				return;
+			}
+			int mid = start + (stop - start) / 2;
+			invokeAll(new RangeTask(start, mid, grain, op), new RangeTask(mid, stop, grain, op));
+		}
+	}
+}
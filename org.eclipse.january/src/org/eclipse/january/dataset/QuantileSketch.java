@@ -0,0 +1,502 @@
+/*-
+ * Copyright 2016 Diamond Light Source Ltd.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.january.dataset;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Comparator;
+
+import org.eclipse.january.DatasetException;
+
+/**
+ * Sketch of the distribution of values that gives approximate quantiles, cumulative distribution
+ * function (CDF) and histograms using bounded memory. This follows the KLL sketch of Karnin, Lang
+ * and Liberty where values are held in levels of compactors: when a level is full, it is sorted and
+ * every other value is promoted to the next level where each value represents twice as many. Thus
+ * the memory used grows only logarithmically with the number of values.
+ * <p>
+ * The rank error of a query is typically about {@link #getNormalizedRankError()} of the count, e.g.
+ * about 1.3% for the default parameter. Sketches can be built in parallel over a dataset and merged
+ * so a lazy dataset can be sketched a slice at a time:
+ * <pre>
+ * QuantileSketch sketch = QuantileSketch.create(lazy);
+ * double[] limits = sketch.getQuantiles(0.001, 0.999);
+ * </pre>
+ * NaNs are ignored. Note this class is not thread-safe.
+ */
+public class QuantileSketch implements Serializable {
+	private static final long serialVersionUID = -8127062359437155720L;
+
+	/**
+	 * Default parameter which sets the capacity of the top level
+	 */
+	public static final int DEFAULT_K = 200;
+
+	private static final int MIN_CAPACITY = 8;
+
+	/**
+	 * Maximum number of items in each slice of a lazy dataset
+	 */
+	private static final int LAZY_SLICE_SIZE = 1 << 22;
+
+	private final int k;
+	private double[][] levels;
+	private int[] sizes;
+	private int bottomCapacity;
+	private long count;
+	private double min = Double.NaN;
+	private double max = Double.NaN;
+	private long seed;
+
+	// sorted values and their cumulative weights for queries
+	private transient double[] sortedValues;
+	private transient long[] sortedWeights;
+
+	/**
+	 * Create sketch with default parameter
+	 */
+	public QuantileSketch() {
+		this(DEFAULT_K);
+	}
+
+	/**
+	 * @param k parameter which sets the capacity of the top level and so the accuracy
+	 */
+	public QuantileSketch(final int k) {
+		if (k < MIN_CAPACITY) {
+			throw new IllegalArgumentException("Parameter must be at least " + MIN_CAPACITY);
+		}
+		this.k = k;
+		levels = new double[][] {new double[k]};
+		sizes = new int[1];
+		bottomCapacity = k;
+		seed = 0x9E3779B97F4A7C15L + k;
+	}
+
+	/**
+	 * Create sketch of dataset. This is built in parallel when the execution mode is parallel
+	 * @param a
+	 * @return sketch
+	 * @see ParallelUtils
+	 */
+	public static QuantileSketch create(final Dataset a) {
+		return create(a, DEFAULT_K);
+	}
+
+	/**
+	 * Create sketch of dataset. This is built in parallel when the execution mode is parallel
+	 * @param a
+	 * @param k parameter which sets the capacity of the top level and so the accuracy
+	 * @return sketch
+	 * @see ParallelUtils
+	 */
+	public static QuantileSketch create(final Dataset a, final int k) {
+		final QuantileSketch sketch = new QuantileSketch(k);
+		final int[] shape = a.getShapeRef();
+		if (!ParallelUtils.isParallel(null, a.getSize()) || shape.length == 0) {
+			sketch.update(a);
+			return sketch;
+		}
+
+		final int axis = ParallelUtils.findSplitAxis(shape);
+		final int length = shape[axis];
+		final int n = Math.min(length, ParallelUtils.getParallelism() * 4);
+		final QuantileSketch[] parts = new QuantileSketch[n];
+		ParallelUtils.forRange(0, n, 1, new ParallelUtils.RangeOperation() {
+			@Override
+			public void run(int start, int stop) {
+				final Slice[] slice = new Slice[shape.length];
+				for (int i = start; i < stop; i++) {
+					slice[axis] = new Slice((int) ((long) i * length / n), (int) ((long) (i + 1) * length / n));
+					QuantileSketch s = new QuantileSketch(k);
+					s.seed += i;
+					s.update(a.getSliceView(slice));
+					parts[i] = s;
+				}
+			}
+		});
+		for (QuantileSketch s : parts) {
+			sketch.merge(s);
+		}
+		return sketch;
+	}
+
+	/**
+	 * Create sketch of lazy dataset by loading and sketching it a slice at a time
+	 * @param lazy
+	 * @return sketch
+	 * @throws DatasetException
+	 */
+	public static QuantileSketch create(final ILazyDataset lazy) throws DatasetException {
+		return create(lazy, DEFAULT_K);
+	}
+
+	/**
+	 * Create sketch of lazy dataset by loading and sketching it a slice at a time
+	 * @param lazy
+	 * @param k parameter which sets the capacity of the top level and so the accuracy
+	 * @return sketch
+	 * @throws DatasetException
+	 */
+	public static QuantileSketch create(final ILazyDataset lazy, final int k) throws DatasetException {
+		final int[] shape = lazy.getShape();
+		if (shape.length == 0) {
+			return create(DatasetUtils.convertToDataset(lazy.getSlice()), k);
+		}
+
+		long rowSize = 1;
+		for (int i = 1; i < shape.length; i++) {
+			rowSize *= shape[i];
+		}
+		final int rows = (int) Math.max(1, LAZY_SLICE_SIZE / Math.max(1, rowSize));
+		final QuantileSketch sketch = new QuantileSketch(k);
+		for (int i = 0; i < shape[0]; i += rows) {
+			sketch.merge(create(DatasetUtils.convertToDataset(lazy.getSlice(new Slice(i, Math.min(shape[0], i + rows)))), k));
+		}
+		return sketch;
+	}
+
+	/**
+	 * @return parameter which sets the capacity of the top level
+	 */
+	public int getK() {
+		return k;
+	}
+
+	/**
+	 * @return number of values (excluding NaNs) added
+	 */
+	public long getCount() {
+		return count;
+	}
+
+	/**
+	 * @return true if no values have been added
+	 */
+	public boolean isEmpty() {
+		return count == 0;
+	}
+
+	/**
+	 * @return minimum value or NaN if empty
+	 */
+	public double getMin() {
+		return min;
+	}
+
+	/**
+	 * @return maximum value or NaN if empty
+	 */
+	public double getMax() {
+		return max;
+	}
+
+	/**
+	 * @return number of values retained in sketch
+	 */
+	public int getRetained() {
+		int n = 0;
+		for (int s : sizes) {
+			n += s;
+		}
+		return n;
+	}
+
+	/**
+	 * @return approximate rank error (as a fraction of count) for a single quantile query
+	 */
+	public double getNormalizedRankError() {
+		return 2.296 / Math.pow(k, 0.9723);
+	}
+
+	/**
+	 * Add value
+	 * @param value (ignored if NaN)
+	 */
+	public void update(final double value) {
+		if (Double.isNaN(value)) {
+			return;
+		}
+		if (count == 0) {
+			min = value;
+			max = value;
+		} else if (value < min) {
+			min = value;
+		} else if (value > max) {
+			max = value;
+		}
+		count++;
+		add(0, value);
+		if (sizes[0] >= bottomCapacity) {
+			compress();
+		}
+		sortedValues = null;
+	}
+
+	/**
+	 * Add all items of dataset (or their first elements if compound)
+	 * @param a
+	 */
+	public void update(final Dataset a) {
+		final IndexIterator it = a.getIterator();
+		while (it.hasNext()) {
+			update(a.getElementDoubleAbs(it.index));
+		}
+	}
+
+	/**
+	 * Merge other sketch into this one
+	 * @param other sketch with same parameter
+	 * @return this
+	 */
+	public QuantileSketch merge(final QuantileSketch other) {
+		if (other.k != k) {
+			throw new IllegalArgumentException("Sketches must have same parameter to be merged");
+		}
+		if (other.count == 0) {
+			return this;
+		}
+		if (count == 0) {
+			min = other.min;
+			max = other.max;
+		} else {
+			min = Math.min(min, other.min);
+			max = Math.max(max, other.max);
+		}
+		count += other.count;
+		for (int l = 0; l < other.sizes.length; l++) {
+			for (int i = 0; i < other.sizes[l]; i++) {
+				add(l, other.levels[l][i]);
+			}
+		}
+		compress();
+		sortedValues = null;
+		return this;
+	}
+
+	private void add(final int level, final double value) {
+		if (level >= sizes.length) {
+			final int n = sizes.length;
+			levels = Arrays.copyOf(levels, level + 1);
+			sizes = Arrays.copyOf(sizes, level + 1);
+			for (int l = n; l <= level; l++) {
+				levels[l] = new double[MIN_CAPACITY];
+			}
+		}
+		double[] values = levels[level];
+		final int s = sizes[level];
+		if (s == values.length) {
+			values = Arrays.copyOf(values, 2 * s);
+			levels[level] = values;
+		}
+		values[s] = value;
+		sizes[level] = s + 1;
+	}
+
+	private int getCapacity(final int level) {
+		final int depth = sizes.length - 1 - level;
+		return Math.max(MIN_CAPACITY, (int) Math.ceil(k * Math.pow(2. / 3, depth)));
+	}
+
+	/**
+	 * Compact any full levels from bottom
+	 */
+	private void compress() {
+		for (int l = 0; l < sizes.length; l++) {
+			if (sizes[l] >= getCapacity(l)) {
+				compact(l);
+			}
+		}
+		bottomCapacity = getCapacity(0);
+	}
+
+	/**
+	 * Sort level and promote every other value to next level. When there are an odd number of values,
+	 * the first is kept
+	 * @param level
+	 */
+	private void compact(final int level) {
+		final double[] values = levels[level];
+		final int s = sizes[level];
+		final int start = s % 2;
+		Arrays.sort(values, start, s);
+
+		// pseudo-random offset from xorshift generator
+		seed ^= seed << 13;
+		seed ^= seed >>> 7;
+		seed ^= seed << 17;
+		final int offset = (int) (seed & 1);
+		for (int i = start + offset; i < s; i += 2) {
+			add(level + 1, values[i]);
+		}
+		sizes[level] = start;
+	}
+
+	private void sort() {
+		if (sortedValues != null) {
+			return;
+		}
+		final int n = getRetained();
+		final double[] values = new double[n];
+		final long[] weights = new long[n];
+		int j = 0;
+		for (int l = 0; l < sizes.length; l++) {
+			System.arraycopy(levels[l], 0, values, j, sizes[l]);
+			Arrays.fill(weights, j, j + sizes[l], 1L << l);
+			j += sizes[l];
+		}
+
+		// sort by value then accumulate weights
+		final Integer[] order = new Integer[n];
+		for (int i = 0; i < n; i++) {
+			order[i] = i;
+		}
+		Arrays.sort(order, new Comparator<Integer>() {
+			@Override
+			public int compare(Integer o1, Integer o2) {
+				return Double.compare(values[o1], values[o2]);
+			}
+		});
+		sortedValues = new double[n];
+		sortedWeights = new long[n];
+		long c = 0;
+		for (int i = 0; i < n; i++) {
+			final int o = order[i];
+			sortedValues[i] = values[o];
+			c += weights[o];
+			sortedWeights[i] = c;
+		}
+	}
+
+	/**
+	 * @param q
+	 * @return approximate quantile, i.e. point at which CDF has given value
+	 */
+	public double getQuantile(final double q) {
+		if (q < 0 || q > 1) {
+			throw new IllegalArgumentException("Quantile requested is outside [0,1]");
+		}
+		if (count == 0) {
+			return Double.NaN;
+		}
+		if (q == 0) {
+			return min;
+		}
+		if (q == 1) {
+			return max;
+		}
+		sort();
+		final double w = q * count;
+		int i = Arrays.binarySearch(sortedWeights, (long) Math.ceil(w));
+		if (i < 0) {
+			i = -i - 1;
+		}
+		return sortedValues[Math.min(i, sortedValues.length - 1)];
+	}
+
+	/**
+	 * @param values
+	 * @return approximate quantiles
+	 */
+	public double[] getQuantiles(final double... values) {
+		final double[] points = new double[values.length];
+		for (int i = 0; i < values.length; i++) {
+			points[i] = getQuantile(values[i]);
+		}
+		return points;
+	}
+
+	/**
+	 * @param value
+	 * @return approximate fraction of values that are less than or equal to given value
+	 */
+	public double getRank(final double value) {
+		if (count == 0) {
+			return Double.NaN;
+		}
+		if (value < min) {
+			return 0;
+		}
+		if (value >= max) {
+			return 1;
+		}
+		return getWeight(value) / (double) count;
+	}
+
+	/**
+	 * @param points
+	 * @return approximate CDF at given points
+	 */
+	public double[] getCDF(final double... points) {
+		final double[] cdf = new double[points.length];
+		for (int i = 0; i < points.length; i++) {
+			cdf[i] = getRank(points[i]);
+		}
+		return cdf;
+	}
+
+	// total weight of values less than or equal to given value
+	private long getWeight(final double value) {
+		sort();
+		int i = Arrays.binarySearch(sortedValues, value);
+		if (i < 0) {
+			i = -i - 1;
+		} else {
+			while (i < sortedValues.length && sortedValues[i] == value) {
+				i++;
+			}
+		}
+		return i == 0 ? 0 : sortedWeights[i - 1];
+	}
+
+	/**
+	 * Create approximate histogram over range of values
+	 * @param bins number of bins
+	 * @return histogram of counts
+	 */
+	public Dataset getHistogram(final int bins) {
+		return getHistogram(bins, min, max);
+	}
+
+	/**
+	 * Create approximate histogram over given range. The last bin includes the upper limit and
+	 * values outside the range are not counted
+	 * @param bins number of bins
+	 * @param lo lower limit
+	 * @param hi upper limit
+	 * @return histogram of counts
+	 */
+	public Dataset getHistogram(final int bins, final double lo, final double hi) {
+		if (bins < 1) {
+			throw new IllegalArgumentException("Number of bins must be positive");
+		}
+		final long[] counts = new long[bins];
+		if (count > 0 && hi >= lo) {
+			sort();
+			final double scale = hi > lo ? bins / (hi - lo) : 0;
+			long last = 0;
+			for (int i = 0; i < sortedValues.length; i++) {
+				final double v = sortedValues[i];
+				final long w = sortedWeights[i] - last;
+				last = sortedWeights[i];
+				if (v < lo || v > hi) {
+					continue;
+				}
+				counts[Math.min(bins - 1, (int) ((v - lo) * scale))] += w;
+			}
+		}
+		return DatasetFactory.createFromObject(counts);
+	}
+
+	@Override
+	public String toString() {
+		return "Quantile sketch of " + count + " values retaining " + getRetained() + " in " + sizes.length + " levels";
+	}
+}
@@ -0,0 +1,292 @@
+/*-
+ * Copyright 2016 Diamond Light Source Ltd.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.january.dataset;
+
+import java.util.Arrays;
+
+import org.eclipse.january.DatasetException;
+
+/**
+ * Streaming per-pixel statistics of a sequence of frames. Each frame is added as it arrives and only
+ * the count, mean, sum of squared differences (for Welford's algorithm), minimum and maximum of each
+ * pixel are kept so memory use is independent of the number of frames, e.g.
+ * <pre>
+ * RunningStatistics dark = new RunningStatistics(frame.getShape());
+ * while (acquiring) {
+ *     dark.update(frame);
+ *     Dataset noise = dark.getStandardDeviation();
+ * }
+ * </pre>
+ * NaNs are ignored so each pixel has its own count. Statistics gathered separately (e.g. by different
+ * threads) can be combined with {@link #merge(RunningStatistics)}. The getters return snapshots that
+ * are unaffected by later updates.
+ * <p>
+ * Note this class is not thread-safe
+ */
+public class RunningStatistics {
+	private static final int LAZY_BATCH_SIZE = 1 << 22;
+
+	private final int[] shape;
+	private final int size;
+	private final long[] count;
+	private final double[] mean;
+	private final double[] m2;
+	private final double[] min;
+	private final double[] max;
+	private long frames;
+
+	/**
+	 * @param shape of frame
+	 */
+	public RunningStatistics(final int... shape) {
+		final long n = ShapeUtils.calcLongSize(shape);
+		if (n > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Frame is too large: " + Arrays.toString(shape));
+		}
+		this.shape = shape.clone();
+		size = (int) n;
+		count = new long[size];
+		mean = new double[size];
+		m2 = new double[size];
+		min = new double[size];
+		max = new double[size];
+		Arrays.fill(min, Double.POSITIVE_INFINITY);
+		Arrays.fill(max, Double.NEGATIVE_INFINITY);
+	}
+
+	/**
+	 * @return copy of frame shape
+	 */
+	public int[] getShape() {
+		return shape.clone();
+	}
+
+	/**
+	 * @return number of frames added
+	 */
+	public long getFrameCount() {
+		return frames;
+	}
+
+	/**
+	 * Add frame
+	 * @param frame dataset with shape compatible to frame shape
+	 */
+	public void update(final IDataset frame) {
+		if (!ShapeUtils.areShapesCompatible(shape, frame.getShape())) {
+			throw new IllegalArgumentException("Frame shape " + Arrays.toString(frame.getShape())
+					+ " does not match " + Arrays.toString(shape));
+		}
+		accumulate(getContiguous(frame), 1);
+	}
+
+	/**
+	 * Add stack of frames
+	 * @param stack dataset whose first dimension indexes frames
+	 */
+	public void updateFrames(final IDataset stack) {
+		final int[] sshape = stack.getShape();
+		if (sshape.length == 0 || !ShapeUtils.areShapesCompatible(shape, Arrays.copyOfRange(sshape, 1, sshape.length))) {
+			throw new IllegalArgumentException("Stack shape " + Arrays.toString(sshape)
+					+ " does not match frame shape " + Arrays.toString(shape));
+		}
+		accumulate(getContiguous(stack), sshape[0]);
+	}
+
+	/**
+	 * Add stack of frames by loading it in batches of frames
+	 * @param stack lazy dataset whose first dimension indexes frames
+	 * @throws DatasetException
+	 */
+	public void updateFrames(final ILazyDataset stack) throws DatasetException {
+		if (stack instanceof IDataset) {
+			updateFrames((IDataset) stack);
+			return;
+		}
+		final int[] sshape = stack.getShape();
+		if (sshape.length == 0 || !ShapeUtils.areShapesCompatible(shape, Arrays.copyOfRange(sshape, 1, sshape.length))) {
+			throw new IllegalArgumentException("Stack shape " + Arrays.toString(sshape)
+					+ " does not match frame shape " + Arrays.toString(shape));
+		}
+		final int batch = Math.max(1, LAZY_BATCH_SIZE / Math.max(1, size));
+		for (int i = 0; i < sshape[0]; i += batch) {
+			updateFrames(stack.getSlice(new Slice(i, Math.min(i + batch, sshape[0]))));
+		}
+	}
+
+	/**
+	 * Merge other statistics into this
+	 * @param other statistics of frames with same shape
+	 * @return this
+	 */
+	public RunningStatistics merge(final RunningStatistics other) {
+		if (!Arrays.equals(shape, other.shape)) {
+			throw new IllegalArgumentException("Statistics must have same frame shape to be merged");
+		}
+		ParallelUtils.RangeOperation op = new ParallelUtils.RangeOperation() {
+			@Override
+			public void run(int start, int stop) {
+				for (int i = start; i < stop; i++) {
+					final long nb = other.count[i];
+					if (nb == 0) {
+						continue;
+					}
+					final long na = count[i];
+					final long n = na + nb;
+					final double delta = other.mean[i] - mean[i];
+					mean[i] += delta * nb / n;
+					m2[i] += other.m2[i] + delta * delta * ((double) na * nb / n);
+					count[i] = n;
+					min[i] = Math.min(min[i], other.min[i]);
+					max[i] = Math.max(max[i], other.max[i]);
+				}
+			}
+		};
+		run(op);
+		frames += other.frames;
+		return this;
+	}
+
+	/**
+	 * @return number of (non-NaN) values of each pixel
+	 */
+	public Dataset getCount() {
+		return DatasetFactory.createFromObject(count.clone(), shape);
+	}
+
+	/**
+	 * @return mean of each pixel (NaN if pixel has no values)
+	 */
+	public Dataset getMean() {
+		final double[] values = new double[size];
+		for (int i = 0; i < size; i++) {
+			values[i] = count[i] == 0 ? Double.NaN : mean[i];
+		}
+		return DatasetFactory.createFromObject(values, shape);
+	}
+
+	/**
+	 * @return sample variance of each pixel
+	 */
+	public Dataset getVariance() {
+		return getVariance(false);
+	}
+
+	/**
+	 * @param isWholePopulation if false, use N-1 as denominator
+	 * @return variance of each pixel (NaN if pixel has too few values)
+	 */
+	public Dataset getVariance(final boolean isWholePopulation) {
+		final double[] values = new double[size];
+		final int d = isWholePopulation ? 0 : 1;
+		for (int i = 0; i < size; i++) {
+			final long n = count[i] - d;
+			values[i] = n <= 0 ? Double.NaN : m2[i] / n;
+		}
+		return DatasetFactory.createFromObject(values, shape);
+	}
+
+	/**
+	 * @return sample standard deviation of each pixel
+	 */
+	public Dataset getStandardDeviation() {
+		return getStandardDeviation(false);
+	}
+
+	/**
+	 * @param isWholePopulation if false, use N-1 as denominator
+	 * @return standard deviation of each pixel (NaN if pixel has too few values)
+	 */
+	public Dataset getStandardDeviation(final boolean isWholePopulation) {
+		Dataset v = getVariance(isWholePopulation);
+		final double[] values = (double[]) v.getBuffer();
+		for (int i = 0; i < size; i++) {
+			values[i] = Math.sqrt(values[i]);
+		}
+		return v;
+	}
+
+	/**
+	 * @return minimum of each pixel (NaN if pixel has no values)
+	 */
+	public Dataset getMinimum() {
+		return getExtremum(min);
+	}
+
+	/**
+	 * @return maximum of each pixel (NaN if pixel has no values)
+	 */
+	public Dataset getMaximum() {
+		return getExtremum(max);
+	}
+
+	private Dataset getExtremum(final double[] extremum) {
+		final double[] values = new double[size];
+		for (int i = 0; i < size; i++) {
+			values[i] = count[i] == 0 ? Double.NaN : extremum[i];
+		}
+		return DatasetFactory.createFromObject(values, shape);
+	}
+
+	private static Dataset getContiguous(final IDataset data) {
+		Dataset d = DatasetUtils.convertToDataset(data);
+		if (d.getElementsPerItem() != 1) {
+			throw new IllegalArgumentException("Compound datasets are not supported");
+		}
+		return d.getStrides() == null ? d : d.clone();
+	}
+
+	/**
+	 * Accumulate contiguous frames
+	 * @param d
+	 * @param n number of frames
+	 */
+	private void accumulate(final Dataset d, final int n) {
+		ParallelUtils.RangeOperation op = new ParallelUtils.RangeOperation() {
+			@Override
+			public void run(int start, int stop) {
+				for (int f = 0; f < n; f++) {
+					final int o = f * size;
+					for (int i = start; i < stop; i++) {
+						final double x = d.getElementDoubleAbs(o + i);
+						if (Double.isNaN(x)) {
+							continue;
+						}
+						final long c = ++count[i];
+						final double delta = x - mean[i];
+						mean[i] += delta / c;
+						m2[i] += delta * (x - mean[i]);
+						if (x < min[i]) {
+							min[i] = x;
+						}
+						if (x > max[i]) {
+							max[i] = x;
+						}
+					}
+				}
+			}
+		};
+		run(op);
+		frames += n;
+	}
+
+	private void run(final ParallelUtils.RangeOperation op) {
+		if (ParallelUtils.isParallel(null, size)) {
+			ParallelUtils.forRange(0, size, op);
+		} else {
+			op.run(0, size);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "Running statistics of " + frames + " frames of shape " + Arrays.toString(shape);
+	}
+}
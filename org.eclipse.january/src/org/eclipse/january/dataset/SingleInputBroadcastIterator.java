@@ -259,8 +259,8 @@ public class SingleInputBroadcastIterator extends IndexIterator {
 			oIndex = -oStep;
 		}
 
-		// for zero-ranked datasets
-		if (aIndex == 0) {
+		// for zero-ranked datasets or views broadcasted in last dimension
+		if (aIndex == aStart) {
 			storeCurrentValues();
 			if (aMax == aIndex)
 				aMax++;
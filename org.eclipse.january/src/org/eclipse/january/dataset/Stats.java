@@ -13,6 +13,7 @@
 package org.eclipse.january.dataset;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.TreeMap;
@@ -20,6 +21,7 @@ import java.util.TreeMap;
 import org.apache.commons.math3.complex.Complex;
 import org.apache.commons.math3.stat.descriptive.moment.Kurtosis;
 import org.apache.commons.math3.stat.descriptive.moment.Skewness;
+import org.eclipse.january.metadata.MaskMetadata;
 
 
 /**
@@ -36,38 +38,33 @@ public class Stats {
 	private static final String STORE_QUARTILE1 = "quartile1";
 	private static final String STORE_QUARTILE3 = "quartile3";
 
-	// calculates statistics and returns sorted dataset (0th element if compound)
-	private static Dataset calcQuartileStats(final AbstractDataset a) {
-		Dataset s = null;
+	private static final double[] QUARTILES = new double[] {0.5, 0.25, 0.75};
+
+	// calculates and stores median and quartiles (of each element if compound)
+	private static void calcQuartileStats(final AbstractDataset a) {
 		final int is = a.getElementsPerItem();
 
 		if (is == 1) {
-			s = DatasetUtils.sort(a);
-		
-			a.setStoredValue(STORE_MEDIAN, Double.valueOf(pQuantile(s, 0.5)));
-			a.setStoredValue(STORE_QUARTILE1, Double.valueOf(pQuantile(s, 0.25)));
-			a.setStoredValue(STORE_QUARTILE3, Double.valueOf(pQuantile(s, 0.75)));
+			final double[] q = selectQuantiles(a, QUARTILES);
+			a.setStoredValue(STORE_MEDIAN, Double.valueOf(q[0]));
+			a.setStoredValue(STORE_QUARTILE1, Double.valueOf(q[1]));
+			a.setStoredValue(STORE_QUARTILE3, Double.valueOf(q[2]));
 		} else {
 			Dataset w = DatasetFactory.zeros(a.getShapeRef(), a.getDType());
-			a.setStoredValue(STORE_MEDIAN, new double[is]);
-			a.setStoredValue(STORE_QUARTILE1, new double[is]);
-			a.setStoredValue(STORE_QUARTILE3, new double[is]);
+			final double[] median = new double[is];
+			final double[] quartile1 = new double[is];
+			final double[] quartile3 = new double[is];
 			for (int j = 0; j < is; j++) {
 				((CompoundDataset) a).copyElements(w, j);
-				w.sort(null);
-
-				double[] store;
-				store = (double[]) a.getStoredValue(STORE_MEDIAN);
-				store[j] = pQuantile(w, 0.5);
-				store = (double[]) a.getStoredValue(STORE_QUARTILE1);
-				store[j] = pQuantile(w, 0.25);
-				store = (double[]) a.getStoredValue(STORE_QUARTILE3);
-				store[j] = pQuantile(w, 0.75);
-				if (j == 0)
-					s = w.clone();
+				final double[] q = selectQuantiles(w, QUARTILES);
+				median[j] = q[0];
+				quartile1[j] = q[1];
+				quartile3[j] = q[2];
 			}
+			a.setStoredValue(STORE_MEDIAN, median);
+			a.setStoredValue(STORE_QUARTILE1, quartile1);
+			a.setStoredValue(STORE_QUARTILE3, quartile3);
 		}
-		return s;
 	}
 
 	static private Object getQStatistics(final AbstractDataset a, final String stat) {
@@ -82,120 +79,214 @@ public class Stats {
 	static private Dataset getQStatistics(final AbstractDataset a, int axis, final String stat) {
 		axis = a.checkAxis(axis);
 		Object obj = a.getStoredValue(stat);
-		final int is = a.getElementsPerItem();
 
 		if (obj == null) {
-			if (is == 1) {
-				Dataset s = DatasetUtils.sort(a, axis);
-
-				a.setStoredValue(STORE_MEDIAN + "-" + axis, pQuantile(s, axis, 0.5));
-				a.setStoredValue(STORE_QUARTILE1 + "-" + axis, pQuantile(s, axis, 0.25));
-				a.setStoredValue(STORE_QUARTILE3 + "-" + axis, pQuantile(s, axis, 0.75));
-			} else {
-				Dataset w = DatasetFactory.zeros(a.getShapeRef(), a.getDType());
-				for (int j = 0; j < is; j++) {
-					((CompoundDataset) a).copyElements(w, j);
-					w.sort(axis);
-
-					CompoundDoubleDataset s;
-					final Dataset c = pQuantile(w, axis, 0.5);
-					if (j == 0) {
-						s = (CompoundDoubleDataset) DatasetFactory.zeros(is, c.getShapeRef(), c.getDType());
-						a.setStoredValue(STORE_MEDIAN + "-" + axis, s);
-						s = (CompoundDoubleDataset) DatasetFactory.zeros(is, c.getShapeRef(), c.getDType());
-						a.setStoredValue(STORE_QUARTILE1 + "-" + axis, s);
-						s = (CompoundDoubleDataset) DatasetFactory.zeros(is, c.getShapeRef(), c.getDType());
-						a.setStoredValue(STORE_QUARTILE3 + "-" + axis, s);
-					}
-					s = (CompoundDoubleDataset) a.getStoredValue(STORE_MEDIAN + "-" + axis);
-					s.setElements(c, j);
-
-					s = (CompoundDoubleDataset) a.getStoredValue(STORE_QUARTILE1 + "-" + axis);
-					s.setElements(pQuantile(w, axis, 0.25), j);
-
-					s = (CompoundDoubleDataset) a.getStoredValue(STORE_QUARTILE3 + "-" + axis);
-					s.setElements(pQuantile(w, axis, 0.75), j);
-				}
-			}
+			Dataset[] q = quantile(a, axis, QUARTILES);
+			a.setStoredValue(STORE_MEDIAN + "-" + axis, q[0]);
+			a.setStoredValue(STORE_QUARTILE1 + "-" + axis, q[1]);
+			a.setStoredValue(STORE_QUARTILE3 + "-" + axis, q[2]);
 			obj = a.getStoredValue(stat);
 		}
 
 		return (Dataset) obj;
 	}
 
-	// process a sorted dataset
-	private static double pQuantile(final Dataset s, final double q) {
-		double f = (s.getSize() - 1) * q; // fraction of sample number
-		if (f < 0)
-			return Double.NaN;
-		int qpt = (int) Math.floor(f); // quantile point
-		f -= qpt;
+	/**
+	 * Partially sort values so that the value at k is where it would be when sorted, values before
+	 * it are not greater and values after it are not less. This uses quickselect with median of
+	 * three pivots and switches to sorting when it takes too many partitions
+	 * @param v values that must not include NaNs
+	 * @param lo index of first value
+	 * @param hi index of last value
+	 * @param k index to select
+	 */
+	private static void select(final double[] v, int lo, int hi, final int k) {
+		int depth = 2 * (32 - Integer.numberOfLeadingZeros(hi - lo + 1));
+		while (hi > lo) {
+			if (hi - lo < 16 || --depth < 0) {
+				Arrays.sort(v, lo, hi + 1);
+				return;
+			}
 
-		double quantile = s.getElementDoubleAbs(qpt);
-		if (f > 0) {
-			quantile = (1-f)*quantile + f*s.getElementDoubleAbs(qpt+1);
+			final int mid = (lo + hi) >>> 1;
+			if (v[mid] < v[lo]) {
+				swap(v, mid, lo);
+			}
+			if (v[hi] < v[lo]) {
+				swap(v, hi, lo);
+			}
+			if (v[hi] < v[mid]) {
+				swap(v, hi, mid);
+			}
+			final double pivot = v[mid];
+
+			int i = lo;
+			int j = hi;
+			while (i <= j) {
+				while (v[i] < pivot) {
+					i++;
+				}
+				while (v[j] > pivot) {
+					j--;
+				}
+				if (i <= j) {
+					swap(v, i++, j--);
+				}
+			}
+
+			if (k <= j) {
+				hi = j;
+			} else if (k >= i) {
+				lo = i;
+			} else {
+				return;
+			}
 		}
-		return quantile;
 	}
 
-	// process a sorted dataset and returns a double or compound double dataset
-	private static Dataset pQuantile(final Dataset s, final int axis, final double q) {
-		final int rank = s.getRank();
-		final int is = s.getElementsPerItem();
-
-		int[] oshape = s.getShape();
+	private static void swap(final double[] v, final int i, final int j) {
+		final double t = v[i];
+		v[i] = v[j];
+		v[j] = t;
+	}
 
-		double f = (oshape[axis] - 1) * q; // fraction of sample number
-		int qpt = (int) Math.floor(f); // quantile point
-		f -= qpt;
+	/**
+	 * Calculate quantiles by selecting values in increasing order of rank so each selection only
+	 * partitions what is left from the previous one
+	 * @param v values with any NaNs moved to end (these are partially sorted)
+	 * @param n number of values that are not NaNs
+	 * @param size number of values
+	 * @param q quantiles
+	 * @param out points at which CDF has given quantiles
+	 */
+	private static void selectQuantiles(final double[] v, final int n, final int size, final double[] q, final double[] out) {
+		final int[] ranks = new int[2 * q.length];
+		for (int i = 0; i < q.length; i++) {
+			final int qpt = (int) Math.floor((size - 1) * q[i]);
+			ranks[2 * i] = qpt;
+			ranks[2 * i + 1] = qpt + 1;
+		}
+		Arrays.sort(ranks);
+		int lo = 0;
+		for (int r : ranks) {
+			if (r >= lo && r < n) {
+				select(v, lo, n - 1, r);
+				lo = r + 1;
+			}
+		}
 
-		oshape[axis] = 1;
-		int[] qshape = ShapeUtils.squeezeShape(oshape, false);
-		Dataset qds = DatasetFactory.zeros(is, qshape, Dataset.FLOAT64);
+		for (int i = 0; i < q.length; i++) {
+			double f = (size - 1) * q[i]; // fraction of sample number
+			if (f < 0) {
+				out[i] = Double.NaN;
+				continue;
+			}
+			final int qpt = (int) Math.floor(f); // quantile point
+			f -= qpt;
 
-		IndexIterator qiter = qds.getIterator(true);
-		int[] qpos = qiter.getPos();
-		int[] spos = oshape;
+			double quantile = qpt < n ? v[qpt] : Double.NaN;
+			if (f > 0) {
+				quantile = (1 - f) * quantile + f * (qpt + 1 < n ? v[qpt + 1] : Double.NaN);
+			}
+			out[i] = quantile;
+		}
+	}
 
-		while (qiter.hasNext()) {
-			int i = 0;
-			for (; i < axis; i++) {
-				spos[i] = qpos[i];
+	/**
+	 * Copy values, moving any NaNs to the end
+	 * @param a
+	 * @param index of first value
+	 * @param stride between values
+	 * @param v output
+	 * @return number of values that are not NaNs
+	 */
+	private static int copyValues(final Dataset a, int index, final int stride, final double[] v) {
+		int n = 0;
+		int m = v.length;
+		for (int i = 0; i < v.length; i++, index += stride) {
+			final double x = a.getElementDoubleAbs(index);
+			if (Double.isNaN(x)) {
+				v[--m] = x;
+			} else {
+				v[n++] = x;
 			}
-			spos[i++] = qpt;
-			for (; i < rank; i++) {
-				spos[i] = qpos[i-1];
+		}
+		return n;
+	}
+
+	private static void checkQuantiles(final double[] values) {
+		for (double q : values) {
+			if (q < 0 || q > 1) {
+				throw new IllegalArgumentException("Quantile requested is outside [0,1]");
 			}
+		}
+	}
 
-			Object obj = s.getObject(spos);
-			qds.set(obj, qpos);
+	// calculate quantiles of single element (or first element if compound) items
+	private static double[] selectQuantiles(final Dataset a, final double[] values) {
+		final int size = a.getSize();
+		final double[] v = new double[size];
+		final IndexIterator it = a.getIterator();
+		int n = 0;
+		int m = size;
+		while (it.hasNext()) {
+			final double x = a.getElementDoubleAbs(it.index);
+			if (Double.isNaN(x)) {
+				v[--m] = x;
+			} else {
+				v[n++] = x;
+			}
 		}
+		final double[] points = new double[values.length];
+		selectQuantiles(v, n, size, values, points);
+		return points;
+	}
 
-		if (f > 0) {
-			qiter = qds.getIterator(true);
-			qpos = qiter.getPos();
-			qpt++;
-			Dataset rds = DatasetFactory.zeros(is, qshape, Dataset.FLOAT64);
-			
-			while (qiter.hasNext()) {
-				int i = 0;
-				for (; i < axis; i++) {
-					spos[i] = qpos[i];
-				}
-				spos[i++] = qpt;
-				for (; i < rank; i++) {
-					spos[i] = qpos[i-1];
-				}
+	// calculate quantiles of single element items along axis
+	private static Dataset[] selectQuantiles(final Dataset a, final int axis, final double[] values) {
+		final int[] shape = a.getShapeRef();
+		final int rank = shape.length;
+		final int alen = shape[axis];
+		final int[] stride = BroadcastUtils.createBroadcastStrides(a, shape);
+		final int astride = stride[axis];
+		final int offset = a.getOffset();
 
-				Object obj = s.getObject(spos);
-				rds.set(obj, qpos);
-			}
-			rds.imultiply(f);
-			qds.imultiply(1-f);
-			qds.iadd(rds);
+		final int[] oshape = shape.clone();
+		oshape[axis] = 1;
+		final int[] qshape = ShapeUtils.squeezeShape(oshape, false);
+		final int nq = values.length;
+		final Dataset[] points = new Dataset[nq];
+		for (int i = 0; i < nq; i++) {
+			points[i] = DatasetFactory.zeros(qshape, Dataset.FLOAT64);
 		}
+		final int lines = ShapeUtils.calcSize(oshape);
+
+		ParallelUtils.RangeOperation op = new ParallelUtils.RangeOperation() {
+			@Override
+			public void run(int start, int stop) {
+				final double[] v = new double[alen];
+				final double[] out = new double[nq];
+				for (int l = start; l < stop; l++) {
+					final int[] pos = ShapeUtils.getNDPositionFromShape(l, oshape);
+					int index = offset;
+					for (int i = 0; i < rank; i++) {
+						index += pos[i] * stride[i];
+					}
+					final int n = copyValues(a, index, astride, v);
+					selectQuantiles(v, n, alen, values, out);
+					for (int i = 0; i < nq; i++) {
+						points[i].setObjectAbs(l, out[i]);
+					}
+				}
+			}
+		};
 
-		return qds;
+		if (ParallelUtils.isParallel(null, a.getSize())) {
+			ParallelUtils.forRange(0, lines, op);
+		} else {
+			op.run(0, lines);
+		}
+		return points;
 	}
 
 	/**
@@ -205,69 +296,50 @@ public class Stats {
 	 * @return point at which CDF has value q
 	 */
 	public static double quantile(final Dataset a, final double q) {
-		if (q < 0 || q > 1) {
-			throw new IllegalArgumentException("Quantile requested is outside [0,1]");
-		}
-		final Dataset s = calcQuartileStats(DatasetUtils.convertToAbstractDataset(a));
-		return pQuantile(s, q);
+		return quantile(a, new double[] {q})[0];
 	}
 
 	/**
-	 * Calculate quantiles of dataset which is defined as the inverse of the cumulative distribution function (CDF)
+	 * Calculate quantiles of dataset which is defined as the inverse of the cumulative distribution function (CDF).
+	 * All the quantiles are found by partially sorting a copy of the dataset once
 	 * @param a
 	 * @param values
 	 * @return points at which CDF has given values
 	 */
 	public static double[] quantile(final Dataset a, final double... values) {
-		final double[] points  = new double[values.length];
-		final Dataset s = calcQuartileStats(DatasetUtils.convertToAbstractDataset(a));
-		for (int i = 0; i < points.length; i++) {
-			final double q = values[i];
-			if (q < 0 || q > 1) {
-				throw new IllegalArgumentException("Quantile requested is outside [0,1]");
-			}
-			points[i] = pQuantile(s, q);
-		}
-		return points;
+		checkQuantiles(values);
+		return selectQuantiles(a, values);
 	}
 
 	/**
-	 * Calculate quantiles of dataset which is defined as the inverse of the cumulative distribution function (CDF)
+	 * Calculate quantiles of dataset which is defined as the inverse of the cumulative distribution function (CDF).
+	 * All the quantiles are found by partially sorting a copy of each line along the axis once and
+	 * lines can be processed in parallel
 	 * @param a
 	 * @param axis
 	 * @param values
 	 * @return points at which CDF has given values
 	 */
-	public static Dataset[] quantile(final Dataset a, final int axis, final double... values) {
-		final Dataset[] points  = new Dataset[values.length];
+	public static Dataset[] quantile(final Dataset a, int axis, final double... values) {
+		checkQuantiles(values);
+		axis = a.checkAxis(axis);
 		final int is = a.getElementsPerItem();
 
 		if (is == 1) {
-			Dataset s = DatasetUtils.sort(a, axis);
-			for (int i = 0; i < points.length; i++) {
-				final double q = values[i];
-				if (q < 0 || q > 1) {
-					throw new IllegalArgumentException("Quantile requested is outside [0,1]");
-				}
-				points[i] = pQuantile(s, axis, q);
-			}
-		} else {
-			Dataset w = DatasetFactory.zeros(a.getShapeRef(), a.getDType());
-			for (int j = 0; j < is; j++) {
-				((CompoundDataset) a).copyElements(w, j);
-				w.sort(axis);
+			return selectQuantiles(a, axis, values);
+		}
 
-				for (int i = 0; i < points.length; i++) {
-					final double q = values[i];
-					if (q < 0 || q > 1) {
-						throw new IllegalArgumentException("Quantile requested is outside [0,1]");
-					}
-					final Dataset c = pQuantile(w, axis, q);
-					if (j == 0) {
-						points[i] = DatasetFactory.zeros(is, c.getShapeRef(), c.getDType());
-					}
-					((CompoundDoubleDataset) points[i]).setElements(c, j);
+		final Dataset[] points = new Dataset[values.length];
+		Dataset w = DatasetFactory.zeros(a.getShapeRef(), a.getDType());
+		for (int j = 0; j < is; j++) {
+			((CompoundDataset) a).copyElements(w, j);
+
+			final Dataset[] c = selectQuantiles(w, axis, values);
+			for (int i = 0; i < points.length; i++) {
+				if (j == 0) {
+					points[i] = DatasetFactory.zeros(is, c[i].getShapeRef(), c[i].getDType());
 				}
+				((CompoundDoubleDataset) points[i]).setElements(c[i], j);
 			}
 		}
 
@@ -790,14 +862,43 @@ public class Stats {
 		final int alen = oshape[axis];
 		oshape[axis] = 1;
 
-		Dataset result = DatasetFactory.zeros(is, oshape, dtype);
+		final Dataset result = DatasetFactory.zeros(is, oshape, dtype);
+		final int raxis = axis;
+		final int rsize = result.getSize();
+		ParallelUtils.RangeOperation op = new ParallelUtils.RangeOperation() {
+			@Override
+			public void run(int start, int stop) {
+				productAlongAxis(a, dtype, ignoreNaNs, raxis, alen, result, start, stop);
+			}
+		};
+		if (ParallelUtils.isParallel(null, a.getSize())) {
+			ParallelUtils.forRange(0, rsize, op);
+		} else {
+			op.run(0, rsize);
+		}
 
-		IndexIterator qiter = result.getIterator(true);
-		int[] qpos = qiter.getPos();
-		int[] spos;
+		result.setShape(ShapeUtils.squeezeShape(oshape, axis));
+		return result;
+	}
 
-		while (qiter.hasNext()) {
-			spos = qpos.clone();
+	/**
+	 * Calculate product along axis for given range of items in result
+	 * @param a
+	 * @param dtype
+	 * @param ignoreNaNs
+	 * @param axis
+	 * @param alen length of axis
+	 * @param result
+	 * @param start index of first item
+	 * @param stop index after last item
+	 */
+	private static void productAlongAxis(final Dataset a, final int dtype, final boolean ignoreNaNs, final int axis,
+			final int alen, final Dataset result, final int start, final int stop) {
+		final int is = a.getElementsPerItem();
+		final int[] rshape = result.getShapeRef();
+		for (int q = start; q < stop; q++) {
+			final int[] qpos = ShapeUtils.getNDPositionFromShape(q, rshape);
+			final int[] spos = qpos.clone();
 
 			if (a.isComplex()) {
 				double rv = 1, iv = 0;
@@ -1009,9 +1110,6 @@ public class Stats {
 				}
 			}
 		}
-
-		result.setShape(ShapeUtils.squeezeShape(oshape, axis));
-		return result;
 	}
 
 	/**
@@ -1029,6 +1127,9 @@ public class Stats {
 	 * @return cumulative product of items along axis in dataset
 	 */
 	public static Dataset cumulativeProduct(final Dataset a, boolean ignoreNaNs) {
+		if (a.getElementsPerItem() == 1) {
+			return cumulativeProduct(a, ignoreNaNs, null, null, null);
+		}
 		return cumulativeProduct(a.flatten(), ignoreNaNs, 0);
 	}
 
@@ -1049,6 +1150,9 @@ public class Stats {
 	 * @return cumulative product of items along axis in dataset
 	 */
 	public static Dataset cumulativeProduct(final Dataset a, boolean ignoreNaNs, int axis) {
+		if (a.getElementsPerItem() == 1) {
+			return cumulativeProduct(a, ignoreNaNs, axis, null, null);
+		}
 		axis = a.checkAxis(axis);
 		int dtype = a.getDType();
 		int[] oshape = a.getShape();
@@ -1290,6 +1394,24 @@ public class Stats {
 		return result;
 	}
 
+	/**
+	 * Calculate cumulative product of items that have a single element. Lanes along the axis are
+	 * processed in parallel when enabled; a flattened integer dataset is split into blocks whose
+	 * products are found first and then used to start the scan of each block. A flattened floating
+	 * point dataset is scanned serially as zeros and overflows make its products order dependent
+	 * @param a
+	 * @param ignoreNaNs if true, skip NaNs (their items in output are left unchanged)
+	 * @param axis if null, then use flattened dataset
+	 * @param out output dataset of same shape as input (can be null to create one or the input
+	 * dataset to overwrite it). When flattened, it can have any shape of same size and is filled
+	 * in row-major order
+	 * @param mode execution mode (can be null to use global mode)
+	 * @return cumulative product
+	 */
+	public static Dataset cumulativeProduct(final Dataset a, final boolean ignoreNaNs, final Integer axis, final Dataset out, final ExecutionMode mode) {
+		return cumulativeScan(a, ignoreNaNs, axis, out, mode, true);
+	}
+
 	/**
 	 * See {@link #cumulativeSum(Dataset a, boolean ignoreNaNs)} with ignoreNaNs = false
 	 * @param a
@@ -1305,6 +1427,9 @@ public class Stats {
 	 * @return cumulative sum of items in flattened dataset
 	 */
 	public static Dataset cumulativeSum(final Dataset a, boolean ignoreNaNs) {
+		if (a.getElementsPerItem() == 1) {
+			return cumulativeSum(a, ignoreNaNs, null, null, null);
+		}
 		return cumulativeSum(a.flatten(), ignoreNaNs, 0);
 	}
 
@@ -1325,6 +1450,9 @@ public class Stats {
 	 * @return cumulative sum of items along axis in dataset
 	 */
 	public static Dataset cumulativeSum(final Dataset a, boolean ignoreNaNs, int axis) {
+		if (a.getElementsPerItem() == 1) {
+			return cumulativeSum(a, ignoreNaNs, axis, null, null);
+		}
 		axis = a.checkAxis(axis);
 		int dtype = a.getDType();
 		int[] oshape = a.getShape();
@@ -1540,6 +1668,244 @@ public class Stats {
 		return result;
 	}
 
+	/**
+	 * Calculate cumulative sum of items that have a single element. Lanes along the axis are
+	 * processed in parallel when enabled; a flattened dataset is split into blocks whose sums
+	 * are found first and then used to start the scan of each block
+	 * @param a
+	 * @param ignoreNaNs if true, skip NaNs (their items in output are left unchanged)
+	 * @param axis if null, then use flattened dataset
+	 * @param out output dataset of same shape as input (can be null to create one or the input
+	 * dataset to overwrite it). When flattened, it can have any shape of same size and is filled
+	 * in row-major order
+	 * @param mode execution mode (can be null to use global mode)
+	 * @return cumulative sum
+	 */
+	public static Dataset cumulativeSum(final Dataset a, final boolean ignoreNaNs, final Integer axis, final Dataset out, final ExecutionMode mode) {
+		return cumulativeScan(a, ignoreNaNs, axis, out, mode, false);
+	}
+
+	/**
+	 * Consumer of an index and a long value
+	 */
+	private interface IntLongConsumer {
+		void accept(int index, long value);
+	}
+
+	private static IntDoubleConsumer createDoubleSetter(final Dataset out) {
+		final Object buffer = out.getBuffer();
+		if (buffer instanceof double[]) {
+			final double[] data = (double[]) buffer;
+			return (i, v) -> data[i] = v;
+		} else if (buffer instanceof float[]) {
+			final float[] data = (float[]) buffer;
+			return (i, v) -> data[i] = (float) v;
+		}
+		return (i, v) -> out.setObjectAbs(i, v);
+	}
+
+	private static IntLongConsumer createLongSetter(final Dataset out) {
+		final Object buffer = out.getBuffer();
+		if (buffer instanceof long[]) {
+			final long[] data = (long[]) buffer;
+			return (i, v) -> data[i] = v;
+		} else if (buffer instanceof int[]) {
+			final int[] data = (int[]) buffer;
+			return (i, v) -> data[i] = (int) v;
+		} else if (buffer instanceof short[]) {
+			final short[] data = (short[]) buffer;
+			return (i, v) -> data[i] = (short) v;
+		} else if (buffer instanceof byte[]) {
+			final byte[] data = (byte[]) buffer;
+			return (i, v) -> data[i] = (byte) v;
+		} else if (buffer instanceof double[]) {
+			final double[] data = (double[]) buffer;
+			return (i, v) -> data[i] = v;
+		}
+		return (i, v) -> out.setObjectAbs(i, v);
+	}
+
+	/**
+	 * Scan part of a lane of items as doubles
+	 * @param a
+	 * @param ai index in buffer of first item
+	 * @param as step in buffer between items
+	 * @param setter can be null to only find total
+	 * @param oi index in output buffer of first item
+	 * @param os step in output buffer between items
+	 * @param n number of items
+	 * @param v initial value
+	 * @param product if true, multiply items otherwise add them
+	 * @param ignoreNaNs
+	 * @return final value
+	 */
+	private static double scanDoubles(final Dataset a, int ai, final int as, final IntDoubleConsumer setter, int oi, final int os,
+			final int n, double v, final boolean product, final boolean ignoreNaNs) {
+		for (int j = 0; j < n; j++, ai += as, oi += os) {
+			final double x = a.getElementDoubleAbs(ai);
+			if (ignoreNaNs && Double.isNaN(x)) {
+				continue;
+			}
+			v = product ? v * x : v + x;
+			if (setter != null) {
+				setter.accept(oi, v);
+			}
+		}
+		return v;
+	}
+
+	/**
+	 * Scan part of a lane of items as longs
+	 * @see #scanDoubles(Dataset, int, int, IntDoubleConsumer, int, int, int, double, boolean, boolean)
+	 */
+	private static long scanLongs(final Dataset a, int ai, final int as, final IntLongConsumer setter, int oi, final int os,
+			final int n, long v, final boolean product) {
+		for (int j = 0; j < n; j++, ai += as, oi += os) {
+			final long x = a.getElementLongAbs(ai);
+			v = product ? v * x : v + x;
+			if (setter != null) {
+				setter.accept(oi, v);
+			}
+		}
+		return v;
+	}
+
+	private static Dataset cumulativeScan(final Dataset a, final boolean ignoreNaNs, final Integer axis, Dataset out, final ExecutionMode mode, final boolean product) {
+		if (a.getElementsPerItem() != 1) {
+			throw new IllegalArgumentException("Compound datasets are not supported");
+		}
+		final int size = a.getSize();
+		if (out == null) {
+			out = axis == null ? DatasetFactory.zeros(new int[] {size}, a.getDType()) : DatasetFactory.zeros(a);
+		} else if (out.getElementsPerItem() != 1) {
+			throw new IllegalArgumentException("Output dataset must have single element items");
+		} else if (axis == null ? out.getSize() != size : !Arrays.equals(a.getShapeRef(), out.getShapeRef())) {
+			throw new IllegalArgumentException("Output dataset must have same shape as input");
+		}
+
+		final boolean isFloat = a.hasFloatingPointElements();
+		final IntDoubleConsumer dsetter = isFloat ? createDoubleSetter(out) : null;
+		final IntLongConsumer lsetter = isFloat ? null : createLongSetter(out);
+		final AbstractDataset ad = (AbstractDataset) a;
+		final AbstractDataset od = (AbstractDataset) out;
+
+		if (axis != null && a.getRank() > 1) {
+			final int ax = a.checkAxis(axis);
+			final int n = a.getShapeRef()[ax];
+			final int as = ad.getAxisStep(ax);
+			final int os = od.getAxisStep(ax);
+			ad.forEachLane(ax, mode, () -> (l, o) -> {
+				final int oi = od == ad ? o : od.getLaneOffset(ax, l);
+				if (isFloat) {
+					scanDoubles(a, o, as, dsetter, oi, os, n, product ? 1 : 0, product, ignoreNaNs);
+				} else {
+					scanLongs(a, o, as, lsetter, oi, os, n, product ? 1 : 0, product);
+				}
+			});
+			out.setDirty();
+			return out;
+		}
+
+		if (axis != null) {
+			a.checkAxis(axis);
+		}
+		// scan flattened dataset in blocks: find block totals, then scan each block from the
+		// combined totals of the blocks before it
+		// floating point products are not split as a block whose product overflows would turn a
+		// zero carried from earlier blocks into NaN
+		final boolean parallel = !(product && isFloat) && ParallelUtils.isParallel(mode, size);
+		final int grain = parallel ? ParallelUtils.calcGrainSize(size) : Math.max(1, size);
+		final int blocks = (size + grain - 1) / grain;
+		final double[] dtotal = new double[blocks];
+		final long[] ltotal = new long[blocks];
+		Arrays.fill(dtotal, product ? 1 : 0);
+		Arrays.fill(ltotal, product ? 1 : 0);
+		if (blocks > 1) {
+			ParallelUtils.forRange(0, blocks - 1, 1, (begin, end) -> {
+				for (int b = begin; b < end; b++) {
+					final int k = b * grain;
+					scanBlock(ad, od, k, Math.min(size, k + grain), null, null, dtotal, ltotal, b, product, ignoreNaNs);
+				}
+			});
+		}
+		final double[] dstart = new double[blocks];
+		final long[] lstart = new long[blocks];
+		if (blocks > 0) {
+			dstart[0] = product ? 1 : 0;
+			lstart[0] = product ? 1 : 0;
+		}
+		for (int b = 1; b < blocks; b++) {
+			dstart[b] = product ? dstart[b - 1] * dtotal[b - 1] : dstart[b - 1] + dtotal[b - 1];
+			lstart[b] = product ? lstart[b - 1] * ltotal[b - 1] : lstart[b - 1] + ltotal[b - 1];
+		}
+
+		ParallelUtils.RangeOperation op = (begin, end) -> {
+			for (int b = begin; b < end; b++) {
+				final int k = b * grain;
+				scanBlock(ad, od, k, Math.min(size, k + grain), dsetter, lsetter, dstart, lstart, b, product, ignoreNaNs);
+			}
+		};
+		if (blocks > 1) {
+			ParallelUtils.forRange(0, blocks, 1, op);
+		} else {
+			op.run(0, blocks);
+		}
+		out.setDirty();
+		return out;
+	}
+
+	/**
+	 * Scan block of items of flattened dataset
+	 * @param a
+	 * @param out
+	 * @param start index of first item in row-major order
+	 * @param stop index after last item
+	 * @param dsetter used for floating point datasets
+	 * @param lsetter used for integer datasets (if both are null, then only find total)
+	 * @param dv initial values for floating point datasets (updated with final value)
+	 * @param lv initial values for integer datasets (updated with final value)
+	 * @param b index of value
+	 * @param product
+	 * @param ignoreNaNs
+	 */
+	private static void scanBlock(final AbstractDataset a, final AbstractDataset out, final int start, final int stop,
+			final IntDoubleConsumer dsetter, final IntLongConsumer lsetter, final double[] dv, final long[] lv, final int b,
+			final boolean product, final boolean ignoreNaNs) {
+		final boolean isFloat = a.hasFloatingPointElements();
+		if (a.getStrides() == null && out.getStrides() == null) {
+			if (isFloat) {
+				dv[b] = scanDoubles(a, start, 1, dsetter, start, 1, stop - start, dv[b], product, ignoreNaNs);
+			} else {
+				lv[b] = scanLongs(a, start, 1, lsetter, start, 1, stop - start, lv[b], product);
+			}
+			return;
+		}
+
+		// split into segments of lanes along last axes
+		final int arank = a.getRank();
+		final int orank = out.getRank();
+		final int alast = arank - 1;
+		final int olast = orank - 1;
+		final int an = arank == 0 ? 1 : a.getShapeRef()[alast];
+		final int on = orank == 0 ? 1 : out.getShapeRef()[olast];
+		final int as = arank == 0 ? 1 : a.getAxisStep(alast);
+		final int os = orank == 0 ? 1 : out.getAxisStep(olast);
+		int k = start;
+		while (k < stop) {
+			final int aj = k % an;
+			final int oj = k % on;
+			final int n = Math.min(stop - k, Math.min(an - aj, on - oj));
+			final int ai = (arank == 0 ? a.getOffset() : a.getLaneOffset(alast, k / an)) + aj * as;
+			final int oi = (orank == 0 ? out.getOffset() : out.getLaneOffset(olast, k / on)) + oj * os;
+			if (isFloat) {
+				dv[b] = scanDoubles(a, ai, as, dsetter, oi, os, n, dv[b], product, ignoreNaNs);
+			} else {
+				lv[b] = scanLongs(a, ai, as, lsetter, oi, os, n, lv[b], product);
+			}
+			k += n;
+		}
+	}
+
 	/**
 	 * @param a
 	 * @return average deviation value of all items the dataset
@@ -1878,4 +2244,409 @@ public class Stats {
 		}
 		return cov;
 	}
+
+	private static void checkChunked(final ChunkedDataset a) {
+		if (a.getElementsPerItem() != 1) {
+			throw new IllegalArgumentException("Chunked dataset must have single element items");
+		}
+	}
+
+	/**
+	 * @param a chunked dataset
+	 * @return sum of all items in chunked dataset
+	 */
+	public static double sum(final ChunkedDataset a) {
+		checkChunked(a);
+		double sum = 0;
+		for (int i = 0, imax = a.getChunkCount(); i < imax; i++) {
+			sum += DTypeUtils.toReal(a.getChunk(i).sum());
+		}
+		return sum;
+	}
+
+	/**
+	 * @param a chunked dataset
+	 * @return mean of all items in chunked dataset
+	 */
+	public static double mean(final ChunkedDataset a) {
+		return sum(a) / a.getSize();
+	}
+
+	/**
+	 * @param a chunked dataset
+	 * @return maximum of all items in chunked dataset or NaN if it is empty
+	 */
+	public static double max(final ChunkedDataset a) {
+		checkChunked(a);
+		double max = Double.NaN;
+		boolean first = true;
+		for (int i = 0, imax = a.getChunkCount(); i < imax; i++) {
+			Dataset c = a.getChunk(i);
+			if (c.getSize() > 0) {
+				final double v = c.max().doubleValue();
+				if (first || Double.isNaN(v) || v > max) {
+					max = v;
+					first = false;
+				}
+			}
+		}
+		return max;
+	}
+
+	/**
+	 * @param a chunked dataset
+	 * @return minimum of all items in chunked dataset or NaN if it is empty
+	 */
+	public static double min(final ChunkedDataset a) {
+		checkChunked(a);
+		double min = Double.NaN;
+		boolean first = true;
+		for (int i = 0, imax = a.getChunkCount(); i < imax; i++) {
+			Dataset c = a.getChunk(i);
+			if (c.getSize() > 0) {
+				final double v = c.min().doubleValue();
+				if (first || Double.isNaN(v) || v < min) {
+					min = v;
+					first = false;
+				}
+			}
+		}
+		return min;
+	}
+
+	/**
+	 * See {@link #variance(ChunkedDataset a, boolean isWholePopulation)} with isWholePopulation = false
+	 * @param a chunked dataset
+	 * @return sample variance of all items in chunked dataset
+	 */
+	public static double variance(final ChunkedDataset a) {
+		return variance(a, false);
+	}
+
+	/**
+	 * Calculate variance by combining the means and variances of the chunks
+	 * @param a chunked dataset
+	 * @param isWholePopulation if false, consider as sample of population
+	 * @return variance of all items in chunked dataset
+	 * @see Dataset#variance(boolean)
+	 */
+	public static double variance(final ChunkedDataset a, final boolean isWholePopulation) {
+		checkChunked(a);
+		long n = 0;
+		double mean = 0;
+		double m2 = 0;
+		for (int i = 0, imax = a.getChunkCount(); i < imax; i++) {
+			Dataset c = a.getChunk(i);
+			final long cn = c.getSize();
+			if (cn == 0) {
+				continue;
+			}
+			final double cmean = DTypeUtils.toReal(c.mean());
+			final double cm2 = c.variance(true).doubleValue() * cn;
+			final long tn = n + cn;
+			final double delta = cmean - mean;
+			mean += delta * cn / tn;
+			m2 += cm2 + delta * delta * ((double) n * cn / tn);
+			n = tn;
+		}
+		if (n == 0) {
+			return Double.NaN;
+		}
+		return isWholePopulation ? m2 / n : (n > 1 ? m2 / (n - 1) : 0);
+	}
+
+	/**
+	 * See {@link #stdDeviation(ChunkedDataset a, boolean isWholePopulation)} with isWholePopulation = false
+	 * @param a chunked dataset
+	 * @return sample standard deviation of all items in chunked dataset
+	 */
+	public static double stdDeviation(final ChunkedDataset a) {
+		return Math.sqrt(variance(a, false));
+	}
+
+	/**
+	 * @param a chunked dataset
+	 * @param isWholePopulation if false, consider as sample of population
+	 * @return standard deviation of all items in chunked dataset
+	 */
+	public static double stdDeviation(final ChunkedDataset a, final boolean isWholePopulation) {
+		return Math.sqrt(variance(a, isWholePopulation));
+	}
+
+	/**
+	 * @param a
+	 * @param mask can be null to use mask in metadata of dataset
+	 * @return packed mask in metadata of same shape as dataset or null if there is none
+	 */
+	private static BitMask getPackedMask(final Dataset a, final IDataset mask) {
+		if (a.getElementsPerItem() != 1) {
+			throw new IllegalArgumentException("Masked dataset must have single element items");
+		}
+		if (mask != null) {
+			return null;
+		}
+		MaskMetadata mmd = a.getFirstMetadata(MaskMetadata.class);
+		if (mmd == null || !mmd.isPacked()) {
+			return null;
+		}
+		BitMask bits = mmd.getBitMask();
+		return Arrays.equals(bits.getShape(), a.getShapeRef()) ? bits : null;
+	}
+
+	/**
+	 * @param a
+	 * @param mask can be null to use mask in metadata of dataset
+	 * @return mask broadcastable to shape of dataset or null if there is none
+	 */
+	private static Dataset getMask(final Dataset a, final IDataset mask) {
+		IDataset m = mask;
+		if (m == null) {
+			MaskMetadata mmd = a.getFirstMetadata(MaskMetadata.class);
+			if (mmd != null) {
+				m = mmd.getMask();
+			}
+		}
+		if (m == null) {
+			return null;
+		}
+		Dataset dm = DatasetUtils.convertToDataset(m);
+		BroadcastUtils.broadcastShapesToMax(a.getShapeRef(), dm.getShapeRef());
+		return dm;
+	}
+
+	/**
+	 * @param a
+	 * @param bits packed mask of same shape as dataset (can be null)
+	 * @param m mask broadcastable to shape of dataset, used if there is no packed mask (can be null)
+	 * @return number of items that are not masked
+	 */
+	private static int countUnmasked(final Dataset a, final BitMask bits, final Dataset m) {
+		if (bits != null) {
+			return bits.cardinality();
+		}
+		if (m == null) {
+			return a.getSize();
+		}
+		int n = 0;
+		final BroadcastIterator it = BroadcastIterator.createIterator(a, m);
+		while (it.hasNext()) {
+			if (m.getElementBooleanAbs(it.bIndex)) {
+				n++;
+			}
+		}
+		return n;
+	}
+
+	/**
+	 * Pass each item that is not masked and its index in row-major order to consumer
+	 * @param a
+	 * @param mask items are ignored where mask is false (can be null to use mask in metadata of dataset)
+	 * @param consumer
+	 */
+	private static void forEachUnmasked(final Dataset a, final IDataset mask, final IntDoubleConsumer consumer) {
+		final BitMask bits = getPackedMask(a, mask);
+		forEachUnmasked(a, bits, bits == null ? getMask(a, mask) : null, consumer);
+	}
+
+	/**
+	 * Pass each item that is not masked and its index in row-major order to consumer
+	 * @param a
+	 * @param bits packed mask of same shape as dataset (can be null)
+	 * @param m mask broadcastable to shape of dataset, used if there is no packed mask (can be null)
+	 * @param consumer
+	 */
+	private static void forEachUnmasked(final Dataset a, final BitMask bits, final Dataset m, final IntDoubleConsumer consumer) {
+		int i = 0;
+		if (bits != null) {
+			if (a.getStrides() == null) {
+				for (i = bits.nextTrue(0); i >= 0; i = bits.nextTrue(i + 1)) {
+					consumer.accept(i, a.getElementDoubleAbs(i));
+				}
+			} else {
+				final IndexIterator it = a.getIterator();
+				while (it.hasNext()) {
+					if (bits.getAbs(i)) {
+						consumer.accept(i, a.getElementDoubleAbs(it.index));
+					}
+					i++;
+				}
+			}
+			return;
+		}
+
+		if (m == null) {
+			final IndexIterator it = a.getIterator();
+			while (it.hasNext()) {
+				consumer.accept(i++, a.getElementDoubleAbs(it.index));
+			}
+			return;
+		}
+
+		final BroadcastIterator it = BroadcastIterator.createIterator(a, m);
+		while (it.hasNext()) {
+			if (m.getElementBooleanAbs(it.bIndex)) {
+				consumer.accept(i, a.getElementDoubleAbs(it.aIndex));
+			}
+			i++;
+		}
+	}
+
+	/**
+	 * @param a
+	 * @param mask items are ignored where mask is false (can be null to use mask in metadata of dataset)
+	 * @return sum of items that are not masked
+	 */
+	public static double sum(final Dataset a, final IDataset mask) {
+		final double[] sum = new double[1];
+		forEachUnmasked(a, mask, (i, x) -> sum[0] += x);
+		return sum[0];
+	}
+
+	/**
+	 * @param a
+	 * @param mask items are ignored where mask is false (can be null to use mask in metadata of dataset)
+	 * @return mean of items that are not masked or NaN if all are masked
+	 */
+	public static double mean(final Dataset a, final IDataset mask) {
+		final double[] sum = new double[2];
+		forEachUnmasked(a, mask, (i, x) -> {
+			sum[0] += x;
+			sum[1]++;
+		});
+		return sum[0] / sum[1];
+	}
+
+	/**
+	 * See {@link #variance(Dataset a, IDataset mask, boolean isWholePopulation)} with isWholePopulation = false
+	 * @param a
+	 * @param mask items are ignored where mask is false (can be null to use mask in metadata of dataset)
+	 * @return sample variance of items that are not masked
+	 */
+	public static double variance(final Dataset a, final IDataset mask) {
+		return variance(a, mask, false);
+	}
+
+	/**
+	 * @param a
+	 * @param mask items are ignored where mask is false (can be null to use mask in metadata of dataset)
+	 * @param isWholePopulation if false, consider as sample of population
+	 * @return variance of items that are not masked or NaN if all are masked
+	 * @see Dataset#variance(boolean)
+	 */
+	public static double variance(final Dataset a, final IDataset mask, final boolean isWholePopulation) {
+		final double[] moments = new double[3]; // count, mean and sum of squared differences
+		forEachUnmasked(a, mask, (i, x) -> {
+			final double n = ++moments[0];
+			final double delta = x - moments[1];
+			moments[1] += delta / n;
+			moments[2] += delta * (x - moments[1]);
+		});
+		final double n = moments[0];
+		if (n == 0) {
+			return Double.NaN;
+		}
+		return isWholePopulation ? moments[2] / n : (n > 1 ? moments[2] / (n - 1) : 0);
+	}
+
+	/**
+	 * Calculate quantiles of items that are not masked
+	 * @param a
+	 * @param mask items are ignored where mask is false (can be null to use mask in metadata of dataset)
+	 * @param values
+	 * @return points at which CDF has given values or NaNs if all items are masked
+	 * @see #quantile(Dataset, double...)
+	 */
+	public static double[] quantile(final Dataset a, final IDataset mask, final double... values) {
+		checkQuantiles(values);
+		final BitMask bits = getPackedMask(a, mask);
+		final Dataset m = bits == null ? getMask(a, mask) : null;
+		final double[] v = new double[countUnmasked(a, bits, m)];
+		final int[] count = new int[2]; // number of values and of NaNs
+		forEachUnmasked(a, bits, m, (i, x) -> {
+			if (Double.isNaN(x)) {
+				count[1]++;
+			} else {
+				v[count[0]++] = x;
+			}
+		});
+		final int n = count[0];
+		final int size = n + count[1];
+		final double[] points = new double[values.length];
+		if (size == 0) {
+			Arrays.fill(points, Double.NaN);
+			return points;
+		}
+		Arrays.fill(v, n, size, Double.NaN);
+		selectQuantiles(v, n, size, values, points);
+		return points;
+	}
+
+	/**
+	 * @param a
+	 * @param mask items are ignored where mask is false (can be null to use mask in metadata of dataset)
+	 * @return median of items that are not masked or NaN if all are masked
+	 */
+	public static double median(final Dataset a, final IDataset mask) {
+		return quantile(a, mask, 0.5)[0];
+	}
+
+	/**
+	 * @param a
+	 * @param mask items are ignored where mask is false (can be null to use mask in metadata of dataset)
+	 * @return maximum of items that are not masked (NaN if any are NaNs or all are masked)
+	 */
+	public static double max(final Dataset a, final IDataset mask) {
+		return findExtremum(a, mask, true)[0];
+	}
+
+	/**
+	 * @param a
+	 * @param mask items are ignored where mask is false (can be null to use mask in metadata of dataset)
+	 * @return minimum of items that are not masked (NaN if any are NaNs or all are masked)
+	 */
+	public static double min(final Dataset a, final IDataset mask) {
+		return findExtremum(a, mask, false)[0];
+	}
+
+	/**
+	 * @param a
+	 * @param mask items are ignored where mask is false (can be null to use mask in metadata of dataset)
+	 * @return position of first maximum (or first NaN) of items that are not masked or null if all are masked
+	 */
+	public static int[] maxPos(final Dataset a, final IDataset mask) {
+		return getPosition(a, findExtremum(a, mask, true)[1]);
+	}
+
+	/**
+	 * @param a
+	 * @param mask items are ignored where mask is false (can be null to use mask in metadata of dataset)
+	 * @return position of first minimum (or first NaN) of items that are not masked or null if all are masked
+	 */
+	public static int[] minPos(final Dataset a, final IDataset mask) {
+		return getPosition(a, findExtremum(a, mask, false)[1]);
+	}
+
+	private static int[] getPosition(final Dataset a, final double index) {
+		return index < 0 ? null : ShapeUtils.getNDPositionFromShape((int) index, a.getShapeRef());
+	}
+
+	/**
+	 * @param a
+	 * @param mask
+	 * @param isMax if true, find maximum otherwise minimum
+	 * @return extremum (or first NaN) and its index or NaN and -1 if all items are masked
+	 */
+	private static double[] findExtremum(final Dataset a, final IDataset mask, final boolean isMax) {
+		final double[] r = new double[] {Double.NaN, -1};
+		forEachUnmasked(a, mask, (i, x) -> {
+			if (r[1] < 0) {
+				r[0] = x;
+				r[1] = i;
+			} else if (!Double.isNaN(r[0]) && (Double.isNaN(x) || (isMax ? x > r[0] : x < r[0]))) {
+				r[0] = x;
+				r[1] = i;
+			}
+		});
+		return r;
+	}
 }
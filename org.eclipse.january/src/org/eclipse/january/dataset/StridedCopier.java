@@ -0,0 +1,239 @@
+/*-
+ * Copyright 2016 Diamond Light Source Ltd.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.january.dataset;
+
+/**
+ * Copy items of strided views (e.g. of transposed, swapped or rolled axes) into contiguous buffers.
+ * <p>
+ * When the fastest-varying axis of the source is not the last axis, the copy is done in square
+ * tiles spanning both axes so that each cache line read from the source is used for a whole row of
+ * the tile rather than a single item. Rows of tiles (or rows of items) are processed in parallel
+ * when enabled
+ */
+final class StridedCopier {
+	private static final int TILE = 32;
+
+	private StridedCopier() {
+	}
+
+	/**
+	 * Copy items of view into contiguous buffer
+	 * @param view
+	 * @param dst array of same type as view's buffer
+	 */
+	static void copy(final Dataset view, final Object dst) {
+		int[] stride = view.getStrides();
+		final int[] shape = view.getShapeRef();
+		final int isize = view.getElementsPerItem();
+		if (stride == null) {
+			stride = new int[shape.length];
+			int s = isize;
+			for (int i = shape.length - 1; i >= 0; i--) {
+				stride[i] = s;
+				s *= shape[i];
+			}
+		}
+		copy(view.getBuffer(), view.getOffset(), stride, shape, isize, dst);
+	}
+
+	/**
+	 * Copy items selected by strides from source buffer into contiguous destination buffer
+	 * @param src source array
+	 * @param offset index of first element in source
+	 * @param stride source strides in elements
+	 * @param shape
+	 * @param isize number of elements in each item
+	 * @param dst destination array (of same type as source)
+	 */
+	static void copy(final Object src, final int offset, final int[] stride, final int[] shape, final int isize, final Object dst) {
+		final int size = ShapeUtils.calcSize(shape);
+		if (size == 0) {
+			return;
+		}
+
+		// ignore axes of unit length
+		int r = 0;
+		for (int s : shape) {
+			if (s > 1) {
+				r++;
+			}
+		}
+		if (r == 0) {
+			System.arraycopy(src, offset, dst, 0, isize);
+			return;
+		}
+		final int[] lshape = new int[r];
+		final int[] sstride = new int[r];
+		for (int i = 0, j = 0; i < shape.length; i++) {
+			if (shape[i] > 1) {
+				lshape[j] = shape[i];
+				sstride[j++] = stride[i];
+			}
+		}
+		final int[] dstride = new int[r];
+		int s = isize;
+		for (int i = r - 1; i >= 0; i--) {
+			dstride[i] = s;
+			s *= lshape[i];
+		}
+
+		// find fastest axis of source
+		final int last = r - 1;
+		int f = last;
+		for (int i = 0; i < last; i++) {
+			if (Math.abs(sstride[i]) < Math.abs(sstride[f])) {
+				f = i;
+			}
+		}
+		final int fast = f;
+
+		final int[] outer = new int[fast == last ? last : last - 1];
+		for (int i = 0, j = 0; i < last; i++) {
+			if (i != fast) {
+				outer[j++] = i;
+			}
+		}
+		final int tiles = fast == last ? 1 : (lshape[fast] + TILE - 1) / TILE;
+		final int nj = lshape[last];
+		final int jstep = fast == last ? nj : TILE;
+		ParallelUtils.RangeOperation op = new ParallelUtils.RangeOperation() {
+			@Override
+			public void run(int start, int stop) {
+				for (int t = start; t < stop; t++) {
+					int o = t / tiles;
+					int so = offset;
+					int dOff = 0;
+					for (int k = outer.length - 1; k >= 0; k--) {
+						final int a = outer[k];
+						final int p = o % lshape[a];
+						o /= lshape[a];
+						so += p * sstride[a];
+						dOff += p * dstride[a];
+					}
+					if (fast == last) { // copy row
+						copyBlock(src, so, 0, sstride[last], dst, dOff, 0, isize, 1, nj, isize);
+						continue;
+					}
+					final int i = (t % tiles) * TILE;
+					final int ni = Math.min(TILE, lshape[fast] - i);
+					so += i * sstride[fast];
+					dOff += i * dstride[fast];
+					for (int j = 0; j < nj; j += jstep) {
+						copyBlock(src, so + j * sstride[last], sstride[fast], sstride[last], dst, dOff + j * isize,
+								dstride[fast], isize, ni, Math.min(jstep, nj - j), isize);
+					}
+				}
+			}
+		};
+
+		final int tasks = fast == last ? size / nj : size / nj / lshape[fast] * tiles;
+		if (ParallelUtils.isParallel(null, size)) {
+			ParallelUtils.forRange(0, tasks, op);
+		} else {
+			op.run(0, tasks);
+		}
+	}
+
+	/**
+	 * Copy block of items
+	 * @param src
+	 * @param so source offset
+	 * @param si source stride for rows
+	 * @param sj source stride for columns
+	 * @param dst
+	 * @param dOff destination offset
+	 * @param di destination stride for rows
+	 * @param dj destination stride for columns
+	 * @param ni number of rows
+	 * @param nj number of columns
+	 * @param isize number of elements in each item
+	 */
+	private static void copyBlock(final Object src, final int so, final int si, final int sj, final Object dst,
+			final int dOff, final int di, final int dj, final int ni, final int nj, final int isize) {
+		if (isize == 1) {
+			if (src instanceof double[]) {
+				final double[] s = (double[]) src;
+				final double[] d = (double[]) dst;
+				for (int i = 0; i < ni; i++) {
+					int sp = so + i * si;
+					int dp = dOff + i * di;
+					for (int j = 0; j < nj; j++, sp += sj, dp += dj) {
+						d[dp] = s[sp];
+					}
+				}
+				return;
+			} else if (src instanceof float[]) {
+				final float[] s = (float[]) src;
+				final float[] d = (float[]) dst;
+				for (int i = 0; i < ni; i++) {
+					int sp = so + i * si;
+					int dp = dOff + i * di;
+					for (int j = 0; j < nj; j++, sp += sj, dp += dj) {
+						d[dp] = s[sp];
+					}
+				}
+				return;
+			} else if (src instanceof long[]) {
+				final long[] s = (long[]) src;
+				final long[] d = (long[]) dst;
+				for (int i = 0; i < ni; i++) {
+					int sp = so + i * si;
+					int dp = dOff + i * di;
+					for (int j = 0; j < nj; j++, sp += sj, dp += dj) {
+						d[dp] = s[sp];
+					}
+				}
+				return;
+			} else if (src instanceof int[]) {
+				final int[] s = (int[]) src;
+				final int[] d = (int[]) dst;
+				for (int i = 0; i < ni; i++) {
+					int sp = so + i * si;
+					int dp = dOff + i * di;
+					for (int j = 0; j < nj; j++, sp += sj, dp += dj) {
+						d[dp] = s[sp];
+					}
+				}
+				return;
+			} else if (src instanceof short[]) {
+				final short[] s = (short[]) src;
+				final short[] d = (short[]) dst;
+				for (int i = 0; i < ni; i++) {
+					int sp = so + i * si;
+					int dp = dOff + i * di;
+					for (int j = 0; j < nj; j++, sp += sj, dp += dj) {
+						d[dp] = s[sp];
+					}
+				}
+				return;
+			} else if (src instanceof byte[]) {
+				final byte[] s = (byte[]) src;
+				final byte[] d = (byte[]) dst;
+				for (int i = 0; i < ni; i++) {
+					int sp = so + i * si;
+					int dp = dOff + i * di;
+					for (int j = 0; j < nj; j++, sp += sj, dp += dj) {
+						d[dp] = s[sp];
+					}
+				}
+				return;
+			}
+		}
+
+		// compound items and other types
+		for (int i = 0; i < ni; i++) {
+			int sp = so + i * si;
+			int dp = dOff + i * di;
+			for (int j = 0; j < nj; j++, sp += sj, dp += dj) {
+				System.arraycopy(src, sp, dst, dp, isize);
+			}
+		}
+	}
+}
@@ -98,6 +98,10 @@ class StateMachine:
 is_binaryop = False
 def_unsigned_mask = False
 allow_ints = False
+kernel_test = None
+run_kernels = []
+method_name = None
+method_params = 0
 
 def oldmethod(name, jdoc=None, params=0):
     if is_binaryop:
@@ -140,8 +144,56 @@ def oldmethod(name, jdoc=None, params=0):
             print("\t\treturn %s(a, null);" % name)
     print("\t}\n")
 
+def paramlist(params):
+    plist = []
+    if params > 0:
+        plist = ["pa"]
+        for p in range(1, params):
+            plist.append("p"+chr(ord('a')+p))
+    return plist
+
+def printname(name, jdoc, indent):
+    if is_binaryop:
+        opsym = jdoc.split()[1]
+        print("%saddBinaryOperatorName(da, db, result, \"%s\");" % (indent, opsym))
+    else:
+        print("%saddFunctionName(result, \"%s\");" % (indent, name))
+    print("%sreturn result;" % indent)
+
+def outmethod(name, jdoc=None, params=0):
+    if is_binaryop:
+        print("\t/**\n\t * %s operator" %  name)
+        print("\t * @param a")
+        print("\t * @param b")
+        print("\t * @param o output can be null - in which case, a new dataset is created")
+    else:
+        print("\t/**\n\t * %s - %s" %  (name, jdoc))
+        print("\t * @param a")
+        print("\t * @param o output can be null - in which case, a new dataset is created")
+
+    plist = paramlist(params)
+    ptext = ""
+    psig = ""
+    for p in plist:
+        print("\t * @param %s" % p)
+        ptext += ", %s" % p
+        psig += ", final Object %s" % p
+    if is_binaryop:
+        print("\t * @return %s\n\t */" % jdoc)
+        print("\tpublic static Dataset %s(final Object a, final Object b, final Dataset o%s) {" % (name, psig))
+        print("\t\treturn %s(a, b, o, null%s);" % (name, ptext))
+    else:
+        print("\t * @return dataset\n\t */")
+        print("\tpublic static Dataset %s(final Object a, final Dataset o%s) {" % (name, psig))
+        print("\t\treturn %s(a, o, null%s);" % (name, ptext))
+    print("\t}\n")
+
 def beginmethod(name, jdoc=None, params=0):
+    global method_name, method_params
+    method_name = name
+    method_params = params
     oldmethod(name, jdoc, params)
+    outmethod(name, jdoc, params)
     if is_binaryop:
         print("\t/**\n\t * %s operator" %  name)
         print("\t * @param a")
@@ -151,30 +203,21 @@ def beginmethod(name, jdoc=None, params=0):
         print("\t/**\n\t * %s - %s" %  (name, jdoc))
         print("\t * @param a")
         print("\t * @param o output can be null - in which case, a new dataset is created")
+    print("\t * @param mode execution mode can be null - in which case, the global mode is used")
 
-    plist = []
-    if params > 0:
-        plist = ["pa"]
-        psig = "final Object " + plist[0]
-        for p in range(1, params):
-            plist.append("p"+chr(ord('a')+p))
-            psig += ", final Object " + plist[p]
-
-        for p in plist:
-            print("\t * @param %s" % p)
-        if is_binaryop:
-            print("\t * @return %s\n\t */" % jdoc)
-            print("\tpublic static Dataset %s(final Object a, final Object b, final Dataset o, %s) {" % (name, psig))
-        else:
-            print("\t * @return dataset\n\t */")
-            print("\tpublic static Dataset %s(final Object a, final Dataset o, %s) {" % (name, psig))
+    plist = paramlist(params)
+    ptext = ""
+    psig = ""
+    for p in plist:
+        print("\t * @param %s" % p)
+        ptext += ", %s" % p
+        psig += ", final Object %s" % p
+    if is_binaryop:
+        print("\t * @return %s\n\t */" % jdoc)
+        print("\tpublic static Dataset %s(final Object a, final Object b, final Dataset o, final ExecutionMode mode%s) {" % (name, psig))
     else:
-        if is_binaryop:
-            print("\t * @return %s\n\t */" % jdoc)
-            print("\tpublic static Dataset %s(final Object a, final Object b, final Dataset o) {" % name)
-        else:
-            print("\t * @return dataset\n\t */")
-            print("\tpublic static Dataset %s(final Object a, final Dataset o) {" % name)
+        print("\t * @return dataset\n\t */")
+        print("\tpublic static Dataset %s(final Object a, final Dataset o, final ExecutionMode mode%s) {" % (name, psig))
     print("\t\tfinal Dataset da = a instanceof Dataset ? (Dataset) a : DatasetFactory.createFromObject(a);")
     if is_binaryop:
         print("\t\tfinal Dataset db = b instanceof Dataset ? (Dataset) b : DatasetFactory.createFromObject(b);")
@@ -192,8 +235,29 @@ def beginmethod(name, jdoc=None, params=0):
 
 
     print("\t\tfinal Dataset result = it.getOutput();")
+    print("\t\tif (ParallelUtils.isParallel(mode, result.getSize())) {")
+    if is_binaryop:
+        print("\t\t\toperateInParallel(da, db, result, new ChunkOperation() {")
+        print("\t\t\t\t@Override")
+        print("\t\t\t\tpublic void operate(Dataset ca, Dataset cb, Dataset co) {")
+        print("\t\t\t\t\t%s(ca, cb, co, ExecutionMode.SERIAL%s);" % (name, ptext))
+    else:
+        print("\t\t\toperateInParallel(da, null, result, new ChunkOperation() {")
+        print("\t\t\t\t@Override")
+        print("\t\t\t\tpublic void operate(Dataset ca, Dataset cb, Dataset co) {")
+        print("\t\t\t\t\t%s(ca, co, ExecutionMode.SERIAL%s);" % (name, ptext))
+    print("\t\t\t\t}")
+    print("\t\t\t});")
+    printname(name, jdoc, "\t\t\t")
+    print("\t\t}")
     print("\t\tfinal int is = result.getElementsPerItem();")
     print("\t\tfinal int dt = result.getDType();")
+    global kernel_test
+    if is_binaryop:
+        print("\t\tfinal boolean sameDType = da.getDType() == dt && db.getDType() == dt;")
+        kernel_test = "sameDType"
+    else:
+        kernel_test = "da.getDType() == dt && isContiguous(da, result)"
     for p in plist:
         print("\t\tfinal double %s = AbstractDataset.toReal(%s);" % (p+"x", p))
 #        print("\t\tfinal double %s = AbstractDataset.toImag(%s);" % (p+"y", p))
@@ -209,13 +273,11 @@ def endmethod(name, jdoc, types):
         dtypes += ", %s" % t
     print("\t\t\tthrow new IllegalArgumentException(\"%s supports %s datasets only\");" % (name, dtypes))
     print("\t\t}\n")
-    if is_binaryop:
-        opsym = jdoc.split()[1]
-        print("\t\taddBinaryOperatorName(da, db, result, \"%s\");" % opsym)
-    else:
-        print("\t\taddFunctionName(result, \"%s\");" % name)
-    print("\t\treturn result;")
+    printname(name, jdoc, "\t\t")
     print("\t}\n")
+    for k in run_kernels:
+        runkernel(name, *k)
+    del run_kernels[:]
 
 def sameloop(codedict, cprefix, vletter, text, use_long=False, override_long=False, unsigned=False):
     is_int = cprefix.endswith("INT")
@@ -228,7 +290,7 @@ def sameloop(codedict, cprefix, vletter, text, use_long=False, override_long=Fal
         else:
             mask = None
         preloop(dtype, otype, oclass, ovar, is_int, use_long, override_long=override_long, mask=mask)
-        loop(text, otype, ovar, is_int, override_long)
+        loop(text, otype, ovar, oclass, is_int, override_long)
         postloop()
 
 def complexloop(codedict, cprefix, vletter, text, real):
@@ -335,9 +397,84 @@ def transtext(text, jtype, otype=None, lprefix="\t\t\t\t\t", is_int=True, overri
 
     return vars
 
-def loop(text, jtype, ovar, is_int, override_long):
+def kernelargs():
+    args = ""
+    if def_unsigned_mask:
+        args += ", unsignedMask"
+    for p in paramlist(method_params):
+        args += ", %sx" % p
+    return args
+
+def kernel(text, jtype, ovar, oclass, is_int, override_long):
+    avar = "a" + ovar[1:]
+    print("\t\t\tif (%s) {" % kernel_test)
+    if is_binaryop:
+        print("\t\t\t\t%sRuns(it, da, db, %s%s);" % (method_name, ovar, kernelargs()))
+        run_kernels.append((text, jtype, ovar, oclass, is_int, override_long))
+        return
+    print("\t\t\t\tfinal %s[] %s = ((%s) da).data;" % (jtype, avar, oclass))
+    print("\t\t\t\tfinal int n = result.getSize();")
+    print("\t\t\t\tfor (int i = 0; i < n; i++) {")
+    if is_int:
+        prim = "long"
+    else:
+        prim = "double"
+    print("\t\t\t\t\tfinal %s ix = %s[i];" % (prim, avar))
+    if is_int:
+        transtext(text, jtype, is_int=is_int, override_long=override_long, use_long=True)
+    else:
+        transtext(text, jtype, is_int=False, override_long=override_long)
+    print("\t\t\t\t\t%s[i] = ox;" % ovar)
+    print("\t\t\t\t}")
+
+def runkernel(name, text, jtype, ovar, oclass, is_int, override_long):
+    avar = "a" + ovar[1:]
+    bvar = "b" + ovar[1:]
+    psig = ""
+    if def_unsigned_mask:
+        psig += ", final long unsignedMask"
+    for p in paramlist(method_params):
+        psig += ", final double %sx" % p
+    if is_int:
+        prim = "long"
+    else:
+        prim = "double"
+    print("\tprivate static void %sRuns(final BroadcastIterator it, final Dataset da, final Dataset db, final %s[] %s%s) {" % (name, jtype, ovar, psig))
+    print("\t\tfinal %s[] %s = ((%s) da).data;" % (jtype, avar, oclass))
+    print("\t\tfinal %s[] %s = ((%s) db).data;" % (jtype, bvar, oclass))
+    print("\t\twhile (it.nextRun()) {")
+    print("\t\t\tfinal int n = it.runLength;")
+    print("\t\t\tfinal int as = it.aRunStride;")
+    print("\t\t\tfinal int bs = it.bRunStride;")
+    print("\t\t\tfinal int os = it.oRunStride;")
+    print("\t\t\tint ia = it.aIndex;")
+    print("\t\t\tint ib = it.bIndex;")
+    print("\t\t\tint io = it.oIndex;")
+    print("\t\t\tif (as == 1 && bs == 1 && os == 1) { // contiguous run")
+    print("\t\t\t\tfor (int i = 0; i < n; i++) {")
+    print("\t\t\t\t\tfinal %s iax = %s[ia + i];" % (prim, avar))
+    print("\t\t\t\t\tfinal %s ibx = %s[ib + i];" % (prim, bvar))
+    transtext(text, jtype, is_int=is_int, override_long=override_long, use_long=is_int)
+    print("\t\t\t\t\t%s[io + i] = ox;" % ovar)
+    print("\t\t\t\t}")
+    print("\t\t\t} else {")
+    print("\t\t\t\tfor (int i = 0; i < n; i++) {")
+    print("\t\t\t\t\tfinal %s iax = %s[ia];" % (prim, avar))
+    print("\t\t\t\t\tfinal %s ibx = %s[ib];" % (prim, bvar))
+    transtext(text, jtype, is_int=is_int, override_long=override_long, use_long=is_int)
+    print("\t\t\t\t\t%s[io] = ox;" % ovar)
+    print("\t\t\t\t\tia += as;")
+    print("\t\t\t\t\tib += bs;")
+    print("\t\t\t\t\tio += os;")
+    print("\t\t\t\t}")
+    print("\t\t\t}")
+    print("\t\t}")
+    print("\t}\n")
+
+def loop(text, jtype, ovar, oclass, is_int, override_long):
+    kernel(text, jtype, ovar, oclass, is_int, override_long)
     if not allow_ints:
-        print("\t\t\tif (it.isOutputDouble()) {")
+        print("\t\t\t} else if (it.isOutputDouble()) {")
         print("\t\t\t\twhile (it.hasNext()) {")
         if is_binaryop:
             print("\t\t\t\t\tfinal double iax = it.aDouble;")
@@ -349,7 +486,7 @@ def loop(text, jtype, ovar, is_int, override_long):
         print("\t\t\t\t}")
         print("\t\t\t} else {")
     else:
-        print("\t\t\t{")
+        print("\t\t\t} else {")
     print("\t\t\t\twhile (it.hasNext()) {")
     if is_binaryop:
         print("\t\t\t\t\tfinal long iax = it.aLong;")
@@ -0,0 +1,305 @@
+/*-
+ * Copyright 2016 Diamond Light Source Ltd.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.january.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.util.Arrays;
+
+import org.eclipse.january.IMonitor;
+import org.eclipse.january.dataset.DTypeUtils;
+import org.eclipse.january.dataset.Dataset;
+import org.eclipse.january.dataset.DatasetFactory;
+import org.eclipse.january.dataset.ShapeUtils;
+import org.eclipse.january.dataset.SliceND;
+
+/**
+ * Lazy loader for datasets held as raw binary data in a file. The file is memory-mapped so its
+ * contents stay outside the Java heap and can be shared with other processes that map the same
+ * file. Only requested slices are copied into (heap-based) datasets so they can be used with
+ * {@link org.eclipse.january.dataset.Maths} or {@link org.eclipse.january.dataset.Stats}, e.g.
+ * <pre>
+ * ILazyDataset stack = new LazyDataset("stack", Dataset.FLOAT32, shape, new MappedLazyLoader(path, Dataset.FLOAT32, shape));
+ * </pre>
+ * Items are stored contiguously in row-major order from an offset in the file. The file is mapped
+ * in regions of at most 1GB so it can hold more than 2<sup>31</sup> items. However, each slice is
+ * limited to the size of a dataset.
+ * <p>
+ * As another process can extend the file, refreshing the shape updates the first dimension to match
+ * the length of the file
+ */
+public class MappedLazyLoader implements ILazyLoader, ILazyDynamicLoader {
+	private static final long serialVersionUID = -3519574237722385870L;
+
+	/**
+	 * Number of bytes in each mapped region
+	 */
+	protected static final long REGION_SIZE = 1L << 30;
+
+	protected final String filePath;
+	protected final int dtype;
+	protected final int isize;
+	protected int[] shape;
+	protected final long offset;
+	protected final boolean bigEndian;
+	protected final int elementBytes;
+
+	private transient MappedByteBuffer[] regions;
+
+	/**
+	 * Create loader for native byte ordered data with single element items at start of file
+	 * @param filePath
+	 * @param dtype
+	 * @param shape
+	 */
+	public MappedLazyLoader(String filePath, int dtype, int[] shape) {
+		this(filePath, dtype, DTypeUtils.getElementsPerItem(dtype), shape, 0, ByteOrder.nativeOrder());
+	}
+
+	/**
+	 * @param filePath
+	 * @param dtype
+	 * @param isize number of elements in an item
+	 * @param shape
+	 * @param offset position of data in file in bytes
+	 * @param order byte order of data in file
+	 */
+	public MappedLazyLoader(String filePath, int dtype, int isize, int[] shape, long offset, ByteOrder order) {
+		if (dtype == Dataset.BOOL || !DTypeUtils.isDTypeNumerical(DTypeUtils.getElementalDType(dtype))) {
+			throw new IllegalArgumentException("Mapped files support numerical datasets only");
+		}
+		if (offset < 0) {
+			throw new IllegalArgumentException("Offset must not be negative");
+		}
+		this.filePath = filePath;
+		this.dtype = dtype;
+		this.isize = isize;
+		this.shape = shape.clone();
+		this.offset = offset;
+		bigEndian = order == ByteOrder.BIG_ENDIAN;
+		elementBytes = DTypeUtils.getItemBytes(dtype, 1);
+	}
+
+	@Override
+	public boolean isFileReadable() {
+		return new File(filePath).canRead();
+	}
+
+	@Override
+	public String toString() {
+		return filePath;
+	}
+
+	/**
+	 * @return shape of dataset in file
+	 */
+	public int[] getShape() {
+		return shape.clone();
+	}
+
+	@Override
+	public synchronized int[] refreshShape() {
+		if (shape.length > 0) {
+			long lineBytes = isize * elementBytes;
+			for (int i = 1; i < shape.length; i++) {
+				lineBytes *= shape[i];
+			}
+			if (lineBytes > 0) {
+				long n = (new File(filePath).length() - offset) / lineBytes;
+				if (n > shape[0]) {
+					shape[0] = (int) Math.min(n, Integer.MAX_VALUE);
+					unmap();
+				}
+			}
+		}
+		return shape.clone();
+	}
+
+	@Override
+	public Dataset getDataset(IMonitor mon, SliceND slice) throws IOException {
+		Dataset d = DatasetFactory.zeros(isize, slice.getShape(), dtype);
+		transfer(slice, d.getBuffer(), false);
+		return d;
+	}
+
+	/**
+	 * @return number of bytes of data in file
+	 */
+	protected long getDataLength() {
+		return ShapeUtils.calcLongSize(shape) * isize * elementBytes;
+	}
+
+	/**
+	 * @return mode used to map file
+	 */
+	protected MapMode getMapMode() {
+		return MapMode.READ_ONLY;
+	}
+
+	/**
+	 * Discard mapped regions so they are mapped again when next used
+	 */
+	protected synchronized void unmap() {
+		regions = null;
+	}
+
+	private synchronized ByteBuffer getRegion(int r) throws IOException {
+		if (regions == null) {
+			regions = new MappedByteBuffer[(int) ((getDataLength() + REGION_SIZE - 1) / REGION_SIZE)];
+		}
+		MappedByteBuffer b = regions[r];
+		if (b == null) {
+			final long start = r * REGION_SIZE;
+			final long length = Math.min(REGION_SIZE, getDataLength() - start);
+			final MapMode mode = getMapMode();
+			RandomAccessFile file = new RandomAccessFile(filePath, mode == MapMode.READ_ONLY ? "r" : "rw");
+			try {
+				if (file.length() < offset + start + length) {
+					throw new IOException("File is too short for dataset: " + filePath);
+				}
+				b = file.getChannel().map(mode, offset + start, length);
+			} finally {
+				file.close();
+			}
+			regions[r] = b;
+		}
+		return b;
+	}
+
+	/**
+	 * Copy slice between file and buffer
+	 * @param slice
+	 * @param buffer array holding items of slice in row-major order
+	 * @param write if true, copy from buffer to file
+	 * @throws IOException
+	 */
+	protected void transfer(SliceND slice, Object buffer, boolean write) throws IOException {
+		final int[] sshape = slice.getSourceShape();
+		if (ShapeUtils.calcLongSize(sshape) != ShapeUtils.calcLongSize(shape)) {
+			throw new IllegalArgumentException("Slice does not match shape of dataset in file: " + Arrays.toString(sshape));
+		}
+		final int[] lshape = slice.getShape();
+		final int rank = lshape.length;
+		if (ShapeUtils.calcLongSize(lshape) == 0) {
+			return;
+		}
+		if (rank == 0) {
+			copy(0, buffer, 0, isize, write);
+			return;
+		}
+
+		// strides in elements
+		final long[] stride = new long[rank];
+		long s = isize;
+		for (int i = rank - 1; i >= 0; i--) {
+			stride[i] = s;
+			s *= sshape[i];
+		}
+		final int[] start = slice.getStart();
+		final int[] step = slice.getStep();
+		final int last = rank - 1;
+		final int length = lshape[last];
+		final long lstride = step[last] * stride[last];
+
+		final int[] pos = new int[rank];
+		int index = 0;
+		long element = 0;
+		for (int i = 0; i < rank; i++) {
+			element += start[i] * stride[i];
+		}
+		while (true) {
+			if (step[last] == 1) {
+				copy(element, buffer, index, length * isize, write);
+				index += length * isize;
+			} else {
+				long e = element;
+				for (int i = 0; i < length; i++) {
+					copy(e, buffer, index, isize, write);
+					index += isize;
+					e += lstride;
+				}
+			}
+
+			// move to next line
+			int j = last - 1;
+			for (; j >= 0; j--) {
+				element += step[j] * stride[j];
+				if (++pos[j] < lshape[j]) {
+					break;
+				}
+				element -= lshape[j] * step[j] * stride[j];
+				pos[j] = 0;
+			}
+			if (j < 0) {
+				break;
+			}
+		}
+	}
+
+	private void copy(long element, Object buffer, int index, int n, boolean write) throws IOException {
+		while (n > 0) {
+			final long b = element * elementBytes;
+			final int r = (int) (b / REGION_SIZE);
+			final int p = (int) (b % REGION_SIZE);
+			final int m = (int) Math.min(n, (REGION_SIZE - p) / elementBytes);
+			final ByteBuffer bb = getRegion(r).duplicate();
+			bb.order(bigEndian ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN);
+			bb.position(p);
+			if (buffer instanceof double[]) {
+				if (write) {
+					bb.asDoubleBuffer().put((double[]) buffer, index, m);
+				} else {
+					bb.asDoubleBuffer().get((double[]) buffer, index, m);
+				}
+			} else if (buffer instanceof float[]) {
+				if (write) {
+					bb.asFloatBuffer().put((float[]) buffer, index, m);
+				} else {
+					bb.asFloatBuffer().get((float[]) buffer, index, m);
+				}
+			} else if (buffer instanceof long[]) {
+				if (write) {
+					bb.asLongBuffer().put((long[]) buffer, index, m);
+				} else {
+					bb.asLongBuffer().get((long[]) buffer, index, m);
+				}
+			} else if (buffer instanceof int[]) {
+				if (write) {
+					bb.asIntBuffer().put((int[]) buffer, index, m);
+				} else {
+					bb.asIntBuffer().get((int[]) buffer, index, m);
+				}
+			} else if (buffer instanceof short[]) {
+				if (write) {
+					bb.asShortBuffer().put((short[]) buffer, index, m);
+				} else {
+					bb.asShortBuffer().get((short[]) buffer, index, m);
+				}
+			} else if (buffer instanceof byte[]) {
+				if (write) {
+					bb.put((byte[]) buffer, index, m);
+				} else {
+					bb.get((byte[]) buffer, index, m);
+				}
+			} else {
+				throw new IllegalArgumentException("Buffer type not supported");
+			}
+			element += m;
+			index += m;
+			n -= m;
+		}
+	}
+}
@@ -0,0 +1,140 @@
+/*-
+ * Copyright 2016 Diamond Light Source Ltd.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.eclipse.january.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel.MapMode;
+import java.util.Arrays;
+
+import org.eclipse.january.IMonitor;
+import org.eclipse.january.dataset.Dataset;
+import org.eclipse.january.dataset.DatasetUtils;
+import org.eclipse.january.dataset.IDataset;
+import org.eclipse.january.dataset.ShapeUtils;
+import org.eclipse.january.dataset.SliceND;
+
+/**
+ * Lazy saver for datasets held as raw binary data in a memory-mapped file. Slices set on a
+ * {@link org.eclipse.january.dataset.LazyWriteableDataset} are written directly into the mapped
+ * file so are visible to other processes that map the same file. The file is created or extended
+ * on initialization. Its first dimension can be extended when setting slices
+ * @see MappedLazyLoader
+ */
+public class MappedLazySaver extends MappedLazyLoader implements ILazySaver {
+	private static final long serialVersionUID = 6512046310873618862L;
+
+	private boolean init = false; // has been initialized?
+
+	/**
+	 * Create saver for native byte ordered data with single element items at start of file
+	 * @param filePath
+	 * @param dtype
+	 * @param shape
+	 */
+	public MappedLazySaver(String filePath, int dtype, int[] shape) {
+		super(filePath, dtype, shape);
+	}
+
+	/**
+	 * @param filePath
+	 * @param dtype
+	 * @param isize number of elements in an item
+	 * @param shape
+	 * @param offset position of data in file in bytes
+	 * @param order byte order of data in file
+	 */
+	public MappedLazySaver(String filePath, int dtype, int isize, int[] shape, long offset, ByteOrder order) {
+		super(filePath, dtype, isize, shape, offset, order);
+	}
+
+	@Override
+	protected MapMode getMapMode() {
+		return MapMode.READ_WRITE;
+	}
+
+	@Override
+	public boolean isFileReadable() {
+		return init || super.isFileReadable();
+	}
+
+	@Override
+	public boolean isFileWriteable() {
+		File f = new File(filePath);
+		if (f.exists()) {
+			return f.canWrite();
+		}
+		File p = f.getAbsoluteFile().getParentFile();
+		return p != null && p.canWrite();
+	}
+
+	@Override
+	public synchronized void initialize() throws IOException {
+		if (!init) {
+			init = true;
+			extendFile();
+		}
+	}
+
+	private void extendFile() throws IOException {
+		RandomAccessFile file = new RandomAccessFile(filePath, "rw");
+		try {
+			long length = offset + getDataLength();
+			if (file.length() < length) {
+				file.setLength(length);
+			}
+		} finally {
+			file.close();
+		}
+	}
+
+	/**
+	 * Extend first dimension of dataset in file
+	 * @param nShape new shape
+	 * @throws IOException
+	 */
+	private synchronized void extendShape(int[] nShape) throws IOException {
+		if (nShape.length != shape.length || nShape.length == 0 || nShape[0] < shape[0]
+				|| !Arrays.equals(Arrays.copyOfRange(nShape, 1, nShape.length), Arrays.copyOfRange(shape, 1, shape.length))) {
+			throw new IllegalArgumentException("Only first dimension of dataset in file can be extended: " + Arrays.toString(nShape));
+		}
+		shape = nShape.clone();
+		extendFile();
+		unmap();
+	}
+
+	@Override
+	public void setSlice(IMonitor mon, IDataset data, SliceND slice) throws IOException {
+		initialize();
+		final int[] sshape = slice.getSourceShape();
+		if (ShapeUtils.calcLongSize(sshape) > ShapeUtils.calcLongSize(shape)) {
+			extendShape(sshape);
+		}
+
+		if (data.getRank() == 0) {
+			data = data.getSliceView();
+			data.setShape(slice.getShape());
+		}
+		if (data.getSize() != ShapeUtils.calcSize(slice.getShape())) {
+			throw new IllegalArgumentException("Data does not match shape of slice");
+		}
+
+		Dataset d = DatasetUtils.cast(data, dtype);
+		if (d.getElementsPerItem() != isize) {
+			throw new IllegalArgumentException("Data must have " + isize + " elements per item");
+		}
+		if (d.getStrides() != null || d.getOffset() != 0) { // need contiguous buffer
+			d = d.clone();
+		}
+		transfer(slice, d.getBuffer(), true);
+	}
+}
@@ -12,6 +12,7 @@
 
 package org.eclipse.january.metadata;
 
+import org.eclipse.january.dataset.BitMask;
 import org.eclipse.january.dataset.IDataset;
 
 /**
@@ -30,4 +31,23 @@ public interface MaskMetadata extends MetadataType {
 	 * @return mask
 	 */
 	public IDataset getMask();
+
+	/**
+	 * Set mask from packed bits. The mask is held packed and only unpacked when it is got, so
+	 * slicing the dataset only unpacks the corresponding slice of the mask
+	 * @param mask
+	 */
+	public void setBitMask(BitMask mask);
+
+	/**
+	 * Get mask as packed bits. This is the set bit mask, without unpacking, when the dataset
+	 * has not been sliced or transposed
+	 * @return mask (or null if there is none)
+	 */
+	public BitMask getBitMask();
+
+	/**
+	 * @return true if mask is held as packed bits so {@link #getBitMask()} does not need to unpack it
+	 */
+	public boolean isPacked();
 }
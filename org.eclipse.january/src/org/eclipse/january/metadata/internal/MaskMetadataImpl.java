@@ -9,7 +9,13 @@
 
 package org.eclipse.january.metadata.internal;
 
+import java.util.Arrays;
+
+import org.eclipse.january.DatasetException;
+import org.eclipse.january.dataset.BitMask;
+import org.eclipse.january.dataset.DatasetUtils;
 import org.eclipse.january.dataset.IDataset;
+import org.eclipse.january.dataset.ILazyDataset;
 import org.eclipse.january.metadata.MaskMetadata;
 import org.eclipse.january.metadata.Sliceable;
 import org.eclipse.january.metadata.Transposable;
@@ -23,7 +29,10 @@ public class MaskMetadataImpl implements MaskMetadata {
 	
 	@Transposable
 	@Sliceable
-	IDataset mask;
+	ILazyDataset mask; // lazy when set from bit mask
+
+	private BitMask bits; // set bit mask
+	private ILazyDataset packed; // lazy dataset of set bit mask that is replaced when sliced or transposed
 
 	public MaskMetadataImpl() {
 	}
@@ -31,15 +40,49 @@ public class MaskMetadataImpl implements MaskMetadata {
 	@Override
 	public void initialize(IDataset mask) {
 		this.mask = mask;
+		bits = null;
+		packed = null;
 	}
 
 	private MaskMetadataImpl(MaskMetadataImpl mask) {
-		this.mask = mask == null ? null : mask.mask.getSliceView();
+		this.mask = mask.mask == null ? null : mask.mask.getSliceView();
+		if (mask.bits != null && mask.mask == mask.packed) {
+			bits = mask.bits;
+			packed = this.mask;
+		}
 	}
 
 	@Override
 	public IDataset getMask() {
-		return mask;
+		if (mask == null || mask instanceof IDataset) {
+			return (IDataset) mask;
+		}
+		try {
+			return mask.getSlice();
+		} catch (DatasetException e) {
+			throw new IllegalStateException("Could not unpack mask", e);
+		}
+	}
+
+	@Override
+	public void setBitMask(BitMask mask) {
+		bits = mask;
+		packed = mask == null ? null : mask.getLazyDataset();
+		this.mask = packed;
+	}
+
+	@Override
+	public BitMask getBitMask() {
+		if (isPacked()) {
+			return bits;
+		}
+		IDataset m = getMask();
+		return m == null ? null : BitMask.pack(DatasetUtils.convertToDataset(m));
+	}
+
+	@Override
+	public boolean isPacked() {
+		return bits != null && mask == packed && Arrays.equals(bits.getShape(), mask.getShape());
 	}
 	
 	@Override